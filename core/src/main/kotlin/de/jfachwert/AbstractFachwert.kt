@@ -37,16 +37,13 @@ abstract class AbstractFachwert<T : Serializable, S : AbstractFachwert<T, S>> pr
 
     /**
      * Liefert die interne Praesentation fuer die abgeleiteten Klassen. Sie
-     * ist nicht fuer den direkten Aufruf vorgesehen, weswegen die Methode auch
-     * 'final' ist.
+     * ist nicht fuer den direkten Aufruf vorgesehen. Abgeleitete Klassen,
+     * die ihren Wert kompakter ablegen (wie z.B. der Zeitpunkt), koennen
+     * sie ueberschreiben und den Code erst bei Bedarf erzeugen.
      *
      * @return die interne Repraesentation
      */
-    val code: T
-
-    init {
-        this.code = validator.verify(code)
-    }
+    open val code: T = validator.verify(code)
 
     override fun hashCode(): Int {
         return code.hashCode()
@@ -104,9 +101,9 @@ abstract class AbstractFachwert<T : Serializable, S : AbstractFachwert<T, S>> pr
         }
         val otherCode = other.code
         return if (otherCode is Comparable<*>) {
-            val thisValue = code as S
-            val otherValue = otherCode as S
-            thisValue.compareTo(otherValue)
+            @Suppress("UNCHECKED_CAST")
+            val thisValue = code as Comparable<Any>
+            thisValue.compareTo(otherCode)
         } else {
             throw UnsupportedOperationException("not implemented for " + this.javaClass)
         }
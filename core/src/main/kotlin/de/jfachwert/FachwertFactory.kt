@@ -19,10 +19,10 @@ package de.jfachwert
 
 import de.jfachwert.pruefung.exception.LocalizedValidationException
 import de.jfachwert.pruefung.exception.ValidationException
-import de.jfachwert.util.SmallUUID
-import de.jfachwert.util.TinyUUID
+import java.io.IOException
 import java.io.Serializable
 import java.lang.reflect.InvocationTargetException
+import java.nio.charset.StandardCharsets
 import java.util.*
 import java.util.logging.Level
 import java.util.logging.Logger
@@ -50,6 +50,7 @@ import java.util.logging.Logger
 class FachwertFactory private constructor() {
 
     private val registeredClasses: MutableMap<String, Class<out KFachwert>> = HashMap()
+    private val registeredNames: MutableMap<String, String> = HashMap()
 
     companion object {
 
@@ -130,76 +131,22 @@ class FachwertFactory private constructor() {
             return Text(a).getDistanz(b)
         }
 
-        // Die Registrierung hier ist unschoen, weil dazu die FachwertFactory alle
-        // Fachwert-Klassen kennen muss. Schoener waere es, wenn sich die einzelnen
-        // Klassen selber registrieren wuerden. Das Problem dabei ist, dass sie es
-        // erst machen koennen, wenn sie vom Classloader geladen wurde (Henne-Ei-
-        // Problem).
+        // Frueher wurden hier alle Fachwert-Klassen mit Class.forName geladen,
+        // was den Start deutlich verzoegert hat. Inzwischen bringt jedes Modul
+        // ein Verzeichnis seiner Klassen mit (siehe INDEX), die erst bei Bedarf
+        // geladen werden.
         init {
             instance.register(Text::class.java)
-            instance.register(TinyUUID::class.java)
-            instance.register(SmallUUID::class.java)
-            // bank-Module
-            instance.register("de.jfachwert.bank.Bankverbindung")
-            instance.register("de.jfachwert.bank.BIC")
-            instance.register("de.jfachwert.bank.BLZ")
-            instance.register("de.jfachwert.bank.IBAN")
-            instance.register("de.jfachwert.bank.Kontonummer")
-            instance.register("de.jfachwert.bank.Zinssatz")
-            // formular-Module
-            instance.register("de.jfachwert.formular.Anrede")
-            instance.register("de.jfachwert.formular.Familienstand")
-            instance.register("de.jfachwert.formular.Geschlecht")
-            // math-Modul
-            instance.register("de.jfachwert.math.Bruch")
-            instance.register("de.jfachwert.math.Nummer")
-            instance.register("de.jfachwert.math.PackedDecimal")
-            instance.register("de.jfachwert.math.Prozent")
-            instance.register("de.jfachwert.math.Promille")
-            // money-Modul
-            instance.register("de.jfachwert.money.Geldbetrag")
-            instance.register("de.jfachwert.money.Waehrung")
-            // med-Modul
-            instance.register("de.jfachwert.med.BSNR")
-            instance.register("de.jfachwert.med.Hilfsmittelnummer")
-            instance.register("de.jfachwert.med.IK")
-            instance.register("de.jfachwert.med.LANR")
-            instance.register("de.jfachwert.med.LEGS")
-            instance.register("de.jfachwert.med.PZN")
-            instance.register("de.jfachwert.med.SNOMED")
-            instance.register("de.jfachwert.med.Versichertennummer")
-            instance.register("de.jfachwert.med.ZANR")
-            // net-Modul
-            instance.register("de.jfachwert.net.ChatAccount")
-            instance.register("de.jfachwert.net.Domainname")
-            instance.register("de.jfachwert.net.EMailAdresse")
-            instance.register("de.jfachwert.net.Telefonnummer")
-            // steuer-Modul
-            instance.register("de.jfachwert.steuer.Mehrwertsteuer")
-            instance.register("de.jfachwert.steuer.SteuerIdNr")
-            instance.register("de.jfachwert.steuer.Steuernummer")
-            instance.register("de.jfachwert.steuer.UStIdNr")
-            // post-Modul
-            instance.register("de.jfachwert.post.Adressat")
-            instance.register("de.jfachwert.post.Adresse")
-            instance.register("de.jfachwert.post.Anschrift")
-            instance.register("de.jfachwert.post.Name")
-            instance.register("de.jfachwert.post.Ort")
-            instance.register("de.jfachwert.post.PLZ")
-            instance.register("de.jfachwert.post.Postfach")
-            // rechnung-Modul
-            instance.register("de.jfachwert.rechnung.Artikelnummer")
-            instance.register("de.jfachwert.rechnung.Bestellnummer")
-            instance.register("de.jfachwert.rechnung.Kundennummer")
-            instance.register("de.jfachwert.rechnung.Rechnungsmonat")
-            instance.register("de.jfachwert.rechnung.Rechnungsnummer")
-            instance.register("de.jfachwert.rechnung.Referenznummer")
-            // zeit-Modul
-            instance.register("de.jfachwert.zeit.Zeitdauer")
-            instance.register("de.jfachwert.zeit.Zeitpunkt")
-            instance.register("de.jfachwert.zeit.Zeitraum")
-            instance.register("de.jfachwert.zeit.Zeiteinheit")
+            instance.registerIndex(FachwertFactory::class.java.classLoader)
         }
+
+        /**
+         * Unter diesem Namen legt jedes Modul eine Liste seiner
+         * Fachwert-Klassen (eine Klasse pro Zeile) ab.
+         *
+         * @since 6.8 (18.10.2026)
+         */
+        const val INDEX = "META-INF/jfachwert/fachwerte.list"
     }
 
     /**
@@ -218,7 +165,39 @@ class FachwertFactory private constructor() {
         }
     }
 
+    /**
+     * Registriert die Fachwert-Klasse ueber ihren Namen. Die Klasse wird
+     * dabei erst geladen, wenn sie das erste Mal benoetigt wird.
+     *
+     * @param classname voll-qualifizierter Klassenname
+     */
+    @Synchronized
     fun register(classname: String) {
+        registeredNames[classname.substringAfterLast('.')] = classname
+    }
+
+    /**
+     * Registriert die Fachwert-Klassen, die in den [INDEX]-Dateien im
+     * Classpath aufgefuehrt sind. Leere Zeilen und Zeilen mit "#" am
+     * Anfang werden ignoriert.
+     *
+     * @param classLoader Classloader, ueber den die INDEX-Dateien gesucht
+     * werden
+     * @since 6.8 (18.10.2026)
+     */
+    fun registerIndex(classLoader: ClassLoader) {
+        try {
+            for (url in classLoader.getResources(INDEX)) {
+                url.openStream().bufferedReader(StandardCharsets.UTF_8).useLines { lines ->
+                    lines.map { it.trim() }.filter { it.isNotEmpty() && !it.startsWith("#") }.forEach { register(it) }
+                }
+            }
+        } catch (ex: IOException) {
+            log.log(Level.WARNING, "Kann $INDEX nicht lesen:", ex)
+        }
+    }
+
+    private fun load(classname: String) {
         try {
             val fachwertClass = Class.forName(classname) as Class<out KFachwert>
             register(fachwertClass)
@@ -236,11 +215,15 @@ class FachwertFactory private constructor() {
     }
 
     /**
-     * Liefert die registrierten Klassen zurueck.
+     * Liefert die registrierten Klassen zurueck. Dazu werden alle Klassen
+     * geladen, die bisher nur ueber ihren Namen registriert wurden.
      *
      * @return registrierte Klassen
      */
+    @Synchronized
     fun getRegisteredClasses(): Map<String, Class<out KFachwert>> {
+        registeredNames.values.toList().forEach { load(it) }
+        registeredNames.clear()
         return registeredClasses
     }
 
@@ -334,17 +317,25 @@ class FachwertFactory private constructor() {
     }
 
     private fun getClassFor(name: String): Class<out KFachwert> {
-        var fachwertClass = registeredClasses[name]
-        if (fachwertClass == null) {
-            fachwertClass = registeredClasses[getSimilarName(name)]
+        return findClass(name) ?: findClass(getSimilarName(name))!!
+    }
+
+    @Synchronized
+    private fun findClass(name: String): Class<out KFachwert>? {
+        val fachwertClass = registeredClasses[name]
+        if (fachwertClass != null) {
+            return fachwertClass
         }
-        return fachwertClass!!
+        val classname = registeredNames.remove(name) ?: return null
+        load(classname)
+        return registeredClasses[name]
     }
 
+    @Synchronized
     private fun getSimilarName(name: String): String {
         var similarName = "?"
         var minDistance = Int.MAX_VALUE
-        for (registeredName in registeredClasses.keys) {
+        for (registeredName in registeredClasses.keys + registeredNames.keys) {
             val dist = distance(name, registeredName)
             if (dist < minDistance) {
                 similarName = registeredName
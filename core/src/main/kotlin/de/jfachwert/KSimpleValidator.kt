@@ -18,6 +18,7 @@
 package de.jfachwert
 
 import de.jfachwert.pruefung.exception.LocalizedIllegalArgumentException
+import de.jfachwert.util.Instrumentierung
 import java.io.Serializable
 import java.util.logging.Level
 import java.util.logging.Logger
@@ -63,15 +64,23 @@ interface KSimpleValidator<T : Serializable> : Serializable, SimpleValidator<T>
     /**
      * Im Unterschied zur [.validate]-Methode wird hier
      * eine [IllegalArgumentException] geworfen, wenn der Wert kein
-     * gueltiges Argument ist.
+     * gueltiges Argument ist. Bei eingeschalteter [Instrumentierung] wird
+     * das Ergebnis dabei mitgezaehlt.
      *
      * @param value Wert, der verifiziert werden soll
      * @return Wert selber, wenn er gueltig ist
      */
     override fun verify(value: T): T {
         return try {
-            validate(value)
+            val verified = validate(value)
+            if (Instrumentierung.AKTIV) {
+                Instrumentierung.pruefung(this, null)
+            }
+            verified
         } catch (ex: RuntimeException) {
+            if (Instrumentierung.AKTIV) {
+                Instrumentierung.pruefung(this, ex)
+            }
             throw LocalizedIllegalArgumentException(ex)
         }
     }
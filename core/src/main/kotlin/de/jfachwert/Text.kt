@@ -18,8 +18,6 @@
 package de.jfachwert
 
 import de.jfachwert.pruefung.NullValidator
-import java.nio.Buffer
-import java.nio.CharBuffer
 import java.nio.charset.Charset
 import java.nio.charset.StandardCharsets
 import java.util.*
@@ -120,12 +118,8 @@ open class Text
      * @since 4.6
      */
     fun toPrintable(): Text {
-        val buf = StringBuilder()
-        for (c in code) {
-            if (of(c).isPrintable()) {
-                buf.append(c)
-            }
-        }
+        val buf = StringBuilder(code.length)
+        toPrintable(code, buf)
         return of(buf.toString())
     }
 
@@ -361,7 +355,21 @@ open class Text
          */
         @JvmStatic
         fun trim(text: String): String {
-            return text.trim(' ', '\t', '\r', '\n', '\u00a0', '\u2000', '\u2002', '\u200b', '\u202f')
+            return text.trim { isTrimmable(it) }
+        }
+
+        /**
+         * Liefert true, wenn das Zeichen von [trim] entfernt wird.
+         *
+         * @param c Zeichen
+         * @return true bei (geschuetzten) Leerzeichen
+         * @since 6.8
+         */
+        internal fun isTrimmable(c: Char): Boolean {
+            return when (c) {
+                ' ', '\t', '\r', '\n', '\u00a0', '\u2000', '\u2002', '\u200b', '\u202f' -> true
+                else -> false
+            }
         }
 
         /**
@@ -382,13 +390,26 @@ open class Text
          */
         @JvmStatic
         fun replaceUmlaute(text: String): String {
-            val zeichen = text.toCharArray()
-            val buffer = CharBuffer.allocate(zeichen.size * 2)
-            for (c in zeichen) {
-                buffer.put(replaceUmlaut(c))
+            val buffer = StringBuilder(text.length * 2)
+            replaceUmlaute(text, buffer)
+            return buffer.trim { it <= ' ' }.toString()
+        }
+
+        /**
+         * Ersetzt Umlaute und scharfes 'S' und haengt das Ergebnis an den
+         * uebergebenen Puffer an. Im Gegensatz zu [replaceUmlaute] wird
+         * dabei nicht getrimmt, sodass die Methode auch abschnittsweise
+         * (z.B. von der [de.jfachwert.util.TextPipeline]) aufgerufen
+         * werden kann.
+         *
+         * @param text Text (mit Umlaute)
+         * @param buffer Puffer, an den das Ergebnis angehaengt wird
+         * @since 6.8
+         */
+        internal fun replaceUmlaute(text: CharSequence, buffer: StringBuilder) {
+            for (c in text) {
+                buffer.append(replaceUmlaut(c))
             }
-            rewind(buffer)
-            return buffer.toString().trim { it <= ' ' }
         }
 
         /**
@@ -402,14 +423,23 @@ open class Text
          */
         @JvmStatic
         fun replaceSonderzeichen(text: String): String {
-            val zeichen = text.toCharArray()
-            val buffer = CharBuffer.allocate(zeichen.size * 2)
-            for (c in zeichen) {
-                //buffer.put(replaceSpecialChar(c))
-                buffer.put(replaceNonAscii(c))
+            val buffer = StringBuilder(text.length * 2)
+            replaceSonderzeichen(text, buffer)
+            return buffer.trim { it <= ' ' }.toString()
+        }
+
+        /**
+         * Ersetzt Sonderzeichen und haengt das Ergebnis (ungetrimmt) an den
+         * uebergebenen Puffer an.
+         *
+         * @param text Text (mit Sonderzeichen)
+         * @param buffer Puffer, an den das Ergebnis angehaengt wird
+         * @since 6.8
+         */
+        internal fun replaceSonderzeichen(text: CharSequence, buffer: StringBuilder) {
+            for (c in text) {
+                buffer.append(replaceNonAscii(c))
             }
-            rewind(buffer)
-            return buffer.toString().trim { it <= ' ' }
         }
 
         // Hier werden 8-Bit-Sonderzeichen ersetzt, dessen erstes Bit
@@ -553,14 +583,6 @@ open class Text
             }
         }
 
-        private fun rewind(buffer: CharBuffer?) {
-            // buffer.rewind() bereitet unter Java 8 Problem wegen inkompatibler API-Änderung zwischen Java 8 und 9
-            // https://stackoverflow.com/questions/61267495/exception-in-thread-main-java-lang-nosuchmethoderror-java-nio-bytebuffer-flip
-            // Daher jetzt der Workaround ueber Cast auf Oberklasse
-            val b: Buffer = buffer as Buffer
-            b.rewind()
-        }
-
         /**
          * Dient zur Abfrage, ob ein Text nur gueltige (druckbare) Zeichen
          * enthaelt. Ist dies nicht der Fall, koennte ein Encoding-Problem
@@ -573,13 +595,33 @@ open class Text
         @JvmStatic
         fun isPrintable(text: String): Boolean {
             for (c in text) {
-                if (!(c.isLetterOrDigit() || c.isWhitespace() || PRINTABLE.contains(c))) {
+                if (!isPrintable(c)) {
                     return false
                 }
             }
             return true
         }
 
+        private fun isPrintable(c: Char): Boolean {
+            return c.isLetterOrDigit() || c.isWhitespace() || PRINTABLE.contains(c)
+        }
+
+        /**
+         * Haengt nur die druckbaren Zeichen des uebergebenen Textes an den
+         * Puffer an.
+         *
+         * @param text Text
+         * @param buffer Puffer, an den das Ergebnis angehaengt wird
+         * @since 6.8
+         */
+        internal fun toPrintable(text: CharSequence, buffer: StringBuilder) {
+            for (c in text) {
+                if (isPrintable(c)) {
+                    buffer.append(c)
+                }
+            }
+        }
+
         /**
          * Filtert nicht druckbare Zeichen aus dem uebergebenen String aus.
          *
@@ -719,21 +761,34 @@ open class Text
 
         @JvmStatic
         fun replaceSpecialChars(value: String, encoding: Charset): String {
-            val zeichen = value.toCharArray()
-            val buffer = CharBuffer.allocate(zeichen.size * 2)
+            val buffer = StringBuilder(value.length * 2)
+            replaceSpecialChars(value, encoding, buffer)
+            return buffer.trim { it <= ' ' }.toString()
+        }
+
+        /**
+         * Ersetzt die Zeichen, die im gewuenschten Encoding nicht vorhanden
+         * sind, und haengt das Ergebnis (ungetrimmt) an den Puffer an.
+         * Ein Surrogate-Paar darf dabei nicht auf zwei Aufrufe verteilt
+         * werden.
+         *
+         * @param value Text
+         * @param encoding gewuenschtes Encoding
+         * @param buffer Puffer, an den das Ergebnis angehaengt wird
+         * @since 6.8
+         */
+        internal fun replaceSpecialChars(value: CharSequence, encoding: Charset, buffer: StringBuilder) {
             var i = 0
-            while (i < zeichen.size) {
-                val c = zeichen[i]
-                if (c == '\ud801') {
+            while (i < value.length) {
+                val c = value[i]
+                if (c == '\ud801' && i + 1 < value.length) {
                     i++
-                    buffer.put(replaceDeseretChar(zeichen[i]))
+                    buffer.append(replaceDeseretChar(value[i]))
                 } else {
-                    buffer.put(replaceSpecialChar(c, encoding))
+                    buffer.append(replaceSpecialChar(c, encoding))
                 }
                 i++
             }
-            rewind(buffer)
-            return buffer.toString().trim { it <= ' ' }
         }
 
         private fun replaceSpecialChar(c: Char, encoding: Charset): String {
@@ -0,0 +1,506 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 18.10.2026 by oboehm (ob@oasd.de)
+ */
+package de.jfachwert.util
+
+import de.jfachwert.Text
+import java.nio.BufferOverflowException
+import java.nio.ByteBuffer
+import java.nio.charset.StandardCharsets
+import java.util.*
+
+/**
+ * Der FachwertCodec kodiert Fachwerte in ein kompaktes Binaer-Format, das
+ * sich z.B. fuer Kafka oder Off-Heap-Caches eignet. Im Gegensatz zur
+ * Java-Serialisierung werden keine Klassen-Beschreibungen oder abhaengigen
+ * Objekte (wie der MonetaryContext eines Geldbetrags) mitgeschrieben,
+ * sondern nur die eigentlichen Werte.
+ *
+ * Jeder Datensatz besteht aus einer Typ-ID, der Laenge des Inhalts (beide
+ * als Varint) und dem Inhalt selbst. Die Typ-IDs sind fest vergeben, damit
+ * das Format stabil bleibt:
+ *
+ *  * 1 - 9: core (Text, TinyUUID, SmallUUID)
+ *  * 10 - 19: bank (IBAN, BIC)
+ *  * 20 - 29: post (PLZ)
+ *  * 30 - 39: money (Geldbetrag, Waehrung)
+ *  * 40 - 49: zeit (Zeitpunkt)
+ *
+ * Da die Laenge mitgeschrieben wird, koennen Datensaetze auch ohne
+ * Dekodierung uebersprungen oder ueber [datensaetze] als [Datensatz]
+ * betrachtet werden, ohne dass dabei Daten kopiert werden.
+ *
+ * Die Kodierer der einzelnen Module (bank, money, ...) werden wie beim
+ * [FachwertModule] ueber den ServiceLoader und eine [Erweiterung]
+ * registriert.
+ *
+ * @author oboehm
+ * @since 6.8 (18.10.2026)
+ */
+open class FachwertCodec {
+
+    private val nachKlasse = HashMap<Class<*>, Registrierung<*>>()
+    private val nachId = arrayOfNulls<Registrierung<*>>(MAX_ID)
+
+    /**
+     * Ein Kodierer schreibt und liest den Inhalt eines bestimmten Typs.
+     *
+     * @param T Typ des Fachwerts
+     */
+    interface Kodierer<T : Any> {
+
+        /**
+         * Schreibt den Inhalt des Fachwerts ab der aktuellen Position.
+         *
+         * @param wert Fachwert
+         * @param buffer Ziel
+         */
+        fun schreibe(wert: T, buffer: ByteBuffer)
+
+        /**
+         * Liest den Fachwert ab der aktuellen Position.
+         *
+         * @param buffer Quelle
+         * @param laenge Laenge des Inhalts in Bytes
+         * @return Fachwert
+         */
+        fun lese(buffer: ByteBuffer, laenge: Int): T
+
+    }
+
+    /**
+     * Ueber diese Schnittstelle koennen weitere Module ihre Kodierer
+     * registrieren. Die Implementierung muss dazu unter
+     * META-INF/services/de.jfachwert.util.FachwertCodec$Erweiterung
+     * eingetragen werden.
+     */
+    interface Erweiterung {
+
+        /**
+         * Registriert die Kodierer eines Moduls.
+         *
+         * @param codec der FachwertCodec
+         */
+        fun registriere(codec: FachwertCodec)
+
+    }
+
+    private class Registrierung<T : Any>(val id: Int, val type: Class<T>, val kodierer: Kodierer<T>) {
+
+        @Suppress("UNCHECKED_CAST")
+        fun schreibe(wert: Any, buffer: ByteBuffer) {
+            kodierer.schreibe(wert as T, buffer)
+        }
+
+    }
+
+    /**
+     * Ein Datensatz ist eine Sicht auf einen kodierten Fachwert innerhalb
+     * eines Buffers. Der Inhalt wird dabei nicht kopiert und erst mit
+     * [toFachwert] dekodiert.
+     */
+    inner class Datensatz internal constructor(private val buffer: ByteBuffer, val offset: Int, val id: Int, val laenge: Int, private val inhaltStart: Int) {
+
+        /** Position direkt hinter dem Datensatz. */
+        val ende: Int
+            get() = inhaltStart + laenge
+
+        /** Klasse des Fachwerts oder null, wenn die ID unbekannt ist. */
+        val type: Class<*>?
+            get() = nachId.getOrNull(id)?.type
+
+        /**
+         * Liefert den Inhalt als (read-only) Sicht auf den urspruenglichen
+         * Buffer.
+         *
+         * @return Inhalt ohne Typ-ID und Laenge
+         */
+        fun getInhalt(): ByteBuffer {
+            return buffer.duplicate().position(inhaltStart).limit(ende).slice().asReadOnlyBuffer()
+        }
+
+        /**
+         * Dekodiert den Fachwert.
+         *
+         * @return Fachwert
+         */
+        fun toFachwert(): Any {
+            return decode(buffer.duplicate().position(offset))
+        }
+
+        override fun toString(): String {
+            return "Datensatz(id=$id, offset=$offset, laenge=$laenge)"
+        }
+
+    }
+
+    init {
+        add(1, Text::class.java, TextKodierer)
+        add(2, TinyUUID::class.java, UUIDKodierer(::TinyUUID))
+        add(3, SmallUUID::class.java, UUIDKodierer(::SmallUUID))
+        for (erweiterung in ServiceLoader.load(Erweiterung::class.java, FachwertCodec::class.java.classLoader)) {
+            erweiterung.registriere(this)
+        }
+    }
+
+    /**
+     * Registriert einen Kodierer. Die ID darf nicht mehr geaendert werden,
+     * sobald Daten damit geschrieben wurden.
+     *
+     * @param id feste Typ-ID (1 bis 1023)
+     * @param type Klasse des Fachwerts
+     * @param kodierer zum Schreiben und Lesen
+     * @return dieser Codec
+     */
+    fun <T : Any> add(id: Int, type: Class<T>, kodierer: Kodierer<T>): FachwertCodec {
+        require(id in 1 until MAX_ID) { "id $id is not between 1 and ${MAX_ID - 1}" }
+        val vorhanden = nachId[id]
+        require(vorhanden == null || vorhanden.type == type) { "id $id is already used for ${vorhanden?.type}" }
+        val registrierung = Registrierung(id, type, kodierer)
+        nachId[id] = registrierung
+        nachKlasse[type] = registrierung
+        return this
+    }
+
+    /**
+     * Liefert die Klassen, fuer die Kodierer registriert sind.
+     *
+     * @return registrierte Fachwert-Klassen
+     */
+    fun getRegisteredClasses(): Set<Class<*>> {
+        return Collections.unmodifiableSet(nachKlasse.keys)
+    }
+
+    /**
+     * Schreibt den Fachwert ab der aktuellen Position in den Buffer. Reicht
+     * der Platz nicht aus, wird eine [BufferOverflowException] geworfen;
+     * die Position steht dann wieder dort, wo sie vor dem Aufruf stand.
+     * Die bereits geschriebenen Bytes dahinter sind aber undefiniert.
+     *
+     * @param wert Fachwert, fuer dessen Klasse ein Kodierer registriert ist
+     * @param buffer Ziel
+     */
+    fun encode(wert: Any, buffer: ByteBuffer) {
+        val registrierung = nachKlasse[wert.javaClass]
+            ?: throw IllegalArgumentException("no codec registered for ${wert.javaClass}")
+        val anfang = buffer.position()
+        try {
+            putVarInt(buffer, registrierung.id)
+            val start = buffer.position() + 1
+            buffer.position(start)
+            registrierung.schreibe(wert, buffer)
+            val laenge = buffer.position() - start
+            val n = varIntSize(laenge)
+            if (n > 1) {
+                if (buffer.remaining() < n - 1) {
+                    throw BufferOverflowException()
+                }
+                for (i in start + laenge - 1 downTo start) {
+                    buffer.put(i + n - 1, buffer.get(i))
+                }
+            }
+            val ende = start + laenge + n - 1
+            buffer.position(start - 1)
+            putVarInt(buffer, laenge)
+            buffer.position(ende)
+        } catch (ex: BufferOverflowException) {
+            buffer.position(anfang)
+            throw ex
+        }
+    }
+
+    /**
+     * Liest den naechsten Fachwert ab der aktuellen Position. Danach steht
+     * die Position hinter dem Datensatz.
+     *
+     * @param buffer Quelle
+     * @return Fachwert
+     */
+    fun decode(buffer: ByteBuffer): Any {
+        val id = getVarInt(buffer)
+        val laenge = getVarInt(buffer)
+        val start = buffer.position()
+        val registrierung = nachId.getOrNull(id) ?: throw IllegalArgumentException("unknown type id $id")
+        val wert = registrierung.kodierer.lese(buffer, laenge)
+        buffer.position(start + laenge)
+        return wert
+    }
+
+    /**
+     * Liest den naechsten Fachwert des erwarteten Typs.
+     *
+     * @param buffer Quelle
+     * @param type erwartete Klasse
+     * @return Fachwert
+     */
+    fun <T> decode(buffer: ByteBuffer, type: Class<T>): T {
+        return type.cast(decode(buffer))
+    }
+
+    /**
+     * Kodiert den Fachwert in ein Byte-Array.
+     *
+     * @param wert Fachwert
+     * @return kodierter Fachwert
+     */
+    fun toBytes(wert: Any): ByteArray {
+        var buffer = ByteBuffer.allocate(64)
+        while (true) {
+            try {
+                encode(wert, buffer)
+                return Arrays.copyOf(buffer.array(), buffer.position())
+            } catch (ex: BufferOverflowException) {
+                buffer = ByteBuffer.allocate(buffer.capacity() * 2)
+            }
+        }
+    }
+
+    /**
+     * Dekodiert einen Fachwert aus einem Byte-Array.
+     *
+     * @param bytes kodierter Fachwert
+     * @return Fachwert
+     */
+    fun fromBytes(bytes: ByteArray): Any {
+        return decode(ByteBuffer.wrap(bytes))
+    }
+
+    /**
+     * Liefert die Datensaetze zwischen aktueller Position und Limit des
+     * Buffers, ohne sie zu dekodieren. Die Position des Buffers wird dabei
+     * nicht veraendert.
+     *
+     * @param buffer Buffer mit kodierten Fachwerten
+     * @return Datensaetze als Sicht auf den Buffer
+     */
+    fun datensaetze(buffer: ByteBuffer): Iterator<Datensatz> {
+        val b = buffer.duplicate()
+        return object : Iterator<Datensatz> {
+            override fun hasNext(): Boolean {
+                return b.hasRemaining()
+            }
+            override fun next(): Datensatz {
+                if (!b.hasRemaining()) {
+                    throw NoSuchElementException()
+                }
+                val offset = b.position()
+                val id = getVarInt(b)
+                val laenge = getVarInt(b)
+                val datensatz = Datensatz(buffer, offset, id, laenge, b.position())
+                b.position(datensatz.ende)
+                return datensatz
+            }
+        }
+    }
+
+    override fun toString(): String {
+        return "FachwertCodec${nachKlasse.keys.map { it.simpleName }.sorted()}"
+    }
+
+
+
+    private object TextKodierer : Kodierer<Text> {
+        override fun schreibe(wert: Text, buffer: ByteBuffer) {
+            putString(buffer, wert.code)
+        }
+        override fun lese(buffer: ByteBuffer, laenge: Int): Text {
+            return Text(getString(buffer, laenge))
+        }
+    }
+
+    private class UUIDKodierer<T : TinyUUID>(private val erzeuger: (UUID) -> T) : Kodierer<T> {
+        override fun schreibe(wert: T, buffer: ByteBuffer) {
+            putLong(buffer, wert.mostSignificantBits)
+            putLong(buffer, wert.leastSignificantBits)
+        }
+        override fun lese(buffer: ByteBuffer, laenge: Int): T {
+            return erzeuger(UUID(getLong(buffer), getLong(buffer)))
+        }
+    }
+
+    companion object {
+
+        private const val MAX_ID = 1024
+
+        /** Codec mit allen Kodierern, die im Classpath gefunden werden. */
+        @JvmStatic
+        val DEFAULT: FachwertCodec by lazy { FachwertCodec() }
+
+        /**
+         * Schreibt eine nicht-negative Zahl als Varint (7 Bit pro Byte).
+         *
+         * @param buffer Ziel
+         * @param n Zahl
+         */
+        @JvmStatic
+        fun putVarInt(buffer: ByteBuffer, n: Int) {
+            putVarLong(buffer, n.toLong() and 0xFFFFFFFFL)
+        }
+
+        /**
+         * Liest eine mit [putVarInt] geschriebene Zahl.
+         *
+         * @param buffer Quelle
+         * @return Zahl
+         */
+        @JvmStatic
+        fun getVarInt(buffer: ByteBuffer): Int {
+            return getVarLong(buffer).toInt()
+        }
+
+        /**
+         * Schreibt eine Zahl als Varint (7 Bit pro Byte). Negative Zahlen
+         * belegen dabei 10 Bytes; hierfuer gibt es [putSignedVarLong].
+         *
+         * @param buffer Ziel
+         * @param n Zahl
+         */
+        @JvmStatic
+        fun putVarLong(buffer: ByteBuffer, n: Long) {
+            var x = n
+            while (x and 0x7FL.inv() != 0L) {
+                buffer.put(((x and 0x7F) or 0x80).toByte())
+                x = x ushr 7
+            }
+            buffer.put(x.toByte())
+        }
+
+        /**
+         * Liest eine mit [putVarLong] geschriebene Zahl.
+         *
+         * @param buffer Quelle
+         * @return Zahl
+         */
+        @JvmStatic
+        fun getVarLong(buffer: ByteBuffer): Long {
+            var n = 0L
+            var shift = 0
+            while (shift < 64) {
+                val b = buffer.get().toInt()
+                n = n or ((b and 0x7F).toLong() shl shift)
+                if (b and 0x80 == 0) {
+                    return n
+                }
+                shift += 7
+            }
+            throw IllegalArgumentException("malformed varint at position ${buffer.position()}")
+        }
+
+        /**
+         * Schreibt eine Zahl im ZigZag-Format als Varint, sodass auch kleine
+         * negative Zahlen nur wenige Bytes belegen.
+         *
+         * @param buffer Ziel
+         * @param n Zahl
+         */
+        @JvmStatic
+        fun putSignedVarLong(buffer: ByteBuffer, n: Long) {
+            putVarLong(buffer, (n shl 1) xor (n shr 63))
+        }
+
+        /**
+         * Liest eine mit [putSignedVarLong] geschriebene Zahl.
+         *
+         * @param buffer Quelle
+         * @return Zahl
+         */
+        @JvmStatic
+        fun getSignedVarLong(buffer: ByteBuffer): Long {
+            val n = getVarLong(buffer)
+            return (n ushr 1) xor -(n and 1)
+        }
+
+        /**
+         * Schreibt eine Zahl mit 8 Bytes (Big-Endian), unabhaengig von der
+         * Byte-Order des Buffers.
+         *
+         * @param buffer Ziel
+         * @param n Zahl
+         */
+        @JvmStatic
+        fun putLong(buffer: ByteBuffer, n: Long) {
+            for (shift in 56 downTo 0 step 8) {
+                buffer.put((n ushr shift).toByte())
+            }
+        }
+
+        /**
+         * Liest eine mit [putLong] geschriebene Zahl.
+         *
+         * @param buffer Quelle
+         * @return Zahl
+         */
+        @JvmStatic
+        fun getLong(buffer: ByteBuffer): Long {
+            var n = 0L
+            repeat(8) {
+                n = (n shl 8) or (buffer.get().toLong() and 0xFF)
+            }
+            return n
+        }
+
+        /**
+         * Schreibt den String in UTF-8 (ohne Laenge).
+         *
+         * @param buffer Ziel
+         * @param s String
+         */
+        @JvmStatic
+        fun putString(buffer: ByteBuffer, s: String) {
+            for (i in s.indices) {
+                val c = s[i]
+                if (c.code >= 0x80) {
+                    buffer.put(s.substring(i).toByteArray(StandardCharsets.UTF_8))
+                    return
+                }
+                buffer.put(c.code.toByte())
+            }
+        }
+
+        /**
+         * Liest einen mit [putString] geschriebenen String.
+         *
+         * @param buffer Quelle
+         * @param laenge Anzahl Bytes
+         * @return String
+         */
+        @JvmStatic
+        fun getString(buffer: ByteBuffer, laenge: Int): String {
+            val s = if (buffer.hasArray()) {
+                String(buffer.array(), buffer.arrayOffset() + buffer.position(), laenge, StandardCharsets.UTF_8)
+            } else {
+                val bytes = ByteArray(laenge)
+                buffer.get(buffer.position(), bytes)
+                String(bytes, StandardCharsets.UTF_8)
+            }
+            buffer.position(buffer.position() + laenge)
+            return s
+        }
+
+        private fun varIntSize(n: Int): Int {
+            var size = 1
+            var x = n ushr 7
+            while (x != 0) {
+                size++
+                x = x ushr 7
+            }
+            return size
+        }
+
+    }
+
+}
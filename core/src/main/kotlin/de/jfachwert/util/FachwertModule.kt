@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 18.10.2026 by oboehm (ob@oasd.de)
+ */
+package de.jfachwert.util
+
+import de.jfachwert.Text
+import tools.jackson.databind.ValueDeserializer
+import tools.jackson.databind.ValueSerializer
+import tools.jackson.databind.cfg.MapperConfig
+import tools.jackson.databind.introspect.Annotated
+import tools.jackson.databind.introspect.AnnotatedClass
+import tools.jackson.databind.introspect.NopAnnotationIntrospector
+import tools.jackson.databind.module.SimpleModule
+import java.util.*
+import java.util.function.Function
+
+/**
+ * Das FachwertModule fasst die Serializer und Deserializer fuer Fachwerte
+ * zusammen. Ohne dieses Modul werden Fachwerte ueber die Annotationen an
+ * den Klassen serialisiert, was z.B. beim [ToFachwertSerializer] das
+ * Anlegen einer Map pro Objekt und beim Deserialisieren die Suche nach
+ * einem passenden Konstruktor per Reflection bedeutet. Mit
+ *
+ *     JsonMapper.builder().addModule(FachwertModule()).build()
+ *
+ * werden stattdessen typ-spezifische Serializer verwendet, die die Felder
+ * direkt ueber den JsonGenerator schreiben und beim Lesen direkt die
+ * passende Fabrik-Methode aufrufen. Die hier registrierten Serializer haben
+ * Vorrang vor den @JsonSerialize-Annotationen der Fachwert-Klassen.
+ *
+ * Die Fachwerte aus den einzelnen Modulen (bank, money, ...) werden ueber
+ * den ServiceLoader und eine [Erweiterung] registriert, sodass nur die
+ * Module beruecksichtigt werden, die auch im Classpath liegen.
+ *
+ * @author oboehm
+ * @since 6.8 (18.10.2026)
+ */
+open class FachwertModule : SimpleModule(FachwertModule::class.java.simpleName) {
+
+    private val serializers = HashMap<Class<*>, ValueSerializer<*>>()
+
+    /**
+     * Ueber diese Schnittstelle koennen weitere Module ihre Fachwerte beim
+     * FachwertModule registrieren. Die Implementierung muss dazu unter
+     * META-INF/services/de.jfachwert.util.FachwertModule$Erweiterung
+     * eingetragen werden.
+     */
+    interface Erweiterung {
+
+        /**
+         * Registriert die Serializer und Deserializer eines Moduls.
+         *
+         * @param module das FachwertModule
+         */
+        fun registriere(module: FachwertModule)
+
+    }
+
+    init {
+        addFachwert(Text::class.java, Text::toString, ::Text)
+        addFachwert(TinyUUID::class.java, TinyUUID::toString, ::TinyUUID)
+        addFachwert(SmallUUID::class.java, SmallUUID::toString, ::SmallUUID)
+        for (erweiterung in ServiceLoader.load(Erweiterung::class.java, FachwertModule::class.java.classLoader)) {
+            erweiterung.registriere(this)
+        }
+    }
+
+    /**
+     * Registriert einen Fachwert, der als einfacher JSON-String abgelegt
+     * wird.
+     *
+     * @param type Klasse des Fachwerts
+     * @param toText liefert den String, der geschrieben wird
+     * @param fromText erzeugt aus dem String wieder den Fachwert
+     * @return dieses Modul
+     */
+    fun <T : Any> addFachwert(type: Class<T>, toText: Function<in T, String>, fromText: Function<String, out T>): FachwertModule {
+        return addFachwert(type, ToTextSerializer(type, toText), FromTextDeserializer(type, fromText))
+    }
+
+    /**
+     * Registriert Serializer und Deserializer fuer einen Fachwert. Der
+     * Serializer gilt nur fuer genau diese Klasse, nicht fuer abgeleitete
+     * Klassen.
+     *
+     * @param type Klasse des Fachwerts
+     * @param serializer zum Schreiben
+     * @param deserializer zum Lesen
+     * @return dieses Modul
+     */
+    fun <T : Any> addFachwert(type: Class<T>, serializer: ValueSerializer<T>, deserializer: ValueDeserializer<out T>): FachwertModule {
+        serializers[type] = serializer
+        addSerializer(type, serializer)
+        addDeserializer(type, deserializer)
+        return this
+    }
+
+    /**
+     * Liefert die Klassen, fuer die Serializer registriert sind.
+     *
+     * @return registrierte Fachwert-Klassen
+     */
+    fun getRegisteredClasses(): Set<Class<*>> {
+        return Collections.unmodifiableSet(serializers.keys)
+    }
+
+    override fun setupModule(context: SetupContext) {
+        super.setupModule(context)
+        context.insertAnnotationIntrospector(Introspector(serializers))
+    }
+
+    /**
+     * Die Fachwert-Klassen sind mit @JsonSerialize annotiert. Da diese
+     * Annotation Vorrang vor den Serializern eines Moduls hat, liefert
+     * dieser Introspector fuer die registrierten Klassen stattdessen den
+     * eigenen Serializer.
+     */
+    private class Introspector(private val serializers: Map<Class<*>, ValueSerializer<*>>) : NopAnnotationIntrospector() {
+
+        override fun findSerializer(config: MapperConfig<*>, a: Annotated): Any? {
+            return if (a is AnnotatedClass) serializers[a.rawType] else null
+        }
+
+    }
+
+}
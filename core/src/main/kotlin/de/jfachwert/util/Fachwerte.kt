@@ -0,0 +1,278 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 18.10.2026 by oboehm (ob@oasd.de)
+ */
+package de.jfachwert.util
+
+import java.lang.reflect.Constructor
+import java.lang.reflect.InvocationTargetException
+import java.util.*
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.ForkJoinPool
+import java.util.concurrent.Future
+import java.util.concurrent.RecursiveTask
+import java.util.function.Function
+import java.util.logging.Level
+import java.util.logging.Logger
+
+/**
+ * Die Klasse Fachwerte ist fuer die Massenverarbeitung gedacht, wenn z.B.
+ * eine Spalte mit einer Million Eintraegen in IBANs oder Postleitzahlen
+ * umgewandelt werden soll. Anders als bei
+ * `list.stream().map(IBAN::of)` bricht die Verarbeitung bei einem
+ * ungueltigen Wert nicht ab; stattdessen werden ungueltige Werte im
+ * [Ergebnis] als [Ablehnung] mit ihrer Position gesammelt:
+ * <pre>
+ * Fachwerte.Ergebnis&lt;IBAN&gt; ergebnis = Fachwerte.parseAll(IBAN.class, spalte.spliterator());
+ * </pre>
+ *
+ * Die Eingabe wird per Fork-Join in Abschnitte aufgeteilt. Jeder Abschnitt
+ * hat seinen eigenen Cache, sodass gleiche Eingaben nur einmal geprueft
+ * werden; die Caches werden am Ende zusammengefuehrt, sodass gleiche
+ * Eingaben im Ergebnis auf dasselbe Objekt verweisen. Die (nicht
+ * thread-sicheren) Caches der of-Methoden werden dabei nicht verwendet.
+ *
+ * @author oboehm
+ * @since 6.8 (18.10.2026)
+ */
+object Fachwerte {
+
+    private val log = Logger.getLogger(Fachwerte::class.java.name)
+    private const val ABSCHNITT = 1024
+
+    /**
+     * Das Ergebnis einer Massenverarbeitung.
+     *
+     * @param werte     die erzeugten Fachwerte in der Reihenfolge der Eingabe
+     * @param abgelehnt die ungueltigen Eingaben
+     */
+    class Ergebnis<T>(val werte: List<T>, val abgelehnt: List<Ablehnung>) {
+
+        /**
+         * Liefert die Anzahl der verarbeiteten Eingaben.
+         *
+         * @return Anzahl gueltiger und ungueltiger Eingaben
+         */
+        val anzahl: Long
+            get() = werte.size.toLong() + abgelehnt.size
+
+        override fun toString(): String {
+            return "Ergebnis(${werte.size} Werte, ${abgelehnt.size} abgelehnt)"
+        }
+
+    }
+
+    /**
+     * Eine ungueltige Eingabe.
+     *
+     * @param position Position in der Eingabe (beginnend bei 0)
+     * @param eingabe  die ungueltige Eingabe
+     * @param fehler   der Grund, warum die Eingabe abgelehnt wurde
+     */
+    class Ablehnung(val position: Long, val eingabe: String?, val fehler: RuntimeException) {
+
+        override fun toString(): String {
+            return "$position: \"$eingabe\" (${fehler.message})"
+        }
+
+    }
+
+    /**
+     * Wandelt die Eingaben ueber den String-Konstruktor des uebergebenen
+     * Typs in Fachwerte um. Die Verarbeitung erfolgt parallel im
+     * [ForkJoinPool.commonPool].
+     *
+     * @param type   Typ des Fachwerts, z.B. IBAN.class
+     * @param quelle die Eingaben
+     * @return die erzeugten Fachwerte und die abgelehnten Eingaben
+     */
+    @JvmStatic
+    fun <T : Any> parseAll(type: Class<T>, quelle: Spliterator<String>): Ergebnis<T> {
+        return parseAll(quelle, erzeuger(type))
+    }
+
+    /**
+     * Wandelt die Eingaben ueber den uebergebenen Erzeuger in Fachwerte
+     * um. Die Verarbeitung erfolgt parallel im [ForkJoinPool.commonPool].
+     *
+     * @param quelle   die Eingaben
+     * @param erzeuger z.B. `Geldbetrag::new`
+     * @return die erzeugten Fachwerte und die abgelehnten Eingaben
+     */
+    @JvmStatic
+    fun <T : Any> parseAll(quelle: Spliterator<String>, erzeuger: Function<String, T>): Ergebnis<T> {
+        val teile = ForkJoinPool.commonPool().invoke(Aufgabe(quelle, erzeuger))
+        return zusammenfuehren(teile)
+    }
+
+    /**
+     * Wandelt die Eingaben ueber den String-Konstruktor des uebergebenen
+     * Typs in Fachwerte um. Diese Variante ist fuer Quellen gedacht, die
+     * beim Lesen blockieren (z.B. `BufferedReader.lines()`): die Eingaben
+     * werden im aufrufenden Thread abschnittsweise gelesen und jeder
+     * Abschnitt an den Executor uebergeben. Hier bietet sich ein Executor
+     * mit virtuellen Threads an (siehe [virtuelleThreads]).
+     *
+     * @param type     Typ des Fachwerts, z.B. IBAN.class
+     * @param quelle   die Eingaben
+     * @param executor Executor fuer die einzelnen Abschnitte
+     * @return die erzeugten Fachwerte und die abgelehnten Eingaben
+     */
+    @JvmStatic
+    fun <T : Any> parseAll(type: Class<T>, quelle: Spliterator<String>, executor: ExecutorService): Ergebnis<T> {
+        return parseAll(quelle, erzeuger(type), executor)
+    }
+
+    /**
+     * Wandelt die Eingaben ueber den uebergebenen Erzeuger in Fachwerte
+     * um, wobei die Abschnitte an den uebergebenen Executor gegeben werden
+     * (siehe oben).
+     *
+     * @param quelle   die Eingaben
+     * @param erzeuger z.B. `Geldbetrag::new`
+     * @param executor Executor fuer die einzelnen Abschnitte
+     * @return die erzeugten Fachwerte und die abgelehnten Eingaben
+     */
+    @JvmStatic
+    fun <T : Any> parseAll(quelle: Spliterator<String>, erzeuger: Function<String, T>, executor: ExecutorService): Ergebnis<T> {
+        val futures = mutableListOf<Future<Teil<T>>>()
+        while (true) {
+            val abschnitt = ArrayList<String>(ABSCHNITT)
+            while (abschnitt.size < ABSCHNITT && quelle.tryAdvance { abschnitt.add(it) }) {
+                // Abschnitt fuellen
+            }
+            if (abschnitt.isEmpty()) {
+                break
+            }
+            futures.add(executor.submit<Teil<T>> { Teil<T>().verarbeite(abschnitt.spliterator(), erzeuger) })
+        }
+        return zusammenfuehren(futures.map { it.get() })
+    }
+
+    /**
+     * Liefert einen Executor, der fuer jeden Abschnitt einen virtuellen
+     * Thread startet. Da virtuelle Threads erst ab Java 21 zur Verfuegung
+     * stehen, wird auf aelteren Java-Versionen ein normaler Thread-Pool
+     * zurueckgeliefert.
+     *
+     * @return Executor, der nach Gebrauch beendet werden sollte
+     */
+    @JvmStatic
+    fun virtuelleThreads(): ExecutorService {
+        return try {
+            Executors::class.java.getMethod("newVirtualThreadPerTaskExecutor").invoke(null) as ExecutorService
+        } catch (ex: ReflectiveOperationException) {
+            log.log(Level.FINE, "Virtuelle Threads werden nicht unterstuetzt:", ex)
+            Executors.newCachedThreadPool()
+        }
+    }
+
+    private fun <T> erzeuger(type: Class<T>): Function<String, T> {
+        val ctor: Constructor<T> = type.getConstructor(String::class.java)
+        return Function {
+            try {
+                ctor.newInstance(it)
+            } catch (ex: InvocationTargetException) {
+                throw ex.targetException
+            }
+        }
+    }
+
+    /**
+     * Fuehrt die Teilergebnisse in der Reihenfolge der Eingabe zusammen.
+     * Gleiche Eingaben aus verschiedenen Abschnitten werden dabei durch
+     * das zuerst erzeugte Objekt ersetzt.
+     */
+    private fun <T : Any> zusammenfuehren(teile: List<Teil<T>>): Ergebnis<T> {
+        val cache = HashMap<String, T>()
+        val werte = ArrayList<T>(teile.sumOf { it.werte.size })
+        val abgelehnt = ArrayList<Ablehnung>()
+        var offset = 0L
+        for (teil in teile) {
+            var ersetzt: IdentityHashMap<T, T>? = null
+            for ((eingabe, wert) in teil.cache) {
+                val vorhanden = cache.putIfAbsent(eingabe, wert)
+                if (vorhanden != null && vorhanden !== wert) {
+                    ersetzt = ersetzt ?: IdentityHashMap()
+                    ersetzt[wert] = vorhanden
+                }
+            }
+            if (ersetzt == null) {
+                werte.addAll(teil.werte)
+            } else {
+                teil.werte.mapTo(werte) { ersetzt[it] ?: it }
+            }
+            teil.abgelehnt.mapTo(abgelehnt) { Ablehnung(it.position + offset, it.eingabe, it.fehler) }
+            offset += teil.anzahl
+        }
+        return Ergebnis(werte, abgelehnt)
+    }
+
+    /** Teilergebnis eines Abschnitts mit eigenem Cache. */
+    private class Teil<T : Any> {
+
+        val werte = ArrayList<T>()
+        val abgelehnt = ArrayList<Ablehnung>()
+        val cache = HashMap<String, T>()
+        var anzahl = 0L
+
+        fun verarbeite(quelle: Spliterator<String>, erzeuger: Function<String, T>): Teil<T> {
+            quelle.forEachRemaining { eingabe ->
+                val wert = cache[eingabe]
+                if (wert != null) {
+                    werte.add(wert)
+                } else {
+                    try {
+                        val neu = erzeuger.apply(eingabe)
+                        cache[eingabe] = neu
+                        werte.add(neu)
+                    } catch (ex: RuntimeException) {
+                        abgelehnt.add(Ablehnung(anzahl, eingabe, ex))
+                    }
+                }
+                anzahl++
+            }
+            return this
+        }
+
+    }
+
+    /**
+     * Teilt die Quelle so lange auf, bis die Abschnitte klein genug sind.
+     * Die Teilergebnisse werden in der Reihenfolge der Eingabe geliefert.
+     */
+    private class Aufgabe<T : Any>(
+        private val quelle: Spliterator<String>,
+        private val erzeuger: Function<String, T>
+    ) : RecursiveTask<List<Teil<T>>>() {
+
+        override fun compute(): List<Teil<T>> {
+            if (quelle.estimateSize() > ABSCHNITT) {
+                val links = quelle.trySplit()
+                if (links != null) {
+                    val linkeAufgabe = Aufgabe(links, erzeuger)
+                    linkeAufgabe.fork()
+                    val rechts = Aufgabe(quelle, erzeuger).compute()
+                    return linkeAufgabe.join() + rechts
+                }
+            }
+            return listOf(Teil<T>().verarbeite(quelle, erzeuger))
+        }
+
+    }
+
+}
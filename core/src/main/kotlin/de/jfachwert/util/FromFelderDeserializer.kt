@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 18.10.2026 by oboehm (ob@oasd.de)
+ */
+package de.jfachwert.util
+
+import de.jfachwert.pruefung.exception.ValidationException
+import tools.jackson.core.JsonParser
+import tools.jackson.core.JsonToken
+import tools.jackson.databind.DeserializationContext
+import tools.jackson.databind.deser.std.StdDeserializer
+import java.util.function.Function
+
+/**
+ * Der FromFelderDeserializer ist das Gegenstueck zum [ToFelderSerializer].
+ * Die Felder des JSON-Objekts werden der Reihe nach gelesen und ueber ihren
+ * Namen einer Position zugeordnet. Der Fachwert wird anschliessend ueber
+ * den uebergebenen Erzeuger aus diesen Werten angelegt. Unbekannte Felder
+ * werden ignoriert, fehlende Felder sind null.
+ *
+ * Optional kann noch eine Funktion angegeben werden, ueber die ein Fachwert
+ * aus einem einfachen JSON-String erzeugt wird.
+ *
+ * @param T Typ des Fachwerts
+ * @author oboehm
+ * @since 6.8 (18.10.2026)
+ */
+open class FromFelderDeserializer<T : Any> @JvmOverloads constructor(
+    type: Class<T>,
+    private val namen: Array<String>,
+    private val erzeuger: Function<Array<String?>, out T>,
+    private val parser: Function<String, out T>? = null
+) : StdDeserializer<T>(type) {
+
+    @Suppress("UNCHECKED_CAST")
+    override fun deserialize(p: JsonParser, ctxt: DeserializationContext): T {
+        var token = p.currentToken()
+        if (token == JsonToken.VALUE_STRING && parser != null) {
+            return erzeuge(ctxt) { parser.apply(p.string) }
+        }
+        if (token == JsonToken.START_OBJECT) {
+            token = p.nextToken()
+        }
+        if (token != JsonToken.PROPERTY_NAME && token != JsonToken.END_OBJECT) {
+            return ctxt.handleUnexpectedToken(handledType(), p) as T
+        }
+        val werte = arrayOfNulls<String>(namen.size)
+        while (token == JsonToken.PROPERTY_NAME) {
+            val i = namen.indexOf(p.currentName())
+            token = p.nextToken()
+            if (i < 0) {
+                p.skipChildren()
+            } else if (token != JsonToken.VALUE_NULL) {
+                werte[i] = p.valueAsString ?: return ctxt.handleUnexpectedToken(handledType(), p) as T
+            }
+            token = p.nextToken()
+        }
+        return erzeuge(ctxt) { erzeuger.apply(werte) }
+    }
+
+    private inline fun erzeuge(ctxt: DeserializationContext, block: () -> T): T {
+        return try {
+            block()
+        } catch (ex: IllegalArgumentException) {
+            ctxt.reportInputMismatch(this, ex.message ?: ex.toString())
+        } catch (ex: ValidationException) {
+            ctxt.reportInputMismatch(this, ex.message ?: ex.toString())
+        }
+    }
+
+}
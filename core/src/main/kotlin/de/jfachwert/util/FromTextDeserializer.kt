@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 18.10.2026 by oboehm (ob@oasd.de)
+ */
+package de.jfachwert.util
+
+import de.jfachwert.pruefung.exception.ValidationException
+import tools.jackson.core.JsonParser
+import tools.jackson.core.JsonToken
+import tools.jackson.databind.DeserializationContext
+import tools.jackson.databind.deser.std.StdDeserializer
+import java.util.function.Function
+
+/**
+ * Der FromTextDeserializer ist das Gegenstueck zum [ToTextSerializer]. Er
+ * liest einen JSON-String (oder eine Zahl) und erzeugt daraus ueber die
+ * uebergebene Funktion (z.B. eine of-Methode) den Fachwert, ohne dass
+ * dafuer per Reflection ein passender Konstruktor gesucht werden muss.
+ *
+ * @param T Typ des Fachwerts
+ * @author oboehm
+ * @since 6.8 (18.10.2026)
+ */
+open class FromTextDeserializer<T : Any>(type: Class<T>, private val parser: Function<String, out T>) : StdDeserializer<T>(type) {
+
+    @Suppress("UNCHECKED_CAST")
+    override fun deserialize(p: JsonParser, ctxt: DeserializationContext): T {
+        val token = p.currentToken()
+        if (token != JsonToken.VALUE_STRING && !token.isNumeric) {
+            return ctxt.handleUnexpectedToken(handledType(), p) as T
+        }
+        val text = p.string
+        return try {
+            parser.apply(text)
+        } catch (ex: IllegalArgumentException) {
+            ctxt.handleWeirdStringValue(handledType(), text, ex.message) as T
+        } catch (ex: ValidationException) {
+            ctxt.handleWeirdStringValue(handledType(), text, ex.message) as T
+        }
+    }
+
+}
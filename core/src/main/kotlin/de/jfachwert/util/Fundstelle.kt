@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 18.10.2026 by oboehm (ob@oasd.de)
+ */
+package de.jfachwert.util
+
+import java.io.Serializable
+import java.util.*
+
+/**
+ * Eine Fundstelle ist ein Treffer des [Textscanner]s, also z.B. eine
+ * E-Mail-Adresse, die in einem Text gefunden wurde. Neben dem Typ und der
+ * Position im Text wird auch vermerkt, ob der Treffer gueltig ist. Nur
+ * dann ist auch der eigentliche [wert] gesetzt.
+ *
+ * @param typ   Typ des Treffers, z.B. EMailAdresse
+ * @param start Position des ersten Zeichens
+ * @param ende  Position nach dem letzten Zeichen
+ * @param text  der gefundene Text
+ * @param wert  der Wert oder null, wenn der Treffer nicht gueltig ist
+ * @author oboehm
+ * @since 6.8 (18.10.2026)
+ */
+class Fundstelle<T : Serializable>(
+    val typ: Class<T>,
+    val start: Long,
+    val ende: Long,
+    val text: String,
+    val wert: T?
+) {
+
+    /**
+     * Ein Treffer ist gueltig, wenn der gefundene Text die Pruefung des
+     * entsprechenden Fachwerts besteht.
+     *
+     * @return true bei einem gueltigen Treffer
+     */
+    val isGueltig: Boolean
+        get() = wert != null
+
+    /**
+     * Liefert die Fundstelle um den angegebenen Offset verschoben zurueck.
+     * Dies wird beim abschnittsweisen Lesen benoetigt.
+     */
+    internal fun verschiebe(offset: Long): Fundstelle<T> {
+        return if (offset == 0L) this else Fundstelle(typ, start + offset, ende + offset, text, wert)
+    }
+
+    override fun equals(other: Any?): Boolean {
+        if (other !is Fundstelle<*>) {
+            return false
+        }
+        return typ == other.typ && start == other.start && ende == other.ende && text == other.text &&
+                wert == other.wert
+    }
+
+    override fun hashCode(): Int {
+        return Objects.hash(typ, start, text)
+    }
+
+    override fun toString(): String {
+        return "${typ.simpleName}[$start,$ende)=\"$text\"" + if (isGueltig) "" else " (ungueltig)"
+    }
+
+}
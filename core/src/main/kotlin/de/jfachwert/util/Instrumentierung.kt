@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 18.10.2026 by oboehm (ob@oasd.de)
+ */
+package de.jfachwert.util
+
+import java.util.*
+
+/**
+ * Die Instrumentierung ist der zentrale Schalter fuer das Erfassen von
+ * Metriken (Cache-Treffer der of-Methoden, Ergebnis der Validierungen,
+ * Dauer von parse und format). Sie ist per Default ausgeschaltet und wird
+ * ueber die System-Property "jfachwert.instrumentierung=true" beim Start
+ * eingeschaltet.
+ *
+ * Da [AKTIV] eine statische Konstante ist, kann der JIT-Compiler die
+ * Abfrage "if (Instrumentierung.AKTIV)" im ausgeschalteten Zustand
+ * komplett entfernen, sodass dann keine Kosten entstehen.
+ *
+ * @author oboehm
+ * @since 6.8 (18.10.2026)
+ */
+object Instrumentierung {
+
+    /** Ist true, wenn die Instrumentierung eingeschaltet ist. */
+    @JvmField
+    val AKTIV: Boolean = java.lang.Boolean.getBoolean("jfachwert.instrumentierung")
+
+    private val TYPEN = object : ClassValue<Class<*>>() {
+        override fun computeValue(type: Class<*>): Class<*> {
+            return type.enclosingClass ?: type
+        }
+    }
+
+    /**
+     * Liefert die Metriken. Dies ist die erste Implementierung, die ueber
+     * den ServiceLoader gefunden wird, ansonsten [JmxMetriken].
+     */
+    @JvmStatic
+    val metriken: Metriken by lazy {
+        ServiceLoader.load(Metriken::class.java, Metriken::class.java.classLoader).findFirst().orElseGet { JmxMetriken() }
+    }
+
+    /**
+     * Ersatz fuer cache.computeIfAbsent(key, erzeuger), der bei
+     * eingeschalteter Instrumentierung Treffer und Groesse des Caches
+     * erfasst.
+     *
+     * @param typ Klasse des Fachwerts
+     * @param cache Cache der of-Methode
+     * @param key Schluessel
+     * @param erzeuger erzeugt den Fachwert, wenn er noch nicht im Cache ist
+     * @return Fachwert aus dem Cache
+     */
+    @JvmStatic
+    inline fun <K : Any, V : Any> cache(typ: Class<*>, cache: MutableMap<K, V>, key: K, crossinline erzeuger: (K) -> V): V {
+        if (!AKTIV) {
+            return cache.computeIfAbsent(key) { erzeuger(it) }
+        }
+        var neu = false
+        val wert = cache.computeIfAbsent(key) {
+            neu = true
+            erzeuger(it)
+        }
+        metriken.cache(typ, !neu, cache.size)
+        return wert
+    }
+
+    /**
+     * Erfasst das Ergebnis einer Validierung. Als Typ wird bei inneren
+     * Validator-Klassen (wie IBAN.Validator) die umgebende Klasse verwendet.
+     *
+     * @param validator der Validator
+     * @param fehler null, wenn der Wert akzeptiert wurde
+     */
+    @JvmStatic
+    fun pruefung(validator: Any, fehler: Throwable?) {
+        metriken.pruefung(TYPEN.get(validator.javaClass), fehler?.javaClass?.simpleName)
+    }
+
+    /**
+     * Liefert die Start-Zeit fuer [dauer] oder 0, wenn die Instrumentierung
+     * ausgeschaltet ist.
+     *
+     * @return Start-Zeit in Nanosekunden
+     */
+    @JvmStatic
+    fun start(): Long {
+        return if (AKTIV) System.nanoTime() else 0L
+    }
+
+    /**
+     * Erfasst die Dauer einer Operation seit 'start'.
+     *
+     * @param typ Klasse des Fachwerts
+     * @param operation z.B. "parse"
+     * @param start Rueckgabewert von [start]
+     */
+    @JvmStatic
+    fun dauer(typ: Class<*>, operation: String, start: Long) {
+        if (AKTIV) {
+            metriken.dauer(typ, operation, System.nanoTime() - start)
+        }
+    }
+
+}
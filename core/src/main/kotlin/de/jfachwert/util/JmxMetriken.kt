@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 18.10.2026 by oboehm (ob@oasd.de)
+ */
+package de.jfachwert.util
+
+import java.lang.management.ManagementFactory
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.LongAccumulator
+import java.util.concurrent.atomic.LongAdder
+import java.util.logging.Level
+import java.util.logging.Logger
+import javax.management.JMException
+import javax.management.MBeanServer
+import javax.management.ObjectName
+
+/**
+ * Default-Implementierung der [Metriken], die ohne weitere Abhaengigkeiten
+ * (wie Micrometer) auskommt. Pro Fachwert-Klasse wird ein [Zaehler] mit
+ * LongAdder-Zaehlern angelegt und als MXBean unter
+ * "de.jfachwert:type=Metriken,name=<Klassenname>" registriert. Ueber
+ * JConsole o.ae. kann so jederzeit der aktuelle Stand abgefragt werden.
+ *
+ * @author oboehm
+ * @since 6.8 (18.10.2026)
+ */
+open class JmxMetriken @JvmOverloads constructor(private val server: MBeanServer? = ManagementFactory.getPlatformMBeanServer()) : Metriken {
+
+    private val zaehler = ConcurrentHashMap<Class<*>, Zaehler>()
+
+    /**
+     * Sicht auf die Zaehler einer Fachwert-Klasse fuer JMX.
+     */
+    interface ZaehlerMXBean {
+
+        /** Name der Fachwert-Klasse. */
+        val typ: String
+
+        /** Anzahl der Cache-Treffer in der of-Methode. */
+        val cacheTreffer: Long
+
+        /** Anzahl der Werte, die nicht im Cache gefunden wurden. */
+        val cacheFehlschlaege: Long
+
+        /** Zuletzt gemeldete Groesse des Caches. */
+        val cacheGroesse: Int
+
+        /** Anzahl der akzeptierten Werte bei der Validierung. */
+        val akzeptiert: Long
+
+        /** Anzahl der abgelehnten Werte bei der Validierung. */
+        val abgelehnt: Long
+
+        /** Anzahl der abgelehnten Werte pro Fehler-Schluessel. */
+        val abgelehntNachFehler: Map<String, Long>
+
+        /** Anzahl der Aufrufe pro Operation (z.B. "parse"). */
+        val aufrufe: Map<String, Long>
+
+        /** Gesamtdauer pro Operation in Nanosekunden. */
+        val dauerNanos: Map<String, Long>
+
+        /** Maximale Dauer pro Operation in Nanosekunden. */
+        val maxNanos: Map<String, Long>
+
+        /** Setzt alle Zaehler zurueck. */
+        fun reset()
+
+    }
+
+    /**
+     * Die Zaehler einer Fachwert-Klasse.
+     */
+    class Zaehler internal constructor(type: Class<*>) : ZaehlerMXBean {
+
+        private val treffer = LongAdder()
+        private val fehlschlaege = LongAdder()
+        private val gueltig = LongAdder()
+        private val ungueltig = LongAdder()
+        private val fehler = ConcurrentHashMap<String, LongAdder>()
+        private val stoppuhren = ConcurrentHashMap<String, Stoppuhr>()
+
+        @Volatile
+        override var cacheGroesse: Int = 0
+            internal set
+
+        override val typ: String = type.name
+
+        override val cacheTreffer: Long
+            get() = treffer.sum()
+
+        override val cacheFehlschlaege: Long
+            get() = fehlschlaege.sum()
+
+        override val akzeptiert: Long
+            get() = gueltig.sum()
+
+        override val abgelehnt: Long
+            get() = ungueltig.sum()
+
+        override val abgelehntNachFehler: Map<String, Long>
+            get() = fehler.mapValues { it.value.sum() }
+
+        override val aufrufe: Map<String, Long>
+            get() = stoppuhren.mapValues { it.value.anzahl.sum() }
+
+        override val dauerNanos: Map<String, Long>
+            get() = stoppuhren.mapValues { it.value.nanos.sum() }
+
+        override val maxNanos: Map<String, Long>
+            get() = stoppuhren.mapValues { it.value.max.get() }
+
+        internal fun cache(hit: Boolean, groesse: Int) {
+            if (hit) treffer.increment() else fehlschlaege.increment()
+            cacheGroesse = groesse
+        }
+
+        internal fun pruefung(schluessel: String?) {
+            if (schluessel == null) {
+                gueltig.increment()
+            } else {
+                ungueltig.increment()
+                fehler.computeIfAbsent(schluessel) { LongAdder() }.increment()
+            }
+        }
+
+        internal fun dauer(operation: String, nanos: Long) {
+            val uhr = stoppuhren.computeIfAbsent(operation) { Stoppuhr() }
+            uhr.anzahl.increment()
+            uhr.nanos.add(nanos)
+            uhr.max.accumulate(nanos)
+        }
+
+        override fun reset() {
+            for (adder in listOf(treffer, fehlschlaege, gueltig, ungueltig)) {
+                adder.reset()
+            }
+            fehler.clear()
+            stoppuhren.clear()
+            cacheGroesse = 0
+        }
+
+        override fun toString(): String {
+            return "Zaehler($typ: cache=$cacheTreffer/$cacheFehlschlaege, pruefung=$akzeptiert/$abgelehnt, dauer=$dauerNanos)"
+        }
+
+    }
+
+    private class Stoppuhr {
+        val anzahl = LongAdder()
+        val nanos = LongAdder()
+        val max = LongAccumulator(Math::max, 0L)
+    }
+
+    override fun cache(typ: Class<*>, treffer: Boolean, groesse: Int) {
+        getZaehler(typ).cache(treffer, groesse)
+    }
+
+    override fun pruefung(typ: Class<*>, fehler: String?) {
+        getZaehler(typ).pruefung(fehler)
+    }
+
+    override fun dauer(typ: Class<*>, operation: String, nanos: Long) {
+        getZaehler(typ).dauer(operation, nanos)
+    }
+
+    /**
+     * Liefert die Zaehler fuer die angegebene Klasse. Beim ersten Aufruf
+     * werden sie angelegt und als MXBean registriert.
+     *
+     * @param typ Klasse des Fachwerts
+     * @return Zaehler
+     */
+    fun getZaehler(typ: Class<*>): Zaehler {
+        return zaehler[typ] ?: zaehler.computeIfAbsent(typ) { registriere(Zaehler(it)) }
+    }
+
+    private fun registriere(z: Zaehler): Zaehler {
+        if (server != null) {
+            try {
+                val name = getObjectName(z.typ)
+                if (server.isRegistered(name)) {
+                    server.unregisterMBean(name)
+                }
+                server.registerMBean(z, name)
+            } catch (ex: JMException) {
+                log.log(Level.WARNING, "Cannot register $z as MBean:", ex)
+            }
+        }
+        return z
+    }
+
+    override fun toString(): String {
+        return "JmxMetriken${zaehler.keys.map { it.simpleName }.sorted()}"
+    }
+
+
+
+    companion object {
+
+        private val log = Logger.getLogger(JmxMetriken::class.java.name)
+
+        /**
+         * Liefert den Namen, unter dem die Zaehler einer Klasse registriert
+         * werden.
+         *
+         * @param typ Klassenname
+         * @return z.B. "de.jfachwert:type=Metriken,name=de.jfachwert.bank.IBAN"
+         */
+        @JvmStatic
+        fun getObjectName(typ: String): ObjectName {
+            return ObjectName("de.jfachwert:type=Metriken,name=$typ")
+        }
+
+    }
+
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 19.10.2026 by oboehm (ob@oasd.de)
+ */
+package de.jfachwert.util
+
+/**
+ * LazyField hilft bei abgeleiteten Werten, die in unveraenderlichen
+ * Fachwerten erst beim ersten Zugriff berechnet werden sollen (z.B. die
+ * formatierte IBAN oder die Bankleitzahl). Der Wert selbst liegt dabei in
+ * einem `@Transient`-Feld der Klasse, sodass weder ein zusaetzliches
+ * Objekt pro Instanz angelegt noch etwas mit serialisiert wird:
+ *
+ * ```
+ * @Transient
+ * private var blzCache: BLZ? = null
+ *
+ * val bLZ: BLZ
+ *     get() = LazyField.get(blzCache, { blzCache = it }) { BLZ(code.substring(4, 12)) }
+ * ```
+ *
+ * Dabei wird das "Racy Single-Check"-Idiom verwendet: das Feld wird ohne
+ * Lock und ohne volatile genau einmal gelesen (beim Aufruf von [get]).
+ * Greifen mehrere Threads gleichzeitig zu, kann der Wert mehrfach
+ * berechnet werden. Das ist unkritisch, solange die Berechnung immer
+ * dasselbe Ergebnis liefert und der Wert selbst unveraenderlich ist (d.h.
+ * nur final-Felder hat wie [String] oder andere Fachwerte).
+ *
+ * @author oboehm
+ * @since 6.8 (18.10.2026)
+ */
+object LazyField {
+
+    /**
+     * Liefert den uebergebenen Wert oder berechnet und merkt ihn, falls er
+     * noch nicht bekannt ist. Da die Methode inline ist, entstehen fuer die
+     * Lambdas keine Objekte.
+     *
+     * @param wert aktueller Inhalt des Feldes (evtl. null)
+     * @param merken speichert den berechneten Wert im Feld
+     * @param berechnung liefert den Wert, falls er noch nicht bekannt ist
+     * @return der (gemerkte) Wert
+     */
+    @JvmStatic
+    inline fun <T : Any> get(wert: T?, merken: (T) -> Unit, berechnung: () -> T): T {
+        if (wert != null) {
+            return wert
+        }
+        val neu = berechnung()
+        merken(neu)
+        return neu
+    }
+
+}
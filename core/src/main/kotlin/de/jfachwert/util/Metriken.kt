@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 18.10.2026 by oboehm (ob@oasd.de)
+ */
+package de.jfachwert.util
+
+/**
+ * Ueber diese Schnittstelle (SPI) werden Metriken der Fachwerte erfasst,
+ * wenn die [Instrumentierung] eingeschaltet ist. Ohne eigene
+ * Implementierung werden die Metriken ueber [JmxMetriken] gesammelt. Eine
+ * eigene Implementierung (z.B. fuer Micrometer) kann ueber
+ * META-INF/services/de.jfachwert.util.Metriken eingetragen werden.
+ *
+ * Alle Methoden werden im Aufruf-Pfad der Fachwerte aufgerufen und muessen
+ * daher schnell und thread-sicher sein.
+ *
+ * @author oboehm
+ * @since 6.8 (18.10.2026)
+ */
+interface Metriken {
+
+    /**
+     * Erfasst einen Zugriff auf den Cache einer of-Methode.
+     *
+     * @param typ Klasse des Fachwerts
+     * @param treffer true, wenn der Wert bereits im Cache war
+     * @param groesse aktuelle Groesse des Caches
+     */
+    fun cache(typ: Class<*>, treffer: Boolean, groesse: Int)
+
+    /**
+     * Erfasst das Ergebnis einer Validierung.
+     *
+     * @param typ Klasse des Fachwerts (bzw. des Validators)
+     * @param fehler null, wenn der Wert akzeptiert wurde, sonst der
+     * Fehler-Schluessel (z.B. "PruefzifferException")
+     */
+    fun pruefung(typ: Class<*>, fehler: String?)
+
+    /**
+     * Erfasst die Dauer einer Operation wie "parse" oder "format".
+     *
+     * @param typ Klasse des Fachwerts
+     * @param operation Name der Operation
+     * @param nanos Dauer in Nanosekunden
+     */
+    fun dauer(typ: Class<*>, operation: String, nanos: Long)
+
+}
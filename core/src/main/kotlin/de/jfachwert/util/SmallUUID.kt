@@ -71,9 +71,7 @@ open class SmallUUID : TinyUUID {
      * @return 25 Zeichen, z.B. "12srde28kvwih41tdis7vz5sx"
      */
     override fun toShortString(): String {
-        val id = toNumber()
-        val s = "000000000000000000000000" + id.toString(Character.MAX_RADIX)
-        return s.substring(s.length - 25)
+        return TinyUUID.toBase36(mostSignificantBits, leastSignificantBits)
     }
 
 
@@ -99,6 +97,20 @@ open class SmallUUID : TinyUUID {
             return SmallUUID(UUID.randomUUID())
         }
 
+        /**
+         * Liefert eine zeitlich sortierte UUID (Version 7), die im Gegensatz
+         * zu [randomUUID] ohne [java.security.SecureRandom] auskommt und
+         * sich besser als Primaerschluessel eignet.
+         *
+         * @return zeitlich sortierte SmallUUID
+         * @see UUIDv7Generator
+         * @since 6.8
+         */
+        @JvmStatic
+        fun timeOrderedUUID(): SmallUUID {
+            return SmallUUID(UUIDv7Generator.DEFAULT.nextUUID())
+        }
+
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,469 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 18.10.2026 by oboehm (ob@oasd.de)
+ */
+package de.jfachwert.util
+
+import de.jfachwert.Text
+import java.io.Reader
+import java.io.StringReader
+import java.io.StringWriter
+import java.io.Writer
+import java.nio.ByteBuffer
+import java.nio.CharBuffer
+import java.nio.channels.Channels
+import java.nio.channels.ReadableByteChannel
+import java.nio.channels.WritableByteChannel
+import java.nio.charset.Charset
+import java.nio.charset.CharsetEncoder
+import java.nio.charset.CodingErrorAction
+import java.nio.charset.StandardCharsets
+import java.nio.file.Files
+import java.nio.file.Path
+
+/**
+ * Die TextPipeline bietet die Text-Operationen wie [Text.trim],
+ * [Text.replaceUmlaute] oder [Text.toPrintable] fuer grosse Datenmengen
+ * an, die nicht komplett als String in den Speicher passen. Die einzelnen
+ * Stufen werden dazu abschnittsweise (chunk-weise) auf den Eingabe-Strom
+ * angewendet, wobei nur Puffer mit begrenzter Groesse verwendet werden.
+ *
+ * Fuer die Ersetzung werden dieselben Tabellen wie in [Text] verwendet,
+ * sodass das Ergebnis identisch ist. Einziger Unterschied: die statischen
+ * Methoden in [Text] trimmen das Ergebnis zusaetzlich, waehrend dies hier
+ * ueber eine eigene [trim]-Stufe erfolgt.
+ *
+ * Eine TextPipeline ist unveraenderlich und kann daher mehrfach (auch
+ * parallel) verwendet werden:
+ * <pre>
+ * TextPipeline pipeline = new TextPipeline().replaceUmlaute().toPrintable().trim();
+ * pipeline.process(reader, writer);
+ * </pre>
+ *
+ * @author oboehm
+ * @since 6.8 (18.10.2026)
+ */
+class TextPipeline private constructor(private val stufen: List<() -> Stage>, private val bufferSize: Int) {
+
+    /**
+     * Legt eine leere TextPipeline an, die den Text unveraendert
+     * durchreicht.
+     *
+     * @param bufferSize Groesse des Lese-Puffers (in Zeichen)
+     */
+    @JvmOverloads
+    constructor(bufferSize: Int = DEFAULT_BUFFER_SIZE) : this(listOf(), bufferSize)
+
+    init {
+        require(bufferSize > 1) { "bufferSize=$bufferSize must be > 1" }
+    }
+
+    /**
+     * Eine Stage ist eine einzelne Stufe in der Verarbeitung. Eine Stage
+     * darf einen Zustand haben, da fuer jeden Aufruf von [process] eine
+     * neue Stage angelegt wird.
+     */
+    interface Stage {
+
+        /**
+         * Verarbeitet einen Abschnitt des Textes und haengt das Ergebnis an
+         * den uebergebenen Puffer an. Ein Surrogate-Paar wird dabei nie auf
+         * zwei Abschnitte verteilt.
+         *
+         * @param input Abschnitt des Textes
+         * @param output Puffer fuer das Ergebnis
+         */
+        fun process(input: CharSequence, output: StringBuilder)
+
+        /**
+         * Wird am Ende des Textes aufgerufen, damit eine Stage noch
+         * zurueckgehaltene Zeichen ausgeben kann.
+         *
+         * @param output Puffer fuer das Ergebnis
+         */
+        fun finish(output: StringBuilder) {
+        }
+
+    }
+
+    /**
+     * Haengt eine eigene Stufe an die Pipeline an.
+     *
+     * @param stage Supplier, der fuer jede Verarbeitung eine neue Stage liefert
+     * @return neue TextPipeline mit der zusaetzlichen Stufe
+     */
+    fun add(stage: () -> Stage): TextPipeline {
+        return TextPipeline(stufen + stage, bufferSize)
+    }
+
+    /**
+     * Entfernt Leerzeichen am Anfang und Ende des gesamten Textes. Wie bei
+     * [Text.trim] werden dabei auch geschuetzte Leerzeichen beruecksichtigt.
+     *
+     * @return neue TextPipeline mit der zusaetzlichen Stufe
+     */
+    fun trim(): TextPipeline {
+        return add { TrimStage(maxOf(bufferSize, MIN_TRIM_LAEUFE)) }
+    }
+
+    /**
+     * Ersetzt Umlaute und scharfes 'S' (s. [Text.replaceUmlaute]).
+     *
+     * @return neue TextPipeline mit der zusaetzlichen Stufe
+     */
+    fun replaceUmlaute(): TextPipeline {
+        return add { MappingStage { input, output -> Text.replaceUmlaute(input, output) } }
+    }
+
+    /**
+     * Ersetzt Sonderzeichen durch ihr Gegenstueck oder eine
+     * Ersatzdarstellung (s. [Text.replaceSonderzeichen]).
+     *
+     * @return neue TextPipeline mit der zusaetzlichen Stufe
+     */
+    fun replaceSonderzeichen(): TextPipeline {
+        return add { MappingStage { input, output -> Text.replaceSonderzeichen(input, output) } }
+    }
+
+    /**
+     * Filtert nicht druckbare Zeichen aus (s. [Text.toPrintable]).
+     *
+     * @return neue TextPipeline mit der zusaetzlichen Stufe
+     */
+    fun toPrintable(): TextPipeline {
+        return add { MappingStage { input, output -> Text.toPrintable(input, output) } }
+    }
+
+    /**
+     * Limitiert den Text auf die Zeichen, die das gewuenschte Encoding
+     * aufnehmen kann (s. [Text.limitTo]). Da das Encoding beim Streamen
+     * bekannt ist, entfaellt hier die Erkennung ueber [Text.detectCharset].
+     *
+     * @param encoding gewuenschtes Encoding
+     * @return neue TextPipeline mit der zusaetzlichen Stufe
+     */
+    fun limitTo(encoding: Charset): TextPipeline {
+        return add { MappingStage { input, output -> Text.replaceSpecialChars(input, encoding, output) } }
+    }
+
+    /**
+     * Verarbeitet den Text aus dem Reader und schreibt das Ergebnis in den
+     * Writer. Beide werden dabei nicht geschlossen.
+     *
+     * @param reader Quelle
+     * @param writer Ziel
+     * @return Anzahl der geschriebenen Zeichen
+     */
+    fun process(reader: Reader, writer: Writer): Long {
+        val stages = stufen.map { it() }
+        val puffer = Array(stages.size) { StringBuilder(bufferSize * 2) }
+        val input = CharBuffer.allocate(bufferSize)
+        var written = 0L
+        while (reader.read(input) >= 0) {
+            input.flip()
+            var end = input.limit()
+            if (end > 0 && Character.isHighSurrogate(input.get(end - 1))) {
+                // Surrogate-Paar nicht auseinanderreissen, sondern
+                // mit dem naechsten Abschnitt verarbeiten
+                end--
+            }
+            val chunk = input.subSequence(0, end)
+            written += write(process(chunk, stages, puffer, 0), writer)
+            input.position(end)
+            input.compact()
+        }
+        input.flip()
+        written += write(process(input, stages, puffer, 0), writer)
+        for (i in stages.indices) {
+            puffer[i].setLength(0)
+            stages[i].finish(puffer[i])
+            written += write(process(puffer[i], stages, puffer, i + 1), writer)
+        }
+        writer.flush()
+        return written
+    }
+
+    /**
+     * Verarbeitet den Text aus dem Channel und schreibt das Ergebnis in
+     * einen anderen Channel. Zeichen, die nicht im Ziel-Encoding darstellbar
+     * sind, werden dabei (wie bei [String.toByteArray]) durch ein
+     * Ersatzzeichen ersetzt.
+     *
+     * Am Ende wird das Encoding ordentlich abgeschlossen, sodass auch bei
+     * zustandsbehafteten Encodings (wie ISO-2022-JP) die abschliessenden
+     * Steuerzeichen geschrieben werden. Die Channels selbst werden nicht
+     * geschlossen.
+     *
+     * @param source Quelle
+     * @param sourceEncoding Encoding der Quelle
+     * @param target Ziel
+     * @param targetEncoding gewuenschtes Encoding
+     * @return Anzahl der geschriebenen Zeichen
+     */
+    fun process(source: ReadableByteChannel, sourceEncoding: Charset,
+                target: WritableByteChannel, targetEncoding: Charset): Long {
+        val decoder = sourceEncoding.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE)
+        val encoder = targetEncoding.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE)
+        val reader = Channels.newReader(source, decoder, bufferSize)
+        val writer = ChannelWriter(target, encoder, bufferSize)
+        val written = process(reader, writer)
+        writer.finish()
+        return written
+    }
+
+    /**
+     * Verarbeitet den uebergebenen Text. Diese Methode ist eher fuer kleine
+     * Texte und zum Testen gedacht.
+     *
+     * @param text Text
+     * @return verarbeiteter Text
+     */
+    fun process(text: String): String {
+        val writer = StringWriter(text.length)
+        process(StringReader(text), writer)
+        return writer.toString()
+    }
+
+    private fun process(chunk: CharSequence, stages: List<Stage>, puffer: Array<StringBuilder>, from: Int): CharSequence {
+        var current = chunk
+        for (i in from until stages.size) {
+            val output = puffer[i]
+            output.setLength(0)
+            stages[i].process(current, output)
+            current = output
+        }
+        return current
+    }
+
+    private fun write(chunk: CharSequence, writer: Writer): Int {
+        writer.append(chunk)
+        return chunk.length
+    }
+
+    override fun toString(): String {
+        return "TextPipeline(${stufen.size} stages, bufferSize=$bufferSize)"
+    }
+
+
+
+    /**
+     * Writer, der die Zeichen selbst ueber den [CharsetEncoder] in den
+     * Channel schreibt. Anders als bei [Channels.newWriter] laesst sich
+     * das Encoding hier ueber [finish] abschliessen, ohne den Channel zu
+     * schliessen.
+     */
+    private class ChannelWriter(
+        private val target: WritableByteChannel,
+        private val encoder: CharsetEncoder,
+        bufferSize: Int
+    ) : Writer() {
+
+        private val chars = CharBuffer.allocate(bufferSize)
+        private val bytes = ByteBuffer.allocate(maxOf((bufferSize * encoder.maxBytesPerChar()).toInt(), 16))
+
+        override fun write(cbuf: CharArray, off: Int, len: Int) {
+            var i = off
+            val end = off + len
+            while (i < end) {
+                val n = minOf(end - i, chars.remaining())
+                chars.put(cbuf, i, n)
+                i += n
+                if (!chars.hasRemaining()) {
+                    encode(false)
+                }
+            }
+        }
+
+        override fun append(csq: CharSequence?): Writer {
+            val s = csq ?: "null"
+            for (c in s) {
+                chars.put(c)
+                if (!chars.hasRemaining()) {
+                    encode(false)
+                }
+            }
+            return this
+        }
+
+        private fun encode(endOfInput: Boolean) {
+            chars.flip()
+            while (true) {
+                val result = encoder.encode(chars, bytes, endOfInput)
+                if (result.isOverflow) {
+                    drain()
+                } else if (result.isError) {
+                    result.throwException()
+                } else {
+                    break
+                }
+            }
+            chars.compact()
+        }
+
+        private fun drain() {
+            bytes.flip()
+            while (bytes.hasRemaining()) {
+                target.write(bytes)
+            }
+            bytes.clear()
+        }
+
+        override fun flush() {
+            encode(false)
+            drain()
+        }
+
+        /**
+         * Schliesst das Encoding ab (ohne den Channel zu schliessen).
+         */
+        fun finish() {
+            encode(true)
+            while (encoder.flush(bytes).isOverflow) {
+                drain()
+            }
+            drain()
+        }
+
+        override fun close() {
+            finish()
+        }
+
+    }
+
+    /**
+     * Zustandslose Stufe, die jedes Zeichen unabhaengig von den
+     * vorherigen Zeichen ersetzt.
+     */
+    private class MappingStage(private val mapping: (CharSequence, StringBuilder) -> Unit) : Stage {
+        override fun process(input: CharSequence, output: StringBuilder) {
+            mapping(input, output)
+        }
+    }
+
+    /**
+     * Die Trim-Stufe ueberspringt fuehrende Leerzeichen und haelt
+     * Leerzeichen so lange zurueck, bis wieder ein anderes Zeichen kommt.
+     * Am Ende des Textes werden sie verworfen.
+     *
+     * Damit auch eine lange Auffuellung am Dateiende (z.B. Leerzeichen bei
+     * Exporten mit fester Satzlaenge) nicht komplett im Speicher landet,
+     * werden die zurueckgehaltenen Zeichen als Folge von Laeufen (Zeichen
+     * plus Anzahl) gemerkt. Folgen mehr als 'limit' (Puffergroesse, mind.
+     * 64) verschiedene Laeufe aufeinander (z.B. viele Leerzeilen mit
+     * "\r\n"), werden die bisherigen Laeufe in eine temporaere Datei
+     * ausgelagert. Ausgegeben werden sie erst, wenn noch Text folgt.
+     */
+    private class TrimStage(private val limit: Int) : Stage {
+
+        private val zeichen = StringBuilder()
+        private var anzahl = LongArray(16)
+        private var started = false
+        private var ueberlauf: Path? = null
+        private var ueberlaufWriter: Writer? = null
+
+        override fun process(input: CharSequence, output: StringBuilder) {
+            for (c in input) {
+                if (Text.isTrimmable(c)) {
+                    if (started) {
+                        hold(c)
+                    }
+                } else {
+                    started = true
+                    flush(output)
+                    output.append(c)
+                }
+            }
+        }
+
+        private fun hold(c: Char) {
+            val n = zeichen.length
+            if (n > 0 && zeichen[n - 1] == c) {
+                anzahl[n - 1]++
+                return
+            }
+            if (n >= limit) {
+                auslagern()
+            } else if (n == anzahl.size) {
+                anzahl = anzahl.copyOf(minOf(n * 2, limit))
+            }
+            anzahl[zeichen.length] = 1
+            zeichen.append(c)
+        }
+
+        private fun auslagern() {
+            var writer = ueberlaufWriter
+            if (writer == null) {
+                val temp = Files.createTempFile("TextPipeline", ".trim")
+                ueberlauf = temp
+                writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)
+                ueberlaufWriter = writer
+            }
+            for (i in zeichen.indices) {
+                for (k in 0 until anzahl[i]) {
+                    writer!!.write(zeichen[i].code)
+                }
+            }
+            zeichen.setLength(0)
+        }
+
+        private fun flush(output: StringBuilder) {
+            val temp = ueberlauf
+            if (temp != null) {
+                ueberlaufWriter!!.close()
+                Files.newBufferedReader(temp, StandardCharsets.UTF_8).use { reader ->
+                    val buffer = CharArray(DEFAULT_BUFFER_SIZE)
+                    while (true) {
+                        val n = reader.read(buffer)
+                        if (n < 0) {
+                            break
+                        }
+                        output.append(buffer, 0, n)
+                    }
+                }
+                loescheUeberlauf()
+            }
+            for (i in zeichen.indices) {
+                for (k in 0 until anzahl[i]) {
+                    output.append(zeichen[i])
+                }
+            }
+            zeichen.setLength(0)
+        }
+
+        private fun loescheUeberlauf() {
+            ueberlaufWriter?.close()
+            ueberlauf?.let { Files.deleteIfExists(it) }
+            ueberlaufWriter = null
+            ueberlauf = null
+        }
+
+        override fun finish(output: StringBuilder) {
+            zeichen.setLength(0)
+            loescheUeberlauf()
+        }
+
+    }
+
+    companion object {
+        private const val DEFAULT_BUFFER_SIZE = 8192
+        private const val MIN_TRIM_LAEUFE = 64
+    }
+
+}
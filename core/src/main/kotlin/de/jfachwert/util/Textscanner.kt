@@ -0,0 +1,311 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 18.10.2026 by oboehm (ob@oasd.de)
+ */
+package de.jfachwert.util
+
+import java.io.Reader
+import java.io.Serializable
+import java.nio.CharBuffer
+import java.util.function.Consumer
+import java.util.stream.Collectors
+import java.util.stream.IntStream
+
+/**
+ * Der Textscanner sucht in einem Text (z.B. Tickets, Log-Dateien oder
+ * Verwendungszwecken von Kontoauszuegen) nach eingebetteten Fachwerten wie
+ * E-Mail-Adressen, Telefonnummern oder IBANs. Welche Fachwerte gesucht
+ * werden, bestimmen die uebergebenen [Erkenner]:
+ * <pre>
+ * Textscanner scanner = new Textscanner(EMailAdresse.ERKENNER, Telefonnummer.ERKENNER, IBAN.ERKENNER);
+ * List&lt;Fundstelle&lt;?&gt;&gt; treffer = scanner.scan(text);
+ * </pre>
+ *
+ * Jeder Erkenner nennt dazu seine Anker (z.B. "@" fuer E-Mail-Adressen).
+ * Alle Anker werden in einem gemeinsamen Aho-Corasick-Automaten abgelegt,
+ * sodass der Text nur einmal durchlaufen werden muss. Erst an einer
+ * Anker-Position wird der Erkenner befragt, der dann den Kandidaten
+ * abgrenzt und ohne Exception prueft.
+ *
+ * Ein Textscanner ist unveraenderlich und kann daher auch parallel
+ * verwendet werden (siehe [scanParallel]).
+ *
+ * @author oboehm
+ * @since 6.8 (18.10.2026)
+ */
+class Textscanner(erkenner: List<Erkenner<*>>) {
+
+    private val erkenner: Array<Erkenner<*>> = erkenner.toTypedArray()
+    private val automat = Automat(this.erkenner)
+
+    /**
+     * Legt einen Textscanner fuer die uebergebenen Erkenner an.
+     *
+     * @param erkenner z.B. EMailAdresse.ERKENNER
+     */
+    constructor(vararg erkenner: Erkenner<*>) : this(erkenner.toList())
+
+    init {
+        require(this.erkenner.isNotEmpty()) { "no Erkenner given" }
+    }
+
+    /**
+     * Ein Erkenner grenzt an einer Anker-Position einen Kandidaten fuer
+     * seinen Fachwert ab und prueft ihn. Da Kandidaten nicht ueber
+     * Zeilenumbrueche gehen duerfen, kann der Text dadurch abschnittsweise
+     * durchsucht werden.
+     */
+    interface Erkenner<T : Serializable> {
+
+        /**
+         * Liefert die Zeichenketten (nur ASCII), an denen ein Kandidat
+         * erkannt werden kann, z.B. "@" fuer E-Mail-Adressen.
+         *
+         * @return Anker
+         */
+        val anker: Collection<String>
+
+        /**
+         * Prueft, ob an der uebergebenen Position ein Kandidat steht. Diese
+         * Methode darf keine Exception werfen, sondern liefert bei einem
+         * ungueltigen Kandidaten eine Fundstelle ohne Wert.
+         *
+         * @param text     der zu durchsuchende Text
+         * @param position Position des gefundenen Ankers
+         * @param laenge   Laenge des gefundenen Ankers
+         * @return Fundstelle oder null, wenn hier kein Kandidat steht
+         */
+        fun erkenne(text: CharSequence, position: Int, laenge: Int): Fundstelle<T>?
+
+    }
+
+    /**
+     * Durchsucht den uebergebenen Text und liefert die Treffer sortiert
+     * nach ihrer Position.
+     *
+     * @param text zu durchsuchender Text
+     * @return gueltige und ungueltige Treffer
+     */
+    fun scan(text: CharSequence): List<Fundstelle<*>> {
+        val treffer = mutableListOf<Fundstelle<*>>()
+        scan(text, 0, text.length, 0L) { treffer.add(it) }
+        treffer.sortBy { it.start }
+        return treffer
+    }
+
+    /**
+     * Durchsucht den uebergebenen Text und meldet die Treffer an den
+     * Consumer, sobald sie gefunden werden.
+     *
+     * @param text     zu durchsuchender Text
+     * @param consumer Empfaenger der Treffer
+     */
+    fun scan(text: CharSequence, consumer: Consumer<Fundstelle<*>>) {
+        scan(text, 0, text.length, 0L, consumer)
+    }
+
+    /**
+     * Durchsucht den Text aus dem Reader abschnittsweise, sodass auch
+     * Dateien durchsucht werden koennen, die nicht in den Speicher passen.
+     * Die Abschnitte enden jeweils an einem Zeilenumbruch, die Positionen
+     * der Treffer beziehen sich aber auf den gesamten Text.
+     *
+     * @param reader   Quelle, die hier nicht geschlossen wird
+     * @param consumer Empfaenger der Treffer
+     * @return Anzahl der gelesenen Zeichen
+     */
+    fun scan(reader: Reader, consumer: Consumer<Fundstelle<*>>): Long {
+        var puffer = CharArray(ABSCHNITT)
+        var gefuellt = 0
+        var basis = 0L
+        while (true) {
+            if (gefuellt == puffer.size) {
+                puffer = puffer.copyOf(puffer.size * 2)
+            }
+            val n = reader.read(puffer, gefuellt, puffer.size - gefuellt)
+            if (n < 0) {
+                break
+            }
+            gefuellt += n
+            val grenze = letzteGrenze(puffer, gefuellt)
+            if (grenze > 0) {
+                scan(CharBuffer.wrap(puffer, 0, grenze), 0, grenze, basis, consumer)
+                System.arraycopy(puffer, grenze, puffer, 0, gefuellt - grenze)
+                gefuellt -= grenze
+                basis += grenze
+            }
+        }
+        scan(CharBuffer.wrap(puffer, 0, gefuellt), 0, gefuellt, basis, consumer)
+        return basis + gefuellt
+    }
+
+    /**
+     * Durchsucht den Text parallel, indem er an Zeilenumbruechen in
+     * Abschnitte aufgeteilt wird. Das Ergebnis ist dasselbe wie bei
+     * [scan], lohnt sich aber erst bei grossen Texten.
+     *
+     * @param text zu durchsuchender Text
+     * @return gueltige und ungueltige Treffer, sortiert nach Position
+     */
+    fun scanParallel(text: CharSequence): List<Fundstelle<*>> {
+        val grenzen = mutableListOf(0)
+        var von = 0
+        while (text.length - von > ABSCHNITT) {
+            var i = von + ABSCHNITT
+            while (i < text.length && text[i - 1] != '\n') {
+                i++
+            }
+            grenzen.add(i)
+            von = i
+        }
+        grenzen.add(text.length)
+        return IntStream.range(0, grenzen.size - 1).parallel()
+            .mapToObj { scan(text, grenzen[it], grenzen[it + 1]) }
+            .flatMap { it.stream() }
+            .collect(Collectors.toList())
+    }
+
+    private fun scan(text: CharSequence, von: Int, bis: Int): List<Fundstelle<*>> {
+        val treffer = mutableListOf<Fundstelle<*>>()
+        scan(text, von, bis, 0L) { treffer.add(it) }
+        treffer.sortBy { it.start }
+        return treffer
+    }
+
+    private fun scan(text: CharSequence, von: Int, bis: Int, offset: Long, consumer: Consumer<Fundstelle<*>>) {
+        val weiter = IntArray(erkenner.size)
+        var belegt = 0
+        var zustand = 0
+        for (i in von until bis) {
+            zustand = automat.next(zustand, text[i])
+            val ausgaben = automat.ausgaben[zustand] ?: continue
+            for (k in ausgaben.indices step 2) {
+                val e = ausgaben[k]
+                val laenge = ausgaben[k + 1]
+                val position = i - laenge + 1
+                if (position < weiter[e] || position < belegt) {
+                    continue
+                }
+                val fund = erkenner[e].erkenne(text, position, laenge) ?: continue
+                weiter[e] = maxOf(position + 1, (fund.ende).toInt())
+                if (fund.isGueltig) {
+                    belegt = fund.ende.toInt()
+                }
+                consumer.accept(fund.verschiebe(offset))
+            }
+        }
+    }
+
+    override fun toString(): String {
+        return "Textscanner(${erkenner.size} Erkenner, ${automat.ausgaben.size} Zustaende)"
+    }
+
+
+
+    /**
+     * Aho-Corasick-Automat ueber die Anker aller Erkenner. Da die Anker
+     * nur aus ASCII-Zeichen bestehen, werden die Uebergaenge als
+     * vollstaendige Tabelle mit 128 Eintraegen pro Zustand abgelegt.
+     */
+    private class Automat(erkenner: Array<Erkenner<*>>) {
+
+        val uebergaenge: IntArray
+        val ausgaben: Array<IntArray?>
+
+        init {
+            val goto = mutableListOf(IntArray(128) { -1 })
+            val treffer = mutableListOf<MutableList<Int>>(mutableListOf())
+            for ((e, ek) in erkenner.withIndex()) {
+                for (anker in ek.anker) {
+                    require(anker.isNotEmpty() && anker.all { it.code < 128 }) { "invalid anchor '$anker'" }
+                    var z = 0
+                    for (c in anker) {
+                        var naechster = goto[z][c.code]
+                        if (naechster < 0) {
+                            naechster = goto.size
+                            goto[z][c.code] = naechster
+                            goto.add(IntArray(128) { -1 })
+                            treffer.add(mutableListOf())
+                        }
+                        z = naechster
+                    }
+                    treffer[z].add(e)
+                    treffer[z].add(anker.length)
+                }
+            }
+            val n = goto.size
+            uebergaenge = IntArray(n * 128)
+            val fail = IntArray(n)
+            val queue = ArrayDeque<Int>()
+            for (c in 0 until 128) {
+                val z = goto[0][c]
+                if (z > 0) {
+                    uebergaenge[c] = z
+                    queue.add(z)
+                }
+            }
+            while (queue.isNotEmpty()) {
+                val z = queue.removeFirst()
+                treffer[z].addAll(treffer[fail[z]])
+                for (c in 0 until 128) {
+                    val kind = goto[z][c]
+                    if (kind > 0) {
+                        fail[kind] = uebergaenge[fail[z] * 128 + c]
+                        uebergaenge[z * 128 + c] = kind
+                        queue.add(kind)
+                    } else {
+                        uebergaenge[z * 128 + c] = uebergaenge[fail[z] * 128 + c]
+                    }
+                }
+            }
+            ausgaben = Array(n) { if (treffer[it].isEmpty()) null else treffer[it].toIntArray() }
+        }
+
+        fun next(zustand: Int, c: Char): Int {
+            return if (c.code < 128) uebergaenge[zustand * 128 + c.code] else 0
+        }
+
+    }
+
+
+
+    companion object {
+
+        private const val ABSCHNITT = 64 * 1024
+
+        /**
+         * Liefert die Position nach dem letzten Zeilenumbruch (oder, falls
+         * es keinen gibt, nach dem letzten Leerzeichen) im Puffer.
+         */
+        private fun letzteGrenze(puffer: CharArray, laenge: Int): Int {
+            for (i in laenge - 1 downTo 0) {
+                if (puffer[i] == '\n') {
+                    return i + 1
+                }
+            }
+            if (laenge == puffer.size) {
+                for (i in laenge - 1 downTo 0) {
+                    if (puffer[i] == ' ' || puffer[i] == '\t') {
+                        return i + 1
+                    }
+                }
+            }
+            return 0
+        }
+
+    }
+
+}
@@ -21,7 +21,6 @@ import de.jfachwert.AbstractFachwert
 import de.jfachwert.pruefung.exception.InvalidValueException
 import de.jfachwert.pruefung.exception.LocalizedIllegalArgumentException
 import java.math.BigInteger
-import java.nio.charset.StandardCharsets
 import java.util.*
 
 /**
@@ -73,8 +72,7 @@ open class TinyUUID(uuid: UUID) : AbstractFachwert<UUID, TinyUUID>(uuid) {
      * @return Zahl
      */
     fun toNumber(): BigInteger {
-        val uuid = code
-        return toBigInteger(uuid.toString())
+        return BigInteger(1, toBytes())
     }
 
     /**
@@ -83,8 +81,10 @@ open class TinyUUID(uuid: UUID) : AbstractFachwert<UUID, TinyUUID>(uuid) {
      * @return 16-stelliges Byte-Array
      */
     fun toBytes(): ByteArray {
-        val bytes = toNumber().toByteArray()
-        return to16Bytes(bytes)
+        val bytes = ByteArray(16)
+        putLong(bytes, 0, mostSignificantBits)
+        putLong(bytes, 8, leastSignificantBits)
+        return bytes
     }
 
     /**
@@ -133,11 +133,13 @@ open class TinyUUID(uuid: UUID) : AbstractFachwert<UUID, TinyUUID>(uuid) {
      * Damit der resultierende String auch URL-safe ist, werden die Zeichen
      * '/' und '+' durch '_' und '-' ersetzt.
      *
+     * Die Kodierung erfolgt direkt auf den beiden long-Werten der UUID,
+     * ohne Umweg ueber [BigInteger] oder ein Byte-Array.
+     *
      * @return 22 Zeichen, z.B. "ix9de14vQgGKwXZUaruCzw"
      */
     override fun toShortString(): String {
-        val s = Base64.getEncoder().withoutPadding().encodeToString(toBytes())
-        return s.replace('/', '_').replace('+', '-')
+        return toBase64(mostSignificantBits, leastSignificantBits)
     }
 
     /**
@@ -161,11 +163,22 @@ open class TinyUUID(uuid: UUID) : AbstractFachwert<UUID, TinyUUID>(uuid) {
         @JvmField
         val MAX = TinyUUID("ffffffff-ffff-ffff-ffff-ffffffffffff")
 
-        private fun to16Bytes(number: BigInteger): ByteArray {
-            return to16Bytes(number.toByteArray())
+        private val BASE64_DIGITS = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_".toCharArray()
+        private val BASE64_VALUES = IntArray(128) { -1 }
+        private const val BASE36_DIVISOR = 36L * 36L * 36L * 36L * 36L
+        private const val MASK32 = 0xFFFFFFFFL
+
+        init {
+            for (i in BASE64_DIGITS.indices) {
+                BASE64_VALUES[BASE64_DIGITS[i].code] = i
+            }
+            // fuer Strings im Standard-Alphabet (mit '+' und '/')
+            BASE64_VALUES['+'.code] = 62
+            BASE64_VALUES['/'.code] = 63
         }
 
-        private fun to16Bytes(bytes: ByteArray): ByteArray {
+        private fun to16Bytes(number: BigInteger): ByteArray {
+            val bytes = number.toByteArray()
             return if (bytes.size > 15) {
                 Arrays.copyOfRange(bytes, bytes.size - 16, bytes.size)
             } else {
@@ -175,23 +188,122 @@ open class TinyUUID(uuid: UUID) : AbstractFachwert<UUID, TinyUUID>(uuid) {
             }
         }
 
-        private fun toBigInteger(uuid: String): BigInteger {
-            return try {
-                BigInteger(uuid.replace("-".toRegex(), ""), 16)
-            } catch (nfe: NumberFormatException) {
-                throw InvalidValueException(uuid, "UUID")
+        private fun putLong(bytes: ByteArray, offset: Int, value: Long) {
+            for (i in 0..7) {
+                bytes[offset + i] = (value ushr (56 - 8 * i)).toByte()
             }
         }
 
-        private fun toString(number: BigInteger): String {
-            val bytes = to16Bytes(number)
-            return toString(bytes)
+        private fun getLong(bytes: ByteArray, offset: Int): Long {
+            var value = 0L
+            for (i in offset until offset + 8) {
+                value = (value shl 8) or (bytes[i].toLong() and 0xFF)
+            }
+            return value
         }
 
-        private fun toString(bytes: ByteArray): String {
-            return String.format("%02x%02x%02x%02x-%02x%02x-%02x%02x-%02x%02x-%02x%02x%02x%02x%02x%02x",
-                    bytes[0], bytes[1], bytes[2], bytes[3], bytes[4], bytes[5], bytes[6], bytes[7],
-                    bytes[8], bytes[9], bytes[10], bytes[11], bytes[12], bytes[13], bytes[14], bytes[15])
+        /**
+         * Kodiert die 128 Bit als URL-sicheres Base64 (ohne Padding).
+         * Die ersten 21 Zeichen nehmen je 6 Bit auf, das letzte Zeichen
+         * die restlichen 2 Bit.
+         */
+        private fun toBase64(msb: Long, lsb: Long): String {
+            val chars = CharArray(22)
+            for (i in 0..20) {
+                chars[i] = BASE64_DIGITS[sixBitsAt(msb, lsb, i * 6)]
+            }
+            chars[21] = BASE64_DIGITS[((lsb and 3L) shl 4).toInt()]
+            return String(chars)
+        }
+
+        private fun sixBitsAt(msb: Long, lsb: Long, pos: Int): Int {
+            val bits = when {
+                pos <= 58 -> msb ushr (58 - pos)
+                pos >= 64 -> lsb ushr (122 - pos)
+                else -> (msb shl (pos - 58)) or (lsb ushr (122 - pos))
+            }
+            return (bits and 0x3F).toInt()
+        }
+
+        private fun fromBase64(id: String): UUID {
+            var msb = 0L
+            var lsb = 0L
+            for (i in 0..20) {
+                msb = (msb shl 6) or (lsb ushr 58)
+                lsb = (lsb shl 6) or base64Value(id, i).toLong()
+            }
+            msb = (msb shl 2) or (lsb ushr 62)
+            lsb = (lsb shl 2) or (base64Value(id, 21).toLong() ushr 4)
+            return UUID(msb, lsb)
+        }
+
+        private fun base64Value(id: String, i: Int): Int {
+            val c = id[i]
+            val value = if (c.code < 128) BASE64_VALUES[c.code] else -1
+            if (value < 0) {
+                throw InvalidValueException(id, "UUID")
+            }
+            return value
+        }
+
+        /**
+         * Liefert die 128 Bit als vorzeichenlose Zahl zur Basis 36 mit
+         * 25 Stellen. Dazu wird die Zahl in 32-Bit-Haeppchen jeweils durch
+         * 36^5 geteilt, sodass fuer alle 25 Stellen nur 5 Durchlaeufe
+         * notwendig sind.
+         *
+         * @param msb die oberen 64 Bit
+         * @param lsb die unteren 64 Bit
+         * @return 25 Zeichen, z.B. "12srde28kvwih41tdis7vz5sx"
+         */
+        internal fun toBase36(msb: Long, lsb: Long): String {
+            val chars = CharArray(25)
+            var hi = msb
+            var lo = lsb
+            var pos = chars.size
+            while (pos > 0) {
+                var n = hi ushr 32
+                val q0 = n / BASE36_DIVISOR
+                n = ((n % BASE36_DIVISOR) shl 32) or (hi and MASK32)
+                val q1 = n / BASE36_DIVISOR
+                n = ((n % BASE36_DIVISOR) shl 32) or (lo ushr 32)
+                val q2 = n / BASE36_DIVISOR
+                n = ((n % BASE36_DIVISOR) shl 32) or (lo and MASK32)
+                val q3 = n / BASE36_DIVISOR
+                var rest = (n % BASE36_DIVISOR).toInt()
+                hi = (q0 shl 32) or q1
+                lo = (q2 shl 32) or q3
+                for (i in 0..4) {
+                    chars[--pos] = Character.forDigit(rest % 36, 36)
+                    rest /= 36
+                }
+            }
+            return String(chars)
+        }
+
+        /**
+         * Gegenstueck zu [toBase36]. Wie bei [BigInteger] werden auch
+         * Grossbuchstaben akzeptiert; Zahlen ausserhalb von 128 Bit werden
+         * auf die unteren 128 Bit abgeschnitten. Der seltene Fall mit
+         * Vorzeichen wird weiterhin ueber [BigInteger] abgehandelt.
+         */
+        private fun fromBase36(id: String): UUID {
+            if (id.startsWith('-') || id.startsWith('+')) {
+                return toUUID(BigInteger(id, Character.MAX_RADIX))
+            }
+            var hi = 0L
+            var lo = 0L
+            for (i in id.indices) {
+                val digit = Character.digit(id[i], 36)
+                if (digit < 0) {
+                    throw InvalidValueException(id, "UUID")
+                }
+                val loTimes36 = lo * 36
+                val carry = Math.multiplyHigh(lo, 36) + ((lo shr 63) and 36)
+                lo = loTimes36 + digit
+                hi = hi * 36 + carry + (if (java.lang.Long.compareUnsigned(lo, loTimes36) < 0) 1 else 0)
+            }
+            return UUID(hi, lo)
         }
 
         /**
@@ -211,15 +323,8 @@ open class TinyUUID(uuid: UUID) : AbstractFachwert<UUID, TinyUUID>(uuid) {
 
         private fun toUUID(id: String): UUID {
             return when (id.length) {
-                22 -> {
-                    val base64 = id.replace('-', '+').replace('_', '/')
-                    val bytes = Base64.getDecoder().decode(base64.toByteArray(StandardCharsets.UTF_8))
-                    toUUID(bytes)
-                }
-                25 -> {
-                    val n = BigInteger(id, Character.MAX_RADIX)
-                    toUUID(n)
-                }
+                22 -> fromBase64(id)
+                25 -> fromBase36(id)
                 else -> try {
                     UUID.fromString(id)
                 } catch (ex: IllegalArgumentException) {
@@ -229,11 +334,12 @@ open class TinyUUID(uuid: UUID) : AbstractFachwert<UUID, TinyUUID>(uuid) {
         }
 
         private fun toUUID(number: BigInteger): UUID {
-            return UUID.fromString(toString(number))
+            return toUUID(to16Bytes(number))
         }
 
         private fun toUUID(bytes: ByteArray): UUID {
-            return UUID.fromString(toString(verify(bytes)))
+            verify(bytes)
+            return UUID(getLong(bytes, 0), getLong(bytes, 8))
         }
 
         private fun verify(bytes: ByteArray): ByteArray {
@@ -254,6 +360,20 @@ open class TinyUUID(uuid: UUID) : AbstractFachwert<UUID, TinyUUID>(uuid) {
             return TinyUUID(UUID.randomUUID())
         }
 
+        /**
+         * Liefert eine zeitlich sortierte UUID (Version 7), die im Gegensatz
+         * zu [randomUUID] ohne [java.security.SecureRandom] auskommt und
+         * sich besser als Primaerschluessel eignet.
+         *
+         * @return zeitlich sortierte TinyUUID
+         * @see UUIDv7Generator
+         * @since 6.8
+         */
+        @JvmStatic
+        fun timeOrderedUUID(): TinyUUID {
+            return TinyUUID(UUIDv7Generator.DEFAULT.nextUUID())
+        }
+
     }
 
 }
\ No newline at end of file
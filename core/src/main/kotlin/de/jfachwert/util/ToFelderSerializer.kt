@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 18.10.2026 by oboehm (ob@oasd.de)
+ */
+package de.jfachwert.util
+
+import tools.jackson.core.JsonGenerator
+import tools.jackson.core.io.SerializedString
+import tools.jackson.databind.SerializationContext
+import tools.jackson.databind.ser.std.StdSerializer
+import java.util.function.Function
+
+/**
+ * Der ToFelderSerializer schreibt einen zusammengesetzten Fachwert (wie
+ * z.B. eine Bankverbindung) als JSON-Objekt. Anders als der
+ * [ToFachwertSerializer] wird dazu keine Map ueber toMap() aufgebaut,
+ * sondern jedes Feld direkt ueber den JsonGenerator geschrieben. Die
+ * Feldnamen werden dazu einmalig vorab kodiert. Felder mit dem Wert null
+ * werden nicht ausgegeben.
+ *
+ * @param T Typ des Fachwerts
+ * @author oboehm
+ * @since 6.8 (18.10.2026)
+ */
+open class ToFelderSerializer<T : Any>(
+    type: Class<T>,
+    namen: Array<String>,
+    private val werte: Array<Function<in T, String?>>
+) : StdSerializer<T>(type) {
+
+    private val namen = Array(namen.size) { SerializedString(namen[it]) }
+
+    init {
+        require(namen.size == werte.size) { "${namen.size} names but ${werte.size} values" }
+    }
+
+    override fun serialize(value: T, gen: JsonGenerator, ctxt: SerializationContext) {
+        gen.writeStartObject(value)
+        for (i in namen.indices) {
+            val wert = werte[i].apply(value) ?: continue
+            gen.writeName(namen[i])
+            gen.writeString(wert)
+        }
+        gen.writeEndObject()
+    }
+
+}
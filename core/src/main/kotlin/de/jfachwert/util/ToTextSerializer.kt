@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 18.10.2026 by oboehm (ob@oasd.de)
+ */
+package de.jfachwert.util
+
+import tools.jackson.core.JsonGenerator
+import tools.jackson.databind.SerializationContext
+import tools.jackson.databind.ser.std.StdSerializer
+import java.util.function.Function
+
+/**
+ * Der ToTextSerializer schreibt einen Fachwert als einfachen JSON-String.
+ * Im Gegensatz zum ToStringSerializer von Jackson wird nicht toString()
+ * aufgerufen, sondern die uebergebene Funktion. Damit kann z.B. ein
+ * Geldbetrag ohne (Locale-abhaengige) Formatierung ausgegeben werden.
+ *
+ * @param T Typ des Fachwerts
+ * @author oboehm
+ * @since 6.8 (18.10.2026)
+ */
+open class ToTextSerializer<T : Any>(type: Class<T>, private val text: Function<in T, String>) : StdSerializer<T>(type) {
+
+    override fun serialize(value: T, gen: JsonGenerator, ctxt: SerializationContext) {
+        gen.writeString(text.apply(value))
+    }
+
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 18.10.2026 by oboehm (ob@oasd.de)
+ */
+package de.jfachwert.util
+
+import java.time.Clock
+import java.time.Instant
+import java.util.*
+import java.util.concurrent.ThreadLocalRandom
+
+/**
+ * Der UUIDv7Generator erzeugt zeitlich sortierte UUIDs nach RFC 9562
+ * (Version 7). Die oberen 48 Bit enthalten den Zeitstempel in
+ * Millisekunden, danach folgt ein 30-bittiger Zaehler und 44 Zufallsbits.
+ * Damit eignen sich die erzeugten IDs besser als Primaerschluessel als
+ * [UUID.randomUUID], weil neue Eintraege immer am Ende eines B-Baums
+ * landen.
+ *
+ * Zaehler und Zeitstempel werden pro Thread gehalten, sodass kein
+ * globales Lock notwendig ist. Innerhalb eines Threads sind die erzeugten
+ * UUIDs streng monoton steigend, auch wenn die Uhr zurueckgestellt wird.
+ * Die Zufallsbits stammen aus [ThreadLocalRandom], um den Engpass
+ * von [java.security.SecureRandom] zu vermeiden. Damit sind die UUIDs
+ * allerdings nicht fuer sicherheitskritische Zwecke (z.B. als Session-ID)
+ * geeignet.
+ *
+ * Die Sortierung bleibt bei [SmallUUID.toShortString] und
+ * [TinyUUID.toLongString] erhalten. Die Base64-Kodierung von
+ * [TinyUUID.toShortString] ist dagegen nicht sortierbar, da das
+ * Base64-Alphabet nicht der ASCII-Reihenfolge entspricht.
+ *
+ * @author oboehm
+ * @since 6.8 (18.10.2026)
+ */
+class UUIDv7Generator @JvmOverloads constructor(private val clock: Clock = Clock.systemUTC()) {
+
+    private val states = ThreadLocal.withInitial { State() }
+
+    private class State {
+        var millis = Long.MIN_VALUE
+        var counter = 0L
+    }
+
+    /**
+     * Liefert die naechste UUID.
+     *
+     * @return UUID der Version 7
+     */
+    fun nextUUID(): UUID {
+        return nextUUID(states.get(), ThreadLocalRandom.current())
+    }
+
+    /**
+     * Liefert die naechste UUID als [TinyUUID].
+     *
+     * @return zeitlich sortierte TinyUUID
+     */
+    fun nextTinyUUID(): TinyUUID {
+        return TinyUUID(nextUUID())
+    }
+
+    /**
+     * Liefert die naechste UUID als [SmallUUID]. Im Gegensatz zur
+     * [TinyUUID] ist hier auch die Kurzform sortierbar.
+     *
+     * @return zeitlich sortierte SmallUUID
+     */
+    fun nextSmallUUID(): SmallUUID {
+        return SmallUUID(nextUUID())
+    }
+
+    /**
+     * Erzeugt mehrere UUIDs auf einmal. Dies ist etwas effizienter als
+     * der mehrfache Aufruf von [nextUUID], da der Zustand des Threads
+     * nur einmal ermittelt wird.
+     *
+     * @param n Anzahl der gewuenschten UUIDs
+     * @return aufsteigend sortierte Liste mit n UUIDs
+     */
+    fun generate(n: Int): List<UUID> {
+        require(n >= 0) { "n=$n must not be negative" }
+        val state = states.get()
+        val random = ThreadLocalRandom.current()
+        val uuids = ArrayList<UUID>(n)
+        for (i in 0 until n) {
+            uuids.add(nextUUID(state, random))
+        }
+        return uuids
+    }
+
+    private fun nextUUID(state: State, random: ThreadLocalRandom): UUID {
+        val now = clock.millis()
+        if (now > state.millis) {
+            state.millis = now
+            state.counter = random.nextLong() and COUNTER_SEED_MASK
+        } else {
+            state.counter++
+            if (state.counter > COUNTER_MAX) {
+                // Zaehler uebergelaufen: wir leihen uns die naechste
+                // Millisekunde aus der Zukunft
+                state.millis++
+                state.counter = random.nextLong() and COUNTER_SEED_MASK
+            }
+        }
+        val msb = (state.millis shl 16) or VERSION_7 or (state.counter ushr 18)
+        val lsb = VARIANT_RFC or ((state.counter and 0x3FFFFL) shl 44) or (random.nextLong() and RANDOM_MASK)
+        return UUID(msb, lsb)
+    }
+
+    override fun toString(): String {
+        return "UUIDv7Generator($clock)"
+    }
+
+
+
+    companion object {
+
+        private const val VERSION_7 = 0x7000L
+        private const val VARIANT_RFC = Long.MIN_VALUE
+        private const val COUNTER_MAX = (1L shl 30) - 1
+        // Startwert mit 29 Bit, damit genuegend Platz zum Hochzaehlen bleibt
+        private const val COUNTER_SEED_MASK = (1L shl 29) - 1
+        private const val RANDOM_MASK = (1L shl 44) - 1
+
+        /** Default-Generator, der mit der System-Uhr arbeitet. */
+        @JvmField
+        val DEFAULT = UUIDv7Generator()
+
+        /**
+         * Liefert den Zeitstempel einer UUID der Version 7.
+         *
+         * @param uuid UUID der Version 7
+         * @return Zeitstempel (in Millisekunden-Genauigkeit)
+         */
+        @JvmStatic
+        fun getTimestamp(uuid: UUID): Instant {
+            require(uuid.version() == 7) { "$uuid is not a version 7 UUID" }
+            return Instant.ofEpochMilli(uuid.mostSignificantBits ushr 16)
+        }
+
+    }
+
+}
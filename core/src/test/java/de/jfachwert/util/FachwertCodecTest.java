@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 18.10.2026 by oboehm (ob@oasd.de)
+ */
+package de.jfachwert.util;
+
+import de.jfachwert.Text;
+import org.junit.jupiter.api.Test;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasItems;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit-Tests fuer {@link FachwertCodec}.
+ */
+public final class FachwertCodecTest {
+
+    private final FachwertCodec codec = FachwertCodec.getDEFAULT();
+
+    @Test
+    void testRegisteredClasses() {
+        assertThat(codec.getRegisteredClasses(), hasItems(Text.class, TinyUUID.class, SmallUUID.class));
+    }
+
+    @Test
+    void testText() {
+        Text text = new Text("Grüße aus München");
+        byte[] bytes = codec.toBytes(text);
+        assertEquals(1, bytes[0]);
+        assertEquals(bytes.length - 2, bytes[1]);
+        assertEquals(text, codec.fromBytes(bytes));
+    }
+
+    @Test
+    void testLongText() {
+        Text text = new Text("x".repeat(300));
+        byte[] bytes = codec.toBytes(text);
+        assertEquals(300 + 3, bytes.length);
+        assertEquals(text, codec.fromBytes(bytes));
+    }
+
+    @Test
+    void testTinyUUID() {
+        TinyUUID id = TinyUUID.randomUUID();
+        byte[] bytes = codec.toBytes(id);
+        assertEquals(18, bytes.length);
+        assertEquals(id, codec.fromBytes(bytes));
+    }
+
+    @Test
+    void testDatensaetze() {
+        ByteBuffer buffer = ByteBuffer.allocate(100);
+        Text text = new Text("hello");
+        SmallUUID id = SmallUUID.randomUUID();
+        codec.encode(text, buffer);
+        codec.encode(id, buffer);
+        buffer.flip();
+        Iterator<FachwertCodec.Datensatz> datensaetze = codec.datensaetze(buffer);
+        FachwertCodec.Datensatz first = datensaetze.next();
+        assertEquals(Text.class, first.getType());
+        assertEquals(5, first.getInhalt().remaining());
+        FachwertCodec.Datensatz second = datensaetze.next();
+        assertEquals(SmallUUID.class, second.getType());
+        assertEquals(id, second.toFachwert());
+        assertFalse(datensaetze.hasNext());
+        assertEquals(0, buffer.position());
+        assertEquals(text, codec.decode(buffer, Text.class));
+        assertEquals(id, codec.decode(buffer));
+    }
+
+    @Test
+    void testUnknownId() {
+        assertThrows(IllegalArgumentException.class, () -> codec.fromBytes(new byte[]{(byte) 99, 0}));
+    }
+
+    @Test
+    void testUnregistered() {
+        assertThrows(IllegalArgumentException.class, () -> codec.toBytes("hello"));
+    }
+
+    @Test
+    void testBufferOverflow() {
+        assertThrows(BufferOverflowException.class, () -> codec.encode(new Text("x".repeat(200)), ByteBuffer.allocate(201)));
+    }
+
+    @Test
+    void testBufferOverflowPosition() {
+        ByteBuffer buffer = ByteBuffer.allocate(300);
+        codec.encode(new Text("a"), buffer);
+        int position = buffer.position();
+        buffer.limit(position + 202);
+        assertThrows(BufferOverflowException.class, () -> codec.encode(new Text("x".repeat(200)), buffer));
+        assertEquals(position, buffer.position());
+        assertThrows(BufferOverflowException.class, () -> codec.encode(new Text("x".repeat(300)), buffer));
+        assertEquals(position, buffer.position());
+        codec.encode(new Text("b"), buffer);
+        buffer.flip();
+        assertEquals(new Text("a"), codec.decode(buffer));
+        assertEquals(new Text("b"), codec.decode(buffer));
+    }
+
+    @Test
+    void testSignedVarLong() {
+        ByteBuffer buffer = ByteBuffer.allocate(100);
+        long[] zahlen = {0, -1, 1, 63, -64, 64, Long.MIN_VALUE, Long.MAX_VALUE};
+        for (long n : zahlen) {
+            FachwertCodec.putSignedVarLong(buffer, n);
+        }
+        buffer.flip();
+        assertEquals(1, buffer.get(1) & 0xFF);
+        for (long n : zahlen) {
+            assertEquals(n, FachwertCodec.getSignedVarLong(buffer));
+        }
+    }
+
+}
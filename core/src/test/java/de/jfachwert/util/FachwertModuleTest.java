@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 18.10.2026 by oboehm (ob@oasd.de)
+ */
+package de.jfachwert.util;
+
+import de.jfachwert.Text;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.DatabindException;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit-Tests fuer {@link FachwertModule}.
+ */
+public final class FachwertModuleTest {
+
+    private final ObjectMapper mapper = JsonMapper.builder().addModule(new FachwertModule()).build();
+
+    @Test
+    void testRegisteredClasses() {
+        assertThat(new FachwertModule().getRegisteredClasses(), hasItem(Text.class));
+    }
+
+    @Test
+    void testText() {
+        Text text = new Text("hello");
+        String json = mapper.writeValueAsString(text);
+        assertEquals("\"hello\"", json);
+        assertEquals(text, mapper.readValue(json, Text.class));
+    }
+
+    @Test
+    void testTinyUUID() {
+        TinyUUID id = TinyUUID.randomUUID();
+        String json = mapper.writeValueAsString(id);
+        assertEquals(id, mapper.readValue(json, TinyUUID.class));
+    }
+
+    @Test
+    void testUnexpectedToken() {
+        assertThrows(DatabindException.class, () -> mapper.readValue("[1]", Text.class));
+    }
+
+    @Test
+    void testInvalidTinyUUID() {
+        assertThrows(DatabindException.class, () -> mapper.readValue("\"#+*\"", TinyUUID.class));
+    }
+
+    /**
+     * Der registrierte Serializer soll Vorrang vor der Annotation an der
+     * Klasse haben.
+     */
+    @Test
+    void testAnnotationOverridden() {
+        ObjectMapper upper = JsonMapper.builder().addModule(new FachwertModule()
+                .addFachwert(Text.class, t -> t.toString().toUpperCase(), Text::new)).build();
+        assertEquals("\"HELLO\"", upper.writeValueAsString(new Text("hello")));
+    }
+
+    @Test
+    void testFelder() {
+        String[] namen = {"von", "bis"};
+        ObjectMapper felder = JsonMapper.builder().addModule(new FachwertModule()
+                .addFachwert(Paar.class,
+                        new ToFelderSerializer<>(Paar.class, namen, paarWerte()),
+                        new FromFelderDeserializer<>(Paar.class, namen, w -> new Paar(w[0], w[1])))).build();
+        Paar paar = new Paar("a", "b");
+        String json = felder.writeValueAsString(paar);
+        assertEquals("{\"von\":\"a\",\"bis\":\"b\"}", json);
+        assertEquals(paar, felder.readValue(json, Paar.class));
+        assertEquals(new Paar("a", null), felder.readValue("{\"x\":{\"y\":1},\"von\":\"a\",\"bis\":null}", Paar.class));
+        assertEquals("{\"von\":\"a\"}", felder.writeValueAsString(new Paar("a", null)));
+        assertEquals(Map.of("p", new Paar("x", "y")), felder.readValue("{\"p\":{\"von\":\"x\",\"bis\":\"y\"}}",
+                felder.getTypeFactory().constructMapType(Map.class, String.class, Paar.class)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<? super Paar, String>[] paarWerte() {
+        return new Function[]{(Function<Paar, String>) p -> p.von, (Function<Paar, String>) p -> p.bis};
+    }
+
+    private record Paar(String von, String bis) {
+    }
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 18.10.2026 by oboehm (ob@oasd.de)
+ */
+package de.jfachwert.util;
+
+import de.jfachwert.Text;
+import de.jfachwert.pruefung.LengthValidator;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-Tests fuer {@link Fachwerte}-Klasse.
+ *
+ * @author oboehm
+ */
+public final class FachwerteTest {
+
+    private static final Logger LOG = Logger.getLogger(FachwerteTest.class.getName());
+    private static final Function<String, Text> KURZTEXT = s -> new Text(s, new LengthValidator<>(1, 5));
+
+    @Test
+    public void testParseAll() {
+        List<String> eingaben = List.of("eins", "zwei", "", "drei", "vierzig", "eins");
+        Fachwerte.Ergebnis<Text> ergebnis = Fachwerte.parseAll(eingaben.spliterator(), KURZTEXT);
+        assertEquals(List.of(new Text("eins"), new Text("zwei"), new Text("drei"), new Text("eins")),
+                ergebnis.getWerte());
+        assertEquals(2, ergebnis.getAbgelehnt().size());
+        assertEquals(2, ergebnis.getAbgelehnt().get(0).getPosition());
+        assertEquals("vierzig", ergebnis.getAbgelehnt().get(1).getEingabe());
+        assertEquals(4, ergebnis.getAbgelehnt().get(1).getPosition());
+        assertEquals(6, ergebnis.getAnzahl());
+    }
+
+    @Test
+    public void testParseAllType() {
+        Fachwerte.Ergebnis<Text> ergebnis = Fachwerte.parseAll(Text.class, List.of("a", "b").spliterator());
+        assertEquals(List.of(new Text("a"), new Text("b")), ergebnis.getWerte());
+        assertTrue(ergebnis.getAbgelehnt().isEmpty());
+    }
+
+    /**
+     * Auch bei vielen Abschnitten muessen die Werte und die Positionen der
+     * abgelehnten Eingaben in der Reihenfolge der Eingabe bleiben, und
+     * gleiche Eingaben sollen auf dasselbe Objekt verweisen.
+     */
+    @Test
+    public void testParseAllParallel() {
+        List<String> eingaben = createEingaben(500_000);
+        long t0 = System.nanoTime();
+        Fachwerte.Ergebnis<Text> ergebnis = Fachwerte.parseAll(eingaben.spliterator(), KURZTEXT);
+        long t = System.nanoTime() - t0;
+        LOG.info(String.format("%d Eingaben in %.1f ms verarbeitet: %s", eingaben.size(), t / 1e6, ergebnis));
+        checkErgebnis(eingaben, ergebnis);
+    }
+
+    @Test
+    public void testParseAllExecutor() throws InterruptedException {
+        List<String> eingaben = createEingaben(100_000);
+        String text = String.join("\n", eingaben);
+        ExecutorService executor = Fachwerte.virtuelleThreads();
+        try {
+            BufferedReader reader = new BufferedReader(new StringReader(text));
+            Fachwerte.Ergebnis<Text> ergebnis = Fachwerte.parseAll(reader.lines().spliterator(), KURZTEXT, executor);
+            checkErgebnis(eingaben, ergebnis);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static void checkErgebnis(List<String> eingaben, Fachwerte.Ergebnis<Text> ergebnis) {
+        List<String> gueltig = eingaben.stream().filter(s -> s.length() <= 5).collect(Collectors.toList());
+        List<String> werte = new ArrayList<>();
+        ergebnis.getWerte().forEach(w -> werte.add(w.toString()));
+        assertEquals(gueltig, werte);
+        for (Fachwerte.Ablehnung ablehnung : ergebnis.getAbgelehnt()) {
+            assertEquals(eingaben.get((int) ablehnung.getPosition()), ablehnung.getEingabe());
+        }
+        assertEquals(eingaben.size(), ergebnis.getAnzahl());
+        Text erster = ergebnis.getWerte().get(0);
+        assertSame(erster, ergebnis.getWerte().get(ergebnis.getWerte().lastIndexOf(erster)));
+    }
+
+    private static List<String> createEingaben(int n) {
+        List<String> eingaben = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            eingaben.add(i % 97 == 0 ? "zu lang " + i : "w" + (i % 1000));
+        }
+        return eingaben;
+    }
+
+}
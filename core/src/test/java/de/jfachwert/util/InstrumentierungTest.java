@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 18.10.2026 by oboehm (ob@oasd.de)
+ */
+package de.jfachwert.util;
+
+import de.jfachwert.Text;
+import de.jfachwert.pruefung.NullValidator;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit-Tests fuer {@link Instrumentierung}.
+ */
+public final class InstrumentierungTest {
+
+    @Test
+    void testInaktiv() {
+        assertFalse(Instrumentierung.AKTIV);
+        Map<String, Text> cache = new HashMap<>();
+        Text text = Instrumentierung.cache(Text.class, cache, "hello", Text::new);
+        assertEquals(text, cache.get("hello"));
+        assertEquals(0L, Instrumentierung.start());
+    }
+
+    /**
+     * Da der Schalter beim Laden der Klasse gelesen wird, werden die
+     * Klassen fuer diesen Test ueber einen eigenen Classloader geladen.
+     *
+     * @throws Exception bei Reflection- oder JMX-Fehlern
+     */
+    @Test
+    void testAktiv() throws Exception {
+        System.setProperty("jfachwert.instrumentierung", "true");
+        try (URLClassLoader loader = new URLClassLoader(getClasspath(), ClassLoader.getPlatformClassLoader())) {
+            Class<?> instrumentierung = loader.loadClass(Instrumentierung.class.getName());
+            assertTrue(instrumentierung.getField("AKTIV").getBoolean(null));
+            Class<?> textClass = loader.loadClass(Text.class.getName());
+            textClass.getConstructor(String.class).newInstance("hello");
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = JmxMetriken.getObjectName(NullValidator.class.getName());
+            assertTrue((Long) server.getAttribute(name, "Akzeptiert") > 0);
+        } finally {
+            System.clearProperty("jfachwert.instrumentierung");
+        }
+    }
+
+    private static URL[] getClasspath() throws MalformedURLException {
+        String[] paths = System.getProperty("java.class.path").split(File.pathSeparator);
+        URL[] urls = new URL[paths.length];
+        for (int i = 0; i < paths.length; i++) {
+            urls[i] = new File(paths[i]).toURI().toURL();
+        }
+        return urls;
+    }
+
+}
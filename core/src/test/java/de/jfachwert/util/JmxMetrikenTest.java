@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 18.10.2026 by oboehm (ob@oasd.de)
+ */
+package de.jfachwert.util;
+
+import de.jfachwert.Text;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit-Tests fuer {@link JmxMetriken}.
+ */
+public final class JmxMetrikenTest {
+
+    private final JmxMetriken metriken = new JmxMetriken();
+
+    @Test
+    void testCache() {
+        metriken.cache(TinyUUID.class, false, 1);
+        metriken.cache(TinyUUID.class, true, 1);
+        metriken.cache(TinyUUID.class, true, 2);
+        JmxMetriken.Zaehler zaehler = metriken.getZaehler(TinyUUID.class);
+        assertEquals(2, zaehler.getCacheTreffer());
+        assertEquals(1, zaehler.getCacheFehlschlaege());
+        assertEquals(2, zaehler.getCacheGroesse());
+    }
+
+    @Test
+    void testPruefung() {
+        metriken.pruefung(SmallUUID.class, null);
+        metriken.pruefung(SmallUUID.class, "InvalidLengthException");
+        metriken.pruefung(SmallUUID.class, "InvalidLengthException");
+        JmxMetriken.Zaehler zaehler = metriken.getZaehler(SmallUUID.class);
+        assertEquals(1, zaehler.getAkzeptiert());
+        assertEquals(2, zaehler.getAbgelehnt());
+        assertEquals(Map.of("InvalidLengthException", 2L), zaehler.getAbgelehntNachFehler());
+        zaehler.reset();
+        assertEquals(0, zaehler.getAbgelehnt());
+    }
+
+    @Test
+    void testDauer() {
+        metriken.dauer(Text.class, "parse", 100);
+        metriken.dauer(Text.class, "parse", 300);
+        JmxMetriken.Zaehler zaehler = metriken.getZaehler(Text.class);
+        assertEquals(2L, zaehler.getAufrufe().get("parse"));
+        assertEquals(400L, zaehler.getDauerNanos().get("parse"));
+        assertEquals(300L, zaehler.getMaxNanos().get("parse"));
+    }
+
+    @Test
+    void testMBean() throws Exception {
+        metriken.pruefung(Fundstelle.class, null);
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = JmxMetriken.getObjectName(Fundstelle.class.getName());
+        assertTrue(server.isRegistered(name));
+        assertEquals(1L, server.getAttribute(name, "Akzeptiert"));
+        assertEquals(Fundstelle.class.getName(), server.getAttribute(name, "Typ"));
+    }
+
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 19.10.2026 by oboehm (ob@oasd.de)
+ */
+package de.jfachwert.util;
+
+import kotlin.Unit;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-Tests fuer {@link LazyField}-Klasse.
+ *
+ * @author oboehm
+ */
+public final class LazyFieldTest {
+
+    private final AtomicReference<String> feld = new AtomicReference<>();
+
+    private String get(String berechnet) {
+        return LazyField.get(feld.get(), v -> {
+            feld.set(v);
+            return Unit.INSTANCE;
+        }, () -> berechnet);
+    }
+
+    @Test
+    public void testGet() {
+        AtomicInteger aufrufe = new AtomicInteger();
+        String first = LazyField.get(feld.get(), v -> {
+            feld.set(v);
+            return Unit.INSTANCE;
+        }, () -> "x" + aufrufe.incrementAndGet());
+        assertEquals("x1", first);
+        assertSame(first, feld.get());
+        assertSame(first, get("y"));
+        assertEquals(1, aufrufe.get());
+    }
+
+    @Test
+    public void testException() {
+        assertThrows(IllegalStateException.class, () -> LazyField.get(feld.get(), v -> {
+            feld.set(v);
+            return Unit.INSTANCE;
+        }, () -> {
+            throw new IllegalStateException("kaputt");
+        }));
+        assertNull(feld.get());
+        assertEquals("ok", get("ok"));
+    }
+
+    /**
+     * Bei gleichzeitigem Zugriff darf die Berechnung zwar mehrfach
+     * erfolgen, es muss aber immer ein gueltiger Wert zurueckkommen.
+     */
+    @Test
+    public void testParallel() {
+        IntStream.range(0, 10_000).parallel().forEach(i -> assertEquals("42", get("42")));
+    }
+
+}
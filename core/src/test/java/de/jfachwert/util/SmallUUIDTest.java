@@ -18,6 +18,9 @@ package de.jfachwert.util;/*
 
 import org.junit.jupiter.api.Test;
 
+import java.math.BigInteger;
+import java.util.UUID;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -74,6 +77,37 @@ public class SmallUUIDTest extends TinyUUIDTest {
         checkToShortString(SmallUUID.MAX);
     }
 
+    /**
+     * Die Kodierung zur Basis 36 erfolgt inzwischen direkt auf den
+     * long-Werten der UUID. Hier wird sichergestellt, dass dabei das gleiche
+     * Ergebnis wie mit der urspruenglichen Implementierung ueber
+     * {@link BigInteger#toString(int)} herauskommt.
+     */
+    @Test
+    public void testBase36Compatibility() {
+        for (int i = 0; i < 10_000; i++) {
+            UUID uuid = UUID.randomUUID();
+            SmallUUID id = new SmallUUID(uuid);
+            String s = "000000000000000000000000" + id.toNumber().toString(Character.MAX_RADIX);
+            String expected = s.substring(s.length() - 25);
+            assertEquals(expected, id.toShortString());
+            assertEquals(id, new SmallUUID(expected));
+        }
+    }
+
+    @Test
+    public void testFromStringUpperCase() {
+        SmallUUID id = SmallUUID.randomUUID();
+        assertEquals(id, new SmallUUID(id.toShortString().toUpperCase()));
+    }
+
+    @Test
+    public void testFromStringOverflow() {
+        String big = "zzzzzzzzzzzzzzzzzzzzzzzzz";
+        BigInteger n = new BigInteger(big, Character.MAX_RADIX);
+        assertEquals(new SmallUUID(n), new SmallUUID(big));
+    }
+
     @Override
     protected void checkToShortString(TinyUUID id) {
         checkToShortString(id, 25);
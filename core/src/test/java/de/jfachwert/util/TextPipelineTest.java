@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 18.10.2026 by oboehm (ob@oasd.de)
+ */
+package de.jfachwert.util;
+
+import de.jfachwert.Text;
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit-Tests fuer {@link TextPipeline}-Klasse.
+ *
+ * @author oboehm
+ */
+public final class TextPipelineTest {
+
+    private static final File UMLAUTE_FILE = new File("src/test/resources/de/jfachwert/umlaute.txt");
+    private static final File SONDERZEICHEN_FILE = new File("src/test/resources/de/jfachwert/sonderzeichen.txt");
+
+    @Test
+    public void testEmptyPipeline() {
+        assertEquals(" hello ", new TextPipeline().process(" hello "));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {2, 3, 7, 8192})
+    public void testReplaceUmlaute(int bufferSize) throws IOException {
+        String text = FileUtils.readFileToString(UMLAUTE_FILE, StandardCharsets.UTF_8);
+        TextPipeline pipeline = new TextPipeline(bufferSize).replaceUmlaute().trim();
+        assertEquals(Text.replaceUmlaute(text), pipeline.process(text));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {2, 5, 8192})
+    public void testReplaceSonderzeichen(int bufferSize) throws IOException {
+        String text = FileUtils.readFileToString(SONDERZEICHEN_FILE, StandardCharsets.UTF_8);
+        TextPipeline pipeline = new TextPipeline(bufferSize).replaceSonderzeichen().trim();
+        assertEquals(Text.replaceSonderzeichen(text), pipeline.process(text));
+    }
+
+    @Test
+    public void testToPrintable() {
+        String text = "0 \u2260 1\u0001 / 1 <> 0";
+        assertEquals(Text.toPrintable(text), new TextPipeline(3).toPrintable().process(text));
+    }
+
+    @Test
+    public void testTrim() {
+        TextPipeline pipeline = new TextPipeline(2).trim();
+        assertEquals("a \u00a0 b", pipeline.process(" \u00a0\t a \u00a0 b \u2002\r\n"));
+    }
+
+    @Test
+    public void testTrimOnlyBlanks() {
+        assertEquals("", new TextPipeline(2).trim().process(" \u00a0  \n "));
+    }
+
+    /**
+     * Eine lange Auffuellung am Ende (wie bei Exporten mit fester
+     * Satzlaenge) wird nur als Anzahl gemerkt und verworfen, innerhalb des
+     * Textes bleibt sie erhalten. Das gilt auch, wenn mehr verschiedene
+     * Laeufe zurueckgehalten werden muessten als der Puffer gross ist.
+     */
+    @Test
+    public void testTrimPadding() throws IOException {
+        String padding = " ".repeat(100_000) + "\u00a0".repeat(100_000);
+        TextPipeline pipeline = new TextPipeline(16).trim();
+        assertEquals("a" + padding + "b", pipeline.process("a" + padding + "b" + padding));
+        StringWriter writer = new StringWriter();
+        String wechselnd = "\t ".repeat(50);
+        long n = pipeline.process(new StringReader(" a" + wechselnd + "b" + padding), writer);
+        assertEquals("a" + wechselnd + "b", writer.toString());
+        assertEquals(writer.toString().length(), n);
+    }
+
+    /**
+     * Auch wenn mehr verschiedene Laeufe zurueckgehalten werden muessen,
+     * als in den Speicher passen (hier viele Leerzeilen mit "\r\n"), darf
+     * am Ende kein Leerzeichen ausgegeben werden.
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {2, 16, 8192})
+    public void testTrimAlternierendeLaeufe(int bufferSize) {
+        String leerzeilen = "\r\n".repeat(50_000);
+        TextPipeline pipeline = new TextPipeline(bufferSize).trim();
+        assertEquals("a", pipeline.process(leerzeilen + "a" + leerzeilen));
+        assertEquals("a" + leerzeilen + "b", pipeline.process("a" + leerzeilen + "b" + leerzeilen));
+        assertEquals(Text.of("a \t" + leerzeilen).trim().toString(), pipeline.process("a \t" + leerzeilen));
+    }
+
+    /**
+     * Die Zeichen des Mormonen-Alphabets bestehen aus einem Surrogate-Paar,
+     * das nicht an der Puffer-Grenze auseinandergerissen werden darf.
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {2, 3, 4})
+    public void testSurrogatePairAtChunkBoundary(int bufferSize) {
+        String text = "x\ud801\udc00y\ud801\udc28\ud801\udc4f";
+        TextPipeline pipeline = new TextPipeline(bufferSize).limitTo(StandardCharsets.US_ASCII);
+        assertEquals(Text.replaceSpecialChars(text, StandardCharsets.US_ASCII), pipeline.process(text));
+    }
+
+    @Test
+    public void testLimitTo() {
+        String text = "\u00ae\u00fcgen\u2122";
+        TextPipeline pipeline = new TextPipeline(2).limitTo(StandardCharsets.ISO_8859_1);
+        assertEquals(Text.limitTo(text, StandardCharsets.ISO_8859_1), pipeline.process(text));
+    }
+
+    @Test
+    public void testComposedStages() {
+        String text = "  Gr\u00fc\u00dfe aus \u00c4gypten\u0007 \u2013 \u201eOK\u201c  ";
+        TextPipeline pipeline = new TextPipeline(4).replaceUmlaute().toPrintable().limitTo(StandardCharsets.US_ASCII).trim();
+        String expected = Text.of(text).replaceUmlaute().toPrintable().limitTo(StandardCharsets.US_ASCII).toString();
+        assertEquals(expected, pipeline.process(text));
+    }
+
+    @Test
+    public void testProcessReaderWriter() throws IOException {
+        StringWriter writer = new StringWriter();
+        long n = new TextPipeline(3).replaceUmlaute().process(new StringReader("\u00c4rger"), writer);
+        assertEquals("Aerger", writer.toString());
+        assertEquals(6, n);
+    }
+
+    @Test
+    public void testProcessChannels() throws IOException {
+        String text = FileUtils.readFileToString(UMLAUTE_FILE, StandardCharsets.UTF_8);
+        ByteArrayOutputStream ostream = new ByteArrayOutputStream();
+        try (ReadableByteChannel source = Channels.newChannel(FileUtils.openInputStream(UMLAUTE_FILE));
+             WritableByteChannel target = Channels.newChannel(ostream)) {
+            new TextPipeline(16).limitTo(StandardCharsets.ISO_8859_1)
+                    .process(source, StandardCharsets.UTF_8, target, StandardCharsets.ISO_8859_1);
+        }
+        String expected = Text.replaceSpecialChars(text, StandardCharsets.ISO_8859_1);
+        assertEquals(expected, ostream.toString(StandardCharsets.ISO_8859_1).trim());
+    }
+
+    /**
+     * Bei zustandsbehafteten Encodings wie ISO-2022-JP muss am Ende wieder
+     * in den ASCII-Modus zurueckgeschaltet werden.
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {2, 3, 8192})
+    public void testProcessChannelsStatefulEncoding(int bufferSize) throws IOException {
+        String text = "abc \u65e5\u672c\u8a9e";
+        Charset iso2022jp = Charset.forName("ISO-2022-JP");
+        ByteArrayOutputStream ostream = new ByteArrayOutputStream();
+        try (ReadableByteChannel source = Channels.newChannel(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)));
+             WritableByteChannel target = Channels.newChannel(ostream)) {
+            new TextPipeline(bufferSize).process(source, StandardCharsets.UTF_8, target, iso2022jp);
+            assertArrayEquals(text.getBytes(iso2022jp), ostream.toByteArray());
+        }
+    }
+
+    @Test
+    public void testInvalidBufferSize() {
+        assertThrows(IllegalArgumentException.class, () -> new TextPipeline(1));
+    }
+
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 18.10.2026 by oboehm (ob@oasd.de)
+ */
+package de.jfachwert.util;
+
+import de.jfachwert.Text;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-Tests fuer {@link Textscanner}-Klasse.
+ *
+ * @author oboehm
+ */
+public final class TextscannerTest {
+
+    /** Erkennt Hashtags wie "#jfachwert"; gueltig sind nur Kleinbuchstaben. */
+    private static final Textscanner.Erkenner<Text> HASHTAGS = new Textscanner.Erkenner<Text>() {
+        @Override
+        public Collection<String> getAnker() {
+            return Collections.singletonList("#");
+        }
+
+        @Override
+        public Fundstelle<Text> erkenne(CharSequence text, int position, int laenge) {
+            int ende = position + 1;
+            while (ende < text.length() && Character.isLetterOrDigit(text.charAt(ende))) {
+                ende++;
+            }
+            if (ende == position + 1) {
+                return null;
+            }
+            String tag = text.subSequence(position, ende).toString();
+            Text wert = tag.equals(tag.toLowerCase()) ? new Text(tag) : null;
+            return new Fundstelle<>(Text.class, position, ende, tag, wert);
+        }
+    };
+
+    /** Meldet jedes Vorkommen eines der Woerter aus dem Aho-Corasick-Beispiel. */
+    private static final Textscanner.Erkenner<String> WOERTER = new Textscanner.Erkenner<String>() {
+        @Override
+        public Collection<String> getAnker() {
+            return Arrays.asList("he", "she", "his", "hers");
+        }
+
+        @Override
+        public Fundstelle<String> erkenne(CharSequence text, int position, int laenge) {
+            String wort = text.subSequence(position, position + laenge).toString();
+            return new Fundstelle<>(String.class, position, position + laenge, wort, wort);
+        }
+    };
+
+    private final Textscanner scanner = new Textscanner(HASHTAGS);
+
+    @Test
+    public void testScan() {
+        List<Fundstelle<?>> treffer = scanner.scan("Neu: #jfachwert und #Kotlin, aber kein # allein");
+        assertEquals(2, treffer.size());
+        assertEquals(new Fundstelle<>(Text.class, 5, 15, "#jfachwert", new Text("#jfachwert")), treffer.get(0));
+        assertTrue(treffer.get(0).isGueltig());
+        assertEquals("#Kotlin", treffer.get(1).getText());
+        assertFalse(treffer.get(1).isGueltig());
+    }
+
+    /**
+     * Bei "ushers" liegen die Anker "she", "he" und "hers" ineinander.
+     * Da jeder Erkenner nur Treffer hinter seinem letzten Treffer bekommt,
+     * wird "he" innerhalb von "she" nicht mehr gemeldet. Ebenso wird
+     * "hers" nicht gemeldet, da der kuerzere Anker "he" an derselben
+     * Position zuerst endet.
+     */
+    @Test
+    public void testUeberlappendeAnker() {
+        List<Fundstelle<?>> treffer = new Textscanner(WOERTER).scan("ushers");
+        List<Object> woerter = new ArrayList<>();
+        treffer.forEach(f -> woerter.add(f.getText()));
+        assertEquals(Arrays.asList("she"), woerter);
+        treffer = new Textscanner(WOERTER).scan("ahis hers");
+        assertEquals(Arrays.asList("his", "he"), Arrays.asList(treffer.get(0).getText(), treffer.get(1).getText()));
+    }
+
+    @Test
+    public void testScanReader() throws IOException {
+        String text = createText(20_000);
+        List<Fundstelle<?>> treffer = new ArrayList<>();
+        long n = scanner.scan(new StringReader(text), treffer::add);
+        assertEquals(text.length(), n);
+        assertEquals(scanner.scan(text), treffer);
+    }
+
+    @Test
+    public void testScanParallel() {
+        String text = createText(50_000);
+        List<Fundstelle<?>> treffer = scanner.scanParallel(text);
+        assertEquals(scanner.scan(text), treffer);
+        assertEquals(50_000, treffer.size());
+    }
+
+    @Test
+    public void testNonAscii() {
+        assertEquals(1, scanner.scan("Grüße an #müller").size());
+        assertThrows(IllegalArgumentException.class, () -> new Textscanner(new Textscanner.Erkenner<String>() {
+            @Override
+            public Collection<String> getAnker() {
+                return Collections.singletonList("ä");
+            }
+
+            @Override
+            public Fundstelle<String> erkenne(CharSequence text, int position, int laenge) {
+                return null;
+            }
+        }));
+    }
+
+    private static String createText(int zeilen) {
+        StringBuilder buf = new StringBuilder();
+        for (int i = 0; i < zeilen; i++) {
+            buf.append("Zeile ").append(i).append(": #tag").append(i % 100).append(i % 7 == 0 ? " #" : "").append('\n');
+        }
+        return buf.toString();
+    }
+
+}
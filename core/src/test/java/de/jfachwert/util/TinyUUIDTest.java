@@ -23,7 +23,9 @@ import org.junit.jupiter.api.Test;
 
 import de.jfachwert.pruefung.exception.ValidationException;
 import java.math.BigInteger;
+import java.util.Base64;
 import java.util.UUID;
+import java.util.logging.Logger;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
@@ -36,6 +38,8 @@ import static org.junit.jupiter.api.Assertions.*;
  */
 public class TinyUUIDTest extends FachwertTest {
 
+    private static final Logger LOG = Logger.getLogger(TinyUUIDTest.class.getName());
+
     private TinyUUID tinyUUID;
 
     @BeforeEach
@@ -307,6 +311,84 @@ public class TinyUUIDTest extends FachwertTest {
         assertEquals(expected, tinyUUID);
     }
 
+    /**
+     * Die Kodierung erfolgt inzwischen direkt auf den long-Werten der UUID.
+     * Hier wird sichergestellt, dass dabei das gleiche Ergebnis wie mit der
+     * urspruenglichen Implementierung ueber {@link BigInteger} und
+     * {@link Base64} herauskommt.
+     */
+    @Test
+    public void testEncodingCompatibility() {
+        for (int i = 0; i < 10_000; i++) {
+            UUID uuid = UUID.randomUUID();
+            TinyUUID id = new TinyUUID(uuid);
+            byte[] bytes = toBytesWithBigInteger(uuid);
+            assertArrayEquals(bytes, id.toBytes());
+            assertEquals(new BigInteger(uuid.toString().replace("-", ""), 16), id.toNumber());
+            String encoded = Base64.getEncoder().withoutPadding().encodeToString(bytes)
+                    .replace('/', '_').replace('+', '-');
+            assertEquals(encoded, id.toShortString());
+            assertEquals(uuid, TinyUUID.fromString(encoded).getUUID());
+        }
+    }
+
+    /**
+     * Beim Dekodieren wird auch das Standard-Alphabet von Base64 (mit '+'
+     * und '/') akzeptiert.
+     */
+    @Test
+    public void testFromStringStandardBase64() {
+        assertEquals(TinyUUID.fromString("ABCDEABCD_-zyxw_9876-w"), TinyUUID.fromString("ABCDEABCD/+zyxw/9876+w"));
+    }
+
+    @Test
+    public void testFromStringInvalidBase64() {
+        assertThrows(ValidationException.class, () -> TinyUUID.fromString("ABCDEABCD_-zyxw_9876.w"));
+    }
+
+    /**
+     * Dies ist kein echter Performance-Test (dafuer waere JMH besser
+     * geeignet), gibt aber einen Anhaltspunkt fuer den Aufwand von
+     * {@link TinyUUID#toShortString()} und {@link TinyUUID#fromString(String)}.
+     */
+    @Test
+    public void testEncodingPerformance() {
+        UUID[] uuids = new UUID[100_000];
+        for (int i = 0; i < uuids.length; i++) {
+            uuids[i] = UUID.randomUUID();
+        }
+        long t0 = System.nanoTime();
+        for (UUID uuid : uuids) {
+            TinyUUID id = createTinyUUID(uuid.toString());
+            assertEquals(uuid, TinyUUID.fromString(id.toShortString()).getUUID());
+        }
+        long t1 = System.nanoTime();
+        LOG.info(() -> String.format("%d x toShortString() + fromString() took %.1f ms.",
+                uuids.length, (t1 - t0) / 1_000_000.0));
+    }
+
+    private static byte[] toBytesWithBigInteger(UUID uuid) {
+        byte[] bytes = new BigInteger(uuid.toString().replace("-", ""), 16).toByteArray();
+        byte[] bytes16 = new byte[16];
+        if (bytes.length > 15) {
+            System.arraycopy(bytes, bytes.length - 16, bytes16, 0, 16);
+        } else {
+            System.arraycopy(bytes, 0, bytes16, 16 - bytes.length, bytes.length);
+        }
+        return bytes16;
+    }
+
+    /**
+     * Test-Methode fuer {@link TinyUUID#compareTo(Object)}.
+     */
+    @Test
+    public void testCompareTo() {
+        TinyUUID one = createTinyUUID("00000000-0000-0000-0000-000000000001");
+        TinyUUID two = createTinyUUID("00000000-0000-0000-0000-000000000002");
+        assertThat(one.compareTo(two), lessThan(0));
+        assertThat(two.compareTo(one), greaterThan(0));
+    }
+
     /**
      * Dies ist der Test fuer Issue 13.
      */
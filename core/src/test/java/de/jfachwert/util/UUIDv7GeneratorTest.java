@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 18.10.2026 by oboehm (ob@oasd.de)
+ */
+package de.jfachwert.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-Tests fuer {@link UUIDv7Generator}-Klasse.
+ *
+ * @author oboehm
+ */
+public final class UUIDv7GeneratorTest {
+
+    private final UUIDv7Generator generator = new UUIDv7Generator();
+
+    @Test
+    public void testNextUUID() {
+        UUID uuid = generator.nextUUID();
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+    }
+
+    @Test
+    public void testGetTimestamp() {
+        Instant now = Instant.parse("2026-10-18T12:34:56.789Z");
+        UUIDv7Generator fixed = new UUIDv7Generator(Clock.fixed(now, ZoneOffset.UTC));
+        assertEquals(now, UUIDv7Generator.getTimestamp(fixed.nextUUID()));
+    }
+
+    @Test
+    public void testGetTimestampInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> UUIDv7Generator.getTimestamp(UUID.randomUUID()));
+    }
+
+    /**
+     * Auch bei einer stehenden Uhr muessen die UUIDs aufsteigend sein.
+     */
+    @Test
+    public void testMonotonicWithFixedClock() {
+        UUIDv7Generator fixed = new UUIDv7Generator(Clock.fixed(Instant.now(), ZoneOffset.UTC));
+        checkSorted(fixed.generate(10_000));
+    }
+
+    @Test
+    public void testGenerate() {
+        List<UUID> uuids = generator.generate(100_000);
+        assertEquals(100_000, uuids.size());
+        assertEquals(uuids.size(), new HashSet<>(uuids).size());
+        checkSorted(uuids);
+    }
+
+    private static void checkSorted(List<UUID> uuids) {
+        for (int i = 1; i < uuids.size(); i++) {
+            assertThat(uuids.get(i), greaterThan(uuids.get(i - 1)));
+        }
+    }
+
+    /**
+     * Die Sortierung muss sich auch in der Kurzform der {@link SmallUUID}
+     * und in der Langform wiederfinden.
+     */
+    @Test
+    public void testSortedStrings() {
+        List<String> shortStrings = new ArrayList<>();
+        List<String> longStrings = new ArrayList<>();
+        for (UUID uuid : generator.generate(10_000)) {
+            SmallUUID id = new SmallUUID(uuid);
+            shortStrings.add(id.toShortString());
+            longStrings.add(id.toLongString());
+        }
+        List<String> sorted = new ArrayList<>(shortStrings);
+        Collections.sort(sorted);
+        assertEquals(sorted, shortStrings);
+        sorted = new ArrayList<>(longStrings);
+        Collections.sort(sorted);
+        assertEquals(sorted, longStrings);
+    }
+
+    @Test
+    public void testTimeOrderedUUID() {
+        SmallUUID first = SmallUUID.timeOrderedUUID();
+        SmallUUID second = SmallUUID.timeOrderedUUID();
+        assertThat(second.compareTo(first), greaterThan(0));
+        assertEquals(7, TinyUUID.timeOrderedUUID().getUUID().version());
+    }
+
+    @Test
+    public void testConcurrentUniqueness() throws InterruptedException, ExecutionException {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<List<UUID>>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> generator.generate(20_000)));
+            }
+            Set<UUID> all = new HashSet<>();
+            for (Future<List<UUID>> f : futures) {
+                List<UUID> uuids = f.get();
+                checkSorted(uuids);
+                all.addAll(uuids);
+            }
+            assertEquals(8 * 20_000, all.size());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+}
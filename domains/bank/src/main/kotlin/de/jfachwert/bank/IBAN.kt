@@ -23,6 +23,10 @@ import de.jfachwert.PruefzifferVerfahren
 import de.jfachwert.pruefung.LengthValidator
 import de.jfachwert.pruefung.Mod97Verfahren
 import de.jfachwert.pruefung.NullValidator
+import de.jfachwert.util.Fundstelle
+import de.jfachwert.util.Instrumentierung
+import de.jfachwert.util.LazyField
+import de.jfachwert.util.Textscanner
 import org.apache.commons.lang3.StringUtils
 import java.util.*
 
@@ -45,6 +49,14 @@ open class IBAN
  */
 @JvmOverloads constructor(iban: String, pzVerfahren: KSimpleValidator<String> = VALIDATOR) : AbstractFachwert<String, IBAN>(iban, pzVerfahren) {
 
+    // abgeleitete Werte, die erst beim ersten Zugriff berechnet werden (s. LazyField)
+    @Transient
+    private var formattedCache: String? = null
+    @Transient
+    private var blzCache: BLZ? = null
+    @Transient
+    private var kontonummerCache: Kontonummer? = null
+
     /**
      * Liefert die IBAN formattiert in der DIN-Form. Dies ist die uebliche
      * Papierform, in der die IBAN in 4er-Bloecke formattiert wird, jeweils
@@ -53,7 +65,7 @@ open class IBAN
      * @return formatierte IBAN, z.B. "DE19 1234 1234 1234 1234 12"
      */
     val formatted: String
-        get() {
+        get() = LazyField.get(formattedCache, { formattedCache = it }) {
             val input = unformatted + "   "
             val buf = StringBuilder()
             var i = 0
@@ -62,7 +74,7 @@ open class IBAN
                 buf.append(' ')
                 i += 4
             }
-            return buf.toString().trim { it <= ' ' }
+            buf.toString().trim { it <= ' ' }
         }
 
     /**
@@ -105,10 +117,7 @@ open class IBAN
      * @since 0.1.0
      */
     val bLZ: BLZ
-        get() {
-            val iban = unformatted
-            return BLZ(iban.substring(4, 12))
-        }
+        get() = LazyField.get(blzCache, { blzCache = it }) { BLZ(unformatted.substring(4, 12)) }
 
     /**
      * Extrahiert aus der IBAN die Kontonummer nach der Standard-IBAN-Regel.
@@ -120,10 +129,7 @@ open class IBAN
      * @since 0.1.0
      */
     val kontonummer: Kontonummer
-        get() {
-            val iban = unformatted
-            return Kontonummer(iban.substring(12))
-        }
+        get() = LazyField.get(kontonummerCache, { kontonummerCache = it }) { Kontonummer(unformatted.substring(12)) }
 
     /**
      * Dieser Validator ist fuer die Ueberpruefung von IBANS vorgesehen.
@@ -152,6 +158,87 @@ open class IBAN
             }
             return MOD97.validate(normalized)
         }
+
+        /**
+         * Anders als die Default-Implementierung kommt diese Pruefung ohne
+         * (intern geworfene) Exception aus, was beim Durchsuchen von Texten
+         * nach IBANs (siehe [ERKENNER]) von Vorteil ist.
+         *
+         * @param value die IBAN (mit oder ohne Leerzeichen)
+         * @return true, wenn die IBAN gueltig ist
+         * @since 6.8 (18.10.2026)
+         */
+        override fun isValid(value: String): Boolean {
+            val normalized = StringUtils.remove(value, ' ').uppercase()
+            if (normalized.length !in 16..34) {
+                return false
+            }
+            val erwartet = when (normalized.substring(0, 2)) {
+                "AT" -> 20
+                "CH" -> 21
+                "DE" -> 22
+                else -> normalized.length
+            }
+            return normalized.length == erwartet && MOD97.isValid(normalized)
+        }
+    }
+
+    /**
+     * Der Erkenner sucht im Text nach den Laenderkennzeichen der
+     * IBAN-Laender, gefolgt von der zweistelligen Pruefziffer. Die IBAN
+     * darf dabei auch in 4er-Bloecken geschrieben sein. Ist die Laenge fuer
+     * das Land bekannt, endet die IBAN nach dieser Laenge, damit nachfolgende
+     * Zahlen (z.B. ein Betrag) nicht mit erfasst werden.
+     */
+    private class Erkenner : Textscanner.Erkenner<IBAN> {
+
+        override val anker: Collection<String> = LAENGEN.keys
+
+        override fun erkenne(text: CharSequence, position: Int, laenge: Int): Fundstelle<IBAN>? {
+            if (position > 0 && text[position - 1].isLetterOrDigit()) {
+                return null
+            }
+            if (position + 4 > text.length || text[position + 2] !in '0'..'9' || text[position + 3] !in '0'..'9') {
+                return null
+            }
+            val max = LAENGEN[text.subSequence(position, position + 2).toString()] ?: 34
+            var zeichen = 4
+            var ende = position + 4
+            var i = ende
+            while (i < text.length && zeichen < max) {
+                val c = text[i]
+                if (c in '0'..'9' || c in 'A'..'Z') {
+                    zeichen++
+                    ende = i + 1
+                } else if (c != ' ' || zeichen % 4 != 0 || i != ende) {
+                    break
+                }
+                i++
+            }
+            if (ende < text.length && text[ende].isLetterOrDigit()) {
+                return null
+            }
+            val iban = text.subSequence(position, ende).toString()
+            val wert = if (VALIDATOR.isValid(iban)) IBAN(iban) else null
+            return Fundstelle(IBAN::class.java, position.toLong(), ende.toLong(), iban, wert)
+        }
+
+        companion object {
+            /** Laenge der IBAN in den einzelnen Laendern. */
+            private val LAENGEN = mapOf(
+                "AD" to 24, "AE" to 23, "AL" to 28, "AT" to 20, "AZ" to 28, "BA" to 20, "BE" to 16, "BG" to 22,
+                "BH" to 22, "BR" to 29, "BY" to 28, "CH" to 21, "CR" to 22, "CY" to 28, "CZ" to 24, "DE" to 22,
+                "DK" to 18, "DO" to 28, "EE" to 20, "EG" to 29, "ES" to 24, "FI" to 18, "FO" to 18, "FR" to 27,
+                "GB" to 22, "GE" to 22, "GI" to 23, "GL" to 18, "GR" to 27, "GT" to 28, "HR" to 21, "HU" to 28,
+                "IE" to 22, "IL" to 23, "IQ" to 23, "IS" to 26, "IT" to 27, "JO" to 30, "KW" to 30, "KZ" to 20,
+                "LB" to 28, "LC" to 32, "LI" to 21, "LT" to 20, "LU" to 20, "LV" to 21, "MC" to 27, "MD" to 24,
+                "ME" to 22, "MK" to 19, "MR" to 27, "MT" to 31, "MU" to 30, "NL" to 18, "NO" to 15, "PK" to 24,
+                "PL" to 28, "PS" to 29, "PT" to 25, "QA" to 29, "RO" to 24, "RS" to 22, "SA" to 24, "SC" to 31,
+                "SE" to 24, "SI" to 19, "SK" to 24, "SM" to 27, "ST" to 25, "SV" to 28, "TL" to 23, "TN" to 24,
+                "TR" to 26, "UA" to 29, "VA" to 22, "VG" to 24, "XK" to 20
+            )
+        }
+
     }
 
     companion object {
@@ -165,6 +252,15 @@ open class IBAN
         @JvmField
         val NULL = IBAN("", NullValidator())
 
+        /**
+         * Erkenner fuer den [Textscanner], um IBANs in einem Text (z.B.
+         * im Verwendungszweck) zu finden.
+         *
+         * @since 6.8 (18.10.2026)
+         */
+        @JvmField
+        val ERKENNER: Textscanner.Erkenner<IBAN> = Erkenner()
+
         /**
          * Liefert eine IBAN.
          *
@@ -174,7 +270,7 @@ open class IBAN
         @JvmStatic
         fun of(code: String): IBAN {
             val copy = String(code.toCharArray())
-            return WEAK_CACHE.computeIfAbsent(copy) { iban: String -> IBAN(String(iban.toCharArray())) }
+            return Instrumentierung.cache(IBAN::class.java, WEAK_CACHE, copy) { iban: String -> IBAN(String(iban.toCharArray())) }
         }
 
         /**
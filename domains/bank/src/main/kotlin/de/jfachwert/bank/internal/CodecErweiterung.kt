@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 18.10.2026 by oboehm (ob@oasd.de)
+ */
+package de.jfachwert.bank.internal
+
+import de.jfachwert.bank.BIC
+import de.jfachwert.bank.IBAN
+import de.jfachwert.util.FachwertCodec
+import java.nio.ByteBuffer
+
+/**
+ * Registriert die Kodierer fuer IBAN und BIC beim [FachwertCodec]. Eine
+ * IBAN wird als Laenderkennung (2 Bytes), Pruefziffer (1 Byte) und BBAN
+ * abgelegt. Besteht die BBAN nur aus Ziffern (wie z.B. in Deutschland),
+ * werden jeweils zwei Ziffern in ein Byte gepackt, sodass eine deutsche
+ * IBAN nur 13 statt 22 Bytes belegt.
+ *
+ * @author oboehm
+ * @since 6.8 (18.10.2026)
+ */
+class CodecErweiterung : FachwertCodec.Erweiterung {
+
+    override fun registriere(codec: FachwertCodec) {
+        codec.add(10, IBAN::class.java, IBANKodierer)
+        codec.add(11, BIC::class.java, BICKodierer)
+    }
+
+    private object IBANKodierer : FachwertCodec.Kodierer<IBAN> {
+
+        private const val GEPACKT = 0x80
+        private const val TEXT = 0xFF
+
+        override fun schreibe(wert: IBAN, buffer: ByteBuffer) {
+            val iban = wert.unformatted
+            if (iban.length < 5 || iban.length > 4 + 0x7F || !iban[2].isDigit() || !iban[3].isDigit()) {
+                buffer.put(TEXT.toByte())
+                FachwertCodec.putString(buffer, iban)
+                return
+            }
+            val bban = iban.length - 4
+            val ziffern = (4 until iban.length).all { iban[it] in '0'..'9' }
+            buffer.put(((if (ziffern) GEPACKT else 0) or bban).toByte())
+            buffer.put(iban[0].code.toByte())
+            buffer.put(iban[1].code.toByte())
+            buffer.put(((iban[2] - '0') * 10 + (iban[3] - '0')).toByte())
+            if (ziffern) {
+                var i = 4
+                while (i < iban.length) {
+                    val hoch = iban[i] - '0'
+                    val tief = if (i + 1 < iban.length) iban[i + 1] - '0' else 0x0F
+                    buffer.put(((hoch shl 4) or tief).toByte())
+                    i += 2
+                }
+            } else {
+                FachwertCodec.putString(buffer, iban.substring(4))
+            }
+        }
+
+        override fun lese(buffer: ByteBuffer, laenge: Int): IBAN {
+            val kopf = buffer.get().toInt() and 0xFF
+            if (kopf == TEXT) {
+                return IBAN(FachwertCodec.getString(buffer, laenge - 1))
+            }
+            val bban = kopf and 0x7F
+            val chars = CharArray(4 + bban)
+            chars[0] = buffer.get().toInt().toChar()
+            chars[1] = buffer.get().toInt().toChar()
+            val pruefziffer = buffer.get().toInt()
+            chars[2] = '0' + pruefziffer / 10
+            chars[3] = '0' + pruefziffer % 10
+            if (kopf and GEPACKT != 0) {
+                var i = 4
+                while (i < chars.size) {
+                    val b = buffer.get().toInt()
+                    chars[i] = '0' + ((b shr 4) and 0x0F)
+                    if (i + 1 < chars.size) {
+                        chars[i + 1] = '0' + (b and 0x0F)
+                    }
+                    i += 2
+                }
+            } else {
+                for (i in 4 until chars.size) {
+                    chars[i] = buffer.get().toInt().toChar()
+                }
+            }
+            return IBAN(String(chars))
+        }
+
+    }
+
+    private object BICKodierer : FachwertCodec.Kodierer<BIC> {
+
+        override fun schreibe(wert: BIC, buffer: ByteBuffer) {
+            FachwertCodec.putString(buffer, wert.code)
+        }
+
+        override fun lese(buffer: ByteBuffer, laenge: Int): BIC {
+            return BIC(FachwertCodec.getString(buffer, laenge))
+        }
+
+    }
+
+}
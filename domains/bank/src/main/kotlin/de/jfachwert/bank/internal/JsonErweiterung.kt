@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 18.10.2026 by oboehm (ob@oasd.de)
+ */
+package de.jfachwert.bank.internal
+
+import de.jfachwert.bank.BIC
+import de.jfachwert.bank.Bankverbindung
+import de.jfachwert.bank.IBAN
+import de.jfachwert.util.FachwertModule
+import de.jfachwert.util.FromFelderDeserializer
+import de.jfachwert.util.ToFelderSerializer
+import java.util.function.Function
+
+/**
+ * Registriert die Serializer und Deserializer fuer IBAN, BIC und
+ * Bankverbindung beim [FachwertModule].
+ *
+ * @author oboehm
+ * @since 6.8 (18.10.2026)
+ */
+class JsonErweiterung : FachwertModule.Erweiterung {
+
+    override fun registriere(module: FachwertModule) {
+        module.addFachwert(IBAN::class.java, IBAN::toString, ::IBAN)
+        module.addFachwert(BIC::class.java, BIC::toString, ::BIC)
+        val bankverbindung = arrayOf("kontoinhaber", "iban", "bic")
+        module.addFachwert(Bankverbindung::class.java,
+            ToFelderSerializer(Bankverbindung::class.java, bankverbindung, arrayOf(
+                Function { it.kontoinhaber },
+                Function { it.iban.toString() },
+                Function { it.getBic().orElse(null)?.toString() })),
+            FromFelderDeserializer(Bankverbindung::class.java, bankverbindung, ::toBankverbindung))
+    }
+
+    private fun toBankverbindung(werte: Array<String?>): Bankverbindung {
+        val iban = requireNotNull(werte[1]) { "iban is missing" }
+        return Bankverbindung(werte[0] ?: "", IBAN(iban), werte[2]?.let { BIC(it) })
+    }
+
+}
@@ -23,6 +23,10 @@ import org.junit.jupiter.api.Test;
 
 import de.jfachwert.pruefung.exception.ValidationException;
 import java.util.Locale;
+import de.jfachwert.util.Fachwerte;
+import de.jfachwert.util.Fundstelle;
+import de.jfachwert.util.Textscanner;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -125,6 +129,7 @@ public final class IBANTest extends AbstractFachwertTest<String, IBAN> {
     @Test
     public void testGetBLZ() {
         assertEquals(new BLZ("30060601"), iban.getBLZ());
+        assertSame(iban.getBLZ(), iban.getBLZ());
     }
 
     /**
@@ -133,6 +138,7 @@ public final class IBANTest extends AbstractFachwertTest<String, IBAN> {
     @Test
     public void testGetKontonummer() {
         assertEquals(new Kontonummer("0006605605"), iban.getKontonummer());
+        assertSame(iban.getKontonummer(), iban.getKontonummer());
     }
 
     /**
@@ -164,4 +170,40 @@ public final class IBANTest extends AbstractFachwertTest<String, IBAN> {
         assertThrows(InvalidLengthException.class, () -> v.validate("DE196000000001349870"));
     }
 
+    /**
+     * Im Verwendungszweck darf der nachfolgende Betrag nicht als Teil der
+     * IBAN erkannt werden.
+     */
+    @Test
+    public void testErkenner() {
+        Textscanner scanner = new Textscanner(IBAN.ERKENNER);
+        List<Fundstelle<?>> treffer =
+                scanner.scan("Ueberweisung an DE31 3005 0000 1234 5678 90 1000 EUR, alt: DE31300500001234567891.");
+        assertEquals(2, treffer.size());
+        assertEquals("DE31 3005 0000 1234 5678 90", treffer.get(0).getText());
+        assertEquals(new IBAN("DE31300500001234567890"), treffer.get(0).getWert());
+        assertEquals(16, treffer.get(0).getStart());
+        assertFalse(treffer.get(1).isGueltig());
+        assertTrue(scanner.scan("DEUTSCHE BANK, DE4 und XDE31300500001234567890").isEmpty());
+    }
+
+    @Test
+    public void testIsValid() {
+        IBAN.Validator validator = new IBAN.Validator();
+        assertTrue(validator.isValid("DE31 3005 0000 1234 5678 90"));
+        assertFalse(validator.isValid("DE31 3005 0000 1234 5678 91"));
+        assertFalse(validator.isValid("DE31 3005"));
+        assertFalse(validator.isValid("AT31300500001234567890"));
+    }
+
+    @Test
+    public void testParseAll() {
+        List<String> spalte = List.of("DE31 3005 0000 1234 5678 90", "DE31300500001234567891", "DE07123412341234123412",
+                "DE31300500001234567890");
+        Fachwerte.Ergebnis<IBAN> ergebnis = Fachwerte.parseAll(IBAN.class, spalte.spliterator());
+        assertEquals(List.of(new IBAN("DE31300500001234567890"), IBAN.UNBEKANNT, new IBAN("DE31300500001234567890")),
+                ergebnis.getWerte());
+        assertEquals(1, ergebnis.getAbgelehnt().get(0).getPosition());
+    }
+
 }
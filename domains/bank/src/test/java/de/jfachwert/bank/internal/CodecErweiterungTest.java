@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 18.10.2026 by oboehm (ob@oasd.de)
+ */
+package de.jfachwert.bank.internal;
+
+import de.jfachwert.bank.BIC;
+import de.jfachwert.bank.IBAN;
+import de.jfachwert.util.FachwertCodec;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Unit-Tests fuer {@link CodecErweiterung}.
+ */
+public final class CodecErweiterungTest {
+
+    private final FachwertCodec codec = FachwertCodec.getDEFAULT();
+
+    @Test
+    void testIBAN() {
+        IBAN iban = new IBAN("DE41300606010006605605");
+        byte[] bytes = codec.toBytes(iban);
+        assertEquals(2 + 4 + 9, bytes.length);
+        assertEquals(iban, codec.fromBytes(bytes));
+    }
+
+    @Test
+    void testIBANUngerade() {
+        IBAN iban = new IBAN("AT611904300234573201");
+        assertEquals(iban, codec.fromBytes(codec.toBytes(iban)));
+    }
+
+    @Test
+    void testBIC() {
+        BIC bic = new BIC("GENODEF1JEV");
+        assertEquals(bic, codec.fromBytes(codec.toBytes(bic)));
+    }
+
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 18.10.2026 by oboehm (ob@oasd.de)
+ */
+package de.jfachwert.bank.internal;
+
+import de.jfachwert.bank.BIC;
+import de.jfachwert.bank.Bankverbindung;
+import de.jfachwert.bank.IBAN;
+import de.jfachwert.util.FachwertModule;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.DatabindException;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit-Tests fuer {@link JsonErweiterung}.
+ */
+public final class JsonErweiterungTest {
+
+    private final ObjectMapper mapper = JsonMapper.builder().addModule(new FachwertModule()).build();
+
+    @Test
+    void testIBAN() {
+        IBAN iban = new IBAN("DE41300606010006605605");
+        assertEquals(iban, mapper.readValue(mapper.writeValueAsString(iban), IBAN.class));
+    }
+
+    @Test
+    void testBankverbindung() {
+        Bankverbindung bankverbindung = new Bankverbindung("Max Muster", new IBAN("DE41300606010006605605"),
+                new BIC("GENODEF1JEV"));
+        String json = mapper.writeValueAsString(bankverbindung);
+        assertEquals("{\"kontoinhaber\":\"Max Muster\",\"iban\":\"DE41300606010006605605\",\"bic\":\"GENODEF1JEV\"}",
+                json);
+        assertEquals(bankverbindung, mapper.readValue(json, Bankverbindung.class));
+    }
+
+    @Test
+    void testBankverbindungOhneBIC() {
+        Bankverbindung bankverbindung = new Bankverbindung("Max Muster", new IBAN("DE41300606010006605605"));
+        String json = mapper.writeValueAsString(bankverbindung);
+        assertEquals(bankverbindung, mapper.readValue(json, Bankverbindung.class));
+    }
+
+    @Test
+    void testBankverbindungOhneIBAN() {
+        assertThrows(DatabindException.class,
+                () -> mapper.readValue("{\"kontoinhaber\":\"Max Muster\"}", Bankverbindung.class));
+    }
+
+}
@@ -22,6 +22,7 @@ import de.jfachwert.pruefung.exception.LocalizedIllegalArgumentException
 import org.apache.commons.lang3.StringUtils
 import java.math.BigDecimal
 import java.math.BigInteger
+import kotlin.math.abs
 
 /**
  * Die Bruch-Klasse repraesentiert eine mathematischen Bruch mit Zaehler und
@@ -33,10 +34,68 @@ import java.math.BigInteger
  * BigInteger und BigDecimal und sind daher auf englisch. Andere Namen wie
  * [.kuerzen] sind dagegen auf deutsch.
  *
+ * Seit 6.8 wird der gekuerzte Bruch (mit positivem Nenner) bereits beim
+ * Anlegen ueber den binaeren ggT ermittelt. Zaehler und Nenner werden dabei,
+ * soweit moeglich, als long abgelegt; nur wenn sie nicht in ein long passen,
+ * wird auf [BigInteger] zurueckgegriffen. Der Bruch selbst behaelt aber
+ * seine urspruengliche Darstellung, d.h. "8/10" bleibt "8/10".
+ *
  * @author ob@aosd.de
  * @since 0.6
  */
-open class Bruch(val zaehler: BigInteger, val nenner: BigInteger) : AbstractNumber(), KFachwert {
+open class Bruch private constructor(roh: Pair<BigInteger, BigInteger>?, z: Long, n: Long) : AbstractNumber(), KFachwert {
+
+    // gekuerzter Zaehler und Nenner, falls sie in ein long passen
+    private val kz: Long
+    private val kn: Long
+    // Kuerzungsfaktor zwischen urspruenglichem und gekuerztem Bruch
+    private val faktor: Long
+    // urspruenglicher Zaehler und Nenner, falls sie nicht in ein long passen
+    private val roh: Pair<BigInteger, BigInteger>?
+    // gekuerzter Zaehler und Nenner, falls sie nicht in ein long passen
+    private val gekuerzt: Pair<BigInteger, BigInteger>?
+    private val hash: Int
+
+    init {
+        if (roh == null) {
+            val teiler = teiler(z, n)
+            this.kz = z / teiler
+            this.kn = n / teiler
+            this.faktor = teiler
+            this.roh = null
+            this.gekuerzt = null
+        } else {
+            val teiler = teiler(roh.first, roh.second)
+            val gz = roh.first.divide(teiler)
+            val gn = roh.second.divide(teiler)
+            this.faktor = 1
+            this.roh = roh
+            if (passtInLong(gz) && passtInLong(gn)) {
+                this.kz = gz.toLong()
+                this.kn = gn.toLong()
+                this.gekuerzt = null
+            } else {
+                this.kz = 0
+                this.kn = 0
+                this.gekuerzt = Pair(gz, gn)
+            }
+        }
+        this.hash = if (gekuerzt == null) {
+            31 * java.lang.Long.hashCode(kz) + java.lang.Long.hashCode(kn)
+        } else {
+            31 * gekuerzt.first.hashCode() + gekuerzt.second.hashCode()
+        }
+    }
+
+    /**
+     * Legt einen Bruch mit dem angegeben Zaehler und Nenner an.
+     *
+     * @param zaehler Zaehler
+     * @param nenner Nenner
+     */
+    constructor(zaehler: BigInteger, nenner: BigInteger) :
+            this(if (passtInLong(zaehler) && passtInLong(nenner)) null else Pair(zaehler, nenner),
+                    zaehler.toLong(), nenner.toLong())
 
     /**
      * Legt einen Bruch mit dem angegeben Zaehler und Nenner an. Brueche
@@ -69,27 +128,47 @@ open class Bruch(val zaehler: BigInteger, val nenner: BigInteger) : AbstractNumb
      * @param zaehler Zaehler
      * @param nenner Nenner
      */
-    constructor(zaehler: Long, nenner: Long) : this(BigInteger.valueOf(zaehler), BigInteger.valueOf(nenner)) {}
+    constructor(zaehler: Long, nenner: Long) :
+            this(if (zaehler == Long.MIN_VALUE || nenner == Long.MIN_VALUE) {
+                Pair(BigInteger.valueOf(zaehler), BigInteger.valueOf(nenner))
+            } else {
+                null
+            }, zaehler, nenner)
+
+    /**
+     * Liefert den Zaehler des Bruchs (in seiner urspruenglichen Darstellung).
+     *
+     * @return Zaehler
+     */
+    val zaehler: BigInteger
+        get() = roh?.first ?: BigInteger.valueOf(kz * faktor)
+
+    /**
+     * Liefert den Nenner des Bruchs (in seiner urspruenglichen Darstellung).
+     *
+     * @return Nenner
+     */
+    val nenner: BigInteger
+        get() = roh?.second ?: BigInteger.valueOf(kn * faktor)
+
+    private val gekuerzterZaehler: BigInteger
+        get() = gekuerzt?.first ?: BigInteger.valueOf(kz)
+
+    private val gekuerzterNenner: BigInteger
+        get() = gekuerzt?.second ?: BigInteger.valueOf(kn)
 
     /**
      * Liefert einen gekuerzten Bruch zurueck. So wird z.B. der Bruch "2/4" als
-     * "1/2" zurueckgegeben.
+     * "1/2" zurueckgegeben. Der Nenner ist dabei immer positiv.
      *
      * @return gekuerzter Bruch
      */
     fun kuerzen(): Bruch {
-        var z = zaehler
-        var n = nenner
-        var p = Primzahl.first()
-        while (p.toBigInteger().compareTo(n) < 0) {
-            val teiler = p.toBigInteger()
-            while (z.mod(teiler) == BigInteger.ZERO && n.mod(teiler) == BigInteger.ZERO) {
-                z = z.divide(teiler)
-                n = n.divide(teiler)
-            }
-            p = p.next()
+        return when {
+            roh == null && faktor == 1L -> this
+            gekuerzt == null -> Bruch(kz, kn)
+            else -> Bruch(gekuerzt.first, gekuerzt.second)
         }
-        return of(z, n)
     }
 
     /**
@@ -98,7 +177,7 @@ open class Bruch(val zaehler: BigInteger, val nenner: BigInteger) : AbstractNumb
      * @return Kehrwert
      */
     fun kehrwert(): Bruch {
-        return of(nenner, zaehler)
+        return if (roh == null) of(kn * faktor, kz * faktor) else of(roh.second, roh.first)
     }
 
     /**
@@ -107,7 +186,7 @@ open class Bruch(val zaehler: BigInteger, val nenner: BigInteger) : AbstractNumb
      * @return negierter Bruch
      */
     fun negate(): Bruch {
-        return of(zaehler.negate(), nenner)
+        return if (roh == null) of(-kz * faktor, kn * faktor) else of(roh.first.negate(), roh.second)
     }
 
     /**
@@ -117,8 +196,19 @@ open class Bruch(val zaehler: BigInteger, val nenner: BigInteger) : AbstractNumb
      * @return mulitiplizierter Bruch, evtl. gekuerzt
      */
     fun multiply(operand: Bruch): AbstractNumber {
-        val z = zaehler.multiply(operand.zaehler)
-        val n = nenner.multiply(operand.nenner)
+        if (gekuerzt == null && operand.gekuerzt == null) {
+            // ueber Kreuz kuerzen, damit das Ergebnis bereits gekuerzt ist
+            // und ein Ueberlauf seltener auftritt
+            val g1 = ggt(kz, operand.kn)
+            val g2 = ggt(operand.kz, kn)
+            try {
+                return of(Math.multiplyExact(kz / g1, operand.kz / g2), Math.multiplyExact(kn / g2, operand.kn / g1))
+            } catch (ex: ArithmeticException) {
+                // Ueberlauf, daher weiter mit BigInteger
+            }
+        }
+        val z = gekuerzterZaehler.multiply(operand.gekuerzterZaehler)
+        val n = gekuerzterNenner.multiply(operand.gekuerzterNenner)
         return of(z, n).kuerzen()
     }
 
@@ -141,9 +231,21 @@ open class Bruch(val zaehler: BigInteger, val nenner: BigInteger) : AbstractNumb
      * @return addierter Bruch, evtl. gekuerzt
      */
     fun add(operand: Bruch): AbstractNumber {
-        val n = nenner.multiply(operand.nenner)
-        val z1 = zaehler.multiply(operand.nenner)
-        val z2 = operand.zaehler.multiply(nenner)
+        if (gekuerzt == null && operand.gekuerzt == null) {
+            // Hauptnenner ueber das kgV, um einen Ueberlauf zu vermeiden
+            val g = ggt(kn, operand.kn)
+            try {
+                val n = Math.multiplyExact(kn / g, operand.kn)
+                val z1 = Math.multiplyExact(kz, operand.kn / g)
+                val z2 = Math.multiplyExact(operand.kz, kn / g)
+                return of(Math.addExact(z1, z2), n).kuerzen()
+            } catch (ex: ArithmeticException) {
+                // Ueberlauf, daher weiter mit BigInteger
+            }
+        }
+        val n = gekuerzterNenner.multiply(operand.gekuerzterNenner)
+        val z1 = gekuerzterZaehler.multiply(operand.gekuerzterNenner)
+        val z2 = operand.gekuerzterZaehler.multiply(gekuerzterNenner)
         return of(z1.add(z2), n).kuerzen()
     }
 
@@ -158,7 +260,11 @@ open class Bruch(val zaehler: BigInteger, val nenner: BigInteger) : AbstractNumb
     }
 
     override fun toString(): String {
-        return zaehler.toString() + "/" + nenner
+        return if (roh == null) {
+            "${kz * faktor}/${kn * faktor}"
+        } else {
+            roh.first.toString() + "/" + roh.second
+        }
     }
 
     /**
@@ -169,21 +275,24 @@ open class Bruch(val zaehler: BigInteger, val nenner: BigInteger) : AbstractNumb
      * @return true oder false
      */
     override fun equals(other: Any?): Boolean {
-        if (other !is Bruch) {
+        if (other !is Bruch || hash != other.hash) {
             return false
         }
-        val bruch = other.kuerzen()
-        val gekuerzt = kuerzen()
-        return gekuerzt.zaehler == bruch.zaehler && gekuerzt.nenner == bruch.nenner
+        return if (gekuerzt == null) {
+            other.gekuerzt == null && kz == other.kz && kn == other.kn
+        } else {
+            gekuerzt == other.gekuerzt
+        }
     }
 
     /**
-     * Eine einfache Hashcode-Implementierung, die sich auf toString() abstuetzt.
+     * Der Hashcode wird bereits beim Anlegen aus dem gekuerzten Bruch
+     * berechnet.
      *
      * @return hashcode
      */
     override fun hashCode(): Int {
-        return kuerzen().toString().hashCode()
+        return hash
     }
 
     /**
@@ -202,15 +311,26 @@ open class Bruch(val zaehler: BigInteger, val nenner: BigInteger) : AbstractNumb
     }
 
     /**
-     * Vergleicht den anderen Bruch mit dem aktuellen Bruch.
+     * Vergleicht den anderen Bruch mit dem aktuellen Bruch. Passen beide
+     * Brueche in ein long, werden die ueber Kreuz multiplizierten Zaehler
+     * als 128-Bit-Zahlen ohne [BigInteger] verglichen.
      *
      * @param other der andere Bruch, der verglichen wird.
      * @return negtive Zahl, falls this &lt; other, 0 bei Gleichheit, ansonsten
      * positive Zahl.
      */
     operator fun compareTo(other: Bruch): Int {
-        val thisZaehlerErweitert = zaehler.multiply(other.nenner)
-        val otherZaehlerErweitert = other.zaehler.multiply(nenner)
+        if (gekuerzt == null && other.gekuerzt == null) {
+            val high1 = Math.multiplyHigh(kz, other.kn)
+            val high2 = Math.multiplyHigh(other.kz, kn)
+            return if (high1 == high2) {
+                java.lang.Long.compareUnsigned(kz * other.kn, other.kz * kn)
+            } else {
+                high1.compareTo(high2)
+            }
+        }
+        val thisZaehlerErweitert = gekuerzterZaehler.multiply(other.gekuerzterNenner)
+        val otherZaehlerErweitert = other.gekuerzterZaehler.multiply(gekuerzterNenner)
         return thisZaehlerErweitert.compareTo(otherZaehlerErweitert)
     }
 
@@ -221,7 +341,7 @@ open class Bruch(val zaehler: BigInteger, val nenner: BigInteger) : AbstractNumb
      * @since 0.7
      */
     override fun toBigDecimal(): BigDecimal {
-        return BigDecimal(zaehler).divide(BigDecimal(nenner))
+        return BigDecimal(gekuerzterZaehler).divide(BigDecimal(gekuerzterNenner))
     }
 
 
@@ -263,6 +383,58 @@ open class Bruch(val zaehler: BigInteger, val nenner: BigInteger) : AbstractNumb
             return of(z, n).kuerzen()
         }
 
+        private fun passtInLong(n: BigInteger): Boolean {
+            return n.bitLength() < 64 && n.toLong() != Long.MIN_VALUE
+        }
+
+        /**
+         * Liefert den Teiler, mit dem gekuerzt wird. Das Vorzeichen ist so
+         * gewaehlt, dass der gekuerzte Nenner positiv wird. Bei einem Nenner
+         * von 0 wird nicht gekuerzt.
+         */
+        private fun teiler(z: Long, n: Long): Long {
+            if (n == 0L) {
+                return 1
+            }
+            val g = ggt(z, n)
+            return if (n < 0) -g else g
+        }
+
+        private fun teiler(z: BigInteger, n: BigInteger): BigInteger {
+            if (n.signum() == 0) {
+                return BigInteger.ONE
+            }
+            val g = z.gcd(n)
+            return if (n.signum() < 0) g.negate() else g
+        }
+
+        /**
+         * Binaerer ggT (Stein-Algorithmus), der ohne Division auskommt.
+         * Long.MIN_VALUE ist als Argument nicht erlaubt.
+         */
+        private fun ggt(x: Long, y: Long): Long {
+            var a = abs(x)
+            var b = abs(y)
+            if (a == 0L) {
+                return if (b == 0L) 1 else b
+            }
+            if (b == 0L) {
+                return a
+            }
+            val shift = java.lang.Long.numberOfTrailingZeros(a or b)
+            a = a shr java.lang.Long.numberOfTrailingZeros(a)
+            do {
+                b = b shr java.lang.Long.numberOfTrailingZeros(b)
+                if (a > b) {
+                    val t = a
+                    a = b
+                    b = t
+                }
+                b -= a
+            } while (b != 0L)
+            return a shl shift
+        }
+
         /**
          * Liefert einen Bruch mit dem angegeben Zaehler und Nenner an.
          *
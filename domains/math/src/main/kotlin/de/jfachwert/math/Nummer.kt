@@ -22,7 +22,8 @@ import de.jfachwert.KSimpleValidator
 import de.jfachwert.pruefung.exception.InvalidValueException
 import java.math.BigDecimal
 import java.math.BigInteger
-import java.util.*
+import java.util.logging.Logger
+import kotlin.math.abs
 
 /**
  * Die Klasse Nummer dient zum Abspeichern einer beliebigen Nummer. Eine Nummer
@@ -33,27 +34,104 @@ import java.util.*
  * Speicher halten zu koennen. Und man kann damit auch Zahlen mit fuehrenden
  * Nullen (wie z.B. PLZ) abbilden.
  *
+ * Seit 6.8 wird die Nummer im Normalfall direkt als `long` zusammen mit der
+ * Anzahl der Stellen (fuer fuehrende Nullen) abgelegt. Nur fuer Zahlen
+ * ausserhalb des long-Bereichs (oder andere Schreibweisen wie "+1") wird
+ * noch auf [PackedDecimal] zurueckgegriffen. Die Groesse des Caches fuer
+ * kleine Nummern (Default: 1024) laesst sich ueber die System-Property
+ * "de.jfachwert.math.Nummer.cacheSize" einstellen.
+ *
  * Urspruenglich war diese Klasse als Ergaenzung zur [de.jfachwert.Text]-
  * Klasse gedacht.
  *
  * @author oboehm
  * @since 0.6 (24.01.2018)
  */
-open class Nummer(code: String) : AbstractNumber(), KFachwert {
+open class Nummer : AbstractNumber, KFachwert {
+
+    private val zahl: Long
+    private val stellen: Int
+    private val packed: PackedDecimal?
 
-    private val code: PackedDecimal
+    /**
+     * Erzeugt eine Nummer aus dem uebergebenen String. Fuehrende Nullen
+     * bleiben dabei erhalten.
+     *
+     * @param code eine Zahl, z.B. "0711"
+     */
+    constructor(code: String) : super() {
+        val n = parse(code)
+        if (n == KEINE_ZAHL) {
+            this.zahl = 0
+            this.stellen = 0
+            this.packed = PackedDecimal.valueOf(code)
+        } else {
+            this.zahl = n
+            this.stellen = if (n < 0) code.length - 1 else code.length
+            this.packed = null
+        }
+    }
+
+    /**
+     * Erzeugt eine Nummer als positive Ganzzahl.
+     *
+     * @param code eine Zahl, z.B. 42
+     */
+    constructor(code: Int) : this(code.toLong())
+
+    /**
+     * Erzeugt eine Nummer als positive Ganzzahl.
+     *
+     * @param code eine Zahl, z.B. 42
+     */
+    constructor(code: Long) : super() {
+        if (code == Long.MIN_VALUE) {
+            this.zahl = 0
+            this.stellen = 0
+            this.packed = PackedDecimal.valueOf(code)
+        } else {
+            this.zahl = code
+            this.stellen = anzahlStellen(abs(code))
+            this.packed = null
+        }
+    }
+
+    /**
+     * Erzeugt eine beliebige Gleitkomma- oder Ganzzahl.
+     *
+     * @param code eine beliebige Zahl
+     */
+    constructor(code: BigInteger) : this(code.toString())
 
 
 
     companion object {
 
-        private val CACHE = arrayOfNulls<Nummer>(11)
+        private val LOG = Logger.getLogger(Nummer::class.java.name)
+        private const val KEINE_ZAHL = Long.MIN_VALUE
+        private const val CACHE_SIZE_PROPERTY = "de.jfachwert.math.Nummer.cacheSize"
+        private const val MAX_CACHE_SIZE = 1 shl 16
+        private val CACHE = arrayOfNulls<Nummer>(getCacheSize())
         private val VALIDATOR: KSimpleValidator<String> = Validator()
 
         /** Null-Konstante fuer Initialisierungen.  */
         @JvmStatic
         val NULL = Nummer("")
 
+        /**
+         * Liest die Cache-Groesse aus der System-Property
+         * "de.jfachwert.math.Nummer.cacheSize" (Default: 1024). Werte
+         * ausserhalb von 0 bis 65536 werden auf diesen Bereich begrenzt.
+         */
+        private fun getCacheSize(): Int {
+            val konfiguriert = Integer.getInteger(CACHE_SIZE_PROPERTY, 1024)
+            val size = konfiguriert.coerceIn(0, MAX_CACHE_SIZE)
+            if (size != konfiguriert) {
+                LOG.warning("$CACHE_SIZE_PROPERTY=$konfiguriert is out of range, using $size")
+            }
+            return size
+        }
+
         /**
          * Die of-Methode liefert fuer kleine Nummer immer dasselbe Objekt zurueck.
          * Vor allem wenn man nur kleinere Nummern hat, lohnt sich der Aufruf
@@ -64,11 +142,18 @@ open class Nummer(code: String) : AbstractNumber(), KFachwert {
          */
         @JvmStatic
         fun of(code: Long): Nummer {
-            return if (code >= 0 && code < CACHE.size) {
-                CACHE[code.toInt()]!!
-            } else {
-                Nummer(code)
+            if (code < 0 || code >= CACHE.size) {
+                return Nummer(code)
+            }
+            // konkurrierende Zugriffe sind hier harmlos, da Nummer
+            // unveraenderlich ist und schlimmstenfalls doppelt angelegt wird
+            val i = code.toInt()
+            var nummer = CACHE[i]
+            if (nummer == null) {
+                nummer = Nummer(code)
+                CACHE[i] = nummer
             }
+            return nummer
         }
 
         /**
@@ -81,7 +166,8 @@ open class Nummer(code: String) : AbstractNumber(), KFachwert {
          */
         @JvmStatic
         fun of(code: String): Nummer {
-            return of(Nummer(code))
+            val n = parse(code)
+            return if (n == KEINE_ZAHL) of(Nummer(code)) else of(n)
         }
 
         /**
@@ -94,7 +180,7 @@ open class Nummer(code: String) : AbstractNumber(), KFachwert {
          */
         @JvmStatic
         fun of(code: BigInteger): Nummer {
-            return of(code.toLong())
+            return if (code.bitLength() < 64) of(code.toLong()) else Nummer(code)
         }
 
         /**
@@ -113,7 +199,15 @@ open class Nummer(code: String) : AbstractNumber(), KFachwert {
          */
         @JvmStatic
         fun of(other: Nummer): Nummer {
-            return of(other.toLong())
+            if (other.packed != null) {
+                val wert = other.packed.toBigDecimal()
+                return if (wert.toBigInteger().bitLength() < 64) of(wert.toLong()) else other
+            }
+            return if ((other.zahl >= 0 && other.zahl < CACHE.size) || other.stellen != anzahlStellen(abs(other.zahl))) {
+                of(other.zahl)
+            } else {
+                other
+            }
         }
 
         /**
@@ -127,33 +221,44 @@ open class Nummer(code: String) : AbstractNumber(), KFachwert {
             return VALIDATOR.validate(nummer)
         }
 
-        init {
-            for (i in CACHE.indices) {
-                CACHE[i] = Nummer(i)
+        /**
+         * Wandelt eine Folge von Ziffern (mit optionalem Minus-Zeichen) in
+         * eine long-Zahl um. Passt die Zahl nicht in ein long oder enthaelt
+         * sie andere Zeichen, wird [KEINE_ZAHL] zurueckgegeben.
+         */
+        private fun parse(code: String): Long {
+            val negativ = code.startsWith('-')
+            val start = if (negativ) 1 else 0
+            if (code.length <= start || code.length - start > 19) {
+                return KEINE_ZAHL
+            }
+            var n = 0L
+            for (i in start until code.length) {
+                val ziffer = code[i] - '0'
+                if (ziffer < 0 || ziffer > 9 || n > (Long.MAX_VALUE - ziffer) / 10) {
+                    return KEINE_ZAHL
+                }
+                n = n * 10 + ziffer
+            }
+            return if (negativ) {
+                // "-0" laesst sich nicht als long abbilden
+                if (n == 0L) KEINE_ZAHL else -n
+            } else {
+                n
             }
         }
-    }
 
-    /**
-     * Erzeugt eine Nummer als positive Ganzzahl.
-     *
-     * @param code eine Zahl, z.B. 42
-     */
-    constructor(code: Int) : this(BigInteger.valueOf(code.toLong()))
-
-    /**
-     * Erzeugt eine Nummer als positive Ganzzahl.
-     *
-     * @param code eine Zahl, z.B. 42
-     */
-    constructor(code: Long) : this(BigInteger.valueOf(code))
+        private fun anzahlStellen(n: Long): Int {
+            var stellen = 1
+            var x = n
+            while (x >= 10) {
+                x /= 10
+                stellen++
+            }
+            return stellen
+        }
 
-    /**
-     * Erzeugt eine beliebige Gleitkomma- oder Ganzzahl.
-     *
-     * @param code eine beliebige Zahl
-     */
-    constructor(code: BigInteger) : this(code.toString())
+    }
 
     /**
      * Diese Methode liefert die Zahl als BigDecimal zurueck und wird fuer
@@ -162,7 +267,7 @@ open class Nummer(code: String) : AbstractNumber(), KFachwert {
      * @return die Zahl als [BigDecimal]
      */
     override fun toBigDecimal(): BigDecimal {
-        return code.toBigDecimal()
+        return packed?.toBigDecimal() ?: BigDecimal.valueOf(zahl)
     }
 
     /**
@@ -171,7 +276,7 @@ open class Nummer(code: String) : AbstractNumber(), KFachwert {
      * @return z.B. 42
      */
     override fun toInt(): Int {
-        return code.toInt()
+        return packed?.toInt() ?: zahl.toInt()
     }
 
     /**
@@ -180,7 +285,7 @@ open class Nummer(code: String) : AbstractNumber(), KFachwert {
      * @return z.B. 42L
      */
     override fun toLong(): Long {
-        return code.toLong()
+        return packed?.toLong() ?: zahl
     }
 
     /**
@@ -194,14 +299,34 @@ open class Nummer(code: String) : AbstractNumber(), KFachwert {
         if (other !is Nummer) {
             return false
         }
-        return this.toString() == other.toString()
+        return if (packed == null) {
+            other.packed == null && zahl == other.zahl && stellen == other.stellen
+        } else {
+            packed == other.packed
+        }
     }
 
     /* (non-Javadoc)
      * @see java.lang.Object#hashCode()
      */
     override fun hashCode(): Int {
-        return Objects.hash(code)
+        return packed?.hashCode() ?: (31 * java.lang.Long.hashCode(zahl) + stellen)
+    }
+
+    /**
+     * Vergleicht die Zahl mit der anderen Zahl. Fuehrende Nullen spielen
+     * hierbei (im Gegensatz zu [equals]) keine Rolle.
+     *
+     * @param other die andere Zahl
+     * @return negtive Zahl, falls this &lt; other, 0 bei Gleichheit, ansonsten
+     * positive Zahl.
+     */
+    override fun compareTo(other: AbstractNumber): Int {
+        return if (packed == null && other is Nummer && other.packed == null) {
+            zahl.compareTo(other.zahl)
+        } else {
+            super.compareTo(other)
+        }
     }
 
     /**
@@ -211,7 +336,21 @@ open class Nummer(code: String) : AbstractNumber(), KFachwert {
      * @return z.B. "0711"
      */
     override fun toString(): String {
-        return code.toString()
+        if (packed != null) {
+            return packed.toString()
+        }
+        val ziffern = abs(zahl).toString()
+        if (zahl >= 0 && ziffern.length == stellen) {
+            return ziffern
+        }
+        val buf = StringBuilder(stellen + 1)
+        if (zahl < 0) {
+            buf.append('-')
+        }
+        for (i in ziffern.length until stellen) {
+            buf.append('0')
+        }
+        return buf.append(ziffern).toString()
     }
 
     /**
@@ -238,8 +377,4 @@ open class Nummer(code: String) : AbstractNumber(), KFachwert {
         }
     }
 
-    init {
-        this.code = PackedDecimal.valueOf(code)
-    }
-
 }
\ No newline at end of file
@@ -24,8 +24,11 @@ import de.jfachwert.KSimpleValidator
 import de.jfachwert.pruefung.NullValidator
 import de.jfachwert.pruefung.exception.LocalizedIllegalArgumentException
 import org.apache.commons.lang3.StringUtils
+import de.jfachwert.pruefung.exception.LocalizedArithmeticException
+import java.io.IOException
 import java.math.BigDecimal
 import java.math.RoundingMode
+import java.nio.ByteBuffer
 import java.util.*
 import java.util.logging.Logger
 
@@ -108,10 +111,26 @@ import java.util.logging.Logger
  * @since 0.6 (29.03.2018)
  */
 @JsonSerialize(using = ToStringSerializer::class)
-open class PackedDecimal @JvmOverloads constructor(zahl: String, validator: KSimpleValidator<String> = VALIDATOR) : AbstractNumber(), KFachwert {
+open class PackedDecimal : AbstractNumber, KFachwert {
 
     private val code: ByteArray
 
+    /**
+     * Instanziiert ein PackedDecimal. Fuehrende und abschliessende
+     * Leerzeichen werden dabei nicht mit abgespeichert.
+     *
+     * @param zahl Zahl, z.B. "007"
+     * @param validator Validator zur Pruefung der Zahl
+     */
+    @JvmOverloads
+    constructor(zahl: String, validator: KSimpleValidator<String> = VALIDATOR) : super() {
+        code = asNibbles(validator.validate(zahl).trim { it == ' ' || it == '\t' })
+    }
+
+    private constructor(code: ByteArray) : super() {
+        this.code = code
+    }
+
     constructor(zahl: Int): this(zahl.toLong()) {}
 
     companion object {
@@ -157,7 +176,11 @@ open class PackedDecimal @JvmOverloads constructor(zahl: String, validator: KSim
          */
         @JvmStatic
         fun valueOf(zahl: Long): PackedDecimal {
-            return valueOf(zahl.toString())
+            return if (zahl in 0..9) {
+                CACHE[zahl.toInt()]!!
+            } else {
+                WEAK_CACHE.computeIfAbsent(zahl.toString()) { PackedDecimal(zahl) }
+            }
         }
 
         /**
@@ -289,6 +312,196 @@ open class PackedDecimal @JvmOverloads constructor(zahl: String, validator: KSim
             return valueOf(zahl)
         }
 
+        /**
+         * Liest eine gepackte Dezimalzahl im COMP-3-Format (IBM Packed
+         * Decimal) aus dem Puffer. Dabei enthaelt jedes Nibble eine Ziffer,
+         * nur das letzte Nibble enthaelt das Vorzeichen (0xC oder 0xF fuer
+         * positiv, 0xD fuer negativ). Die Nachkommastellen sind im COMP-3-Format
+         * nicht abgelegt und muessen daher angegeben werden.
+         *
+         * Die Nibbles werden direkt (ohne Umweg ueber einen String)
+         * uebernommen, fuehrende Nullen werden dabei entfernt. Die Position
+         * des Puffers wird um 'laenge' Bytes weitergesetzt.
+         *
+         * @param buffer Puffer, z.B. aus einer gemappten Datei
+         * @param laenge Anzahl der Bytes
+         * @param scale Anzahl der Nachkommastellen
+         * @return Zahl als [PackedDecimal]
+         * @since 6.8
+         */
+        @JvmStatic
+        @JvmOverloads
+        fun fromComp3(buffer: ByteBuffer, laenge: Int, scale: Int = 0): PackedDecimal {
+            val start = buffer.position()
+            val zahl = fromComp3(buffer, start, laenge, scale)
+            buffer.position(start + laenge)
+            return zahl
+        }
+
+        /**
+         * Liest eine gezonte Dezimalzahl (Zoned Decimal, PIC S9 DISPLAY) aus
+         * dem Puffer. Dabei enthaelt jedes Byte eine Ziffer im unteren
+         * Nibble. Das obere Nibble (Zone) ist 0xF (EBCDIC) oder 0x3 (ASCII);
+         * nur beim letzten Byte steht es fuer das Vorzeichen (0xD, 0xB oder
+         * 0x7 fuer negativ). Die Position des Puffers wird um 'laenge'
+         * Bytes weitergesetzt.
+         *
+         * @param buffer Puffer, z.B. aus einer gemappten Datei
+         * @param laenge Anzahl der Bytes (= Anzahl der Ziffern)
+         * @param scale Anzahl der Nachkommastellen
+         * @return Zahl als [PackedDecimal]
+         * @since 6.8
+         */
+        @JvmStatic
+        @JvmOverloads
+        fun fromZoned(buffer: ByteBuffer, laenge: Int, scale: Int = 0): PackedDecimal {
+            val start = buffer.position()
+            val zahl = fromZoned(buffer, start, laenge, scale)
+            buffer.position(start + laenge)
+            return zahl
+        }
+
+        internal fun fromComp3(buffer: ByteBuffer, start: Int, laenge: Int, scale: Int): PackedDecimal {
+            require(laenge > 0 && scale >= 0) { "laenge=$laenge, scale=$scale" }
+            val negativ = isComp3Negativ(buffer, start, laenge)
+            return packe(laenge * 2 - 1, negativ, scale) { i -> comp3Ziffer(buffer, start, laenge, i) }
+        }
+
+        internal fun fromZoned(buffer: ByteBuffer, start: Int, laenge: Int, scale: Int): PackedDecimal {
+            require(laenge > 0 && scale >= 0) { "laenge=$laenge, scale=$scale" }
+            val negativ = isZonedNegativ(buffer, start, laenge)
+            return packe(laenge, negativ, scale) { i -> zonedZiffer(buffer, start, laenge, i) }
+        }
+
+        /**
+         * Liefert die Ziffern eines COMP-3-Feldes als (unskalierten) long-Wert.
+         */
+        internal fun comp3ToLong(buffer: ByteBuffer, start: Int, laenge: Int): Long {
+            val negativ = isComp3Negativ(buffer, start, laenge)
+            return toLong(laenge * 2 - 1, negativ, buffer, start, laenge) { i -> comp3Ziffer(buffer, start, laenge, i) }
+        }
+
+        /**
+         * Liefert die Ziffern eines gezonten Feldes als (unskalierten) long-Wert.
+         */
+        internal fun zonedToLong(buffer: ByteBuffer, start: Int, laenge: Int): Long {
+            val negativ = isZonedNegativ(buffer, start, laenge)
+            return toLong(laenge, negativ, buffer, start, laenge) { i -> zonedZiffer(buffer, start, laenge, i) }
+        }
+
+        private inline fun toLong(ziffern: Int, negativ: Boolean, buffer: ByteBuffer, start: Int, laenge: Int,
+                                  ziffer: (Int) -> Int): Long {
+            var wert = 0L
+            for (i in 0 until ziffern) {
+                val z = ziffer(i)
+                if (wert > (Long.MAX_VALUE - z) / 10) {
+                    throw LocalizedArithmeticException(toHex(buffer, start, laenge), "number")
+                }
+                wert = wert * 10 + z
+            }
+            return if (negativ) -wert else wert
+        }
+
+        /**
+         * Packt die Ziffern direkt in Nibbles. Fuehrende Nullen werden dabei
+         * entfernt, "-0" wird als "0" abgelegt.
+         */
+        private inline fun packe(ziffern: Int, negativ: Boolean, scale: Int, ziffer: (Int) -> Int): PackedDecimal {
+            var nullwert = true
+            for (i in 0 until ziffern) {
+                if (ziffer(i) != 0) {
+                    nullwert = false
+                }
+            }
+            val writer = NibbleWriter(ziffern + scale + 3)
+            if (negativ && !nullwert) {
+                writer.add(0xD)
+            }
+            val vorkomma = ziffern - scale
+            if (vorkomma <= 0) {
+                writer.add(0)
+            } else {
+                var erste = 0
+                while (erste < vorkomma - 1 && ziffer(erste) == 0) {
+                    erste++
+                }
+                for (i in erste until vorkomma) {
+                    writer.add(ziffer(i))
+                }
+            }
+            if (scale > 0) {
+                writer.add(0xE)
+                for (i in vorkomma until ziffern) {
+                    writer.add(if (i < 0) 0 else ziffer(i))
+                }
+            }
+            return PackedDecimal(writer.toByteArray())
+        }
+
+        private fun isComp3Negativ(buffer: ByteBuffer, start: Int, laenge: Int): Boolean {
+            return when (buffer.get(start + laenge - 1).toInt() and 0x0F) {
+                0xB, 0xD -> true
+                0xA, 0xC, 0xE, 0xF -> false
+                else -> throw LocalizedIllegalArgumentException(toHex(buffer, start, laenge), "number")
+            }
+        }
+
+        private fun comp3Ziffer(buffer: ByteBuffer, start: Int, laenge: Int, i: Int): Int {
+            val b = buffer.get(start + i / 2).toInt()
+            val ziffer = if (i % 2 == 0) (b shr 4) and 0x0F else b and 0x0F
+            if (ziffer > 9) {
+                throw LocalizedIllegalArgumentException(toHex(buffer, start, laenge), "number")
+            }
+            return ziffer
+        }
+
+        private fun isZonedNegativ(buffer: ByteBuffer, start: Int, laenge: Int): Boolean {
+            return when ((buffer.get(start + laenge - 1).toInt() shr 4) and 0x0F) {
+                0x7, 0xB, 0xD -> true
+                0x3, 0xA, 0xC, 0xE, 0xF -> false
+                else -> throw LocalizedIllegalArgumentException(toHex(buffer, start, laenge), "number")
+            }
+        }
+
+        private fun zonedZiffer(buffer: ByteBuffer, start: Int, laenge: Int, i: Int): Int {
+            val b = buffer.get(start + i).toInt()
+            val zone = (b shr 4) and 0x0F
+            val ziffer = b and 0x0F
+            if (ziffer > 9 || (i < laenge - 1 && zone != 0xF && zone != 0x3)) {
+                throw LocalizedIllegalArgumentException(toHex(buffer, start, laenge), "number")
+            }
+            return ziffer
+        }
+
+        private fun toHex(buffer: ByteBuffer, start: Int, laenge: Int): String {
+            val buf = StringBuilder(laenge * 2)
+            for (i in start until start + laenge) {
+                buf.append(String.format("%02X", buffer.get(i)))
+            }
+            return buf.toString()
+        }
+
+        private fun toNibbles(zahl: Long): ByteArray {
+            // negativ gerechnet, damit auch Long.MIN_VALUE funktioniert
+            var rest = if (zahl > 0) -zahl else zahl
+            var stellen = 1
+            var x = rest / 10
+            while (x != 0L) {
+                stellen++
+                x /= 10
+            }
+            val vorzeichen = if (zahl < 0) 1 else 0
+            val writer = NibbleWriter(stellen + vorzeichen)
+            if (vorzeichen > 0) {
+                writer.add(0xD)
+            }
+            for (i in stellen - 1 downTo 0) {
+                writer.set(vorzeichen + i, -(rest % 10).toInt())
+                rest /= 10
+            }
+            return writer.toByteArray()
+        }
+
         private fun asNibbles(zahl: String): ByteArray {
             val chars = "$zahl ".toCharArray()
             val bytes = ByteArray(chars.size / 2)
@@ -355,7 +568,7 @@ open class PackedDecimal @JvmOverloads constructor(zahl: String, validator: KSim
      *
      * @param zahl Zahl
      */
-    constructor(zahl: Long) : this(java.lang.Long.toString(zahl)) {}
+    constructor(zahl: Long) : this(toNibbles(zahl)) {}
 
     /**
      * Instanziiert ein PackedDecimal.
@@ -429,7 +642,169 @@ open class PackedDecimal @JvmOverloads constructor(zahl: String, validator: KSim
      * @return gepackte Dezimalzahl als [BigDecimal]
      */
     override fun toBigDecimal(): BigDecimal {
-        return BigDecimal(toString())
+        return if (length <= 18 && isGanzzahl()) BigDecimal.valueOf(toLong()) else BigDecimal(toString())
+    }
+
+    /**
+     * Liefert die Anzahl der abgespeicherten Zeichen (Nibbles).
+     *
+     * @return z.B. 3 fuer "007"
+     * @since 6.8
+     */
+    val length: Int
+        get() = if (code.isNotEmpty() && code[code.size - 1].toInt() and 0x0F == 0xB) code.size * 2 - 1 else code.size * 2
+
+    /**
+     * Liefert das Nibble an der angegebenen Stelle. Die Werte 0 bis 9 stehen
+     * dabei fuer die Ziffern, die Werte 0xA bis 0xF fuer die Sonderzeichen
+     * ('/', ' ', '+', '-', '.', ',').
+     *
+     * @param i Index, beginnend bei 0
+     * @return Wert zwischen 0 und 15
+     * @since 6.8
+     */
+    fun digitAt(i: Int): Int {
+        Objects.checkIndex(i, length)
+        return nibbleAt(i)
+    }
+
+    private fun nibbleAt(i: Int): Int {
+        val b = code[i shr 1].toInt()
+        return if (i and 1 == 0) (b shr 4) and 0x0F else b and 0x0F
+    }
+
+    private fun isGanzzahl(): Boolean {
+        val n = length
+        var i = if (n > 0 && (nibbleAt(0) == 0xC || nibbleAt(0) == 0xD)) 1 else 0
+        if (i == n) {
+            return false
+        }
+        while (i < n) {
+            if (nibbleAt(i) > 9) {
+                return false
+            }
+            i++
+        }
+        return true
+    }
+
+    /**
+     * Liefert die Zahl als 'long' zurueck. Bei einer Ganzzahl wird sie
+     * dabei direkt aus den Nibbles ermittelt, ohne Umweg ueber
+     * [toBigDecimal].
+     *
+     * @return z.B. 42L
+     */
+    override fun toLong(): Long {
+        val n = length
+        if (!isGanzzahl()) {
+            return super.toLong()
+        }
+        val negativ = nibbleAt(0) == 0xD
+        var i = if (negativ || nibbleAt(0) == 0xC) 1 else 0
+        // negativ gerechnet, damit auch Long.MIN_VALUE hineinpasst
+        var wert = 0L
+        while (i < n) {
+            val ziffer = nibbleAt(i)
+            if (wert < (Long.MIN_VALUE + ziffer) / 10) {
+                return super.toLong()
+            }
+            wert = wert * 10 - ziffer
+            i++
+        }
+        return if (negativ) {
+            wert
+        } else if (wert == Long.MIN_VALUE) {
+            super.toLong()
+        } else {
+            -wert
+        }
+    }
+
+    /**
+     * Liefert die Zahl als 'int' zurueck.
+     *
+     * @return z.B. 42
+     */
+    override fun toInt(): Int {
+        return toLong().toInt()
+    }
+
+    /**
+     * Schreibt die Zahl in das uebergebene Ziel, ohne dafuer einen String
+     * anzulegen.
+     *
+     * @param target z.B. ein [StringBuilder] oder [java.io.Writer]
+     * @since 6.8
+     */
+    @Throws(IOException::class)
+    fun writeTo(target: Appendable) {
+        for (i in 0 until length) {
+            target.append(encode(nibbleAt(i)))
+        }
+    }
+
+    /**
+     * Schreibt die Zahl im COMP-3-Format (IBM Packed Decimal) mit der
+     * angegebenen Anzahl von Nachkommastellen in den Puffer. Die Ziffern
+     * werden dabei direkt aus den Nibbles uebernommen. Die Position des
+     * Puffers wird um 'laenge' Bytes weitergesetzt.
+     *
+     * @param buffer Puffer
+     * @param laenge Anzahl der Bytes, die geschrieben werden
+     * @param scale Anzahl der Nachkommastellen
+     * @since 6.8
+     */
+    @JvmOverloads
+    fun toComp3(buffer: ByteBuffer, laenge: Int, scale: Int = 0) {
+        require(laenge > 0 && scale >= 0) { "laenge=$laenge, scale=$scale" }
+        val n = length
+        var negativ = false
+        var i = 0
+        if (n > 0 && (nibbleAt(0) == 0xC || nibbleAt(0) == 0xD)) {
+            negativ = nibbleAt(0) == 0xD
+            i = 1
+        }
+        while (i < n - 1 && nibbleAt(i) == 0 && nibbleAt(i + 1) <= 9) {
+            i++     // fuehrende Nullen
+        }
+        var punkt = n
+        for (k in i until n) {
+            val nibble = nibbleAt(k)
+            if (nibble == 0xE && punkt == n) {
+                punkt = k
+            } else if (nibble > 9) {
+                throw LocalizedIllegalArgumentException(toString(), "number")
+            }
+        }
+        val nachkomma = if (punkt < n) n - punkt - 1 else 0
+        val vorkomma = punkt - i
+        if (nachkomma > scale) {
+            throw LocalizedArithmeticException(toString(), "lost_precision")
+        }
+        val ziffern = laenge * 2 - 1
+        if (vorkomma + scale > ziffern) {
+            throw LocalizedArithmeticException(toString(), "number")
+        }
+        val writer = NibbleWriter(ziffern + 1)
+        var pos = ziffern - vorkomma - scale
+        for (k in i until n) {
+            if (k != punkt) {
+                writer.set(pos++, nibbleAt(k))
+            }
+        }
+        writer.set(ziffern, if (negativ && !isNull()) 0xD else 0xC)
+        buffer.put(writer.toByteArray())
+    }
+
+    private fun isNull(): Boolean {
+        for (i in 0 until length) {
+            val nibble = nibbleAt(i)
+            if (nibble in 1..9) {
+                return false
+            }
+        }
+        return true
     }
 
     /**
@@ -622,19 +997,16 @@ open class PackedDecimal @JvmOverloads constructor(zahl: String, validator: KSim
     }
 
     override fun toString(): String {
-        val buf = StringBuilder()
-        for (b in code) {
-            buf.append(encode(b.toInt() shr 4))
-            buf.append(encode(b.toInt() and 0x0F))
-        }
-        return buf.toString().trim { it <= ' ' }
+        val buf = StringBuilder(length)
+        writeTo(buf)
+        return buf.toString()
     }
 
     /* (non-Javadoc)
      * @see java.lang.Object#hashCode()
      */
     override fun hashCode(): Int {
-        return this.toString().hashCode()
+        return code.contentHashCode()
     }
 
     /**
@@ -647,7 +1019,7 @@ open class PackedDecimal @JvmOverloads constructor(zahl: String, validator: KSim
      * @see Object.equals
      */
     override fun equals(other: Any?): Boolean {
-        return other is PackedDecimal && this.toString() == other.toString()
+        return other is PackedDecimal && code.contentEquals(other.code)
     }
 
     /**
@@ -676,8 +1048,39 @@ open class PackedDecimal @JvmOverloads constructor(zahl: String, validator: KSim
         return toBruch().compareTo(other.toBruch())
     }
 
-    init {
-        code = asNibbles(validator.validate(zahl))
+    /**
+     * Hilfsklasse zum Befuellen eines Byte-Arrays mit Nibbles. Bei einer
+     * ungeraden Anzahl wird das letzte Nibble mit einem Leerzeichen (0xB)
+     * aufgefuellt.
+     */
+    private class NibbleWriter(kapazitaet: Int) {
+
+        private val bytes = ByteArray((kapazitaet + 1) / 2)
+        private var anzahl = 0
+
+        fun add(nibble: Int) {
+            set(anzahl, nibble)
+        }
+
+        fun set(i: Int, nibble: Int) {
+            val index = i shr 1
+            bytes[index] = if (i and 1 == 0) {
+                (bytes[index].toInt() and 0x0F or (nibble shl 4)).toByte()
+            } else {
+                (bytes[index].toInt() and 0xF0 or nibble).toByte()
+            }
+            anzahl = maxOf(anzahl, i + 1)
+        }
+
+        fun toByteArray(): ByteArray {
+            if (anzahl and 1 == 1) {
+                val index = anzahl shr 1
+                bytes[index] = (bytes[index].toInt() and 0xF0 or 0xB).toByte()
+            }
+            val n = (anzahl + 1) / 2
+            return if (n == bytes.size) bytes else bytes.copyOf(n)
+        }
+
     }
 
 }
\ No newline at end of file
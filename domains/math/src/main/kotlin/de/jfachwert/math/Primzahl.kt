@@ -19,19 +19,21 @@ package de.jfachwert.math
 
 import com.fasterxml.jackson.annotation.JsonCreator
 import de.jfachwert.KFachwert
-import java.lang.ref.SoftReference
+import de.jfachwert.math.internal.Primzahlsieb
+import de.jfachwert.pruefung.exception.LocalizedArithmeticException
 import java.math.BigInteger
-import java.util.concurrent.CopyOnWriteArrayList
+import java.util.stream.Stream
 
 /**
  * Eine Primzahl ist eine natuerliche Zahl, die nur durch 1 und durch sich
  * selbst teilbar ist. Die kleinste Primzahl ist 2.
  *
  * Intern wird 'int' zur Speicherung der Primzahl verwendet, da dies fuer den
- * Standard-Fall ausreichend ist. So benoetigt bereits die Ermittlung einer
- * 8-stelligen Primzahl (&gt; 10 Mio.) ca. 3 Minuten. Die Emittlung einer
- * 10-stelligen Primzahl (&lt; 2 Mrd.) dürfte damit im Stunden, wenn nicht gar
- * Tage-Bereich liegen.
+ * Standard-Fall ausreichend ist. Die Primzahlen werden dabei ueber ein
+ * segmentiertes Sieb des Eratosthenes ([Primzahlsieb]) ermittelt, das bei
+ * Bedarf waechst. Bis zu einer 8-stelligen Primzahl (&gt; 60 Mio.) ist die
+ * Abfrage ein einfacher Zugriff auf ein Bitset bzw. eine binaere Suche,
+ * darueber wird auf Probedivision zurueckgegriffen.
  *
  * Die groesste Primzahl, die mit einem long dargestellt werden kann, ist
  * 9223372036854775783.
@@ -155,7 +157,7 @@ open class Primzahl private constructor(private val value: Int) : Number(), KFac
         /** Drei ist die naechste Primzahl.  */
         @JvmField
         val DREI = Primzahl(3)
-        private var refPrimzahlen = SoftReference(initPrimzahlen())
+        private val SIEB = Primzahlsieb()
 
         /**
          * Liefert eine Primzahl zurueck.
@@ -169,12 +171,6 @@ open class Primzahl private constructor(private val value: Int) : Number(), KFac
             return Primzahl(value)
         }
 
-        private fun initPrimzahlen(): MutableList<Primzahl> {
-            val primzahlen: MutableList<Primzahl> = CopyOnWriteArrayList()
-            primzahlen.add(DREI)
-            return primzahlen
-        }
-
         /**
          * Liefert die erste Primzahl.
          *
@@ -185,69 +181,45 @@ open class Primzahl private constructor(private val value: Int) : Number(), KFac
         }
 
         /**
-         * Liefert die naechste Primzahl nach der angegebenen Zahl.
+         * Liefert die naechste Primzahl nach der angegebenen Zahl. Fuer
+         * Zahlen kleiner 2 ist dies die 2.
          *
          * @param zahl Zahl
          * @return naechste Primzahl &gt; zahl
          */
         @JvmStatic
         fun after(zahl: Int): Primzahl {
-            val primzahlen = primzahlen
-            for (p in primzahlen) {
-                if (zahl < p.toInt()) {
-                    return p
-                }
-            }
-            run {
-                var n = primzahlen[primzahlen.size - 1].toInt() + 2
-                while (n <= zahl) {
-                    if (!hasTeiler(n)) {
-                        primzahlen.add(Primzahl(n))
-                    }
-                    n += 2
-                }
+            val n = SIEB.after(zahl)
+            if (n < 0) {
+                throw LocalizedArithmeticException(zahl, "number")
             }
-            var n = primzahlen[primzahlen.size - 1].toInt() + 2
-            while (hasTeiler(n)) {
-                n += 2
-            }
-            val nextPrimzahl = Primzahl(n)
-            primzahlen.add(nextPrimzahl)
-            return nextPrimzahl
+            return Primzahl(n)
         }
 
         /**
-         * Ermittelt, ob die uebergebene Zahl einen Teiler hat.
-         * Alternative Implementierung mit Streams zeigten ein deutlich
-         * schlechteres Zeitverhalten (ca. Faktor 10 langsamer). Eine weitere
-         * Implementierung mit ParallelStreams war noch langsamer - vermutlich
-         * ist der Overhaed einfach zu gross.
+         * Prueft, ob die uebergebene Zahl eine Primzahl ist.
          *
-         * @param n Zahl, die nach einem Teiler untersucht wird
-         * @return true, falls Zahl einen Teiler hat (d.h. keine Primzahl ist)
+         * @param n zu pruefende Zahl
+         * @return true, falls n eine Primzahl ist
+         * @since 6.8
          */
-        private fun hasTeiler(n: Int): Boolean {
-            for (p in primzahlen) {
-                val teiler = p.toInt()
-                if (n % teiler == 0) {
-                    return true
-                }
-                if (teiler * teiler > n) {
-                    break
-                }
-            }
-            return false
+        @JvmStatic
+        fun isPrim(n: Int): Boolean {
+            return SIEB.isPrim(n)
         }
 
-        private val primzahlen: MutableList<Primzahl>
-            get() {
-                var primzahlen = refPrimzahlen.get()
-                if (primzahlen == null) {
-                    primzahlen = initPrimzahlen()
-                    refPrimzahlen = SoftReference(primzahlen)
-                }
-                return primzahlen
-            }
+        /**
+         * Liefert alle Primzahlen zwischen a und b (jeweils inklusive).
+         *
+         * @param a untere Grenze
+         * @param b obere Grenze
+         * @return aufsteigend sortierte Primzahlen
+         * @since 6.8
+         */
+        @JvmStatic
+        fun primesBetween(a: Int, b: Int): Stream<Primzahl> {
+            return SIEB.primesBetween(a, b).mapToObj { Primzahl(it) }
+        }
 
     }
 
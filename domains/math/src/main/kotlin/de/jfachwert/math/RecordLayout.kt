@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 18.10.2026 by oboehm (ob@oasd.de)
+ */
+package de.jfachwert.math
+
+/**
+ * Das RecordLayout beschreibt den Aufbau eines Satzes fester Laenge, wie
+ * er typischerweise in Dateien von Host-Systemen (z.B. COBOL-Copybooks)
+ * vorkommt. Jedes Feld hat einen Namen, einen Typ ([Type.COMP3] oder
+ * [Type.ZONED]), eine Laenge in Bytes und die Anzahl der
+ * Nachkommastellen. Die Offsets ergeben sich aus der Reihenfolge der
+ * Felder:
+ *
+ * ```
+ * RecordLayout layout = new RecordLayout()
+ *         .zoned("kundennr", 8)
+ *         .filler(2)
+ *         .comp3("betrag", 6, 2);
+ * ```
+ *
+ * Ein RecordLayout ist unveraenderlich; jede Methode liefert ein neues
+ * Layout zurueck.
+ *
+ * @author oboehm
+ * @since 6.8 (18.10.2026)
+ */
+class RecordLayout private constructor(private val felder: List<Field>, private val laenge: Int) {
+
+    /**
+     * Erzeugt ein leeres Layout ohne Felder.
+     */
+    constructor() : this(emptyList(), 0)
+
+    /**
+     * Typ eines Feldes.
+     */
+    enum class Type {
+
+        /** Gepackte Dezimalzahl (IBM Packed Decimal), 2 Ziffern pro Byte. */
+        COMP3,
+
+        /** Gezonte Dezimalzahl (PIC S9 DISPLAY), eine Ziffer pro Byte. */
+        ZONED
+
+    }
+
+    /**
+     * Beschreibung eines einzelnen Feldes innerhalb des Satzes.
+     */
+    data class Field(val name: String, val type: Type, val offset: Int, val length: Int, val scale: Int) {
+
+        /**
+         * Anzahl der Ziffern, die in diesem Feld Platz haben.
+         */
+        val digits: Int
+            get() = if (type == Type.COMP3) length * 2 - 1 else length
+
+    }
+
+    /**
+     * Laenge eines Satzes in Bytes.
+     */
+    val recordLength: Int
+        get() = laenge
+
+    /**
+     * Die Felder des Layouts in der Reihenfolge, in der sie im Satz stehen.
+     */
+    val fields: List<Field>
+        get() = felder
+
+    /**
+     * Fuegt ein Feld im COMP-3-Format hinzu.
+     *
+     * @param name Name des Feldes
+     * @param length Laenge in Bytes
+     * @param scale Anzahl der Nachkommastellen
+     * @return erweitertes Layout
+     */
+    @JvmOverloads
+    fun comp3(name: String, length: Int, scale: Int = 0): RecordLayout {
+        return add(name, Type.COMP3, length, scale)
+    }
+
+    /**
+     * Fuegt ein gezontes Feld hinzu.
+     *
+     * @param name Name des Feldes
+     * @param length Laenge in Bytes (= Anzahl der Ziffern)
+     * @param scale Anzahl der Nachkommastellen
+     * @return erweitertes Layout
+     */
+    @JvmOverloads
+    fun zoned(name: String, length: Int, scale: Int = 0): RecordLayout {
+        return add(name, Type.ZONED, length, scale)
+    }
+
+    /**
+     * Ueberspringt die angegebene Anzahl von Bytes, z.B. fuer Textfelder
+     * oder Satzende-Zeichen, die nicht ausgewertet werden.
+     *
+     * @param length Anzahl der Bytes
+     * @return erweitertes Layout
+     */
+    fun filler(length: Int): RecordLayout {
+        require(length > 0) { "length=$length must be positive" }
+        return RecordLayout(felder, laenge + length)
+    }
+
+    private fun add(name: String, type: Type, length: Int, scale: Int): RecordLayout {
+        require(length > 0) { "length=$length must be positive" }
+        require(scale >= 0) { "scale=$scale must not be negative" }
+        require(felder.none { it.name == name }) { "field '$name' already defined" }
+        return RecordLayout(felder + Field(name, type, laenge, length, scale), laenge + length)
+    }
+
+    /**
+     * Liefert die Position des Feldes mit dem angegebenen Namen. Fuer
+     * Massenverarbeitung ist der Zugriff ueber den Index etwas schneller
+     * als ueber den Namen.
+     *
+     * @param name Name des Feldes
+     * @return Index des Feldes
+     */
+    fun indexOf(name: String): Int {
+        val index = felder.indexOfFirst { it.name == name }
+        require(index >= 0) { "unknown field '$name'" }
+        return index
+    }
+
+    /**
+     * Liefert das Feld mit dem angegebenen Namen.
+     *
+     * @param name Name des Feldes
+     * @return Feld
+     */
+    fun getField(name: String): Field {
+        return felder[indexOf(name)]
+    }
+
+    override fun toString(): String {
+        return "RecordLayout(length=$laenge, fields=$felder)"
+    }
+
+}
@@ -0,0 +1,283 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 18.10.2026 by oboehm (ob@oasd.de)
+ */
+package de.jfachwert.math
+
+import java.io.IOException
+import java.math.BigDecimal
+import java.nio.ByteBuffer
+import java.nio.channels.FileChannel
+import java.nio.file.Path
+import java.nio.file.StandardOpenOption
+import java.util.function.Consumer
+import java.util.stream.IntStream
+import java.util.stream.LongStream
+import java.util.stream.Stream
+import javax.money.MonetaryAmount
+
+/**
+ * Der RecordReader liest Dateien mit Saetzen fester Laenge, deren Aufbau
+ * ueber ein [RecordLayout] beschrieben ist. Die Datei wird dazu ueber
+ * [FileChannel.map] in den Speicher eingeblendet, sodass die Felder
+ * direkt aus dem Puffer in [PackedDecimal], long-Werte, [BigDecimal]
+ * oder Geldbetraege umgewandelt werden koennen &ndash; ohne Umweg ueber
+ * einen String.
+ *
+ * Dateien ueber 2 GB werden in mehreren Abschnitten eingeblendet, wobei
+ * ein Satz nie ueber eine Abschnittsgrenze geht. Mit [forEachParallel]
+ * oder [records] lassen sich die Saetze auf mehrere Kerne verteilen.
+ *
+ * Der Dateikanal wird nach dem Einblenden sofort wieder geschlossen; die
+ * eingeblendeten Puffer bleiben gueltig, bis sie vom Garbage Collector
+ * abgeraeumt werden.
+ *
+ * @author oboehm
+ * @since 6.8 (18.10.2026)
+ */
+class RecordReader @Throws(IOException::class) constructor(file: Path, val layout: RecordLayout) {
+
+    private val saetzeProAbschnitt: Int
+    private val abschnitte: Array<ByteBuffer>
+
+    /**
+     * Anzahl der Saetze in der Datei.
+     */
+    val size: Long
+
+    init {
+        val satzlaenge = layout.recordLength
+        require(satzlaenge > 0) { "empty layout: $layout" }
+        FileChannel.open(file, StandardOpenOption.READ).use { channel ->
+            val dateigroesse = channel.size()
+            require(dateigroesse % satzlaenge == 0L) {
+                "size of $file ($dateigroesse bytes) is no multiple of record length $satzlaenge"
+            }
+            size = dateigroesse / satzlaenge
+            saetzeProAbschnitt = Int.MAX_VALUE / satzlaenge
+            val anzahl = ((size + saetzeProAbschnitt - 1) / saetzeProAbschnitt).toInt()
+            abschnitte = Array(anzahl) { i ->
+                val von = i.toLong() * saetzeProAbschnitt * satzlaenge
+                val laenge = minOf(saetzeProAbschnitt.toLong() * satzlaenge, dateigroesse - von)
+                channel.map(FileChannel.MapMode.READ_ONLY, von, laenge)
+            }
+        }
+    }
+
+    /**
+     * Liefert den Satz mit der angegebenen Nummer.
+     *
+     * @param index Satznummer (beginnend bei 0)
+     * @return Satz
+     */
+    fun record(index: Long): Record {
+        return Record().moveTo(index)
+    }
+
+    /**
+     * Ruft die uebergebene Aktion fuer jeden Satz auf. Dabei wird aus
+     * Performance-Gruenden immer dasselbe [Record]-Objekt verwendet, das
+     * nur auf den naechsten Satz weitergesetzt wird. Es darf daher nicht
+     * ueber den Aufruf hinaus gemerkt werden.
+     *
+     * @param action Aktion, die fuer jeden Satz aufgerufen wird
+     */
+    fun forEach(action: Consumer<Record>) {
+        val satz = Record()
+        for (i in 0 until size) {
+            action.accept(satz.moveTo(i))
+        }
+    }
+
+    /**
+     * Teilt die Datei in Segmente auf und verarbeitet diese parallel. Wie
+     * bei [forEach] wird pro Segment nur ein [Record]-Objekt verwendet.
+     * Die Reihenfolge, in der die Saetze an die Aktion uebergeben werden,
+     * ist nicht festgelegt; die Aktion muss daher thread-sicher sein.
+     *
+     * @param action Aktion, die fuer jeden Satz aufgerufen wird
+     */
+    fun forEachParallel(action: Consumer<Record>) {
+        val segmente = minOf(size, Runtime.getRuntime().availableProcessors() * 4L).toInt()
+        if (segmente < 2) {
+            forEach(action)
+            return
+        }
+        IntStream.range(0, segmente).parallel().forEach { s ->
+            val satz = Record()
+            val bis = size * (s + 1) / segmente
+            for (i in size * s / segmente until bis) {
+                action.accept(satz.moveTo(i))
+            }
+        }
+    }
+
+    /**
+     * Liefert die Saetze als Stream. Im Gegensatz zu [forEach] ist hier
+     * jeder Satz ein eigenes Objekt, sodass der Stream auch parallel
+     * verarbeitet und gesammelt werden kann.
+     *
+     * @return Stream mit allen Saetzen
+     */
+    fun records(): Stream<Record> {
+        return LongStream.range(0, size).mapToObj { record(it) }
+    }
+
+    override fun toString(): String {
+        return "RecordReader(size=$size, layout=$layout)"
+    }
+
+
+
+    /**
+     * Ein Record ist die Sicht auf einen einzelnen Satz innerhalb der
+     * eingeblendeten Datei. Die Felder koennen ueber ihren Namen oder
+     * (etwas schneller) ueber ihren Index im [RecordLayout] angesprochen
+     * werden.
+     */
+    inner class Record internal constructor() {
+
+        private var puffer: ByteBuffer = abschnitte.firstOrNull() ?: ByteBuffer.allocate(0)
+        private var offset = 0
+
+        /**
+         * Nummer des Satzes innerhalb der Datei.
+         */
+        var index = 0L
+            private set
+
+        internal fun moveTo(index: Long): Record {
+            if (index < 0 || index >= size) {
+                throw IndexOutOfBoundsException("index $index not in [0, $size)")
+            }
+            this.index = index
+            puffer = abschnitte[(index / saetzeProAbschnitt).toInt()]
+            offset = (index % saetzeProAbschnitt).toInt() * layout.recordLength
+            return this
+        }
+
+        /**
+         * Liefert den Inhalt des Feldes als [PackedDecimal].
+         *
+         * @param field Name des Feldes
+         * @return Feldinhalt
+         */
+        fun getPackedDecimal(field: String): PackedDecimal {
+            return getPackedDecimal(layout.indexOf(field))
+        }
+
+        /**
+         * Liefert den Inhalt des Feldes als [PackedDecimal].
+         *
+         * @param field Index des Feldes im Layout
+         * @return Feldinhalt
+         */
+        fun getPackedDecimal(field: Int): PackedDecimal {
+            val f = layout.fields[field]
+            return when (f.type) {
+                RecordLayout.Type.COMP3 -> PackedDecimal.fromComp3(puffer, offset + f.offset, f.length, f.scale)
+                RecordLayout.Type.ZONED -> PackedDecimal.fromZoned(puffer, offset + f.offset, f.length, f.scale)
+            }
+        }
+
+        /**
+         * Liefert den unskalierten Inhalt des Feldes als long-Wert. Bei
+         * einem Betrag mit 2 Nachkommastellen ist das z.B. der Betrag in
+         * Cent.
+         *
+         * @param field Name des Feldes
+         * @return unskalierter Feldinhalt
+         */
+        fun getLong(field: String): Long {
+            return getLong(layout.indexOf(field))
+        }
+
+        /**
+         * Liefert den unskalierten Inhalt des Feldes als long-Wert.
+         *
+         * @param field Index des Feldes im Layout
+         * @return unskalierter Feldinhalt
+         */
+        fun getLong(field: Int): Long {
+            val f = layout.fields[field]
+            return when (f.type) {
+                RecordLayout.Type.COMP3 -> PackedDecimal.comp3ToLong(puffer, offset + f.offset, f.length)
+                RecordLayout.Type.ZONED -> PackedDecimal.zonedToLong(puffer, offset + f.offset, f.length)
+            }
+        }
+
+        /**
+         * Liefert den Inhalt des Feldes als [BigDecimal] mit der Anzahl
+         * der Nachkommastellen aus dem Layout.
+         *
+         * @param field Name des Feldes
+         * @return Feldinhalt
+         */
+        fun getBigDecimal(field: String): BigDecimal {
+            return getBigDecimal(layout.indexOf(field))
+        }
+
+        /**
+         * Liefert den Inhalt des Feldes als [BigDecimal].
+         *
+         * @param field Index des Feldes im Layout
+         * @return Feldinhalt
+         */
+        fun getBigDecimal(field: Int): BigDecimal {
+            val f = layout.fields[field]
+            return if (f.digits <= 18) {
+                BigDecimal.valueOf(getLong(field), f.scale)
+            } else {
+                getPackedDecimal(field).toBigDecimal().setScale(f.scale)
+            }
+        }
+
+        /**
+         * Liefert den Inhalt des Feldes als Geldbetrag. Waehrung und Typ
+         * werden dabei vom uebergebenen Prototyp (z.B. `Geldbetrag.of(0, "EUR")`)
+         * uebernommen. Da fuer jeden Aufruf eine neue Factory ueber
+         * [MonetaryAmount.getFactory] geholt wird, kann der Prototyp auch
+         * bei [forEachParallel] gemeinsam genutzt werden.
+         *
+         * @param field Name des Feldes
+         * @param prototype Geldbetrag mit der gewuenschten Waehrung
+         * @return Feldinhalt als Geldbetrag
+         */
+        fun <T : MonetaryAmount> getMonetaryAmount(field: String, prototype: T): T {
+            return getMonetaryAmount(layout.indexOf(field), prototype)
+        }
+
+        /**
+         * Liefert den Inhalt des Feldes als Geldbetrag.
+         *
+         * @param field Index des Feldes im Layout
+         * @param prototype Geldbetrag mit der gewuenschten Waehrung
+         * @return Feldinhalt als Geldbetrag
+         */
+        @Suppress("UNCHECKED_CAST")
+        fun <T : MonetaryAmount> getMonetaryAmount(field: Int, prototype: T): T {
+            return prototype.factory.setNumber(getBigDecimal(field)).create() as T
+        }
+
+        override fun toString(): String {
+            return layout.fields.indices.joinToString(", ", "Record#$index(", ")") {
+                layout.fields[it].name + "=" + getPackedDecimal(it)
+            }
+        }
+
+    }
+
+}
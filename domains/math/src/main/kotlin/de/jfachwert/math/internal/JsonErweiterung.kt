@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 18.10.2026 by oboehm (ob@oasd.de)
+ */
+package de.jfachwert.math.internal
+
+import de.jfachwert.math.PackedDecimal
+import de.jfachwert.util.FachwertModule
+
+/**
+ * Registriert die Serializer und Deserializer fuer die Zahlen-Klassen
+ * beim [FachwertModule].
+ *
+ * @author oboehm
+ * @since 6.8 (18.10.2026)
+ */
+class JsonErweiterung : FachwertModule.Erweiterung {
+
+    override fun registriere(module: FachwertModule) {
+        module.addFachwert(PackedDecimal::class.java, PackedDecimal::toString, PackedDecimal::valueOf)
+    }
+
+}
@@ -0,0 +1,287 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 18.10.2026 by oboehm (ob@oasd.de)
+ */
+package de.jfachwert.math.internal
+
+import java.util.*
+import java.util.concurrent.atomic.AtomicReference
+import java.util.stream.IntStream
+import kotlin.math.ln
+import kotlin.math.sqrt
+
+/**
+ * Das Primzahlsieb ist ein segmentiertes Sieb des Eratosthenes. Es merkt
+ * sich nur die ungeraden Zahlen in einem Bitset (1 Bit pro ungerader Zahl)
+ * und zusaetzlich die gefundenen Primzahlen als sortiertes int-Array.
+ *
+ * Das Sieb waechst bei Bedarf in Segmenten. Der aktuelle Stand ist dabei
+ * unveraenderlich und wird ueber eine [AtomicReference] veroeffentlicht,
+ * sodass lesende Zugriffe ohne Lock auskommen. Wachsen zwei Threads
+ * gleichzeitig, gewinnt einer von beiden; der andere verwendet dann
+ * dessen Ergebnis.
+ *
+ * Damit der Speicherverbrauch nicht ausufert, waechst das Sieb nur bis
+ * [MAX_LIMIT] (ca. 4 MB fuer das Bitset und 16 MB fuer die Primzahlen).
+ * Fuer groessere Zahlen wird auf Probedivision mit den bekannten
+ * Primzahlen zurueckgegriffen, die bis zur Wurzel von [Int.MAX_VALUE]
+ * bereits im Sieb vorhanden sind.
+ *
+ * @author oboehm
+ * @since 6.8 (18.10.2026)
+ */
+class Primzahlsieb {
+
+    private val ref = AtomicReference(Stand.initial())
+
+    /**
+     * Unveraenderlicher Stand des Siebs. Im Bitset steht Bit i fuer die
+     * ungerade Zahl 2i+1; ein gesetztes Bit bedeutet "keine Primzahl".
+     */
+    private class Stand(val limit: Int, val zusammengesetzt: LongArray, val primzahlen: IntArray, val anzahl: Int) {
+
+        fun isPrim(n: Int): Boolean {
+            val i = n ushr 1
+            return zusammengesetzt[i ushr 6] and (1L shl i) == 0L
+        }
+
+        fun wachsen(bis: Int): Stand {
+            val bits = zusammengesetzt.copyOf(words(bis))
+            siebe(bits, limit + 1L, bis.toLong())
+            var primes = primzahlen.copyOf(anzahl + schaetzeAnzahl(bis) - schaetzeAnzahl(limit) + 16)
+            var n = anzahl
+            var m = if (limit % 2 == 0) limit + 1L else limit + 2L
+            while (m <= bis) {
+                val i = (m ushr 1).toInt()
+                if (bits[i ushr 6] and (1L shl i) == 0L) {
+                    if (n == primes.size) {
+                        primes = primes.copyOf(n + n / 8 + 16)
+                    }
+                    primes[n++] = m.toInt()
+                }
+                m += 2
+            }
+            return Stand(bis, bits, primes, n)
+        }
+
+        /**
+         * Streicht im Bereich [von, bis] alle Vielfachen der bisher
+         * bekannten Primzahlen. Dies erfolgt abschnittsweise, damit der
+         * bearbeitete Teil des Bitsets in den Cache passt.
+         */
+        private fun siebe(bits: LongArray, von: Long, bis: Long) {
+            var start = von
+            while (start <= bis) {
+                val ende = minOf(start + SEGMENT_SIZE - 1, bis)
+                for (k in 1 until anzahl) {
+                    val p = primzahlen[k].toLong()
+                    if (p * p > ende) {
+                        break
+                    }
+                    var m = maxOf(p * p, (start + p - 1) / p * p)
+                    if (m and 1L == 0L) {
+                        m += p
+                    }
+                    while (m <= ende) {
+                        val i = (m ushr 1).toInt()
+                        bits[i ushr 6] = bits[i ushr 6] or (1L shl i)
+                        m += 2 * p
+                    }
+                }
+                start = ende + 1
+            }
+        }
+
+        companion object {
+
+            fun initial(): Stand {
+                // Startwert 2^16 reicht, um alle Basis-Primzahlen bis
+                // sqrt(Int.MAX_VALUE) fuer spaetere Segmente zu kennen
+                val limit = 1 shl 16
+                val bits = LongArray(words(limit))
+                bits[0] = 1L    // 1 ist keine Primzahl
+                val wurzel = sqrt(limit.toDouble()).toInt()
+                var p = 3
+                while (p <= wurzel) {
+                    if (bits[(p ushr 1) ushr 6] and (1L shl (p ushr 1)) == 0L) {
+                        var m = p * p
+                        while (m <= limit) {
+                            val i = m ushr 1
+                            bits[i ushr 6] = bits[i ushr 6] or (1L shl i)
+                            m += 2 * p
+                        }
+                    }
+                    p += 2
+                }
+                val primes = IntArray(schaetzeAnzahl(limit))
+                primes[0] = 2
+                var n = 1
+                for (m in 3..limit step 2) {
+                    val i = m ushr 1
+                    if (bits[i ushr 6] and (1L shl i) == 0L) {
+                        primes[n++] = m
+                    }
+                }
+                return Stand(limit, bits, primes, n)
+            }
+
+            private fun words(limit: Int): Int {
+                return ((limit.toLong() ushr 1) / 64 + 1).toInt()
+            }
+
+            /** Obere Schranke fuer die Anzahl der Primzahlen bis n (Rosser/Schoenfeld). */
+            private fun schaetzeAnzahl(n: Int): Int {
+                return if (n < 17) 8 else (1.25506 * n / ln(n.toDouble())).toInt() + 1
+            }
+
+        }
+
+    }
+
+    /**
+     * Liefert die obere Grenze, bis zu der das Sieb bereits berechnet ist.
+     *
+     * @return aktuelle Grenze
+     */
+    val limit: Int
+        get() = ref.get().limit
+
+    /**
+     * Prueft, ob die uebergebene Zahl eine Primzahl ist. Liegt die Zahl
+     * innerhalb des bereits berechneten Siebs, ist dies ein einfacher
+     * Zugriff auf das Bitset.
+     *
+     * @param n zu pruefende Zahl
+     * @return true, falls n eine Primzahl ist
+     */
+    fun isPrim(n: Int): Boolean {
+        if (n < 3) {
+            return n == 2
+        }
+        if (n and 1 == 0) {
+            return false
+        }
+        if (n > MAX_LIMIT) {
+            return hasNoTeiler(n)
+        }
+        return bis(n).isPrim(n)
+    }
+
+    private fun hasNoTeiler(n: Int): Boolean {
+        val stand = ref.get()
+        for (k in 1 until stand.anzahl) {
+            val p = stand.primzahlen[k]
+            if (p.toLong() * p > n) {
+                return true
+            }
+            if (n % p == 0) {
+                return false
+            }
+        }
+        return true
+    }
+
+    /**
+     * Liefert die naechste Primzahl nach der angegebenen Zahl ueber eine
+     * binaere Suche im int-Array der bekannten Primzahlen.
+     *
+     * @param zahl Zahl
+     * @return naechste Primzahl &gt; zahl oder -1, falls es im int-Bereich
+     * keine groessere Primzahl mehr gibt
+     */
+    fun after(zahl: Int): Int {
+        if (zahl < 2) {
+            return 2
+        }
+        if (zahl >= MAX_PRIMZAHL) {
+            return -1
+        }
+        var stand = ref.get()
+        while (zahl < MAX_LIMIT) {
+            val i = Arrays.binarySearch(stand.primzahlen, 0, stand.anzahl, zahl + 1)
+            val index = if (i >= 0) i else -i - 1
+            if (index < stand.anzahl) {
+                return stand.primzahlen[index]
+            }
+            if (stand.limit >= MAX_LIMIT) {
+                break
+            }
+            stand = bis(naechsteGrenze(stand.limit))
+        }
+        var n = if (zahl and 1 == 0) zahl + 1 else zahl + 2
+        while (!hasNoTeiler(n)) {
+            n += 2
+        }
+        return n
+    }
+
+    /**
+     * Liefert alle Primzahlen im Bereich [a, b] (jeweils inklusive).
+     *
+     * @param a untere Grenze
+     * @param b obere Grenze
+     * @return aufsteigend sortierte Primzahlen
+     */
+    fun primesBetween(a: Int, b: Int): IntStream {
+        if (b < 2 || b < a) {
+            return IntStream.empty()
+        }
+        if (b > MAX_LIMIT) {
+            val rest = IntStream.rangeClosed(maxOf(a, MAX_LIMIT + 1), b).filter { isPrim(it) }
+            return if (a > MAX_LIMIT) rest else IntStream.concat(primesBetween(a, MAX_LIMIT), rest)
+        }
+        val stand = bis(b)
+        var von = Arrays.binarySearch(stand.primzahlen, 0, stand.anzahl, a)
+        if (von < 0) {
+            von = -von - 1
+        }
+        var bis = Arrays.binarySearch(stand.primzahlen, 0, stand.anzahl, b)
+        bis = if (bis < 0) -bis - 1 else bis + 1
+        return Arrays.stream(stand.primzahlen, von, bis)
+    }
+
+    private fun bis(n: Int): Stand {
+        var stand = ref.get()
+        while (stand.limit < n) {
+            val neu = stand.wachsen(maxOf(n, naechsteGrenze(stand.limit)))
+            stand = if (ref.compareAndSet(stand, neu)) neu else ref.get()
+        }
+        return stand
+    }
+
+    private fun naechsteGrenze(limit: Int): Int {
+        return minOf(limit * 2, MAX_LIMIT)
+    }
+
+    override fun toString(): String {
+        val stand = ref.get()
+        return "Primzahlsieb(limit=${stand.limit}, primes=${stand.anzahl})"
+    }
+
+
+
+    companion object {
+
+        /** Groesste Primzahl, die sich als int darstellen laesst. */
+        const val MAX_PRIMZAHL = Int.MAX_VALUE
+
+        /** Bis zu dieser Grenze waechst das Sieb. */
+        const val MAX_LIMIT = 1 shl 26
+        private const val SEGMENT_SIZE = 1L shl 19
+
+    }
+
+}
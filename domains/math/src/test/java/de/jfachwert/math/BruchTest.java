@@ -177,4 +177,90 @@ public final class BruchTest extends FachwertTest {
         assertEquals(achtZehntel, Bruch.of(achtZehntel).toString());
     }
 
+    /**
+     * Mit dem frueheren Kuerzen ueber Primzahlen dauerte dies bei grossen
+     * Nennern sehr lange.
+     */
+    @Test
+    public void testKuerzenGrosserNenner() {
+        Bruch bruch = Bruch.of(999_999_999L * 7, 1_000_000_007L * 7);
+        assertEquals(Bruch.of(999_999_999L, 1_000_000_007L), bruch.kuerzen());
+        assertEquals(Bruch.of(1, 1000), Bruch.of(1_000_000_000L, 1_000_000_000_000L));
+    }
+
+    @Test
+    public void testNegativerNenner() {
+        Bruch bruch = Bruch.of(1, -2);
+        assertEquals(Bruch.of(-1, 2), bruch);
+        assertEquals(Bruch.of(-1, 2).hashCode(), bruch.hashCode());
+        assertEquals("-1/2", bruch.kuerzen().toString());
+        assertThat(bruch.compareTo(Bruch.of(1, 3)), lessThan(0));
+    }
+
+    @Test
+    public void testNull() {
+        assertEquals(Bruch.of(0, 1), Bruch.of(0, -5));
+        assertEquals("0/-5", Bruch.of(0, -5).toString());
+    }
+
+    /**
+     * Zaehler und Nenner passen nicht in ein long, der gekuerzte Bruch
+     * dagegen schon.
+     */
+    @Test
+    public void testEqualsBigInteger() {
+        BigInteger gross = BigInteger.TWO.pow(80);
+        Bruch bruch = Bruch.of(gross, gross.shiftLeft(1));
+        assertEquals(Bruch.of(1, 2), bruch);
+        assertEquals(Bruch.of(1, 2).hashCode(), bruch.hashCode());
+        assertEquals(gross + "/" + gross.shiftLeft(1), bruch.toString());
+        assertEquals("1/2", bruch.kuerzen().toString());
+    }
+
+    @Test
+    public void testLongMinValue() {
+        Bruch bruch = Bruch.of(Long.MIN_VALUE, 2);
+        assertEquals(Bruch.of(Long.MIN_VALUE / 2, 1), bruch);
+        assertEquals(BigInteger.valueOf(Long.MIN_VALUE), bruch.getZaehler());
+        assertEquals(Bruch.of(BigInteger.valueOf(Long.MIN_VALUE), BigInteger.ONE),
+                Bruch.of(Long.MIN_VALUE, 1));
+    }
+
+    @Test
+    public void testMultiplyUeberlauf() {
+        Bruch a = Bruch.of(Long.MAX_VALUE, 3);
+        Bruch b = Bruch.of(Long.MAX_VALUE - 2, 5);
+        BigInteger z = BigInteger.valueOf(Long.MAX_VALUE).multiply(BigInteger.valueOf(Long.MAX_VALUE - 2));
+        assertEquals(Bruch.of(z, BigInteger.valueOf(15)), a.multiply(b));
+    }
+
+    @Test
+    public void testAddUeberlauf() {
+        Bruch a = Bruch.of(Long.MAX_VALUE, 2);
+        Bruch b = Bruch.of(Long.MAX_VALUE, 3);
+        BigInteger z = BigInteger.valueOf(Long.MAX_VALUE).multiply(BigInteger.valueOf(5));
+        assertEquals(Bruch.of(z, BigInteger.valueOf(6)), a.add(b));
+    }
+
+    @Test
+    public void testAddKgV() {
+        assertEquals(Bruch.of(1, 3), Bruch.of(1, 6).add(Bruch.of(1, 6)));
+        assertEquals("1/3", Bruch.of(1, 6).add(Bruch.of(1, 6)).toString());
+    }
+
+    /**
+     * Beim Vergleich ueber Kreuz entstehen hier Produkte, die nicht mehr
+     * in ein long passen.
+     */
+    @Test
+    public void testCompareToGrosseZahlen() {
+        Bruch a = Bruch.of(Long.MAX_VALUE - 1, Long.MAX_VALUE);
+        Bruch b = Bruch.of(Long.MAX_VALUE - 2, Long.MAX_VALUE - 1);
+        assertThat(a.compareTo(b), greaterThan(0));
+        assertThat(b.compareTo(a), lessThan(0));
+        assertThat(Bruch.of(-Long.MAX_VALUE, 3).compareTo(Bruch.of(Long.MAX_VALUE, 7)), lessThan(0));
+        assertEquals(0, a.compareTo(Bruch.of(BigInteger.valueOf(Long.MAX_VALUE - 1).shiftLeft(70),
+                BigInteger.valueOf(Long.MAX_VALUE).shiftLeft(70))));
+    }
+
 }
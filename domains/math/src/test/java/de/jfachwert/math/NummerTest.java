@@ -21,8 +21,13 @@ import de.jfachwert.FachwertTest;
 import org.junit.jupiter.api.Test;
 import patterntesting.runtime.util.Converter;
 
+import java.io.File;
 import java.io.NotSerializableException;
+import java.lang.reflect.Method;
 import java.math.BigInteger;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
 
 import static org.hamcrest.Matchers.*;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -101,4 +106,118 @@ public final class NummerTest extends FachwertTest {
         assertThat(zwei.compareTo(eins), greaterThan(0));
     }
 
+    @Test
+    public void testOfCache() {
+        assertSame(Nummer.of(1000), Nummer.of("1000"));
+        assertSame(Nummer.of(1000), Nummer.of(BigInteger.valueOf(1000)));
+        assertEquals(Nummer.of(1_000_000), Nummer.of("1000000"));
+    }
+
+    /**
+     * Die of-Methode normalisiert die Nummer, d.h. fuehrende Nullen
+     * gehen dabei verloren.
+     */
+    @Test
+    public void testOfFuehrendeNull() {
+        assertSame(Nummer.of(711), Nummer.of("0711"));
+        assertSame(Nummer.of(711), Nummer.of(new Nummer("0711")));
+    }
+
+    @Test
+    public void testOfNummer() {
+        Nummer nummer = new Nummer(4_711_000);
+        assertSame(nummer, Nummer.of(nummer));
+        assertSame(Nummer.of(42), Nummer.of(new Nummer(42)));
+    }
+
+    @Test
+    public void testFuehrendeNull() {
+        Nummer nummer = new Nummer("0711");
+        assertEquals("0711", nummer.toString());
+        assertEquals(711, nummer.intValue());
+        assertNotEquals(new Nummer(711), nummer);
+        assertEquals(0, nummer.compareTo(new Nummer(711)));
+    }
+
+    @Test
+    public void testEqualsHashCode() {
+        Nummer a = new Nummer(4711L);
+        Nummer b = new Nummer("4711");
+        Nummer c = new Nummer(BigInteger.valueOf(4711));
+        assertEquals(a, b);
+        assertEquals(b, c);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertEquals(b.hashCode(), c.hashCode());
+    }
+
+    @Test
+    public void testLongGrenzen() {
+        for (long n : new long[]{Long.MAX_VALUE, Long.MIN_VALUE, Long.MIN_VALUE + 1, -1}) {
+            Nummer nummer = new Nummer(n);
+            assertEquals(Long.toString(n), nummer.toString());
+            assertEquals(n, nummer.longValue());
+            assertEquals(nummer, new Nummer(Long.toString(n)));
+        }
+    }
+
+    @Test
+    public void testGrosseNummer() {
+        String zahl = "1234567890123456789012345";
+        Nummer nummer = new Nummer(zahl);
+        assertEquals(zahl, nummer.toString());
+        assertEquals(new BigInteger(zahl), nummer.toBigDecimal().toBigInteger());
+        assertEquals(nummer, Nummer.of(new BigInteger(zahl)));
+        assertSame(nummer, Nummer.of(nummer));
+        assertThat(nummer.compareTo(new Nummer(Long.MAX_VALUE)), greaterThan(0));
+    }
+
+    @Test
+    public void testAndereSchreibweise() {
+        assertEquals("+5", new Nummer("+5").toString());
+        assertEquals("-0", new Nummer("-0").toString());
+        assertNotEquals(new Nummer(5), new Nummer("+5"));
+    }
+
+    @Test
+    public void testCompareToNegativ() {
+        assertThat(new Nummer(-2).compareTo(new Nummer(1)), lessThan(0));
+        assertThat(new Nummer("99999999999999999999").compareTo(new Nummer(-1)), greaterThan(0));
+    }
+
+    /**
+     * Eine negative oder zu grosse Cache-Groesse darf nicht zu einem
+     * Fehler beim Laden der Klasse fuehren, sondern wird begrenzt. Da die
+     * Property beim Laden gelesen wird, wird Nummer dazu ueber einen
+     * eigenen Classloader geladen.
+     *
+     * @throws Exception bei Reflection-Fehlern
+     */
+    @Test
+    public void testCacheSize() throws Exception {
+        assertCacheSize("-1", 0);
+        assertCacheSize("1000000000", 1 << 16);
+    }
+
+    private static void assertCacheSize(String property, int expected) throws Exception {
+        System.setProperty("de.jfachwert.math.Nummer.cacheSize", property);
+        try (URLClassLoader loader = new URLClassLoader(getClasspath(), ClassLoader.getPlatformClassLoader())) {
+            Method of = loader.loadClass(Nummer.class.getName()).getMethod("of", long.class);
+            if (expected > 0) {
+                assertSame(of.invoke(null, expected - 1L), of.invoke(null, expected - 1L));
+            }
+            assertNotSame(of.invoke(null, (long) expected), of.invoke(null, (long) expected));
+        } finally {
+            System.clearProperty("de.jfachwert.math.Nummer.cacheSize");
+        }
+    }
+
+    private static URL[] getClasspath() throws MalformedURLException {
+        String[] paths = System.getProperty("java.class.path").split(File.pathSeparator);
+        URL[] urls = new URL[paths.length];
+        for (int i = 0; i < paths.length; i++) {
+            urls[i] = new File(paths[i]).toURI().toURL();
+        }
+        return urls;
+    }
+
 }
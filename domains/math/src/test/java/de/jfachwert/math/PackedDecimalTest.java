@@ -22,9 +22,11 @@ import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import patterntesting.runtime.junit.SerializableTester;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.RoundingMode;
+import java.nio.ByteBuffer;
 import java.util.logging.Logger;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -325,4 +327,119 @@ public final class PackedDecimalTest extends FachwertTest {
         }
     }
 
+    @Test
+    public void testDigitAt() {
+        PackedDecimal zahl = PackedDecimal.valueOf("-07.5");
+        assertEquals(5, zahl.getLength());
+        assertEquals(0xD, zahl.digitAt(0));
+        assertEquals(0, zahl.digitAt(1));
+        assertEquals(7, zahl.digitAt(2));
+        assertEquals(0xE, zahl.digitAt(3));
+        assertEquals(5, zahl.digitAt(4));
+        assertThrows(IndexOutOfBoundsException.class, () -> zahl.digitAt(5));
+        assertEquals(0, PackedDecimal.EMPTY.getLength());
+    }
+
+    @Test
+    public void testToLong() {
+        for (long n : new long[]{0, 7, -42, 1234567890123L, Long.MAX_VALUE, Long.MIN_VALUE}) {
+            assertEquals(n, PackedDecimal.valueOf(n).longValue());
+            assertEquals(n, new PackedDecimal(Long.toString(n)).longValue());
+            assertEquals(BigDecimal.valueOf(n), PackedDecimal.valueOf(n).toBigDecimal());
+        }
+        assertEquals(7L, PackedDecimal.valueOf("007").longValue());
+        assertEquals(5L, PackedDecimal.valueOf("+5").longValue());
+        assertEquals(3L, PackedDecimal.valueOf("3.75").longValue());
+        String gross = "123456789012345678901234567890";
+        assertEquals(new BigDecimal(gross).longValue(), PackedDecimal.valueOf(gross).longValue());
+    }
+
+    @Test
+    public void testWriteTo() throws IOException {
+        StringBuilder buf = new StringBuilder("x=");
+        PackedDecimal.valueOf("+49/811 32").writeTo(buf);
+        assertEquals("x=+49/811 32", buf.toString());
+    }
+
+    /**
+     * Fuehrende und abschliessende Leerzeichen werden nicht abgespeichert,
+     * damit equals und hashCode direkt auf den Bytes arbeiten koennen.
+     */
+    @Test
+    public void testEqualsBlanks() {
+        PackedDecimal a = new PackedDecimal(" 42");
+        PackedDecimal b = new PackedDecimal("42 ");
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertEquals(new PackedDecimal("1 2"), new PackedDecimal("1\t2"));
+        assertNotEquals(new PackedDecimal("42"), new PackedDecimal("042"));
+    }
+
+    @Test
+    public void testFromComp3() {
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[]{0x01, 0x23, 0x4C, 0x00, 0x12, 0x3D, 0x00, 0x0F});
+        assertEquals(PackedDecimal.valueOf(1234), PackedDecimal.fromComp3(buffer, 3));
+        assertEquals(PackedDecimal.valueOf("-1.23"), PackedDecimal.fromComp3(buffer, 3, 2));
+        assertEquals(PackedDecimal.ZERO, PackedDecimal.fromComp3(buffer, 2));
+        assertEquals(8, buffer.position());
+    }
+
+    @Test
+    public void testFromComp3Scale() {
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[]{0x00, 0x5C});
+        assertEquals(PackedDecimal.valueOf("0.005"), PackedDecimal.fromComp3(buffer, 2, 3));
+        buffer = ByteBuffer.wrap(new byte[]{0x00, 0x0D});
+        assertEquals(PackedDecimal.valueOf("0.00"), PackedDecimal.fromComp3(buffer, 2, 2));
+    }
+
+    @Test
+    public void testFromComp3Invalid() {
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[]{0x1A, 0x2C});
+        assertThrows(IllegalArgumentException.class, () -> PackedDecimal.fromComp3(buffer, 2));
+        ByteBuffer ohneVorzeichen = ByteBuffer.wrap(new byte[]{0x12, 0x34});
+        assertThrows(IllegalArgumentException.class, () -> PackedDecimal.fromComp3(ohneVorzeichen, 2));
+    }
+
+    @Test
+    public void testFromZoned() {
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[]{(byte) 0xF0, (byte) 0xF1, (byte) 0xD2, 0x31, 0x32, 0x33});
+        assertEquals(PackedDecimal.valueOf("-0.12"), PackedDecimal.fromZoned(buffer, 3, 2));
+        assertEquals(PackedDecimal.valueOf(123), PackedDecimal.fromZoned(buffer, 3));
+        assertEquals(6, buffer.position());
+    }
+
+    @Test
+    public void testFromZonedInvalid() {
+        ByteBuffer leerzeichen = ByteBuffer.wrap(new byte[]{0x20, 0x31});
+        assertThrows(IllegalArgumentException.class, () -> PackedDecimal.fromZoned(leerzeichen, 2));
+    }
+
+    @Test
+    public void testToComp3() {
+        ByteBuffer buffer = ByteBuffer.allocate(7);
+        PackedDecimal.valueOf(1234).toComp3(buffer, 3);
+        PackedDecimal.valueOf("-1.2").toComp3(buffer, 4, 2);
+        assertArrayEquals(new byte[]{0x01, 0x23, 0x4C, 0x00, 0x00, 0x12, 0x0D}, buffer.array());
+    }
+
+    @Test
+    public void testComp3RoundTrip() {
+        ByteBuffer buffer = ByteBuffer.allocate(8);
+        for (String zahl : new String[]{"0", "-0.01", "12345.67", "-9999999.99", "007.10"}) {
+            buffer.clear();
+            PackedDecimal.valueOf(zahl).toComp3(buffer, 8, 2);
+            buffer.flip();
+            PackedDecimal gelesen = PackedDecimal.fromComp3(buffer, 8, 2);
+            assertEquals(0, new BigDecimal(zahl).compareTo(gelesen.toBigDecimal()), zahl + " <> " + gelesen);
+        }
+    }
+
+    @Test
+    public void testToComp3Overflow() {
+        ByteBuffer buffer = ByteBuffer.allocate(8);
+        assertThrows(ArithmeticException.class, () -> PackedDecimal.valueOf(1234).toComp3(buffer, 2));
+        assertThrows(ArithmeticException.class, () -> PackedDecimal.valueOf("1.234").toComp3(buffer, 4, 2));
+        assertThrows(IllegalArgumentException.class, () -> PackedDecimal.valueOf("1/2").toComp3(buffer, 4));
+    }
+
 }
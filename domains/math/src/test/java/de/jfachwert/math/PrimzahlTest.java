@@ -21,9 +21,13 @@ package de.jfachwert.math;
 import de.jfachwert.FachwertTest;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.lessThan;
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 /**
@@ -61,15 +65,50 @@ public final class PrimzahlTest extends FachwertTest {
     }
 
     /**
-     * Dieser Test dient nur dazu, um den Rechner zu beschaeftigen.
-     * Der Test dauert auf einem Fujitsu-Notebook mit i7 und 2.5 GHz 
-     * ca. 3 Sekunden. Mit 10_000_000 sind es bereits 3 Minuten und
-     * mit 20_000_000 12 Minuten.
+     * Dieser Test diente urspruenglich nur dazu, um den Rechner zu
+     * beschaeftigen. Mit der Probedivision dauerte er auf einem
+     * Fujitsu-Notebook mit i7 und 2.5 GHz ca. 3 Sekunden, mit 10_000_000
+     * bereits 3 Minuten. Mit dem Primzahlsieb sind es nur noch wenige
+     * Millisekunden.
      */
-    //@Test
+    @Test
     public void testBigPrimzahl() {
         Primzahl big = Primzahl.after(1_000_000);
         assertEquals(1000003, big.intValue());
+        assertEquals(10_000_019, Primzahl.after(10_000_000).intValue());
+    }
+
+    /**
+     * Testmethode fuer {@link Primzahl#after(int)} fuer Zahlen kleiner 2.
+     */
+    @Test
+    public void testAfterOne() {
+        assertEquals(Primzahl.ZWEI, Primzahl.after(1));
+    }
+
+    @Test
+    public void testAfterMaxValue() {
+        assertThrows(ArithmeticException.class, () -> Primzahl.after(Integer.MAX_VALUE));
+    }
+
+    /**
+     * Testmethode fuer {@link Primzahl#isPrim(int)}.
+     */
+    @Test
+    public void testIsPrim() {
+        assertTrue(Primzahl.isPrim(2));
+        assertTrue(Primzahl.isPrim(1_000_003));
+        assertFalse(Primzahl.isPrim(1));
+        assertFalse(Primzahl.isPrim(1_000_001));
+    }
+
+    /**
+     * Testmethode fuer {@link Primzahl#primesBetween(int, int)}.
+     */
+    @Test
+    public void testPrimesBetween() {
+        List<Primzahl> primzahlen = Primzahl.primesBetween(10, 20).collect(Collectors.toList());
+        assertEquals(Arrays.asList(Primzahl.of(11), Primzahl.of(13), Primzahl.of(17), Primzahl.of(19)), primzahlen);
     }
 
     /**
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 18.10.2026 by oboehm (ob@oasd.de)
+ */
+package de.jfachwert.math;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-Tests fuer {@link RecordLayout}-Klasse.
+ *
+ * @author oboehm
+ */
+public final class RecordLayoutTest {
+
+    private final RecordLayout layout = new RecordLayout().zoned("nr", 4).filler(1).comp3("betrag", 4, 2);
+
+    @Test
+    public void testRecordLength() {
+        assertEquals(9, layout.getRecordLength());
+        assertEquals(0, new RecordLayout().getRecordLength());
+    }
+
+    @Test
+    public void testGetField() {
+        RecordLayout.Field betrag = layout.getField("betrag");
+        assertEquals(RecordLayout.Type.COMP3, betrag.getType());
+        assertEquals(5, betrag.getOffset());
+        assertEquals(7, betrag.getDigits());
+        assertEquals(2, betrag.getScale());
+        assertEquals(4, layout.getField("nr").getDigits());
+        assertEquals(1, layout.indexOf("betrag"));
+    }
+
+    @Test
+    public void testImmutable() {
+        RecordLayout erweitert = layout.comp3("anzahl", 2);
+        assertEquals(2, layout.getFields().size());
+        assertEquals(3, erweitert.getFields().size());
+        assertEquals(11, erweitert.getRecordLength());
+    }
+
+    @Test
+    public void testInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> layout.zoned("nr", 2));
+        assertThrows(IllegalArgumentException.class, () -> layout.comp3("x", 0));
+        assertThrows(IllegalArgumentException.class, () -> layout.comp3("x", 3, -1));
+        assertThrows(IllegalArgumentException.class, () -> layout.indexOf("unbekannt"));
+    }
+
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 18.10.2026 by oboehm (ob@oasd.de)
+ */
+package de.jfachwert.math;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-Tests fuer {@link RecordReader}-Klasse.
+ *
+ * @author oboehm
+ */
+public final class RecordReaderTest {
+
+    private static final RecordLayout LAYOUT = new RecordLayout().zoned("nr", 4).filler(1).comp3("betrag", 4, 2);
+    private static final int ANZAHL = 10_000;
+    private static Path testFile;
+    private static Path bigFile;
+
+    /**
+     * Die Testdatei enthaelt zwei Saetze: der erste Satz ist in EBCDIC, der
+     * zweite in ASCII kodiert.
+     */
+    @BeforeAll
+    public static void setUpTestFiles() throws IOException {
+        testFile = Files.createTempFile("records", ".dat");
+        Files.write(testFile, new byte[]{
+                (byte) 0xF0, (byte) 0xF0, (byte) 0xF4, (byte) 0xF2, 0x40, 0x12, 0x34, 0x56, 0x7C,
+                0x30, 0x30, 0x31, 0x73, 0x20, 0x00, 0x00, 0x10, 0x0D});
+        bigFile = Files.createTempFile("records", ".dat");
+        ByteBuffer buffer = ByteBuffer.allocate(ANZAHL * LAYOUT.getRecordLength());
+        for (int i = 0; i < ANZAHL; i++) {
+            for (char c : String.format("%04d", i).toCharArray()) {
+                buffer.put((byte) (0xF0 | (c - '0')));
+            }
+            buffer.put((byte) 0x40);
+            PackedDecimal.valueOf(i).toComp3(buffer, 4, 2);
+        }
+        Files.write(bigFile, buffer.array());
+    }
+
+    @AfterAll
+    public static void deleteTestFiles() throws IOException {
+        Files.delete(testFile);
+        Files.delete(bigFile);
+    }
+
+    @Test
+    public void testSize() throws IOException {
+        assertEquals(2, new RecordReader(testFile, LAYOUT).getSize());
+    }
+
+    @Test
+    public void testGetPackedDecimal() throws IOException {
+        RecordReader reader = new RecordReader(testFile, LAYOUT);
+        assertEquals(PackedDecimal.valueOf(42), reader.record(0).getPackedDecimal("nr"));
+        assertEquals(PackedDecimal.valueOf("12345.67"), reader.record(0).getPackedDecimal("betrag"));
+        assertEquals(PackedDecimal.valueOf(-13), reader.record(1).getPackedDecimal("nr"));
+        assertEquals(PackedDecimal.valueOf("-1.00"), reader.record(1).getPackedDecimal("betrag"));
+    }
+
+    @Test
+    public void testGetLong() throws IOException {
+        RecordReader.Record satz = new RecordReader(testFile, LAYOUT).record(0);
+        assertEquals(42L, satz.getLong("nr"));
+        assertEquals(1234567L, satz.getLong(1));
+    }
+
+    @Test
+    public void testGetBigDecimal() throws IOException {
+        RecordReader.Record satz = new RecordReader(testFile, LAYOUT).record(1);
+        assertEquals(new BigDecimal("-13"), satz.getBigDecimal("nr"));
+        assertEquals(new BigDecimal("-1.00"), satz.getBigDecimal("betrag"));
+    }
+
+    @Test
+    public void testInvalidIndex() throws IOException {
+        RecordReader reader = new RecordReader(testFile, LAYOUT);
+        assertThrows(IndexOutOfBoundsException.class, () -> reader.record(2));
+    }
+
+    @Test
+    public void testInvalidFileSize() {
+        RecordLayout layout = new RecordLayout().comp3("x", 4);
+        assertThrows(IllegalArgumentException.class, () -> new RecordReader(testFile, layout));
+    }
+
+    @Test
+    public void testInvalidContent() throws IOException {
+        RecordLayout layout = new RecordLayout().zoned("x", 9);
+        RecordReader.Record satz = new RecordReader(testFile, layout).record(0);
+        assertThrows(IllegalArgumentException.class, () -> satz.getLong("x"));
+    }
+
+    @Test
+    public void testForEach() throws IOException {
+        RecordReader reader = new RecordReader(bigFile, LAYOUT);
+        LongAdder summe = new LongAdder();
+        reader.forEach(satz -> {
+            assertEquals(satz.getIndex(), satz.getLong(0));
+            summe.add(satz.getLong("betrag"));
+        });
+        assertEquals((long) ANZAHL * (ANZAHL - 1) / 2 * 100, summe.sum());
+    }
+
+    @Test
+    public void testForEachParallel() throws IOException {
+        RecordReader reader = new RecordReader(bigFile, LAYOUT);
+        LongAdder summe = new LongAdder();
+        LongAdder anzahl = new LongAdder();
+        reader.forEachParallel(satz -> {
+            summe.add(satz.getLong("betrag"));
+            anzahl.increment();
+        });
+        assertEquals(ANZAHL, anzahl.sum());
+        assertEquals((long) ANZAHL * (ANZAHL - 1) / 2 * 100, summe.sum());
+    }
+
+    @Test
+    public void testRecordsParallel() throws IOException {
+        RecordReader reader = new RecordReader(bigFile, LAYOUT);
+        List<BigDecimal> betraege = reader.records().parallel().map(r -> r.getBigDecimal("betrag"))
+                .collect(Collectors.toList());
+        assertEquals(ANZAHL, betraege.size());
+        assertEquals(new BigDecimal("9999.00"), betraege.get(ANZAHL - 1));
+    }
+
+    @Test
+    public void testToString() throws IOException {
+        String s = new RecordReader(testFile, LAYOUT).record(0).toString();
+        assertEquals("Record#0(nr=42, betrag=12345.67)", s);
+    }
+
+}
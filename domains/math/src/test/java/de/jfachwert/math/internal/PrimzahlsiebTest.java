@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 18.10.2026 by oboehm (ob@oasd.de)
+ */
+package de.jfachwert.math.internal;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-Tests fuer {@link Primzahlsieb}-Klasse.
+ *
+ * @author oboehm
+ */
+public final class PrimzahlsiebTest {
+
+    private final Primzahlsieb sieb = new Primzahlsieb();
+
+    @Test
+    public void testIsPrim() {
+        for (int n = -10; n < 10_000; n++) {
+            assertEquals(isPrimNaiv(n), sieb.isPrim(n), "n=" + n);
+        }
+    }
+
+    /**
+     * Hier wird ueber die initiale Grenze des Siebs hinaus getestet,
+     * sodass das Sieb wachsen muss.
+     */
+    @Test
+    public void testIsPrimAfterGrowing() {
+        for (int n = 200_000; n < 210_000; n++) {
+            assertEquals(isPrimNaiv(n), sieb.isPrim(n), "n=" + n);
+        }
+        assertThat(sieb.getLimit(), greaterThanOrEqualTo(210_000));
+    }
+
+    @Test
+    public void testIsPrimBeyondLimit() {
+        assertTrue(sieb.isPrim(Integer.MAX_VALUE));
+        assertTrue(sieb.isPrim(1_000_000_007));
+        assertFalse(sieb.isPrim(1_000_000_007 * 2 + 1 - 2));
+        assertEquals(isPrimNaiv(2_000_000_011), sieb.isPrim(2_000_000_011));
+    }
+
+    @Test
+    public void testAfter() {
+        assertEquals(2, sieb.after(-1));
+        assertEquals(2, sieb.after(1));
+        assertEquals(3, sieb.after(2));
+        assertEquals(5, sieb.after(3));
+        assertEquals(1_000_003, sieb.after(1_000_000));
+        assertEquals(1_000_000_007, sieb.after(1_000_000_000));
+        assertEquals(Primzahlsieb.MAX_PRIMZAHL, sieb.after(Integer.MAX_VALUE - 1));
+        assertEquals(-1, sieb.after(Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void testAfterAtMaxLimit() {
+        int n = sieb.after(Primzahlsieb.MAX_LIMIT - 1);
+        assertTrue(isPrimNaiv(n));
+        for (int i = Primzahlsieb.MAX_LIMIT; i < n; i++) {
+            assertFalse(isPrimNaiv(i));
+        }
+    }
+
+    @Test
+    public void testPrimesBetween() {
+        List<Integer> expected = IntStream.rangeClosed(90, 1_000).filter(PrimzahlsiebTest::isPrimNaiv).boxed()
+                .collect(Collectors.toList());
+        assertEquals(expected, sieb.primesBetween(90, 1_000).boxed().collect(Collectors.toList()));
+        assertEquals(0, sieb.primesBetween(24, 28).count());
+        assertEquals(0, sieb.primesBetween(10, 1).count());
+        assertEquals(2, sieb.primesBetween(2, 3).count());
+    }
+
+    @Test
+    public void testPrimesBetweenBeyondLimit() {
+        int von = Primzahlsieb.MAX_LIMIT - 100;
+        int bis = Primzahlsieb.MAX_LIMIT + 100;
+        List<Integer> expected = IntStream.rangeClosed(von, bis).filter(PrimzahlsiebTest::isPrimNaiv).boxed()
+                .collect(Collectors.toList());
+        assertEquals(expected, sieb.primesBetween(von, bis).boxed().collect(Collectors.toList()));
+    }
+
+    /**
+     * Mehrere Threads lassen das Sieb gleichzeitig wachsen.
+     */
+    @Test
+    public void testConcurrentGrowing() throws InterruptedException, ExecutionException {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int i = 1; i <= 8; i++) {
+                int zahl = i * 250_000;
+                futures.add(executor.submit(() -> sieb.after(zahl)));
+            }
+            for (int i = 1; i <= 8; i++) {
+                int p = futures.get(i - 1).get();
+                assertTrue(isPrimNaiv(p));
+                assertEquals(p, sieb.after(i * 250_000));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static boolean isPrimNaiv(int n) {
+        if (n < 2) {
+            return false;
+        }
+        for (long t = 2; t * t <= n; t++) {
+            if (n % t == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
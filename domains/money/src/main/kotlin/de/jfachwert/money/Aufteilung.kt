@@ -0,0 +1,412 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 18.10.2026 by oboehm (ob@oasd.de)
+ */
+package de.jfachwert.money
+
+import de.jfachwert.math.AbstractNumber
+import de.jfachwert.math.Bruch
+import de.jfachwert.math.PackedDecimal
+import de.jfachwert.pruefung.exception.LocalizedIllegalArgumentException
+import java.math.BigDecimal
+import java.math.BigInteger
+import java.util.*
+import java.util.stream.Collectors
+import java.util.stream.IntStream
+import java.util.stream.Stream
+import javax.money.MonetaryAmount
+
+/**
+ * Mit der Aufteilung laesst sich ein [Geldbetrag] nach einem
+ * Verteilungsschluessel auf mehrere Empfaenger (z.B. Kostenstellen)
+ * aufteilen. Die Gewichte koennen als [Bruch], [de.jfachwert.math.Prozent],
+ * [de.jfachwert.math.Promille] oder als ganze Zahlen angegeben werden. Sie
+ * werden relativ zueinander betrachtet, d.h. die Gewichte 1, 1 und 2 teilen
+ * einen Betrag im Verhaeltnis 25 %, 25 % und 50 % auf.
+ *
+ * Gerechnet wird exakt mit ganzen Zahlen: alle Gewichte werden beim Anlegen
+ * auf einen gemeinsamen Nenner gebracht, jeder Anteil wird abgerundet und
+ * die verbleibenden Cents werden nach dem Verfahren der groessten Reste
+ * (Hare-Niemeyer) verteilt. Damit ergibt die Summe der Anteile immer genau
+ * den aufgeteilten Betrag. Bei gleichen Resten kommt der Empfaenger mit
+ * dem kleineren Index zuerst zum Zug.
+ *
+ * Die Gewichte werden intern als long-Array gehalten; nur wenn sie dafuer
+ * zu gross werden, wird auf [BigInteger] ausgewichen. Eine Aufteilung ist
+ * unveraenderlich und kann fuer beliebig viele Betraege (auch parallel)
+ * verwendet werden:
+ * <pre>
+ * Aufteilung schluessel = Aufteilung.of(Prozent.of(50), Prozent.of(30), Prozent.of(20));
+ * List&lt;Geldbetrag&gt; anteile = schluessel.verteile(Geldbetrag.of("100 EUR"));
+ * </pre>
+ *
+ * @author oboehm
+ * @since 6.8 (18.10.2026)
+ */
+class Aufteilung private constructor(private val gewichte: LongArray?, private val summe: Long,
+                                     private val grosseGewichte: Array<BigInteger>?) {
+
+    /**
+     * Liefert die Anzahl der Empfaenger.
+     *
+     * @return Anzahl der Gewichte
+     */
+    val size: Int
+        get() = gewichte?.size ?: grosseGewichte!!.size
+
+    /**
+     * Teilt den Betrag nach dem Verteilungsschluessel auf.
+     *
+     * @param betrag aufzuteilender Betrag
+     * @return Anteile in der Reihenfolge der Gewichte
+     */
+    fun verteile(betrag: MonetaryAmount): List<Geldbetrag> {
+        return verteile(betrag, false).collect(Collectors.toList())
+    }
+
+    /**
+     * Teilt den Betrag nach dem Verteilungsschluessel auf. Die Berechnung
+     * der Anteile und die Suche nach den groessten Resten erfolgt dabei
+     * parallel, was sich erst bei sehr vielen Empfaengern lohnt.
+     *
+     * @param betrag aufzuteilender Betrag
+     * @return Anteile in der Reihenfolge der Gewichte
+     */
+    fun verteileParallel(betrag: MonetaryAmount): List<Geldbetrag> {
+        return verteile(betrag, true).collect(Collectors.toList())
+    }
+
+    /**
+     * Teilt den Betrag nach dem Verteilungsschluessel auf und liefert die
+     * Anteile als Stream. Intern werden dabei nur die Einheiten (z.B.
+     * Cents) als long-Array gehalten; die einzelnen [Geldbetrag]-Objekte
+     * werden erst beim Durchlaufen des Streams angelegt.
+     *
+     * @param betrag aufzuteilender Betrag
+     * @return Anteile in der Reihenfolge der Gewichte
+     */
+    fun stream(betrag: MonetaryAmount): Stream<Geldbetrag> {
+        return verteile(betrag, false)
+    }
+
+    private fun verteile(betrag: MonetaryAmount, parallel: Boolean): Stream<Geldbetrag> {
+        val geldbetrag = Geldbetrag.of(betrag)
+        val waehrung = geldbetrag.currency
+        val wert = geldbetrag.getBetrag()
+        val scale = maxOf(waehrung.defaultFractionDigits, wert.stripTrailingZeros().scale(), 0)
+        val einheiten = wert.setScale(scale).unscaledValue()
+        return if (einheiten.bitLength() < 64) {
+            val anteile = verteile(einheiten.toLong(), parallel)
+            IntStream.range(0, anteile.size).mapToObj { Geldbetrag.of(BigDecimal.valueOf(anteile[it], scale), waehrung) }
+        } else {
+            Arrays.stream(verteileGross(einheiten)).map { Geldbetrag.of(BigDecimal(it, scale), waehrung) }
+        }
+    }
+
+    /**
+     * Teilt die angegebene Anzahl von Einheiten (z.B. Cents) nach dem
+     * Verteilungsschluessel auf.
+     *
+     * @param einheiten Anzahl der Einheiten, z.B. 10000 fuer 100 EUR
+     * @return Einheiten pro Empfaenger, deren Summe wieder 'einheiten' ergibt
+     */
+    fun verteile(einheiten: Long): LongArray {
+        return verteile(einheiten, false)
+    }
+
+    private fun verteile(einheiten: Long, parallel: Boolean): LongArray {
+        if (gewichte == null || einheiten == Long.MIN_VALUE) {
+            return verteileGross(BigInteger.valueOf(einheiten)).map { it.toLong() }.toLongArray()
+        }
+        val betrag = Math.abs(einheiten)
+        val n = gewichte.size
+        val anteile = LongArray(n)
+        val reste = LongArray(n)
+        var indizes = IntStream.range(0, n)
+        if (parallel) {
+            indizes = indizes.parallel()
+        }
+        indizes.forEach { i ->
+            val high = Math.multiplyHigh(betrag, gewichte[i])
+            val low = betrag * gewichte[i]
+            if (high == 0L && low >= 0) {
+                anteile[i] = low / summe
+                reste[i] = low % summe
+            } else {
+                val qr = BigInteger.valueOf(betrag).multiply(BigInteger.valueOf(gewichte[i]))
+                        .divideAndRemainder(BigInteger.valueOf(summe))
+                anteile[i] = qr[0].toLong()
+                reste[i] = qr[1].toLong()
+            }
+        }
+        var rest = betrag
+        for (a in anteile) {
+            rest -= a
+        }
+        if (rest > 0) {
+            verteileRest(anteile, reste, rest.toInt(), parallel)
+        }
+        if (einheiten < 0) {
+            for (i in anteile.indices) {
+                anteile[i] = -anteile[i]
+            }
+        }
+        return anteile
+    }
+
+    /**
+     * Verteilt den Rest auf die Empfaenger mit den groessten Resten. Dazu
+     * wird eine Kopie der Reste (als primitives Array, bei paralleler
+     * Aufteilung mit parallelSort) vollstaendig sortiert, um daraus den
+     * kleinsten Rest zu ermitteln, der gerade noch zum Zug kommt
+     * (Schwelle). Die Indizes selbst werden nicht sortiert; bei gleichen
+     * Resten gewinnt der kleinere Index.
+     */
+    private fun verteileRest(anteile: LongArray, reste: LongArray, rest: Int, parallel: Boolean) {
+        val sortiert = reste.copyOf()
+        if (parallel) {
+            Arrays.parallelSort(sortiert)
+        } else {
+            Arrays.sort(sortiert)
+        }
+        val schwelle = sortiert[sortiert.size - rest]
+        var groesser = 0
+        for (i in sortiert.size - 1 downTo 0) {
+            if (sortiert[i] <= schwelle) {
+                break
+            }
+            groesser++
+        }
+        var gleich = rest - groesser
+        for (i in anteile.indices) {
+            if (reste[i] > schwelle) {
+                anteile[i]++
+            } else if (reste[i] == schwelle && gleich > 0) {
+                anteile[i]++
+                gleich--
+            }
+        }
+    }
+
+    private fun verteileGross(einheiten: BigInteger): Array<BigInteger> {
+        val gewichte = grosseGewichte ?: this.gewichte!!.map { BigInteger.valueOf(it) }.toTypedArray()
+        val summe = if (grosseGewichte == null) BigInteger.valueOf(this.summe) else grosseGewichte.reduce(BigInteger::add)
+        val betrag = einheiten.abs()
+        val anteile = arrayOfNulls<BigInteger>(gewichte.size)
+        val reste = arrayOfNulls<BigInteger>(gewichte.size)
+        var rest = betrag
+        for (i in gewichte.indices) {
+            val qr = betrag.multiply(gewichte[i]).divideAndRemainder(summe)
+            anteile[i] = qr[0]
+            reste[i] = qr[1]
+            rest = rest.subtract(qr[0])
+        }
+        val reihenfolge = (gewichte.indices).sortedWith(Comparator { a, b -> reste[b]!!.compareTo(reste[a]!!) })
+        for (k in 0 until rest.toInt()) {
+            val i = reihenfolge[k]
+            anteile[i] = anteile[i]!!.add(BigInteger.ONE)
+        }
+        return anteile.map { if (einheiten.signum() < 0) it!!.negate() else it!! }.toTypedArray()
+    }
+
+    override fun toString(): String {
+        return "Aufteilung($size Gewichte)"
+    }
+
+
+
+    companion object {
+
+        /**
+         * Legt einen Verteilungsschluessel mit den angegebenen Gewichten an.
+         *
+         * @param gewichte Gewichte als [Bruch], [de.jfachwert.math.Prozent],
+         * [de.jfachwert.math.Promille] oder ganze Zahlen
+         * @return Aufteilung
+         */
+        @JvmStatic
+        fun of(vararg gewichte: Number): Aufteilung {
+            return of(gewichte.asList())
+        }
+
+        /**
+         * Legt einen Verteilungsschluessel mit den angegebenen Gewichten an.
+         *
+         * @param gewichte Gewichte als [Bruch], [de.jfachwert.math.Prozent],
+         * [de.jfachwert.math.Promille] oder ganze Zahlen
+         * @return Aufteilung
+         */
+        @JvmStatic
+        fun of(gewichte: Iterable<Number>): Aufteilung {
+            val sammler = Sammler()
+            gewichte.forEach { sammler.add(it) }
+            return sammler.toAufteilung()
+        }
+
+        /**
+         * Legt einen Verteilungsschluessel mit den Gewichten aus dem Stream
+         * an. Die Gewichte werden dabei nicht zwischengespeichert, sondern
+         * direkt in ein long-Array uebernommen, sodass sich auch sehr viele
+         * Empfaenger ohne grossen Speicherbedarf einlesen lassen.
+         *
+         * @param gewichte Gewichte als [Bruch], [de.jfachwert.math.Prozent],
+         * [de.jfachwert.math.Promille] oder ganze Zahlen
+         * @return Aufteilung
+         */
+        @JvmStatic
+        fun of(gewichte: Stream<out Number>): Aufteilung {
+            val sammler = Sammler()
+            gewichte.forEachOrdered { sammler.add(it) }
+            return sammler.toAufteilung()
+        }
+
+        /**
+         * Legt einen Verteilungsschluessel mit ganzzahligen Gewichten an.
+         *
+         * @param gewichte ganzzahlige Gewichte
+         * @return Aufteilung
+         */
+        @JvmStatic
+        fun of(gewichte: LongArray): Aufteilung {
+            val sammler = Sammler()
+            gewichte.forEach { sammler.add(it, 1) }
+            return sammler.toAufteilung()
+        }
+
+        private fun ggt(x: Long, y: Long): Long {
+            var a = x
+            var b = y
+            while (b != 0L) {
+                val t = a % b
+                a = b
+                b = t
+            }
+            return a
+        }
+
+    }
+
+    /**
+     * Der Sammler nimmt die Gewichte als Bruch (Zaehler und Nenner) auf.
+     * Gewichte, die nicht in ein long passen, werden getrennt abgelegt.
+     */
+    private class Sammler {
+
+        private var zaehler = LongArray(16)
+        private var nenner = LongArray(16)
+        private var anzahl = 0
+        private val grosse = TreeMap<Int, Array<BigInteger>>()
+
+        fun add(gewicht: Number) {
+            when (gewicht) {
+                is Long, is Int, is Short, is Byte -> add(gewicht.toLong(), 1)
+                is BigInteger -> add(gewicht, BigInteger.ONE, gewicht)
+                is Bruch -> {
+                    val gekuerzt = gewicht.kuerzen()
+                    add(gekuerzt.zaehler, gekuerzt.nenner, gewicht)
+                }
+                is PackedDecimal -> add(gewicht.toBruch())
+                is BigDecimal -> add(gewicht, gewicht)
+                is AbstractNumber -> add(gewicht.toBigDecimal(), gewicht)
+                else -> add(BigDecimal(gewicht.toString()), gewicht)
+            }
+        }
+
+        private fun add(dezimal: BigDecimal, gewicht: Number) {
+            if (dezimal.scale() <= 0) {
+                add(dezimal.toBigIntegerExact(), BigInteger.ONE, gewicht)
+            } else {
+                add(dezimal.unscaledValue(), BigInteger.TEN.pow(dezimal.scale()), gewicht)
+            }
+        }
+
+        private fun add(z: BigInteger, n: BigInteger, gewicht: Number) {
+            if (n.signum() <= 0 || z.signum() < 0) {
+                throw LocalizedIllegalArgumentException(gewicht.toString(), "weight")
+            }
+            if (z.bitLength() < 64 && n.bitLength() < 64) {
+                add(z.toLong(), n.toLong())
+            } else {
+                grosse[anzahl] = arrayOf(z, n)
+                add(0, 1)
+            }
+        }
+
+        fun add(z: Long, n: Long) {
+            if (z < 0) {
+                throw LocalizedIllegalArgumentException(z, "weight")
+            }
+            if (anzahl == zaehler.size) {
+                zaehler = zaehler.copyOf(anzahl * 2)
+                nenner = nenner.copyOf(anzahl * 2)
+            }
+            zaehler[anzahl] = z
+            nenner[anzahl] = n
+            anzahl++
+        }
+
+        fun toAufteilung(): Aufteilung {
+            if (grosse.isEmpty()) {
+                try {
+                    return toLongAufteilung()
+                } catch (ex: ArithmeticException) {
+                    // Ueberlauf, daher weiter mit BigInteger
+                }
+            }
+            return toGrosseAufteilung()
+        }
+
+        private fun toLongAufteilung(): Aufteilung {
+            var hauptnenner = 1L
+            for (i in 0 until anzahl) {
+                val n = nenner[i]
+                if (hauptnenner % n != 0L) {
+                    hauptnenner = Math.multiplyExact(hauptnenner / ggt(hauptnenner, n), n)
+                }
+            }
+            val gewichte = LongArray(anzahl)
+            var summe = 0L
+            for (i in 0 until anzahl) {
+                gewichte[i] = Math.multiplyExact(zaehler[i], hauptnenner / nenner[i])
+                summe = Math.addExact(summe, gewichte[i])
+            }
+            checkSumme(BigInteger.valueOf(summe))
+            return Aufteilung(gewichte, summe, null)
+        }
+
+        private fun toGrosseAufteilung(): Aufteilung {
+            var hauptnenner = BigInteger.ONE
+            for (i in 0 until anzahl) {
+                val n = grosse[i]?.get(1) ?: BigInteger.valueOf(nenner[i])
+                hauptnenner = hauptnenner.divide(hauptnenner.gcd(n)).multiply(n)
+            }
+            val gewichte = Array(anzahl) { i ->
+                val bruch = grosse[i] ?: arrayOf(BigInteger.valueOf(zaehler[i]), BigInteger.valueOf(nenner[i]))
+                bruch[0].multiply(hauptnenner.divide(bruch[1]))
+            }
+            checkSumme(gewichte.fold(BigInteger.ZERO, BigInteger::add))
+            return Aufteilung(null, 0, gewichte)
+        }
+
+        private fun checkSumme(summe: BigInteger) {
+            if (summe.signum() <= 0) {
+                throw LocalizedIllegalArgumentException(summe, "weight")
+            }
+        }
+
+    }
+
+}
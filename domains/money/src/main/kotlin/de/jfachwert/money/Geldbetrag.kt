@@ -56,7 +56,7 @@ import javax.money.format.MonetaryParseException
 @JsonSerialize(using = ToStringSerializer::class)
 open class Geldbetrag @JvmOverloads constructor(betrag: Number, currency: CurrencyUnit, context: MonetaryContext = FACTORY.getMonetaryContextOf(betrag)) : MonetaryAmount, Comparable<MonetaryAmount>, KFachwert {
 
-    private val betrag: BigDecimal
+    internal val betrag: BigDecimal
     private val context: MonetaryContext
 
     // Eine Umstellung auf 'Waehrung' oder 'Currency' fuehrt leider dazu, dass
@@ -813,6 +813,18 @@ open class Geldbetrag @JvmOverloads constructor(betrag: Number, currency: Curren
         return DEFAULT_FORMATTER.format(this)
     }
 
+    /**
+     * Liefert den Betrag ohne Formatierung mit voller Genauigkeit und dem
+     * Waehrungscode, z.B. "12.30 EUR". Im Gegensatz zu [toString] ist diese
+     * Ausgabe unabhaengig von der Locale.
+     *
+     * @return z.B. "12.30 EUR"
+     * @since 6.8 (18.10.2026)
+     */
+    internal fun toPlainString(): String {
+        return betrag.toPlainString() + " " + currency.currencyCode
+    }
+
     /**
      * Hier wird der Geldbetrag mit voller Genauigkeit ausgegeben.
      *
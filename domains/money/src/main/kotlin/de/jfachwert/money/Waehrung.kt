@@ -24,6 +24,7 @@ import de.jfachwert.KSimpleValidator
 import de.jfachwert.money.pruefung.exception.LocalizedUnknownCurrencyException
 import de.jfachwert.pruefung.NullValidator
 import de.jfachwert.pruefung.exception.InvalidValueException
+import de.jfachwert.util.Instrumentierung
 import java.util.*
 import java.util.logging.Level
 import java.util.logging.Logger
@@ -76,7 +77,7 @@ open class Waehrung protected constructor(code: Currency, validator: KSimpleVali
         @JvmStatic
         fun of(currency: Currency): Waehrung {
             val key = currency.currencyCode
-            return CACHE.computeIfAbsent(key) { _: String? -> Waehrung(currency) }
+            return Instrumentierung.cache(Waehrung::class.java, CACHE, key) { _: String -> Waehrung(currency) }
         }
 
         /**
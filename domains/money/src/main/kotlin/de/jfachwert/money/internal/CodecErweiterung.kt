@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 18.10.2026 by oboehm (ob@oasd.de)
+ */
+package de.jfachwert.money.internal
+
+import de.jfachwert.money.Geldbetrag
+import de.jfachwert.money.Waehrung
+import de.jfachwert.util.FachwertCodec
+import java.math.BigDecimal
+import java.math.BigInteger
+import java.nio.ByteBuffer
+import java.nio.charset.StandardCharsets
+import java.util.*
+import javax.money.CurrencyUnit
+
+/**
+ * Registriert die Kodierer fuer Geldbetrag und Waehrung beim
+ * [FachwertCodec]. Die Waehrung wird ueber ihren numerischen ISO-Code
+ * abgelegt, der Betrag als Varint (ohne Komma) mit Anzahl der
+ * Nachkommastellen. Der MonetaryContext wird nicht mitgeschrieben, sondern
+ * beim Lesen wie bei [Geldbetrag.valueOf] ermittelt. Ein Betrag wie
+ * "12.30 EUR" belegt damit nur 7 Bytes.
+ *
+ * @author oboehm
+ * @since 6.8 (18.10.2026)
+ */
+class CodecErweiterung : FachwertCodec.Erweiterung {
+
+    override fun registriere(codec: FachwertCodec) {
+        codec.add(30, Geldbetrag::class.java, GeldbetragKodierer)
+        codec.add(31, Waehrung::class.java, WaehrungKodierer)
+    }
+
+    private object GeldbetragKodierer : FachwertCodec.Kodierer<Geldbetrag> {
+
+        override fun schreibe(wert: Geldbetrag, buffer: ByteBuffer) {
+            schreibeWaehrung(wert.currency, buffer)
+            val betrag = wert.betrag
+            val unscaled = betrag.unscaledValue()
+            if (unscaled.bitLength() < 64) {
+                FachwertCodec.putSignedVarLong(buffer, betrag.scale().toLong() shl 1)
+                FachwertCodec.putSignedVarLong(buffer, unscaled.toLong())
+            } else {
+                FachwertCodec.putSignedVarLong(buffer, (betrag.scale().toLong() shl 1) or 1)
+                buffer.put(unscaled.toByteArray())
+            }
+        }
+
+        override fun lese(buffer: ByteBuffer, laenge: Int): Geldbetrag {
+            val start = buffer.position()
+            val waehrung = leseWaehrung(buffer)
+            val skala = FachwertCodec.getSignedVarLong(buffer)
+            val unscaled = if (skala and 1 == 0L) {
+                BigInteger.valueOf(FachwertCodec.getSignedVarLong(buffer))
+            } else {
+                val bytes = ByteArray(laenge - (buffer.position() - start))
+                buffer.get(bytes)
+                BigInteger(bytes)
+            }
+            return Geldbetrag.valueOf(BigDecimal(unscaled, (skala shr 1).toInt()), waehrung)
+        }
+
+    }
+
+    private object WaehrungKodierer : FachwertCodec.Kodierer<Waehrung> {
+
+        override fun schreibe(wert: Waehrung, buffer: ByteBuffer) {
+            schreibeWaehrung(wert, buffer)
+        }
+
+        override fun lese(buffer: ByteBuffer, laenge: Int): Waehrung {
+            return leseWaehrung(buffer)
+        }
+
+    }
+
+    companion object {
+
+        private val NUMERISCH: Map<Int, Currency> by lazy {
+            val map = HashMap<Int, Currency>()
+            val doppelt = HashSet<Int>()
+            for (currency in Currency.getAvailableCurrencies()) {
+                if (currency.numericCode > 0 && map.put(currency.numericCode, currency) != null) {
+                    doppelt.add(currency.numericCode)
+                }
+            }
+            map.keys.removeAll(doppelt)
+            map
+        }
+
+        /**
+         * Schreibt den numerischen ISO-Code der Waehrung. Ist er nicht
+         * eindeutig, wird stattdessen 0 und der Waehrungscode geschrieben.
+         */
+        private fun schreibeWaehrung(currency: CurrencyUnit, buffer: ByteBuffer) {
+            val code = currency.numericCode
+            if (NUMERISCH[code]?.currencyCode == currency.currencyCode) {
+                FachwertCodec.putVarInt(buffer, code)
+            } else {
+                FachwertCodec.putVarInt(buffer, 0)
+                val bytes = currency.currencyCode.toByteArray(StandardCharsets.UTF_8)
+                FachwertCodec.putVarInt(buffer, bytes.size)
+                buffer.put(bytes)
+            }
+        }
+
+        private fun leseWaehrung(buffer: ByteBuffer): Waehrung {
+            val code = FachwertCodec.getVarInt(buffer)
+            if (code == 0) {
+                return Waehrung.of(FachwertCodec.getString(buffer, FachwertCodec.getVarInt(buffer)))
+            }
+            val currency = NUMERISCH[code] ?: throw IllegalArgumentException("unknown numeric currency code $code")
+            return Waehrung.of(currency)
+        }
+
+    }
+
+}
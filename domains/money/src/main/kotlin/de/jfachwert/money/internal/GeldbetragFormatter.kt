@@ -27,6 +27,7 @@ import de.jfachwert.pruefung.NullValidator
 import de.jfachwert.pruefung.NumberValidator
 import de.jfachwert.pruefung.exception.InvalidValueException
 import de.jfachwert.pruefung.exception.ValidationException
+import de.jfachwert.util.Instrumentierung
 import org.apache.commons.lang3.StringUtils
 import java.io.IOException
 import java.math.BigDecimal
@@ -116,7 +117,15 @@ class GeldbetragFormatter private constructor(
      */
     @Throws(IOException::class)
     override fun print(appendable: Appendable, amount: MonetaryAmount) {
-        val currency = amount.currency
+        val start = Instrumentierung.start()
+        try {
+            print(appendable, amount, amount.currency)
+        } finally {
+            Instrumentierung.dauer(Geldbetrag::class.java, "format", start)
+        }
+    }
+
+    private fun print(appendable: Appendable, amount: MonetaryAmount, currency: CurrencyUnit) {
         val fractionDigits = getFractionDigits(currency)
         val currencyString = getCurrencyString(currency)
         synchronized(context) {
@@ -167,7 +176,12 @@ class GeldbetragFormatter private constructor(
      */
     @Throws(MonetaryParseException::class)
     override fun parse(text: CharSequence): MonetaryAmount {
-        return parse(Objects.toString(text))
+        val start = Instrumentierung.start()
+        try {
+            return parse(Objects.toString(text))
+        } finally {
+            Instrumentierung.dauer(Geldbetrag::class.java, "parse", start)
+        }
     }
 
     @Throws(MonetaryParseException::class)
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 18.10.2026 by oboehm (ob@oasd.de)
+ */
+package de.jfachwert.money.internal
+
+import de.jfachwert.money.Geldbetrag
+import de.jfachwert.money.Waehrung
+import de.jfachwert.util.FachwertModule
+
+/**
+ * Registriert die Serializer und Deserializer fuer Geldbetrag und Waehrung
+ * beim [FachwertModule]. Ein Geldbetrag wird dabei ohne Formatierung mit
+ * voller Genauigkeit und Waehrungscode (z.B. "12.30 EUR") geschrieben. Beim
+ * Lesen wird dieses Format direkt zerlegt; andere Formate (wie "12,30 EUR")
+ * werden weiterhin ueber den GeldbetragFormatter geparst.
+ *
+ * @author oboehm
+ * @since 6.8 (18.10.2026)
+ */
+class JsonErweiterung : FachwertModule.Erweiterung {
+
+    override fun registriere(module: FachwertModule) {
+        module.addFachwert(Geldbetrag::class.java, Geldbetrag::toPlainString, ::toGeldbetrag)
+        module.addFachwert(Waehrung::class.java, Waehrung::getCurrencyCode, Waehrung::of)
+    }
+
+    private fun toGeldbetrag(s: String): Geldbetrag {
+        val i = s.length - 4
+        if (i > 0 && s[i] == ' ') {
+            val betrag = s.substring(0, i).toBigDecimalOrNull()
+            if (betrag != null) {
+                return Geldbetrag.valueOf(betrag, Waehrung.of(s.substring(i + 1)))
+            }
+        }
+        return Geldbetrag.valueOf(s)
+    }
+
+}
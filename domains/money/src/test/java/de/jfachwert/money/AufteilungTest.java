@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 18.10.2026 by oboehm (ob@oasd.de)
+ */
+package de.jfachwert.money;
+
+import de.jfachwert.math.Bruch;
+import de.jfachwert.math.Promille;
+import de.jfachwert.math.Prozent;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-Tests fuer {@link Aufteilung}-Klasse.
+ *
+ * @author oboehm
+ */
+public final class AufteilungTest {
+
+    private static final Geldbetrag HUNDERT_EURO = Geldbetrag.of("100 EUR");
+
+    @Test
+    public void testVerteileDrittel() {
+        List<Geldbetrag> anteile = Aufteilung.of(1, 1, 1).verteile(HUNDERT_EURO);
+        assertEquals(Arrays.asList(Geldbetrag.of("33.34 EUR"), Geldbetrag.of("33.33 EUR"), Geldbetrag.of("33.33 EUR")),
+                anteile);
+    }
+
+    @Test
+    public void testVerteileBruch() {
+        Aufteilung aufteilung = Aufteilung.of(Bruch.of(1, 3), Bruch.of(1, 3), Bruch.of(1, 3));
+        assertEquals(Aufteilung.of(1, 1, 1).verteile(HUNDERT_EURO), aufteilung.verteile(HUNDERT_EURO));
+    }
+
+    @Test
+    public void testVerteileProzent() {
+        Aufteilung aufteilung = Aufteilung.of(Prozent.of(50), Prozent.of(30), Prozent.of(20));
+        assertEquals(Arrays.asList(Geldbetrag.of("50 EUR"), Geldbetrag.of("30 EUR"), Geldbetrag.of("20 EUR")),
+                aufteilung.verteile(HUNDERT_EURO));
+    }
+
+    @Test
+    public void testVerteilePromille() {
+        Aufteilung aufteilung = Aufteilung.of(Promille.of(333), Promille.of(667));
+        assertArrayEquals(new long[]{333, 667}, aufteilung.verteile(1000));
+    }
+
+    /**
+     * Bei 10 Cent auf 3 Empfaenger (2:2:1) bleiben 10*2/5 = 4, 4 und 2 Cent,
+     * ohne Rest. Bei 11 Cent bekommt der groesste Rest den Cent.
+     */
+    @Test
+    public void testGroessterRest() {
+        Aufteilung aufteilung = Aufteilung.of(2, 2, 1);
+        assertArrayEquals(new long[]{4, 4, 2}, aufteilung.verteile(10));
+        assertArrayEquals(new long[]{5, 4, 2}, aufteilung.verteile(11));
+        assertArrayEquals(new long[]{1, 0, 0}, Aufteilung.of(1, 1, 1).verteile(1));
+        assertArrayEquals(new long[]{0, 1, 0}, Aufteilung.of(1, 5, 1).verteile(1));
+    }
+
+    @Test
+    public void testVerteileNegativ() {
+        assertArrayEquals(new long[]{-34, -33, -33}, Aufteilung.of(1, 1, 1).verteile(-100));
+    }
+
+    @Test
+    public void testVerteileNull() {
+        assertArrayEquals(new long[]{0, 0}, Aufteilung.of(1, 1).verteile(0));
+    }
+
+    @Test
+    public void testGewichtNull() {
+        assertArrayEquals(new long[]{50, 0, 50}, Aufteilung.of(1, 0, 1).verteile(100));
+    }
+
+    @Test
+    public void testInvalidGewichte() {
+        assertThrows(IllegalArgumentException.class, () -> Aufteilung.of(1, -1));
+        assertThrows(IllegalArgumentException.class, () -> Aufteilung.of(0, 0));
+        assertThrows(IllegalArgumentException.class, () -> Aufteilung.of());
+    }
+
+    @Test
+    public void testGrosseBetraege() {
+        long[] anteile = Aufteilung.of(1, 2).verteile(Long.MAX_VALUE);
+        assertEquals(Long.MAX_VALUE, anteile[0] + anteile[1]);
+        anteile = Aufteilung.of(1, 1).verteile(Long.MIN_VALUE);
+        assertArrayEquals(new long[]{Long.MIN_VALUE / 2, Long.MIN_VALUE / 2}, anteile);
+    }
+
+    /**
+     * Die Nenner sind hier so gewaehlt, dass ihr kgV nicht mehr in ein long
+     * passt.
+     */
+    @Test
+    public void testGrosseNenner() {
+        long[] primzahlen = {1_000_000_007L, 998_244_353L, 1_000_000_009L};
+        Aufteilung aufteilung = Aufteilung.of(Bruch.of(1, primzahlen[0]), Bruch.of(1, primzahlen[1]),
+                Bruch.of(1, primzahlen[2]));
+        long[] anteile = aufteilung.verteile(1_000_000);
+        assertEquals(1_000_000, LongStream.of(anteile).sum());
+        assertArrayEquals(new long[]{333_138, 333_724, 333_138}, anteile);
+    }
+
+    @Test
+    public void testBigInteger() {
+        BigInteger gross = BigInteger.TEN.pow(30);
+        assertArrayEquals(new long[]{25, 75}, Aufteilung.of(gross, gross.multiply(BigInteger.valueOf(3))).verteile(100));
+    }
+
+    @Test
+    public void testStream() {
+        Aufteilung aufteilung = Aufteilung.of(LongStream.rangeClosed(1, 1000).boxed());
+        assertEquals(1000, aufteilung.getSize());
+        List<Geldbetrag> anteile = aufteilung.stream(HUNDERT_EURO).collect(Collectors.toList());
+        assertEquals(aufteilung.verteile(HUNDERT_EURO), anteile);
+        assertEquals(HUNDERT_EURO, anteile.stream().reduce(Geldbetrag.ZERO.withCurrency("EUR"), Geldbetrag::add));
+    }
+
+    /**
+     * Auch bei vielen Empfaengern muss die parallele Variante dasselbe
+     * Ergebnis liefern und die Summe wieder den Ausgangsbetrag ergeben.
+     */
+    @Test
+    public void testVerteileParallel() {
+        Random random = new Random(4711);
+        long[] gewichte = new long[200_000];
+        for (int i = 0; i < gewichte.length; i++) {
+            gewichte[i] = random.nextInt(1000);
+        }
+        Aufteilung aufteilung = Aufteilung.of(gewichte);
+        Geldbetrag betrag = Geldbetrag.of("1234567.89 EUR");
+        List<Geldbetrag> anteile = aufteilung.verteileParallel(betrag);
+        assertEquals(aufteilung.verteile(betrag), anteile);
+        long[] cents = aufteilung.verteile(123_456_789L);
+        assertEquals(123_456_789L, LongStream.of(cents).sum());
+    }
+
+    /**
+     * Beim Yen gibt es keine Nachkommastellen, weswegen hier auf ganze
+     * Yen aufgeteilt wird.
+     */
+    @Test
+    public void testVerteileYen() {
+        List<Geldbetrag> anteile = Aufteilung.of(1, 1, 1).verteile(Geldbetrag.of(100, "JPY"));
+        assertEquals(Arrays.asList(Geldbetrag.of(34, "JPY"), Geldbetrag.of(33, "JPY"), Geldbetrag.of(33, "JPY")),
+                anteile);
+    }
+
+}
@@ -17,12 +17,21 @@
  */
 package de.jfachwert.money;
 
+import de.jfachwert.math.PackedDecimal;
+import de.jfachwert.math.RecordLayout;
+import de.jfachwert.math.RecordReader;
 import org.hamcrest.MatcherAssert;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import javax.money.*;
+import java.io.IOException;
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.logging.Logger;
 
 import static org.hamcrest.Matchers.lessThan;
@@ -167,4 +176,55 @@ public class GeldbetragFactoryTest {
         assertEquals(n.scale(), betrag.getNumber().getScale());
     }
 
+    /**
+     * Ueber die GeldbetragFactory lassen sich COMP-3-Felder einer Datei
+     * mit Saetzen fester Laenge direkt als Geldbetrag auslesen.
+     */
+    @Test
+    public void testRecordReader() throws IOException {
+        Path file = Files.createTempFile("betraege", ".dat");
+        try {
+            Files.write(file, new byte[]{0x12, 0x34, 0x5C, 0x00, 0x09, (byte) 0x9D});
+            Geldbetrag euro = Geldbetrag.of(0, "EUR");
+            RecordReader reader = new RecordReader(file, new RecordLayout().comp3("betrag", 3, 2));
+            assertEquals(Geldbetrag.of(new BigDecimal("123.45"), "EUR"),
+                    reader.record(0).getMonetaryAmount("betrag", euro));
+            assertEquals(Geldbetrag.of(new BigDecimal("-0.99"), "EUR"),
+                    reader.record(1).getMonetaryAmount("betrag", euro));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    /**
+     * Auch bei paralleler Verarbeitung mit einem gemeinsamen Prototyp muss
+     * jeder Satz seinen eigenen Betrag liefern.
+     */
+    @Test
+    public void testRecordReaderParallel() throws IOException {
+        int anzahl = 20_000;
+        RecordLayout layout = new RecordLayout().zoned("nr", 5).comp3("betrag", 4, 2);
+        ByteBuffer buffer = ByteBuffer.allocate(anzahl * layout.getRecordLength());
+        for (int i = 0; i < anzahl; i++) {
+            buffer.put(String.format("%05d", i).getBytes(StandardCharsets.US_ASCII));
+            PackedDecimal.valueOf(i).toComp3(buffer, 4, 2);
+        }
+        Path file = Files.createTempFile("betraege", ".dat");
+        try {
+            Files.write(file, buffer.array());
+            RecordReader reader = new RecordReader(file, layout);
+            Geldbetrag euro = Geldbetrag.of(0, "EUR");
+            LongAdder anzahlOk = new LongAdder();
+            reader.forEachParallel(satz -> {
+                Geldbetrag betrag = satz.getMonetaryAmount("betrag", euro);
+                assertEquals(BigDecimal.valueOf(satz.getLong("nr")).setScale(2), betrag.getNumber().numberValue(BigDecimal.class));
+                assertEquals("EUR", betrag.getCurrency().getCurrencyCode());
+                anzahlOk.increment();
+            });
+            assertEquals(anzahl, anzahlOk.sum());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
 }
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 18.10.2026 by oboehm (ob@oasd.de)
+ */
+package de.jfachwert.money.internal;
+
+import de.jfachwert.money.Geldbetrag;
+import de.jfachwert.money.Waehrung;
+import de.jfachwert.util.FachwertCodec;
+import de.jfachwert.util.FachwertModule;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit-Tests fuer {@link CodecErweiterung}.
+ */
+public final class CodecErweiterungTest {
+
+    private static final Logger LOG = Logger.getLogger(CodecErweiterungTest.class.getName());
+    private final FachwertCodec codec = FachwertCodec.getDEFAULT();
+
+    @Test
+    void testGeldbetrag() {
+        Geldbetrag betrag = Geldbetrag.valueOf(new BigDecimal("12.30"), "EUR");
+        byte[] bytes = codec.toBytes(betrag);
+        assertEquals(7, bytes.length);
+        assertEquals(betrag, codec.fromBytes(bytes));
+    }
+
+    @Test
+    void testGeldbetragNegativ() {
+        Geldbetrag betrag = Geldbetrag.valueOf(new BigDecimal("-0.0001"), "CHF");
+        assertEquals(betrag, codec.fromBytes(codec.toBytes(betrag)));
+    }
+
+    @Test
+    void testGeldbetragGross() {
+        Geldbetrag betrag = Geldbetrag.valueOf(new BigDecimal("123456789012345678901234567890.12"), "USD");
+        assertEquals(betrag, codec.fromBytes(codec.toBytes(betrag)));
+    }
+
+    @Test
+    void testWaehrung() {
+        for (Currency currency : Currency.getAvailableCurrencies()) {
+            Waehrung waehrung = Waehrung.of(currency);
+            assertEquals(waehrung, codec.fromBytes(codec.toBytes(waehrung)));
+        }
+    }
+
+    /**
+     * Vergleicht Groesse und Zeit fuer viele Geldbetraege mit
+     * Java-Serialisierung, JSON und FachwertCodec.
+     *
+     * @throws IOException bei Serialisierungs-Problemen
+     */
+    @Test
+    void testBenchmark() throws IOException {
+        List<Geldbetrag> betraege = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            betraege.add(Geldbetrag.valueOf(BigDecimal.valueOf(i * 7L, 2), "EUR"));
+        }
+        ObjectMapper mapper = JsonMapper.builder().addModule(new FachwertModule()).build();
+        ByteBuffer buffer = ByteBuffer.allocate(20_000 * 8);
+        for (int runde = 0; runde < 2; runde++) {
+            long t0 = System.nanoTime();
+            ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+            try (ObjectOutputStream out = new ObjectOutputStream(byteStream)) {
+                for (Geldbetrag betrag : betraege) {
+                    out.writeObject(betrag);
+                    out.reset();
+                }
+            }
+            long t1 = System.nanoTime();
+            int json = 0;
+            for (Geldbetrag betrag : betraege) {
+                json += mapper.writeValueAsBytes(betrag).length;
+            }
+            long t2 = System.nanoTime();
+            buffer.clear();
+            for (Geldbetrag betrag : betraege) {
+                codec.encode(betrag, buffer);
+            }
+            long t3 = System.nanoTime();
+            LOG.info(String.format("%d Geldbetraege: Java-Serialisierung %d Bytes / %.1f ms, "
+                            + "JSON %d Bytes / %.1f ms, FachwertCodec %d Bytes / %.1f ms", betraege.size(),
+                    byteStream.size(), (t1 - t0) / 1e6, json, (t2 - t1) / 1e6, buffer.position(), (t3 - t2) / 1e6));
+            assertTrue(buffer.position() < json);
+        }
+        buffer.flip();
+        for (Geldbetrag betrag : betraege) {
+            assertEquals(betrag, codec.decode(buffer, Geldbetrag.class));
+        }
+    }
+
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 18.10.2026 by oboehm (ob@oasd.de)
+ */
+package de.jfachwert.money.internal;
+
+import de.jfachwert.money.Geldbetrag;
+import de.jfachwert.money.Waehrung;
+import de.jfachwert.util.FachwertModule;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasItems;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Unit-Tests fuer {@link JsonErweiterung}.
+ */
+public final class JsonErweiterungTest {
+
+    private static final Logger LOG = Logger.getLogger(JsonErweiterungTest.class.getName());
+    private final ObjectMapper mapper = JsonMapper.builder().addModule(new FachwertModule()).build();
+
+    @Test
+    void testRegistriert() {
+        assertThat(new FachwertModule().getRegisteredClasses(), hasItems(Geldbetrag.class, Waehrung.class));
+    }
+
+    @Test
+    void testGeldbetrag() {
+        Geldbetrag betrag = Geldbetrag.valueOf(new BigDecimal("1234.50"), "EUR");
+        String json = mapper.writeValueAsString(betrag);
+        assertEquals("\"1234.50 EUR\"", json);
+        assertEquals(betrag, mapper.readValue(json, Geldbetrag.class));
+    }
+
+    @Test
+    void testGeldbetragFormatiert() {
+        Geldbetrag betrag = Geldbetrag.valueOf(new BigDecimal("1234.50"), "EUR");
+        String json = new ObjectMapper().writeValueAsString(betrag);
+        assertEquals(betrag, mapper.readValue(json, Geldbetrag.class));
+    }
+
+    @Test
+    void testWaehrung() {
+        String json = mapper.writeValueAsString(Waehrung.EUR);
+        assertEquals("\"EUR\"", json);
+        assertEquals(Waehrung.EUR, mapper.readValue(json, Waehrung.class));
+    }
+
+    /**
+     * Vergleicht die Serialisierung vieler Geldbetraege mit und ohne
+     * FachwertModule.
+     */
+    @Test
+    void testGeldbetraegeBenchmark() {
+        List<Geldbetrag> betraege = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            betraege.add(Geldbetrag.valueOf(BigDecimal.valueOf(i, 2), "EUR"));
+        }
+        ObjectMapper ohne = new ObjectMapper();
+        ohne.writeValueAsString(betraege);
+        mapper.writeValueAsString(betraege);
+        long t0 = System.nanoTime();
+        ohne.writeValueAsString(betraege);
+        long t1 = System.nanoTime();
+        String json = mapper.writeValueAsString(betraege);
+        long t2 = System.nanoTime();
+        LOG.info(String.format("%d Geldbetraege nach JSON: %.1f ms ohne, %.1f ms mit FachwertModule",
+                betraege.size(), (t1 - t0) / 1e6, (t2 - t1) / 1e6));
+        assertEquals(betraege, List.of(mapper.readValue(json, Geldbetrag[].class)));
+    }
+
+}
@@ -21,10 +21,9 @@ import de.jfachwert.KSimpleValidator
 import de.jfachwert.Text
 import de.jfachwert.pruefung.exception.InvalidValueException
 import de.jfachwert.pruefung.exception.LocalizedIllegalArgumentException
+import de.jfachwert.util.LazyField
 import org.apache.commons.lang3.Range
-import org.apache.commons.lang3.StringUtils
 import java.util.*
-import java.util.regex.Pattern
 
 /**
  * Ueber den Domain-Namen wird ein Rechner im Internet adressiert. Man kann
@@ -37,14 +36,32 @@ import java.util.regex.Pattern
  * @author oboehm
  * @since 0.4 (08.08.2017)
  */
-open class Domainname
-/**
- * Legt eine Instanz an.
- *
- * @param name      gueltiger Domain-Name
- * @param validator zur Pruefung
- */
-@JvmOverloads constructor(name: String, validator: KSimpleValidator<String> = VALIDATOR) : Text(name.trim { it <= ' ' }.lowercase(), validator) {
+open class Domainname private constructor(zerlegung: Zerlegung) : Text(zerlegung.code) {
+
+    /** Beginn der einzelnen Labels (z.B. 0, 4 und 14 fuer "www.jfachwert.de"). */
+    private val starts: IntArray = zerlegung.starts
+    /** Gemerkte Level-Domains, erst beim ersten Aufruf von [getLevelDomain] angelegt. */
+    @Transient
+    private var levelDomains: Array<Domainname?>? = null
+
+    /**
+     * Legt eine Instanz an.
+     *
+     * @param name      gueltiger Domain-Name
+     * @param validator zur Pruefung
+     */
+    @JvmOverloads
+    constructor(name: String, validator: KSimpleValidator<String> = VALIDATOR) : this(zerlege(name, validator))
+
+    /** Anzahl der Labels, z.B. 3 fuer "www.jfachwert.de". */
+    internal val anzahlLabels: Int
+        get() = starts.size
+
+    internal fun labelStart(i: Int): Int = starts[i]
+
+    internal fun labelEnde(i: Int): Int = if (i + 1 < starts.size) starts[i + 1] - 1 else ende()
+
+    private fun ende(): Int = if (code.endsWith('.')) code.length - 1 else code.length
 
     /**
      * Liefert die Top-Level-Domain (TLD) zurueck.
@@ -52,30 +69,65 @@ open class Domainname
      * @return z.B. "de"
      */
     val tLD: Domainname
-        get() = Domainname(StringUtils.substringAfterLast(code, "."))
+        get() = getLevelDomain(1)
+
+    /**
+     * Liefert das oeffentliche Suffix (public suffix) laut
+     * [Suffixverzeichnis.DEFAULT] zurueck.
+     *
+     * @return z.B. "co.uk" fuer "www.example.co.uk"
+     * @since 6.8 (18.10.2026)
+     */
+    val oeffentlichesSuffix: Domainname
+        get() = Suffixverzeichnis.DEFAULT.getOeffentlichesSuffix(this)
+
+    /**
+     * Liefert die registrierbare Domain (registrable domain) laut
+     * [Suffixverzeichnis.DEFAULT], also die Domain, die bei einer
+     * Registrierungsstelle angemeldet wurde.
+     *
+     * @return z.B. "example.co.uk" fuer "www.example.co.uk" oder null,
+     * wenn der Domainname selbst ein oeffentliches Suffix ist
+     * @since 6.8 (18.10.2026)
+     */
+    val registrierbareDomain: Domainname?
+        get() = Suffixverzeichnis.DEFAULT.getRegistrierbareDomain(this)
 
     /**
      * Waehrend die Top-Level-Domain die oberste Ebende wie "de" ist, ist die
      * 2nd-Level-Domain von "www.jfachwert.de" die Domain "jfachwert.de" und
      * die 3rd-Level-Domain ist in diesem Beispiel die komplette Domain.
      *
+     * Da die Grenzen der Labels bereits bei der Validierung ermittelt
+     * werden, ist die Level-Domain nur ein Ausschnitt, der nicht erneut
+     * validiert werden muss. Sie wird beim ersten Aufruf gemerkt.
+     *
      * @param level z.B. 2 fuer 2nd-Level-Domain
      * @return z.B. "jfachwert.de"
      */
     fun getLevelDomain(level: Int): Domainname {
-        val parts = code.split(".").toTypedArray()
-        val firstPart = parts.size - level
-        if (firstPart < 0 || level < 1) {
-            throw LocalizedIllegalArgumentException(level, "level", Range.of(1, parts.size))
+        val n = starts.size
+        if (level < 1 || level > n) {
+            throw LocalizedIllegalArgumentException(level, "level", Range.of(1, n))
+        }
+        if (level == n) {
+            return this
         }
-        val name = StringBuilder(parts[firstPart])
-        for (i in firstPart + 1 until parts.size) {
-            name.append('.')
-            name.append(parts[i])
+        val domains = LazyField.get(levelDomains, { levelDomains = it }) { arrayOfNulls(n) }
+        var domain = domains[level]
+        if (domain == null) {
+            val erstes = n - level
+            val offset = starts[erstes]
+            val teil = IntArray(level) { starts[erstes + it] - offset }
+            domain = Domainname(Zerlegung(code.substring(offset, ende()), teil))
+            domains[level] = domain
         }
-        return Domainname(name.toString())
+        return domain
     }
 
+    /** Der (normalisierte) Name zusammen mit dem Beginn seiner Labels. */
+    private class Zerlegung(val code: String, val starts: IntArray)
+
 
 
     /**
@@ -86,22 +138,85 @@ open class Domainname
     class Validator : KSimpleValidator<String> {
 
         /**
-         * Hie valideren wir den Namen auf Richtigkeit. Das Pattern dazu stammt aus
-         * https://regex101.com/r/d5Yd6j/1/tests . Allerdings akzeptieren wir auch
-         * die TLD wie "de" als gueltigen Domainnamen.
+         * Hie valideren wir den Namen auf Richtigkeit. Urspruenglich stammte
+         * das Pattern dazu aus https://regex101.com/r/d5Yd6j/1/tests . Die
+         * Pruefung erfolgt inzwischen in einem einzigen Durchlauf (siehe
+         * [zerlege]), akzeptiert aber dieselben Namen. Allerdings
+         * akzeptieren wir auch die TLD wie "de" als gueltigen Domainnamen.
          *
          * @param value Domain-Name
          * @return validierter Domain-Name zur Weiterverarbeitung
          */
         override fun validate(value: String): String {
-            if (VALID_PATTERN.matcher(value).matches()) {
+            if (zerlege(value) != null) {
                 return value
             }
             throw InvalidValueException(value, "name")
         }
 
         companion object {
-            private val VALID_PATTERN = Pattern.compile("^(?=.{1,253}\\.?$)(?:(?!-|[^.]+_)[A-Za-z0-9-_]{1,63}(?<!-)(?:\\.|$))+$")
+
+            /**
+             * Prueft den Namen in einem einzigen Durchlauf: der Name darf
+             * hoechstens 253 Zeichen (plus abschliessendem Punkt) lang sein,
+             * jedes Label 1 bis 63 Zeichen aus Buchstaben, Ziffern, "-" und
+             * "_". Ein Label darf nicht mit "-" beginnen oder enden, und "_"
+             * ist nur als erstes Zeichen erlaubt.
+             *
+             * @param value Domain-Name
+             * @return Beginn der einzelnen Labels oder null, wenn der Name
+             * ungueltig ist
+             */
+            internal fun zerlege(value: String): IntArray? {
+                val laenge = if (value.endsWith('.')) value.length - 1 else value.length
+                if (laenge < 1 || laenge > 253) {
+                    return null
+                }
+                var starts = IntArray(8)
+                var n = 0
+                var start = 0
+                for (i in 0..laenge) {
+                    val c = if (i < laenge) value[i] else '.'
+                    if (c == '.') {
+                        val labelLaenge = i - start
+                        if (labelLaenge < 1 || labelLaenge > 63 || value[i - 1] == '-') {
+                            return null
+                        }
+                        if (n == starts.size) {
+                            starts = starts.copyOf(n * 2)
+                        }
+                        starts[n++] = start
+                        start = i + 1
+                    } else if (c == '-') {
+                        if (i == start) {
+                            return null
+                        }
+                    } else if (c == '_') {
+                        if (i > start) {
+                            return null
+                        }
+                    } else if (c !in 'a'..'z' && c !in 'A'..'Z' && c !in '0'..'9') {
+                        return null
+                    }
+                }
+                return starts.copyOf(n)
+            }
+
+            /**
+             * Ohne Validierung werden die Labels einfach an den Punkten
+             * getrennt.
+             */
+            internal fun zerlegeTolerant(value: String): IntArray {
+                val laenge = if (value.endsWith('.')) value.length - 1 else value.length
+                val starts = mutableListOf(0)
+                for (i in 0 until laenge) {
+                    if (value[i] == '.') {
+                        starts.add(i + 1)
+                    }
+                }
+                return starts.toIntArray()
+            }
+
         }
 
     }
@@ -113,6 +228,16 @@ open class Domainname
         private val WEAK_CACHE = WeakHashMap<String, Domainname>()
         private val VALIDATOR: KSimpleValidator<String> = Validator()
 
+        private fun zerlege(name: String, validator: KSimpleValidator<String>): Zerlegung {
+            val code = name.trim { it <= ' ' }.lowercase()
+            if (validator === VALIDATOR) {
+                val starts = Validator.zerlege(code) ?: throw LocalizedIllegalArgumentException(InvalidValueException(code, "name"))
+                return Zerlegung(code, starts)
+            }
+            validator.verify(code)
+            return Zerlegung(code, Validator.zerlege(code) ?: Validator.zerlegeTolerant(code))
+        }
+
         /**
          * Liefert einen Domainnamen.
          *
@@ -22,7 +22,10 @@ import de.jfachwert.Text
 import de.jfachwert.post.Name
 import de.jfachwert.pruefung.NullValidator
 import de.jfachwert.pruefung.exception.InvalidValueException
-import org.apache.commons.lang3.StringUtils
+import de.jfachwert.pruefung.exception.LocalizedIllegalArgumentException
+import de.jfachwert.util.Fundstelle
+import de.jfachwert.util.LazyField
+import de.jfachwert.util.Textscanner
 import java.util.*
 import java.util.regex.Pattern
 
@@ -41,17 +44,31 @@ import java.util.regex.Pattern
  * @author oboehm
  * @since 0.3 (23.06.2017)
  */
-open class EMailAdresse
-/**
- * Legt eine Instanz einer EMailAdresse an. Der Validator ist
- * hauptsaechlich fuer abgeleitete Klassen gedacht, die ihre eigene
- * Validierung mit einbringen wollen oder aus Performance-Gruenden
- * abschalten wollen.
- *
- * @param emailAdresse eine gueltige Adresse, z.B. "max@mustermann.de"
- * @param validator    SimpleValidator zur Adressen-Validierung
- */
-@JvmOverloads constructor(emailAdresse: String, validator: KSimpleValidator<String> = VALIDATOR) : Text(validator.verify(emailAdresse)) {
+open class EMailAdresse private constructor(code: String, grenzen: IntArray) : Text(code) {
+
+    private val beginn = grenzen[0]
+    private val at = grenzen[1]
+    private val ende = grenzen[2]
+    // abgeleitete Werte, die erst beim ersten Zugriff berechnet werden (s. LazyField)
+    @Transient
+    private var emailCache: String? = null
+    @Transient
+    private var domainPartCache: Domainname? = null
+    @Transient
+    private var nameCache: Name? = null
+
+    /**
+     * Legt eine Instanz einer EMailAdresse an. Der Validator ist
+     * hauptsaechlich fuer abgeleitete Klassen gedacht, die ihre eigene
+     * Validierung mit einbringen wollen oder aus Performance-Gruenden
+     * abschalten wollen.
+     *
+     * @param emailAdresse eine gueltige Adresse, z.B. "max@mustermann.de"
+     * @param validator    SimpleValidator zur Adressen-Validierung
+     */
+    @JvmOverloads
+    constructor(emailAdresse: String, validator: KSimpleValidator<String> = VALIDATOR) :
+            this(emailAdresse, zerlege(emailAdresse, validator))
 
     /**
      * Hierueber wird die eigentliche E-Mail-Adresse ohne den Anzeigename
@@ -61,29 +78,26 @@ open class EMailAdresse
      * @since 6.4
      */
     val email: String
-        get() {
-            return if (code.contains('<')) {
-                code.substringAfter('<').substringBefore('>').trim()
-            } else {
-                code
-            }
-        }
+        get() = LazyField.get(emailCache, { emailCache = it }) { code.substring(beginn, ende) }
 
     /**
      * Der Anzeigename (displayname) ist der Anteil in
      * "M. Mustermann <max@mustermann>", der vor der eigentlichen Email-Adresse
-     * angegeben werden kann.
+     * angegeben werden kann. Anfuehrungszeichen um den Anzeigenamen gehoeren
+     * nicht dazu.
      *
      * return z.B. "M.Mustermann"
      * @since 6.4
      */
     val displayname: String
         get() {
-            return if (code.contains('<')) {
-                code.substringBefore('<').trim()
-            } else {
-                ""
-            }
+            var n = if (beginn > 0 && code[beginn - 1] == '<') beginn - 1 else beginn
+            while (n > 0 && code[n - 1].isWhitespace()) n--
+            var i = 0
+            while (i < n && code[i].isWhitespace()) i++
+            if (i < n && code[i] == '"') i++
+            if (n > i && code[n - 1] == '"') n--
+            return code.substring(i, n).trim()
         }
 
     /**
@@ -95,7 +109,7 @@ open class EMailAdresse
      * @return z.B. "Max.Mustermann"
      */
     val localPart: String
-        get() = StringUtils.substringBeforeLast(email, "@")
+        get() = if (at < 0) email else code.substring(beginn, at)
 
     /**
      * Der Domain Part, der hinter dem @-Zeichen steht und fuer den die
@@ -106,7 +120,9 @@ open class EMailAdresse
      * @return z.B. "fachwert.de"
      */
     val domainPart: Domainname
-        get() = Domainname(StringUtils.substringAfterLast(email, "@"))
+        get() = LazyField.get(domainPartCache, { domainPartCache = it }) {
+            Domainname(if (at < 0) "" else code.substring(at + 1, ende))
+        }
 
     /**
      * Liefert den Namensanteil der Email-Adresse als [Name] zurueck.
@@ -117,10 +133,7 @@ open class EMailAdresse
      * @since 2.3
      */
     val name: Name
-        get() {
-            val name = capitalize(localPart, '.')
-            return Name.of(name)
-        }
+        get() = LazyField.get(nameCache, { nameCache = it }) { Name.of(capitalize(localPart, '.')) }
 
     private fun capitalize(word: String, delimiter: Char): String {
         val parts = word.split(delimiter)
@@ -189,7 +202,9 @@ open class EMailAdresse
      * @author oboehm
      * @since 0.3 (27.06.2017)
      */
-    class Validator
+    class Validator : KSimpleValidator<String> {
+
+        private val addressPattern: Pattern?
 
         /**
          * Dieser Konstruktor ist fuer abgeleitete Klassen gedacht, die das Pattern
@@ -197,16 +212,20 @@ open class EMailAdresse
          *
          * @param addressPattern Pattern fuer die Adress-Validerung
          */
-        protected constructor(private val addressPattern: Pattern) : KSimpleValidator<String> {
+        protected constructor(addressPattern: Pattern) {
+            this.addressPattern = addressPattern
+        }
 
         /**
-         * Hier wird der E-Mail-SimpleValidator mit einerm Pattern von
+         * Urspruenglich wurde hier mit einem Pattern von
          * https://www.mkyong.com/regular-expressions/how-to-validate-email-address-with-regular-expression/
-         * aufgesetzt.
+         * geprueft. Da dieses Pattern bei langen, ungueltigen Eingaben sehr
+         * viel Backtracking verursachen konnte, wird die Adresse inzwischen
+         * in einem einzigen Durchlauf geprueft (siehe [zerlege]), wobei
+         * dieselben Adressen akzeptiert werden.
          */
-        constructor() : this(Pattern
-            .compile("^(?:\"?([^\"]*)\"?\\s)?" +
-                    "<?[_A-Za-z0-9-+]+(\\.[_A-Za-z0-9-]+)*@[A-Za-z0-9-]+(\\.[A-Za-z0-9]+)*(\\.[A-Za-z]{2,})>?$")) {
+        constructor() {
+            this.addressPattern = null
         }
 
         /**
@@ -218,13 +237,207 @@ open class EMailAdresse
          * @return die validierte E-Mail-Adresse (zur Weiterverarbeitung)
          */
         override fun validate(value: String): String {
-            val matcher = addressPattern.matcher(value)
-            if (matcher.matches()) {
+            if (isValid(value)) {
                 return value
             }
             throw InvalidValueException(value, "email_address")
         }
 
+        /**
+         * Anders als die Default-Implementierung kommt diese Pruefung ohne
+         * (intern geworfene) Exception aus.
+         *
+         * @param value zu pruefende E-Mail-Adresse
+         * @return true, wenn die E-Mail-Adresse gueltig ist
+         */
+        override fun isValid(value: String): Boolean {
+            return if (addressPattern == null) zerlege(value) != null else addressPattern.matcher(value).matches()
+        }
+
+        companion object {
+
+            private const val START = 0
+            private const val NACH_KLAMMER = 1
+            private const val LOKAL_ERST = 2
+            private const val LOKAL_PUNKT = 3
+            private const val LOKAL = 4
+            private const val AT = 5
+            private const val DOMAIN_ERST = 6
+            private const val DOMAIN_PUNKT = 7
+            private const val DOMAIN = 8
+            private const val ENDE = 9
+            private const val FEHLER = 10
+
+            /**
+             * Prueft die uebergebene Adresse in einem einzigen Durchlauf ueber
+             * einen endlichen Automaten, der dieselben Adressen wie das
+             * urspruengliche Pattern
+             * `^(?:"?([^"]*)"?\s)?<?[_A-Za-z0-9-+]+(\.[_A-Za-z0-9-]+)*@[A-Za-z0-9-]+(\.[A-Za-z0-9]+)*(\.[A-Za-z]{2,})>?$`
+             * akzeptiert. Da die eigentliche Adresse keine Leerzeichen enthalten
+             * darf, beginnt sie nach dem letzten Leerzeichen; alles davor ist
+             * der Anzeigename. Deswegen wird der Automat bei jedem Leerzeichen
+             * zurueckgesetzt, und die Laufzeit bleibt linear.
+             *
+             * @param value zu pruefende E-Mail-Adresse
+             * @return Beginn und Ende der eigentlichen Adresse sowie Position
+             * des @-Zeichens, oder null bei ungueltiger Adresse
+             */
+            internal fun zerlege(value: CharSequence): IntArray? {
+                var zustand = START
+                var beginn = 0
+                var at = -1
+                var ende = value.length
+                var nurBuchstaben = false
+                var labelLaenge = 0
+                var anfuehrungszeichen = 0
+                var letztesAnfuehrungszeichen = -1
+                for (i in value.indices) {
+                    val c = value[i]
+                    if (isLeerzeichen(c)) {
+                        if (anfuehrungszeichen > 1 || (anfuehrungszeichen == 1 && letztesAnfuehrungszeichen != i - 1)) {
+                            return null
+                        }
+                        zustand = START
+                        beginn = i + 1
+                        at = -1
+                        ende = value.length
+                        continue
+                    }
+                    if (c == '"' && i > 0) {
+                        anfuehrungszeichen++
+                        letztesAnfuehrungszeichen = i
+                    }
+                    zustand = when (zustand) {
+                        START -> when {
+                            c == '<' -> NACH_KLAMMER
+                            isLokal(c) || c == '+' -> LOKAL_ERST
+                            else -> FEHLER
+                        }
+                        NACH_KLAMMER -> if (isLokal(c) || c == '+') LOKAL_ERST else FEHLER
+                        LOKAL_ERST, LOKAL -> when {
+                            c == '.' -> LOKAL_PUNKT
+                            c == '@' -> AT
+                            isLokal(c) || (c == '+' && zustand == LOKAL_ERST) -> zustand
+                            else -> FEHLER
+                        }
+                        LOKAL_PUNKT -> if (isLokal(c)) LOKAL else FEHLER
+                        AT, DOMAIN_ERST -> when {
+                            c == '.' && zustand == DOMAIN_ERST -> DOMAIN_PUNKT
+                            isAlphanumerisch(c) || c == '-' -> DOMAIN_ERST
+                            else -> FEHLER
+                        }
+                        DOMAIN_PUNKT, DOMAIN -> when {
+                            isAlphanumerisch(c) -> {
+                                val buchstabe = isBuchstabe(c)
+                                if (zustand == DOMAIN_PUNKT) {
+                                    nurBuchstaben = buchstabe
+                                    labelLaenge = 1
+                                } else {
+                                    nurBuchstaben = nurBuchstaben && buchstabe
+                                    labelLaenge++
+                                }
+                                DOMAIN
+                            }
+                            c == '.' && zustand == DOMAIN -> DOMAIN_PUNKT
+                            c == '>' && zustand == DOMAIN && nurBuchstaben && labelLaenge >= 2 -> {
+                                ende = i
+                                ENDE
+                            }
+                            else -> FEHLER
+                        }
+                        else -> FEHLER
+                    }
+                    if (zustand == AT) {
+                        at = i
+                    }
+                }
+                if (zustand == ENDE || (zustand == DOMAIN && nurBuchstaben && labelLaenge >= 2)) {
+                    if (value[beginn] == '<') {
+                        beginn++
+                    }
+                    return intArrayOf(beginn, at, ende)
+                }
+                return null
+            }
+
+            /**
+             * Ohne Validierung (z.B. bei [NullValidator]) werden die
+             * Grenzen nur grob ueber die spitzen Klammern und das letzte
+             * @-Zeichen ermittelt.
+             */
+            internal fun zerlegeTolerant(value: String): IntArray {
+                val klammer = value.indexOf('<')
+                var beginn = klammer + 1
+                var ende = if (klammer < 0) value.length else value.indexOf('>', beginn)
+                if (ende < 0) {
+                    ende = value.length
+                }
+                while (beginn < ende && value[beginn].isWhitespace()) beginn++
+                while (ende > beginn && value[ende - 1].isWhitespace()) ende--
+                val at = value.lastIndexOf('@', ende - 1)
+                return intArrayOf(beginn, if (at < beginn) -1 else at, ende)
+            }
+
+            private fun isLeerzeichen(c: Char): Boolean {
+                return c == ' ' || c in '\t'..'\r'
+            }
+
+            private fun isBuchstabe(c: Char): Boolean {
+                return c in 'a'..'z' || c in 'A'..'Z'
+            }
+
+            private fun isAlphanumerisch(c: Char): Boolean {
+                return isBuchstabe(c) || c in '0'..'9'
+            }
+
+            private fun isLokal(c: Char): Boolean {
+                return isAlphanumerisch(c) || c == '_' || c == '-'
+            }
+
+        }
+
+    }
+
+    /**
+     * Der Erkenner sucht im Text nach dem "@" und grenzt von dort aus die
+     * E-Mail-Adresse nach links und rechts ab. Ein Punkt am Ende (z.B.
+     * am Satzende) gehoert dabei nicht zur Adresse.
+     */
+    private class Erkenner : Textscanner.Erkenner<EMailAdresse> {
+
+        override val anker: Collection<String> = listOf("@")
+
+        override fun erkenne(text: CharSequence, position: Int, laenge: Int): Fundstelle<EMailAdresse>? {
+            val min = maxOf(0, position - MAX_LAENGE)
+            val max = minOf(text.length, position + MAX_LAENGE)
+            var start = position
+            while (start > min && isLokal(text[start - 1])) start--
+            while (start < position && text[start] == '.') start++
+            var ende = position + 1
+            while (ende < max && isDomain(text[ende])) ende++
+            while (ende > position + 1 && text[ende - 1] == '.') ende--
+            if (start == position || ende == position + 1) {
+                return null
+            }
+            val adresse = text.subSequence(start, ende).toString()
+            val grenzen = Validator.zerlege(adresse)
+            val wert = if (grenzen == null) null else EMailAdresse(adresse, grenzen)
+            return Fundstelle(EMailAdresse::class.java, start.toLong(), ende.toLong(), adresse, wert)
+        }
+
+        private fun isLokal(c: Char): Boolean {
+            return c in 'a'..'z' || c in 'A'..'Z' || c in '0'..'9' || c == '.' || c == '_' || c == '-' || c == '+'
+        }
+
+        private fun isDomain(c: Char): Boolean {
+            return c in 'a'..'z' || c in 'A'..'Z' || c in '0'..'9' || c == '.' || c == '-'
+        }
+
+        companion object {
+            /** Laenger als 254 Zeichen darf eine Adresse nicht sein (RFC 5321). */
+            private const val MAX_LAENGE = 254
+        }
+
     }
 
     companion object {
@@ -234,6 +447,24 @@ open class EMailAdresse
         @JvmField
         val NULL = EMailAdresse("", NullValidator())
 
+        /**
+         * Erkenner fuer den [Textscanner], um E-Mail-Adressen in einem
+         * Text zu finden.
+         *
+         * @since 6.8 (18.10.2026)
+         */
+        @JvmField
+        val ERKENNER: Textscanner.Erkenner<EMailAdresse> = Erkenner()
+
+        private fun zerlege(emailAdresse: String, validator: KSimpleValidator<String>): IntArray {
+            if (validator === VALIDATOR) {
+                return Validator.zerlege(emailAdresse)
+                    ?: throw LocalizedIllegalArgumentException(InvalidValueException(emailAdresse, "email_address"))
+            }
+            val code = validator.verify(emailAdresse)
+            return Validator.zerlege(code) ?: Validator.zerlegeTolerant(code)
+        }
+
         /**
          * Liefert einen EmailAdresse.
          *
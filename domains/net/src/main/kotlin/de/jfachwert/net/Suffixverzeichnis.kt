@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 18.10.2026 by oboehm (ob@oasd.de)
+ */
+package de.jfachwert.net
+
+import java.io.InputStream
+import java.nio.charset.StandardCharsets
+
+/**
+ * Das Suffixverzeichnis bildet die Public Suffix List
+ * (https://publicsuffix.org/) ab. Sie enthaelt alle Domain-Endungen
+ * wie "de", "co.uk" oder "github.io", unter denen sich jeder eine Domain
+ * registrieren kann. Damit laesst sich die "registrierbare Domain"
+ * (z.B. "example.co.uk" fuer "www.example.co.uk") bestimmen, was mit
+ * [Domainname.getLevelDomain] allein nicht moeglich ist.
+ *
+ * Die Regeln werden in einem Praefix-Baum ueber die (von rechts gelesenen)
+ * Labels abgelegt. Die Kanten liegen in einer gemeinsamen Hash-Tabelle,
+ * sodass ein Label direkt ueber seine Position im Domainnamen gesucht
+ * werden kann, ohne dafuer einen String anzulegen. Die Suche benoetigt
+ * damit O(Anzahl Labels).
+ *
+ * Das Default-Verzeichnis ([DEFAULT]) wird aus der mitgelieferten
+ * Resource "public_suffix_list.dat" geladen, die nur einen Auszug der
+ * Liste enthaelt. Mit [of] laesst sich die vollstaendige Liste laden.
+ *
+ * @author oboehm
+ * @since 6.8 (18.10.2026)
+ */
+class Suffixverzeichnis private constructor() {
+
+    private var labels = arrayOfNulls<String>(1024)
+    private var eltern = IntArray(1024)
+    private var ziele = IntArray(1024)
+    private var regel = BooleanArray(64)
+    private var ausnahme = BooleanArray(64)
+    private var knoten = 1
+    private var kanten = 0
+
+    /**
+     * Liefert die Anzahl der Labels des oeffentlichen Suffixes. Passt
+     * keine Regel, gilt (wie bei der Public Suffix List vorgesehen) die
+     * Top-Level-Domain als oeffentliches Suffix.
+     *
+     * @param name Domainname, z.B. "www.example.co.uk"
+     * @return Anzahl Labels, z.B. 2 fuer "co.uk"
+     */
+    fun laengeSuffix(name: Domainname): Int {
+        val n = name.anzahlLabels
+        var suffix = 1
+        var aktuell = 0
+        for (k in 1..n) {
+            val i = n - k
+            val explizit = suche(aktuell, name.code, name.labelStart(i), name.labelEnde(i))
+            val stern = suche(aktuell, "*", 0, 1)
+            if (explizit > 0 && ausnahme[explizit]) {
+                return k - 1
+            }
+            if ((explizit > 0 && regel[explizit]) || stern > 0) {
+                suffix = k
+            }
+            aktuell = if (explizit > 0) explizit else stern
+            if (aktuell <= 0) {
+                break
+            }
+        }
+        return minOf(suffix, n)
+    }
+
+    /**
+     * Liefert das oeffentliche Suffix (public suffix) zum uebergebenen
+     * Domainnamen.
+     *
+     * @param name Domainname, z.B. "www.example.co.uk"
+     * @return z.B. "co.uk"
+     */
+    fun getOeffentlichesSuffix(name: Domainname): Domainname {
+        return name.getLevelDomain(laengeSuffix(name))
+    }
+
+    /**
+     * Liefert die registrierbare Domain (registrable domain), also das
+     * oeffentliche Suffix mit einem weiteren Label davor.
+     *
+     * @param name Domainname, z.B. "www.example.co.uk"
+     * @return z.B. "example.co.uk" oder null, wenn der Name selbst ein
+     * oeffentliches Suffix ist
+     */
+    fun getRegistrierbareDomain(name: Domainname): Domainname? {
+        val laenge = laengeSuffix(name) + 1
+        return if (laenge > name.anzahlLabels) null else name.getLevelDomain(laenge)
+    }
+
+    private fun add(regel: String) {
+        val istAusnahme = regel.startsWith("!")
+        val teile = (if (istAusnahme) regel.substring(1) else regel).lowercase().split('.')
+        require(teile.none { it.isEmpty() }) { "invalid rule '$regel'" }
+        var aktuell = 0
+        for (i in teile.indices.reversed()) {
+            val label = teile[i]
+            var kind = suche(aktuell, label, 0, label.length)
+            if (kind < 0) {
+                kind = neuerKnoten()
+                einfuegen(aktuell, label, kind)
+            }
+            aktuell = kind
+        }
+        if (istAusnahme) {
+            ausnahme[aktuell] = true
+        } else {
+            this.regel[aktuell] = true
+        }
+    }
+
+    private fun neuerKnoten(): Int {
+        if (knoten == regel.size) {
+            regel = regel.copyOf(knoten * 2)
+            ausnahme = ausnahme.copyOf(knoten * 2)
+        }
+        return knoten++
+    }
+
+    private fun einfuegen(vater: Int, label: String, kind: Int) {
+        if (2 * (kanten + 1) > labels.size) {
+            val alteLabels = labels
+            val alteEltern = eltern
+            val alteZiele = ziele
+            labels = arrayOfNulls(alteLabels.size * 2)
+            eltern = IntArray(labels.size)
+            ziele = IntArray(labels.size)
+            for (j in alteLabels.indices) {
+                val l = alteLabels[j] ?: continue
+                setze(alteEltern[j], l, alteZiele[j])
+            }
+        }
+        setze(vater, label, kind)
+        kanten++
+    }
+
+    private fun setze(vater: Int, label: String, kind: Int) {
+        val maske = labels.size - 1
+        var j = hash(vater, label, 0, label.length) and maske
+        while (labels[j] != null) {
+            j = (j + 1) and maske
+        }
+        labels[j] = label
+        eltern[j] = vater
+        ziele[j] = kind
+    }
+
+    /**
+     * Sucht das Kind mit dem Label s[von, bis) und liefert dessen Nummer
+     * oder -1 zurueck.
+     */
+    private fun suche(vater: Int, s: String, von: Int, bis: Int): Int {
+        val maske = labels.size - 1
+        var j = hash(vater, s, von, bis) and maske
+        while (true) {
+            val label = labels[j] ?: return -1
+            if (eltern[j] == vater && label.length == bis - von && label.regionMatches(0, s, von, bis - von)) {
+                return ziele[j]
+            }
+            j = (j + 1) and maske
+        }
+    }
+
+    override fun toString(): String {
+        return "Suffixverzeichnis($kanten Regeln)"
+    }
+
+
+
+    companion object {
+
+        /** Das Suffixverzeichnis aus der mitgelieferten Resource. */
+        @JvmStatic
+        val DEFAULT: Suffixverzeichnis by lazy {
+            Suffixverzeichnis::class.java.getResourceAsStream("public_suffix_list.dat")!!.use { of(it) }
+        }
+
+        /**
+         * Laedt ein Suffixverzeichnis im Format der Public Suffix List:
+         * eine Regel pro Zeile, Kommentare beginnen mit "//".
+         *
+         * @param input Zeilen im UTF-8-Format
+         * @return Suffixverzeichnis
+         */
+        @JvmStatic
+        fun of(input: InputStream): Suffixverzeichnis {
+            val verzeichnis = Suffixverzeichnis()
+            input.bufferedReader(StandardCharsets.UTF_8).forEachLine { zeile ->
+                val regel = zeile.trim().substringBefore(' ')
+                if (regel.isNotEmpty() && !regel.startsWith("//")) {
+                    verzeichnis.add(regel)
+                }
+            }
+            return verzeichnis
+        }
+
+        private fun hash(vater: Int, s: String, von: Int, bis: Int): Int {
+            var h = vater * 31
+            for (i in von until bis) {
+                h = 31 * h + s[i].code
+            }
+            return h xor (h ushr 16)
+        }
+
+    }
+
+}
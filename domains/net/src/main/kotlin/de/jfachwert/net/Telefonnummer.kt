@@ -23,8 +23,8 @@ import de.jfachwert.math.PackedDecimal
 import de.jfachwert.pruefung.LengthValidator
 import de.jfachwert.pruefung.NullValidator
 import de.jfachwert.pruefung.exception.InvalidValueException
-import org.apache.commons.lang3.RegExUtils
-import org.apache.commons.lang3.StringUtils
+import de.jfachwert.util.Fundstelle
+import de.jfachwert.util.Textscanner
 import java.net.URI
 import java.util.*
 import java.util.regex.Pattern
@@ -54,6 +54,13 @@ import java.util.regex.Pattern
  * Damit laesst sich der Speicherbedarf fuer Telefonnummern halbieren.
  * Allerdings lassen sich Klammern wie in "+49 (0)811 32 16 8" nicht als
  * PackedDecimal abspeichern - diese gehen bei der Konvertierung verloren.
+ * Noch kompakter ist die Darstellung nach E.164 als long-Wert (siehe
+ * [toE164]).
+ *
+ * Die Ziffern der Telefonnummer sowie die Positionen von Laenderkennzahl,
+ * Vorwahl und Rufnummer werden beim Anlegen einmalig ermittelt. Damit
+ * kommen [equals] und [hashCode] ohne regulaere Ausdruecke aus, was sich
+ * vor allem bei vielen Telefonnummern in einer HashMap bemerkbar macht.
  *
  * @author oboehm
  * @since 0.5 (04.09.2017)
@@ -78,6 +85,44 @@ open class Telefonnummer
      */
     constructor(uri: URI) : this(uri.schemeSpecificPart) {}
 
+    /** Ziffern ohne "+" bzw. "00" und ohne "(0)", z.B. "4981132168". */
+    private val ziffern: String
+    /** Anzahl Ziffern der Laenderkennzahl (0, falls keine vorhanden). */
+    private val lkzLaenge: Int
+    /** Position im Code, an der die Vorwahl (ohne Laenderkennzahl) anfaengt. */
+    private val inlandStart: Int
+    /** Position im Code, an der die Vorwahl aufhoert. */
+    private val vorwahlEnde: Int
+
+    init {
+        val s = code
+        val n = s.length
+        val sb = StringBuilder(n)
+        var lkzEnde = -1
+        var i = 0
+        while (i < n) {
+            val c = s[i]
+            if (c in '0'..'9') {
+                sb.append(c)
+            } else if (c == '(' && s.startsWith("(0)", i)) {
+                if (lkzEnde < 0 && i > 0) {
+                    // z.B. "49 (0)811": alles davor ist die Laenderkennzahl
+                    lkzEnde = sb.length
+                }
+                i += 2
+            }
+            i++
+        }
+        val international = s.startsWith("+") || s.startsWith("00")
+        if (s.startsWith("00")) {
+            sb.delete(0, 2)
+        }
+        ziffern = sb.toString()
+        lkzLaenge = if (international) laengeLaenderkennzahl(s) else maxOf(lkzEnde, 0)
+        inlandStart = if (lkzLaenge > 0) findeInlandStart(s, lkzLaenge) else 0
+        vorwahlEnde = findeVorwahlEnde(s, inlandStart, lkzLaenge == 0 || (lkzLaenge == 2 && ziffern.startsWith("49")))
+    }
+
     /**
      * Liefert die Telefonnummer ohne Laenderkennzahl, dafuer mit Vorwahl
      * inklusive fuehrender Null.
@@ -85,12 +130,9 @@ open class Telefonnummer
      * @return z.B. 0811/32168
      */
     val inlandsnummer: Telefonnummer
-        get() = if (laenderkennzahl.isPresent) {
-            var nummer = code.substring(3).trim { it <= ' ' }
-            if (StringUtils.startsWithAny(nummer, "1", "2", "3", "4", "5", "6", "7", "8", "9")) {
-                nummer = "0$nummer"
-            }
-            Telefonnummer(nummer)
+        get() = if (lkzLaenge > 0) {
+            val nummer = code.substring(inlandStart)
+            Telefonnummer(if (nummer.startsWith("0")) nummer else "0$nummer")
         } else {
             this
         }
@@ -108,12 +150,8 @@ open class Telefonnummer
      */
     val laenderkennzahl: Optional<String>
         get() {
-            return if (code.startsWith("+")) {
-                Optional.of(code.substring(0, 3))
-            } else if (code.startsWith("00")) {
-                Optional.of("+" + code.substring(2, 4))
-            } else if (code.contains("(0)")) {
-                Optional.of("+" + code.substring(0, 2))
+            return if (lkzLaenge > 0) {
+                Optional.of("+" + ziffern.substring(0, lkzLaenge))
             } else {
                 Optional.empty()
             }
@@ -126,15 +164,16 @@ open class Telefonnummer
      */
     val vorwahl: String
         get() {
-            val parts = code.trim { it <= ' ' }.split("[ /-]|(\\(0\\))".toRegex()).toTypedArray()
-            var vorwahl = parts[0]
-            if (vorwahl.startsWith("+")) {
-                vorwahl = if (StringUtils.isBlank(parts[1])) parts[2] else parts[1]
+            val sb = StringBuilder(vorwahlEnde - inlandStart + 1)
+            for (i in inlandStart until vorwahlEnde) {
+                if (code[i] in '0'..'9') {
+                    sb.append(code[i])
+                }
             }
-            vorwahl = RegExUtils.removeAll(vorwahl, "[ \t+-/(\\(\\))]")
-            return if (vorwahl.startsWith("0")) {
-                vorwahl
-            } else "0$vorwahl"
+            if (sb.isEmpty() || sb[0] != '0') {
+                sb.insert(0, '0')
+            }
+            return sb.toString()
         }
 
     /**
@@ -145,8 +184,18 @@ open class Telefonnummer
      */
     val rufnummer: Telefonnummer
         get() {
-            val inlandsnummer = RegExUtils.replaceAll(inlandsnummer.toString(), "[ /]+", " ")
-            return Telefonnummer(StringUtils.substringAfter(inlandsnummer, " ").replace(" ".toRegex(), ""))
+            var i = vorwahlEnde
+            while (i < code.length && isTrenner(code[i])) {
+                i++
+            }
+            val sb = StringBuilder(code.length - i)
+            while (i < code.length) {
+                val c = code[i++]
+                if (c != ' ' && c != '/' && c != '\t') {
+                    sb.append(c)
+                }
+            }
+            return Telefonnummer(sb.toString())
         }
 
     /**
@@ -156,7 +205,7 @@ open class Telefonnummer
      * @return Hashcode, der nur aus den Ziffern ermittelt wird
      */
     override fun hashCode(): Int {
-        return toShortString().hashCode()
+        return ziffern.hashCode()
     }
 
     /**
@@ -170,17 +219,18 @@ open class Telefonnummer
         if (other !is Telefonnummer) {
             return false
         }
-        return toShortString() == other.toShortString()
+        return ziffern == other.ziffern
     }
 
     /**
      * Stellt eine Telefonnummer in verkuerzter Schreibweise ohne Leerzeichen
-     * und Trennzeichen dar.
+     * und Trennzeichen dar. Bei internationalen Nummern entfallen dabei
+     * auch das "+" bzw. die fuehrende "00".
      *
-     * @return z.B. "+49301234567"
+     * @return z.B. "49301234567"
      */
     override fun toShortString(): String {
-        return RegExUtils.removeAll(code, "[ \t+-/]|(\\(0\\))")
+        return ziffern
     }
 
     /**
@@ -234,6 +284,31 @@ open class Telefonnummer
         return PackedDecimal.of(code)
     }
 
+    /**
+     * Liefert die Telefonnummer im internationalen Format nach E.164 als
+     * long-Wert. Da eine E.164-Nummer hoechstens 15 Ziffern hat und nie mit
+     * 0 anfaengt, ist dies eine eindeutige und kompakte Darstellung (8
+     * Bytes statt eines Strings). Bei nationalen Nummern wird dazu die
+     * angegebene Laenderkennzahl verwendet und die fuehrende 0 entfernt.
+     *
+     * @param laenderkennzahl fuer nationale Nummern (Default: "+49")
+     * @return z.B. 4981132168 fuer "+49 811 3216-8"
+     * @since 6.8 (18.10.2026)
+     */
+    @JvmOverloads
+    fun toE164(laenderkennzahl: String = "+49"): Long {
+        val lkz = if (lkzLaenge > 0) ziffern.substring(0, lkzLaenge) else laenderkennzahl.removePrefix("+")
+        var i = lkzLaenge
+        while (i < ziffern.length && ziffern[i] == '0') {
+            i++
+        }
+        val e164 = lkz + ziffern.substring(i)
+        if (e164.length > 15 || lkz.isEmpty() || lkz[0] !in '1'..'9') {
+            throw InvalidValueException(e164, "phone_number")
+        }
+        return e164.toLong()
+    }
+
 
 
     /**
@@ -255,7 +330,7 @@ open class Telefonnummer
          * https://www.mkyong.com/regular-expressions/how-to-validate-email-address-with-regular-expression/
          * aufgesetzt.
          */
-        constructor() : this(Pattern.compile("[0-9-+/ ()]+")) {}
+        constructor() : this(PATTERN) {}
 
         /**
          * Ueberprueft die Telefonnummer, ob sie nur erlaubte Nummern (und
@@ -267,17 +342,107 @@ open class Telefonnummer
         override fun validate(value: String): String {
             val matcher = pattern.matcher(value)
             if (matcher.matches()) {
-                val normalized = RegExUtils.removeAll(value, "[ \t+-/]|(\\(0\\))")
-                lengthValidator.validate(normalized)
+                lengthValidator.validate(ohneTrunk(value))
                 return value
             }
             throw InvalidValueException(value, "phone_number")
         }
 
+        /**
+         * Anders als die Default-Implementierung kommt diese Pruefung ohne
+         * (intern geworfene) Exception aus.
+         *
+         * @param value zu pruefende Telefonnummer
+         * @return true, wenn die Telefonnummer gueltig ist
+         */
+        override fun isValid(value: String): Boolean {
+            return pattern.matcher(value).matches() && lengthValidator.isValid(ohneTrunk(value))
+        }
+
+        /**
+         * Liefert die Ziffern (ohne "(0)") fuer die Laengen-Pruefung.
+         */
+        private fun ohneTrunk(value: String): String {
+            val sb = StringBuilder(value.length)
+            var i = 0
+            while (i < value.length) {
+                val c = value[i]
+                if (c == '(' && value.startsWith("(0)", i)) {
+                    i += 3
+                    continue
+                }
+                if (c != ' ' && c != '\t' && c !in '+'..'/') {
+                    sb.append(c)
+                }
+                i++
+            }
+            return sb.toString()
+        }
+
+        companion object {
+            private val PATTERN = Pattern.compile("[0-9-+/ ()]+")
+        }
+
     }
 
 
 
+    /**
+     * Der Erkenner sucht im Text nach "+", "0" oder "(" als Beginn einer
+     * Telefonnummer. Damit nicht jede Zahl als Telefonnummer gemeldet
+     * wird, muss ein Kandidat mindestens 6 Ziffern haben und darf nicht
+     * Teil eines Wortes oder einer anderen Zahl sein.
+     */
+    private class Erkenner : Textscanner.Erkenner<Telefonnummer> {
+
+        override val anker: Collection<String> = listOf("+", "0", "(")
+
+        override fun erkenne(text: CharSequence, position: Int, laenge: Int): Fundstelle<Telefonnummer>? {
+            if (position > 0 && isVerbunden(text[position - 1])) {
+                return null
+            }
+            val naechstes = if (position + 1 < text.length) text[position + 1] else ' '
+            when (text[position]) {
+                '+' -> if (naechstes !in '0'..'9') return null
+                '(' -> if (naechstes != '0' && naechstes != '+') return null
+            }
+            val max = minOf(text.length, position + MAX_LAENGE)
+            var ende = position + 1
+            var ziffern = if (text[position] == '0') 1 else 0
+            var i = position + 1
+            while (i < max) {
+                val c = text[i]
+                if (c in '0'..'9') {
+                    ziffern++
+                    ende = i + 1
+                } else if (c == ')') {
+                    ende = i + 1
+                } else if (c == ' ') {
+                    if (i + 1 >= max || (text[i + 1] !in '0'..'9' && text[i + 1] != '(')) break
+                } else if (c != '/' && c != '-' && c != '(') {
+                    break
+                }
+                i++
+            }
+            if (ziffern < 6 || (ende < text.length && isVerbunden(text[ende]) && text[ende] != '.')) {
+                return null
+            }
+            val nummer = text.subSequence(position, ende).toString()
+            val wert = if (PRUEFER.isValid(nummer)) Telefonnummer(nummer) else null
+            return Fundstelle(Telefonnummer::class.java, position.toLong(), ende.toLong(), nummer, wert)
+        }
+
+        private fun isVerbunden(c: Char): Boolean {
+            return c.isLetterOrDigit() || c == '@' || c == '.' || c == '+' || c == '_'
+        }
+
+        companion object {
+            private const val MAX_LAENGE = 30
+            private val PRUEFER = Validator()
+        }
+
+    }
+
     companion object {
         private val VALIDATOR: KSimpleValidator<String> = Validator()
         private val WEAK_CACHE = WeakHashMap<String, Telefonnummer>()
@@ -285,6 +450,15 @@ open class Telefonnummer
         @JvmField
         val NULL = Telefonnummer("", NullValidator())
 
+        /**
+         * Erkenner fuer den [Textscanner], um Telefonnummern in einem
+         * Text zu finden.
+         *
+         * @since 6.8 (18.10.2026)
+         */
+        @JvmField
+        val ERKENNER: Textscanner.Erkenner<Telefonnummer> = Erkenner()
+
         /**
          * Liefert eine Telefonnummer zurueck.
          *
@@ -297,6 +471,74 @@ open class Telefonnummer
             return WEAK_CACHE.computeIfAbsent(copy) { n: String -> Telefonnummer(n) }
         }
 
+        /**
+         * Liefert eine Telefonnummer zu einer Nummer im E.164-Format.
+         *
+         * @param nummer z.B. 4981132168
+         * @return Telefonnummer, z.B. "+4981132168"
+         * @since 6.8 (18.10.2026)
+         */
+        @JvmStatic
+        fun ofE164(nummer: Long): Telefonnummer {
+            return of("+$nummer")
+        }
+
+        /**
+         * Ermittelt die Laenge der Laenderkennzahl bei "+49 ..." oder
+         * "0049 ...". Ist die Nummer ohne Trennzeichen geschrieben, wird
+         * die Laenderkennzahl ueber das [Vorwahlverzeichnis] ermittelt.
+         */
+        private fun laengeLaenderkennzahl(s: String): Int {
+            val start = if (s.startsWith("+")) 1 else 2
+            var i = start
+            while (i < s.length && s[i] in '0'..'9') {
+                i++
+            }
+            val laenge = i - start
+            if (laenge <= 3) {
+                return laenge
+            }
+            val lkz = Vorwahlverzeichnis.DEFAULT.laengeLaenderkennzahl(s, start)
+            return if (lkz > 0) lkz else 2
+        }
+
+        private fun findeInlandStart(s: String, lkzLaenge: Int): Int {
+            var ziffern = 0
+            var i = 0
+            while (i < s.length && ziffern < lkzLaenge + (if (s.startsWith("00")) 2 else 0)) {
+                if (s[i] in '0'..'9') {
+                    ziffern++
+                }
+                i++
+            }
+            while (i < s.length && (isTrenner(s[i]) || s.startsWith("(0)", i))) {
+                i += if (s[i] == '(') 3 else 1
+            }
+            return i
+        }
+
+        /**
+         * Die Vorwahl endet am naechsten Trennzeichen. Fehlt dieses (wie
+         * bei "081132168"), wird die Vorwahl bei deutschen Nummern ueber
+         * das [Vorwahlverzeichnis] bestimmt.
+         */
+        private fun findeVorwahlEnde(s: String, start: Int, deutsch: Boolean): Int {
+            var i = start
+            while (i < s.length && !isTrenner(s[i]) && !(i > start && s.startsWith("(0)", i))) {
+                i++
+            }
+            if (i < s.length || i == start || !deutsch) {
+                return i
+            }
+            val ortStart = if (s.startsWith("0", start)) start + 1 else start
+            val laenge = Vorwahlverzeichnis.DEFAULT.laengeVorwahl(s, ortStart)
+            return if (laenge > 0) ortStart + laenge else i
+        }
+
+        private fun isTrenner(c: Char): Boolean {
+            return c == ' ' || c == '/' || c == '-' || c == '\t'
+        }
+
         private fun normalize(nummer: String): String {
             var normalized = nummer.trim { it <= ' ' }
             if (normalized.startsWith("(0)")) {
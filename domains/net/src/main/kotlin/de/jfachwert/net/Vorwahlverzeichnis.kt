@@ -0,0 +1,300 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 18.10.2026 by oboehm (ob@oasd.de)
+ */
+package de.jfachwert.net
+
+import java.io.InputStream
+import java.nio.charset.StandardCharsets
+
+/**
+ * Das Vorwahlverzeichnis kennt Laenderkennzahlen und (deutsche)
+ * Ortsnetzkennzahlen und ermittelt zu einer Nummer die laengste passende
+ * Vorwahl. Da Vorwahlen unterschiedlich lang sein koennen (z.B. "030"
+ * fuer Berlin, aber "0811" fuer Hallbergmoos), ist dies vor allem bei
+ * Nummern ohne Trennzeichen notwendig.
+ *
+ * Intern werden die Vorwahlen in zwei Praefix-Baeumen (Tries) ueber die
+ * Ziffern 0 bis 9 abgelegt. Jeder Knoten belegt dabei 10 Eintraege in
+ * einem int-Array, sodass die Suche nur O(Anzahl Ziffern) Array-Zugriffe
+ * benoetigt und ohne Objekt-Erzeugung auskommt.
+ *
+ * Das Default-Verzeichnis ([DEFAULT]) wird aus der mitgelieferten
+ * Resource "vorwahlen.txt" geladen. Mit [of] laesst sich ein eigenes
+ * (z.B. vollstaendiges) Verzeichnis im gleichen Format laden.
+ *
+ * @author oboehm
+ * @since 6.8 (18.10.2026)
+ */
+class Vorwahlverzeichnis private constructor(
+    private val laender: Trie,
+    private val orte: Trie
+) {
+
+    /**
+     * Praefix-Baum ueber Ziffern. Knoten i hat seine Kinder in
+     * kinder[10*i] bis kinder[10*i+9]; 0 steht fuer "kein Kind", da die
+     * Wurzel (Knoten 0) nie Kind sein kann.
+     */
+    private class Trie {
+
+        var kinder = IntArray(10 * 64)
+        var namen = arrayOfNulls<String>(64)
+        var anzahl = 1
+
+        fun add(ziffern: String, name: String) {
+            var knoten = 0
+            for (c in ziffern) {
+                require(c in '0'..'9') { "'$ziffern' contains non-digits" }
+                val i = 10 * knoten + (c - '0')
+                if (kinder[i] == 0) {
+                    if (anzahl == namen.size) {
+                        namen = namen.copyOf(anzahl * 2)
+                        kinder = kinder.copyOf(anzahl * 20)
+                    }
+                    kinder[i] = anzahl++
+                }
+                knoten = kinder[i]
+            }
+            namen[knoten] = name
+        }
+
+        /**
+         * Liefert die Laenge des laengsten Praefixes ab 'start', zu dem
+         * es einen Eintrag gibt, oder 0.
+         */
+        fun match(ziffern: CharSequence, start: Int): Int {
+            var knoten = 0
+            var laenge = 0
+            var i = start
+            while (i < ziffern.length) {
+                val c = ziffern[i]
+                if (c !in '0'..'9') {
+                    break
+                }
+                knoten = kinder[10 * knoten + (c - '0')]
+                if (knoten == 0) {
+                    break
+                }
+                i++
+                if (namen[knoten] != null) {
+                    laenge = i - start
+                }
+            }
+            return laenge
+        }
+
+        fun getName(ziffern: CharSequence): String? {
+            var knoten = 0
+            for (c in ziffern) {
+                if (c !in '0'..'9') {
+                    return null
+                }
+                knoten = kinder[10 * knoten + (c - '0')]
+                if (knoten == 0) {
+                    return null
+                }
+            }
+            return namen[knoten]
+        }
+
+    }
+
+    /**
+     * Ermittelt die Laenge der Laenderkennzahl am Anfang der uebergebenen
+     * Ziffern (ohne "+" oder "00").
+     *
+     * @param ziffern z.B. "4930123456"
+     * @param start Position, ab der gesucht wird
+     * @return z.B. 2 fuer "49" oder 0, falls keine passt
+     */
+    @JvmOverloads
+    fun laengeLaenderkennzahl(ziffern: CharSequence, start: Int = 0): Int {
+        return laender.match(ziffern, start)
+    }
+
+    /**
+     * Ermittelt die Laenge der Ortsnetzkennzahl (ohne fuehrende 0) am
+     * Anfang der uebergebenen Ziffern.
+     *
+     * @param ziffern z.B. "30123456"
+     * @param start Position, ab der gesucht wird
+     * @return z.B. 2 fuer "30" (Berlin) oder 0, falls keine passt
+     */
+    @JvmOverloads
+    fun laengeVorwahl(ziffern: CharSequence, start: Int = 0): Int {
+        return orte.match(ziffern, start)
+    }
+
+    /**
+     * Liefert die Laenderkennzahl einer internationalen Nummer.
+     *
+     * @param nummer z.B. "+4930123456" oder "004930123456"
+     * @return z.B. "+49" oder null, wenn keine Laenderkennzahl passt
+     */
+    fun getLaenderkennzahl(nummer: CharSequence): String? {
+        val start = startInternational(nummer)
+        if (start < 0) {
+            return null
+        }
+        val laenge = laender.match(nummer, start)
+        return if (laenge == 0) null else "+" + nummer.subSequence(start, start + laenge)
+    }
+
+    /**
+     * Liefert die Ortsnetzkennzahl einer deutschen Nummer.
+     *
+     * @param nummer z.B. "030123456" oder "+4930123456"
+     * @return z.B. "030" oder null, wenn keine Vorwahl passt
+     */
+    fun getVorwahl(nummer: CharSequence): String? {
+        var start = startInternational(nummer)
+        if (start >= 0) {
+            if (laender.match(nummer, start) != 2 || nummer[start] != '4' || nummer[start + 1] != '9') {
+                return null
+            }
+            start += 2
+        } else if (nummer.startsWith("0")) {
+            start = 1
+        } else {
+            return null
+        }
+        val laenge = orte.match(nummer, start)
+        return if (laenge == 0) null else "0" + nummer.subSequence(start, start + laenge)
+    }
+
+    /**
+     * Liefert die Bezeichnung zu einer Vorwahl oder Laenderkennzahl.
+     *
+     * @param vorwahl z.B. "030" oder "+49"
+     * @return z.B. "Berlin" bzw. "Deutschland"
+     */
+    fun getName(vorwahl: String): String? {
+        return when {
+            vorwahl.startsWith("+") -> laender.getName(vorwahl.substring(1))
+            vorwahl.startsWith("00") -> laender.getName(vorwahl.substring(2))
+            vorwahl.startsWith("0") -> orte.getName(vorwahl.substring(1))
+            else -> null
+        }
+    }
+
+    /**
+     * Ordnet die uebergebenen Telefonnummern nach Vorwahl. Auslaendische
+     * Nummern werden nach ihrer Laenderkennzahl (z.B. "+43") eingeordnet,
+     * deutsche Nummern nach ihrer Ortsnetzkennzahl (z.B. "030").
+     *
+     * @param nummern beliebige Telefonnummern
+     * @return Telefonnummern, gruppiert nach Vorwahl
+     */
+    fun klassifiziere(nummern: Iterable<Telefonnummer>): Map<String, List<Telefonnummer>> {
+        val gruppen = LinkedHashMap<String, MutableList<Telefonnummer>>()
+        for (nummer in nummern) {
+            val schluessel = route(nummer.toShortString(), nummer.laenderkennzahl.isPresent) ?: ""
+            gruppen.getOrPut(schluessel) { ArrayList() }.add(nummer)
+        }
+        return gruppen
+    }
+
+    /**
+     * Ermittelt fuer viele Nummern (nur Ziffern, internationale Nummern
+     * mit "+" oder "00") die Vorwahl, nach der geroutet wird.
+     *
+     * @param nummern z.B. "+43158058", "030123456"
+     * @return Laenderkennzahl (fuer Auslandsnummern) bzw. Ortsnetzkennzahl
+     * oder null, falls keine bekannt ist
+     */
+    fun route(nummern: Array<out CharSequence>): Array<String?> {
+        return Array(nummern.size) {
+            val nummer = nummern[it]
+            route(nummer, startInternational(nummer) >= 0)
+        }
+    }
+
+    private fun route(nummer: CharSequence, international: Boolean): String? {
+        if (!international) {
+            return getVorwahl(nummer)
+        }
+        val start = maxOf(startInternational(nummer), 0)
+        val laenge = laender.match(nummer, start)
+        if (laenge == 0) {
+            return null
+        }
+        if (laenge == 2 && nummer[start] == '4' && nummer[start + 1] == '9') {
+            val ort = orte.match(nummer, start + 2)
+            if (ort > 0) {
+                return "0" + nummer.subSequence(start + 2, start + 2 + ort)
+            }
+        }
+        return "+" + nummer.subSequence(start, start + laenge)
+    }
+
+    override fun toString(): String {
+        return "Vorwahlverzeichnis(${laender.anzahl + orte.anzahl} Knoten)"
+    }
+
+
+
+    companion object {
+
+        /** Das Vorwahlverzeichnis aus der mitgelieferten Resource. */
+        @JvmStatic
+        val DEFAULT: Vorwahlverzeichnis by lazy {
+            Vorwahlverzeichnis::class.java.getResourceAsStream("vorwahlen.txt")!!.use { of(it) }
+        }
+
+        /**
+         * Laedt ein Vorwahlverzeichnis. Jede Zeile enthaelt eine Vorwahl
+         * mit fuehrender "0" (z.B. "030") oder eine Laenderkennzahl mit
+         * "+" (z.B. "+49"), gefolgt von ";" und der Bezeichnung. Leere
+         * Zeilen und Zeilen mit "#" am Anfang werden ignoriert.
+         *
+         * @param input Zeilen im UTF-8-Format
+         * @return Vorwahlverzeichnis
+         */
+        @JvmStatic
+        fun of(input: InputStream): Vorwahlverzeichnis {
+            val laender = Trie()
+            val orte = Trie()
+            input.bufferedReader(StandardCharsets.UTF_8).forEachLine { zeile ->
+                val z = zeile.trim()
+                if (z.isNotEmpty() && !z.startsWith("#")) {
+                    val vorwahl = z.substringBefore(';').trim()
+                    val name = z.substringAfter(';', vorwahl).trim()
+                    when {
+                        vorwahl.startsWith("+") -> laender.add(vorwahl.substring(1), name)
+                        vorwahl.startsWith("0") -> orte.add(vorwahl.substring(1), name)
+                        else -> throw IllegalArgumentException("'$vorwahl' must start with '+' or '0'")
+                    }
+                }
+            }
+            return Vorwahlverzeichnis(laender, orte)
+        }
+
+        /**
+         * Liefert die Position nach "+" bzw. "00" oder -1 fuer nationale
+         * Nummern.
+         */
+        private fun startInternational(nummer: CharSequence): Int {
+            return when {
+                nummer.startsWith("+") -> 1
+                nummer.startsWith("00") -> 2
+                else -> -1
+            }
+        }
+
+    }
+
+}
@@ -20,9 +20,18 @@ package de.jfachwert.net;
 import de.jfachwert.AbstractFachwertTest;
 import de.jfachwert.Text;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * Unit-Tests fuer {@link Domainname}-Klasse.
@@ -100,4 +109,94 @@ public class DomainnameTest extends AbstractFachwertTest<String, Text> {
         assertThrows(IllegalArgumentException.class, () -> domainName.getLevelDomain(4));
     }
 
+    @Test
+    public void testGetLevelDomainCached() {
+        Domainname www = new Domainname("www.example.co.uk");
+        assertEquals(new Domainname("co.uk"), www.getLevelDomain(2));
+        assertSame(www.getLevelDomain(2), www.getLevelDomain(2));
+        assertSame(www.getTLD(), www.getTLD());
+        assertEquals(new Domainname("uk"), www.getLevelDomain(2).getTLD());
+    }
+
+    /**
+     * Die gemerkten Level-Domains werden nicht mit serialisiert, sondern
+     * nach dem Deserialisieren bei Bedarf neu angelegt.
+     */
+    @Test
+    public void testGetLevelDomainSerialized() throws IOException, ClassNotFoundException {
+        Domainname www = new Domainname("www.jfachwert.de");
+        Domainname domain = www.getLevelDomain(2);
+        ByteArrayOutputStream ostream = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(ostream)) {
+            out.writeObject(www);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(ostream.toByteArray()))) {
+            Domainname copy = (Domainname) in.readObject();
+            assertEquals(www, copy);
+            assertEquals(domain, copy.getLevelDomain(2));
+            assertSame(copy.getTLD(), copy.getTLD());
+        }
+    }
+
+    @Test
+    public void testGetLevelDomainTrailingDot() {
+        Domainname www = new Domainname("www.jfachwert.de.");
+        assertEquals(new Domainname("jfachwert.de"), www.getLevelDomain(2));
+        assertEquals(new Domainname("de"), www.getTLD());
+        assertThrows(IllegalArgumentException.class, () -> www.getLevelDomain(0));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"www.example.co.uk", "example.co.uk", "shop.example.com", "a.b.c.example.de",
+            "user.github.io", "www.city.kawasaki.jp", "foo.bar.kawasaki.jp", "www.ck"})
+    public void testGetRegistrierbareDomain(String name) {
+        Domainname domain = new Domainname(name);
+        Domainname registrierbar = domain.getRegistrierbareDomain();
+        assertNotNull(registrierbar);
+        assertTrue(name.endsWith(registrierbar.toString()), registrierbar + " is not suffix of " + name);
+    }
+
+    @Test
+    public void testGetOeffentlichesSuffix() {
+        assertEquals(new Domainname("co.uk"), new Domainname("www.example.co.uk").getOeffentlichesSuffix());
+        assertEquals(new Domainname("example.co.uk"), new Domainname("www.example.co.uk").getRegistrierbareDomain());
+        assertEquals(new Domainname("jfachwert.de"), domainName.getRegistrierbareDomain());
+        assertNull(new Domainname("co.uk").getRegistrierbareDomain());
+    }
+
+    /**
+     * Die Pruefung soll dieselben Namen wie das urspruengliche Pattern
+     * akzeptieren.
+     */
+    @Test
+    public void testValidatorWiePattern() {
+        Pattern altesPattern =
+                Pattern.compile("^(?=.{1,253}\\.?$)(?:(?!-|[^.]+_)[A-Za-z0-9-_]{1,63}(?<!-)(?:\\.|$))+$");
+        String[] zeichen = {"a", "Z", "9", "-", "_", ".", "ab", "..", "#"};
+        Random random = new Random(4711);
+        for (int n = 0; n < 100_000; n++) {
+            StringBuilder buf = new StringBuilder();
+            int laenge = 1 + random.nextInt(10);
+            for (int i = 0; i < laenge; i++) {
+                buf.append(zeichen[random.nextInt(zeichen.length)]);
+            }
+            String name = buf.toString();
+            assertEquals(altesPattern.matcher(name).matches(), isValid(name), name);
+        }
+        String lang = "a".repeat(63) + "." + "b".repeat(63) + "." + "c".repeat(63) + "." + "d".repeat(61);
+        assertTrue(isValid(lang));
+        assertTrue(isValid(lang + "."));
+        assertFalse(isValid(lang + "d"));
+        assertFalse(isValid("a".repeat(64) + ".de"));
+    }
+
+    private static boolean isValid(String name) {
+        try {
+            new Domainname.Validator().validate(name);
+            return true;
+        } catch (RuntimeException ex) {
+            return false;
+        }
+    }
+
 }
@@ -20,10 +20,14 @@ package de.jfachwert.net;
 import de.jfachwert.AbstractFachwertTest;
 import de.jfachwert.Text;
 import de.jfachwert.post.Name;
+import de.jfachwert.pruefung.NullValidator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import patterntesting.runtime.junit.ObjectTester;
+import de.jfachwert.util.Fundstelle;
+import de.jfachwert.util.Textscanner;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -86,6 +90,7 @@ public final class EMailAdresseTest extends AbstractFachwertTest<String, Text> {
         EMailAdresse mailAdresse = EMailAdresse.of("o.boehm@optica.de");
         assertEquals(Name.of("O. Boehm"), mailAdresse.getName());
         assertEquals("O.", mailAdresse.getName().getVorname());
+        assertSame(mailAdresse.getName(), mailAdresse.getName());
     }
 
     /**
@@ -121,4 +126,42 @@ public final class EMailAdresseTest extends AbstractFachwertTest<String, Text> {
         assertEquals("John-Smith", smith.getDisplayname());
     }
 
+    @Test
+    public void testGetDisplaynameQuoted() {
+        EMailAdresse smith = EMailAdresse.of("\"Smith, John\" <j.smith@example.com>");
+        assertEquals("Smith, John", smith.getDisplayname());
+        assertEquals("j.smith", smith.getLocalPart());
+        assertEquals("", EMailAdresse.of("j.smith@example.com").getDisplayname());
+    }
+
+    /**
+     * Der Anzeigename darf auch ohne spitze Klammern um die eigentliche
+     * Adresse angegeben werden.
+     */
+    @Test
+    public void testDisplaynameOhneKlammern() {
+        EMailAdresse john = EMailAdresse.of("\"John\" j.smith@example.com");
+        assertEquals("John", john.getDisplayname());
+        assertEquals("j.smith@example.com", john.getEmail());
+        assertEquals(Domainname.of("example.com"), john.getDomainPart());
+    }
+
+    @Test
+    public void testNullValidator() {
+        EMailAdresse adresse = new EMailAdresse("Max <max@localhost>", new NullValidator<>());
+        assertEquals("max@localhost", adresse.getEmail());
+        assertEquals("max", adresse.getLocalPart());
+        assertEquals("Max", adresse.getDisplayname());
+    }
+
+    @Test
+    public void testErkenner() {
+        List<Fundstelle<?>> treffer = new Textscanner(EMailAdresse.ERKENNER)
+                .scan("Bitte an max.mustermann@example.com schreiben (nicht an info@localhost oder @home).");
+        assertEquals(2, treffer.size());
+        assertEquals(EMailAdresse.of("max.mustermann@example.com"), treffer.get(0).getWert());
+        assertEquals("info@localhost", treffer.get(1).getText());
+        assertFalse(treffer.get(1).isGueltig());
+    }
+
 }
@@ -18,13 +18,19 @@
 package de.jfachwert.net;
 
 import de.jfachwert.KSimpleValidator;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import de.jfachwert.pruefung.exception.ValidationException;
 
+import java.util.Random;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * Unit-Tests fuer de.jfachwert.pruefung.EMailValidator. Die Werte stammen aus
@@ -37,6 +43,10 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
  */
 class EMailAdresseValidatorTest {
 
+    private static final Logger LOG = Logger.getLogger(EMailAdresseValidatorTest.class.getName());
+    private static final Pattern ALTES_PATTERN = Pattern.compile("^(?:\"?([^\"]*)\"?\\s)?" +
+            "<?[_A-Za-z0-9-+]+(\\.[_A-Za-z0-9-]+)*@[A-Za-z0-9-]+(\\.[A-Za-z0-9]+)*(\\.[A-Za-z]{2,})>?$");
+
     private final KSimpleValidator<String> validator = new EMailAdresse.Validator();
 
     @ParameterizedTest
@@ -62,5 +72,95 @@ class EMailAdresseValidatorTest {
         assertThrows(ValidationException.class, () -> validator.validate(emailAdresse));
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = {" max@example.com", "\"\" max@example.com", "\" <max@example.com>", "max@example.com>",
+            "a\"b\" <max@example.com>", "\"a\"b <max@example.com>"})
+    void testGrenzfaelle(String emailAdresse) {
+        assertEquals(ALTES_PATTERN.matcher(emailAdresse).matches(), isValid(emailAdresse), emailAdresse);
+    }
+
+    /**
+     * Der Validator soll genau dieselben Adressen wie das urspruengliche
+     * Pattern akzeptieren. Dazu werden zufaellige Adressen aus den
+     * relevanten Zeichen zusammengewuerfelt. Fuer akzeptierte Adressen
+     * muessen ausserdem die ermittelten Grenzen brauchbar sein.
+     */
+    @Test
+    void testGleichesVerhaltenWiePattern() {
+        Random random = new Random(4711);
+        String[] zeichen = {"a", "B", "1", "-", "_", "+", ".", "@", "<", ">", " ", "\t", "\"", "@x", ".de", ".c0"};
+        int gueltige = 0;
+        for (int n = 0; n < 200_000; n++) {
+            StringBuilder buf = new StringBuilder();
+            int laenge = 1 + random.nextInt(12);
+            for (int i = 0; i < laenge; i++) {
+                buf.append(zeichen[random.nextInt(zeichen.length)]);
+            }
+            String adresse = buf.toString();
+            boolean erwartet = ALTES_PATTERN.matcher(adresse).matches();
+            assertEquals(erwartet, isValid(adresse), adresse);
+            if (erwartet) {
+                assertGrenzen(adresse);
+                gueltige++;
+            }
+        }
+        LOG.info(gueltige + " gueltige Adressen geprueft.");
+        assertTrue(gueltige > 0);
+    }
+
+    /**
+     * Nach einem Leerzeichen beginnt die Adresse neu, die Grenzen eines
+     * vorherigen Abschnitts duerfen dabei nicht uebrig bleiben.
+     */
+    @Test
+    void testMehrereAbschnitte() {
+        assertTrue(ALTES_PATTERN.matcher("a@b.de> c@d.de").matches());
+        EMailAdresse adresse = assertGrenzen("a@b.de> c@d.de");
+        assertEquals("c@d.de", adresse.getEmail());
+        assertEquals("d.de", adresse.getDomainPart().toString());
+    }
+
+    private static EMailAdresse assertGrenzen(String text) {
+        EMailAdresse adresse = new EMailAdresse(text);
+        String email = adresse.getEmail();
+        assertTrue(text.contains(email), text);
+        assertTrue(email.startsWith(adresse.getLocalPart() + "@"), text);
+        try {
+            assertTrue(email.equalsIgnoreCase(adresse.getLocalPart() + "@" + adresse.getDomainPart()), text);
+        } catch (IllegalArgumentException ex) {
+            // Domainname ist strenger als das alte Pattern (z.B. bei "-.de")
+            LOG.fine(() -> text + ": " + ex);
+        }
+        return adresse;
+    }
+
+    /**
+     * Bei dieser Eingabe brauchte das urspruengliche Pattern wegen
+     * Backtracking mehrere Sekunden. Der Validator muss sie in linearer
+     * Zeit ablehnen.
+     */
+    @Test
+    void testBacktracking() {
+        StringBuilder buf = new StringBuilder("a@");
+        for (int i = 0; i < 50_000; i++) {
+            buf.append("a.");
+        }
+        buf.append('1');
+        String boese = buf.toString();
+        long t0 = System.nanoTime();
+        assertThrows(ValidationException.class, () -> validator.validate(boese));
+        long t = System.nanoTime() - t0;
+        LOG.info(String.format("Ablehnung von %d Zeichen dauerte %.3f ms.", boese.length(), t / 1_000_000.0));
+        assertTrue(t < 1_000_000_000L, "took " + t + " ns");
+    }
+
+    private boolean isValid(String adresse) {
+        try {
+            validator.validate(adresse);
+            return true;
+        } catch (ValidationException ex) {
+            return false;
+        }
+    }
 
 }
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 18.10.2026 by oboehm (ob@oasd.de)
+ */
+package de.jfachwert.net;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-Tests fuer {@link Suffixverzeichnis}-Klasse.
+ *
+ * @author oboehm
+ */
+public final class SuffixverzeichnisTest {
+
+    private static final Logger LOG = Logger.getLogger(SuffixverzeichnisTest.class.getName());
+    private final Suffixverzeichnis verzeichnis = Suffixverzeichnis.getDEFAULT();
+
+    @Test
+    public void testLaengeSuffix() {
+        assertEquals(1, verzeichnis.laengeSuffix(Domainname.of("www.jfachwert.de")));
+        assertEquals(2, verzeichnis.laengeSuffix(Domainname.of("www.example.co.uk")));
+        assertEquals(2, verzeichnis.laengeSuffix(Domainname.of("oboehm.github.io")));
+        assertEquals(1, verzeichnis.laengeSuffix(Domainname.of("example.unbekannt")));
+        assertEquals(1, verzeichnis.laengeSuffix(Domainname.of("de")));
+    }
+
+    /**
+     * Bei "*.kawasaki.jp" ist jede Domain unter "kawasaki.jp" ein
+     * oeffentliches Suffix, ausser "city.kawasaki.jp" (Ausnahme-Regel).
+     */
+    @Test
+    public void testPlatzhalterUndAusnahme() {
+        assertEquals(Domainname.of("foo.bar.kawasaki.jp"),
+                verzeichnis.getRegistrierbareDomain(Domainname.of("www.foo.bar.kawasaki.jp")));
+        assertEquals(Domainname.of("city.kawasaki.jp"),
+                verzeichnis.getRegistrierbareDomain(Domainname.of("www.city.kawasaki.jp")));
+        assertEquals(Domainname.of("www.ck"), verzeichnis.getRegistrierbareDomain(Domainname.of("www.ck")));
+        assertNull(verzeichnis.getRegistrierbareDomain(Domainname.of("gov.ck")));
+    }
+
+    @Test
+    public void testOf() {
+        String regeln = "// Test\nde\n*.test.de\n!keins.test.de\n";
+        Suffixverzeichnis eigenes = Suffixverzeichnis.of(new ByteArrayInputStream(regeln.getBytes(StandardCharsets.UTF_8)));
+        assertEquals(Domainname.of("a.b.test.de"), eigenes.getRegistrierbareDomain(Domainname.of("www.a.b.test.de")));
+        assertEquals(Domainname.of("keins.test.de"), eigenes.getRegistrierbareDomain(Domainname.of("www.keins.test.de")));
+        assertEquals(Domainname.of("co.uk"), eigenes.getRegistrierbareDomain(Domainname.of("www.co.uk")));
+    }
+
+    @Test
+    public void testOfInvalid() {
+        byte[] regeln = "a..b".getBytes(StandardCharsets.UTF_8);
+        assertThrows(IllegalArgumentException.class, () -> Suffixverzeichnis.of(new ByteArrayInputStream(regeln)));
+    }
+
+    @Test
+    public void testPerformance() {
+        Domainname[] namen = new Domainname[1000];
+        for (int i = 0; i < namen.length; i++) {
+            namen[i] = new Domainname("host" + i + ".example" + (i % 10) + ".co.uk");
+        }
+        long t0 = System.nanoTime();
+        int summe = 0;
+        for (int n = 0; n < 1000; n++) {
+            for (Domainname name : namen) {
+                summe += verzeichnis.laengeSuffix(name);
+            }
+        }
+        long t = System.nanoTime() - t0;
+        LOG.info(String.format("1.000.000 Suffix-Abfragen dauerten %.1f ms.", t / 1_000_000.0));
+        assertEquals(2_000_000, summe);
+    }
+
+}
@@ -29,6 +29,9 @@ import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Optional;
+import de.jfachwert.util.Fundstelle;
+import de.jfachwert.util.Textscanner;
+import java.util.List;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.startsWith;
@@ -191,10 +194,70 @@ public final class TelefonnummerTest extends AbstractFachwertTest<String, Text>
         assertEquals("0811", rosisNummer.getVorwahl());
     }
 
+    /**
+     * Trennzeichen, Klammern und die Schreibweise der Laenderkennzahl
+     * ("+49" oder "0049") spielen beim Vergleich keine Rolle.
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"+49 811 3216-8", "0049 811 32168", "+49 (0)811 / 32 16 - 8", "+4981132168"})
+    public void testEqualsKanonisch(String nr) {
+        Telefonnummer telnr = new Telefonnummer(nr);
+        assertEquals(rosisNummer, telnr);
+        assertEquals(rosisNummer.hashCode(), telnr.hashCode());
+        assertEquals("4981132168", telnr.toShortString());
+    }
+
+    @Test
+    public void testGetVorwahlNational() {
+        assertEquals("030", new Telefonnummer("(030) 12345 67").getVorwahl());
+        assertEquals("030", new Telefonnummer("030/1234567").getVorwahl());
+        assertEquals(new Telefonnummer("12345-67"), new Telefonnummer("030-12345-67").getRufnummer());
+    }
+
+    @Test
+    public void testGetLaenderkennzahlOhneTrennzeichen() {
+        assertEquals(Optional.of("+49"), new Telefonnummer("+4981132168").getLaenderkennzahl());
+        assertEquals(Optional.of("+1"), new Telefonnummer("+1 212 5551234").getLaenderkennzahl());
+        assertEquals(Optional.empty(), new Telefonnummer("0811 32168").getLaenderkennzahl());
+    }
+
+    /**
+     * Bei Nummern ohne Trennzeichen wird die Vorwahl ueber das
+     * {@link Vorwahlverzeichnis} ermittelt.
+     */
+    @Test
+    public void testGetVorwahlOhneTrennzeichen() {
+        Telefonnummer telnr = new Telefonnummer("081132168");
+        assertEquals("0811", telnr.getVorwahl());
+        assertEquals(new Telefonnummer("32168"), telnr.getRufnummer());
+        assertEquals("0811 32168", telnr.toDinString());
+        assertEquals("0811", new Telefonnummer("+4981132168").getVorwahl());
+        assertEquals("030", new Telefonnummer("+49301234567").getVorwahl());
+        assertEquals(Optional.of("+423"), new Telefonnummer("+4232361234").getLaenderkennzahl());
+    }
+
+    @Test
+    public void testToE164() {
+        assertEquals(4981132168L, rosisNummer.toE164());
+        assertEquals(4981132168L, rosi.toE164());
+        assertEquals(4981132168L, new Telefonnummer("0811/32168").toE164());
+        assertEquals(43158058L, new Telefonnummer("01 58058").toE164("+43"));
+        assertEquals(rosisNummer, Telefonnummer.ofE164(rosisNummer.toE164()));
+    }
+
     @Test
     void toPackedDecimal() {
         assertEquals("012", Telefonnummer.of("012").toPackedDecimal().toString());
         assertEquals("012", Telefonnummer.of("(0)12").toPackedDecimal().toString());
     }
 
+    @Test
+    public void testErkenner() {
+        List<Fundstelle<?>> treffer = new Textscanner(Telefonnummer.ERKENNER).scan(
+                "Tel. +49 (0)811 32168-0, Fax 0811/32169. Kunde 4711 seit 01.02.2024, Betrag 1.000,00 EUR");
+        assertEquals(2, treffer.size());
+        assertEquals(new Telefonnummer("+49 (0)811 32168-0"), treffer.get(0).getWert());
+        assertEquals("0811/32169", treffer.get(1).getText());
+    }
+
 }
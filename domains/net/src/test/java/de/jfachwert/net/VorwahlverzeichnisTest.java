@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 18.10.2026 by oboehm (ob@oasd.de)
+ */
+package de.jfachwert.net;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-Tests fuer {@link Vorwahlverzeichnis}-Klasse.
+ *
+ * @author oboehm
+ */
+public final class VorwahlverzeichnisTest {
+
+    private final Vorwahlverzeichnis verzeichnis = Vorwahlverzeichnis.getDEFAULT();
+
+    @Test
+    public void testGetVorwahl() {
+        assertEquals("030", verzeichnis.getVorwahl("03012345"));
+        assertEquals("0811", verzeichnis.getVorwahl("081132168"));
+        assertEquals("0811", verzeichnis.getVorwahl("+4981132168"));
+        assertEquals("0711", verzeichnis.getVorwahl("0049711123456"));
+        assertNull(verzeichnis.getVorwahl("+43158058"));
+        assertNull(verzeichnis.getVorwahl("12345"));
+    }
+
+    @Test
+    public void testGetLaenderkennzahl() {
+        assertEquals("+49", verzeichnis.getLaenderkennzahl("+4981132168"));
+        assertEquals("+1", verzeichnis.getLaenderkennzahl("+12125551234"));
+        assertEquals("+423", verzeichnis.getLaenderkennzahl("004232361234"));
+        assertNull(verzeichnis.getLaenderkennzahl("081132168"));
+    }
+
+    @Test
+    public void testLaenge() {
+        assertEquals(2, verzeichnis.laengeLaenderkennzahl("4930123"));
+        assertEquals(3, verzeichnis.laengeLaenderkennzahl("+35312345", 1));
+        assertEquals(4, verzeichnis.laengeVorwahl("61311234"));
+        assertEquals(0, verzeichnis.laengeVorwahl("99"));
+    }
+
+    @Test
+    public void testGetName() {
+        assertEquals("Berlin", verzeichnis.getName("030"));
+        assertEquals("Deutschland", verzeichnis.getName("+49"));
+        assertEquals("Oesterreich", verzeichnis.getName("0043"));
+        assertNull(verzeichnis.getName("03"));
+    }
+
+    @Test
+    public void testRoute() {
+        String[] routen = verzeichnis.route(new CharSequence[]{"+4930123456", "+43158058", "0151123456", "0999"});
+        assertArrayEquals(new String[]{"030", "+43", "0151", null}, routen);
+    }
+
+    @Test
+    public void testKlassifiziere() {
+        List<Telefonnummer> nummern = Arrays.asList(Telefonnummer.of("+49 30 12345-67"), Telefonnummer.of("030 987654"),
+                Telefonnummer.of("+43 1 58058-0"), Telefonnummer.of("0811/32168"));
+        Map<String, List<Telefonnummer>> gruppen = verzeichnis.klassifiziere(nummern);
+        assertEquals(Arrays.asList("030", "+43", "0811"), Arrays.asList(gruppen.keySet().toArray()));
+        assertEquals(2, gruppen.get("030").size());
+    }
+
+    @Test
+    public void testOf() {
+        String eintraege = "# Test\n+49;Deutschland\n\n0811;Hallbergmoos\n08;Bayern\n";
+        Vorwahlverzeichnis eigenes = Vorwahlverzeichnis.of(
+                new ByteArrayInputStream(eintraege.getBytes(StandardCharsets.UTF_8)));
+        assertEquals("0811", eigenes.getVorwahl("081132168"));
+        assertEquals("08", eigenes.getVorwahl("0812345"));
+        assertNull(eigenes.getVorwahl("030123"));
+    }
+
+    @Test
+    public void testOfInvalid() {
+        byte[] eintraege = "49;Deutschland".getBytes(StandardCharsets.UTF_8);
+        assertThrows(IllegalArgumentException.class, () -> Vorwahlverzeichnis.of(new ByteArrayInputStream(eintraege)));
+    }
+
+}
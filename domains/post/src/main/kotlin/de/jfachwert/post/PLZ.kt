@@ -23,6 +23,8 @@ import de.jfachwert.pruefung.LengthValidator
 import de.jfachwert.pruefung.NullValidator
 import de.jfachwert.pruefung.NumberValidator
 import de.jfachwert.pruefung.exception.InvalidValueException
+import de.jfachwert.util.Instrumentierung
+import de.jfachwert.util.LazyField
 import org.apache.commons.lang3.Range
 import org.apache.commons.lang3.StringUtils
 import java.math.BigDecimal
@@ -74,6 +76,14 @@ open class PLZ : Text {
      */
     constructor(land: Locale, plz: String) : this(toLandeskennung(land) + plz)
 
+    // abgeleitete Werte, die erst beim ersten Zugriff berechnet werden (s. LazyField)
+    @Transient
+    private var longStringCache: String? = null
+    @Transient
+    private var landeskennungCache: String? = null
+    @Transient
+    private var postleitZahlCache: String? = null
+
     /**
      * Hierueber kann man abfragen, ob der Postleitzahl eine Landeskennung
      * vorangestellt ist.
@@ -93,7 +103,7 @@ open class PLZ : Text {
     val landeskennung: String
         get() {
             check(this.hasLandeskennung()) { "keine Landeskennung angegeben" }
-            return getLandeskennung(code)
+            return LazyField.get(landeskennungCache, { landeskennungCache = it }) { getLandeskennung(code) }
         }
 
     /**
@@ -118,7 +128,7 @@ open class PLZ : Text {
      * @return z,B. "01001"
      */
     val postleitZahl: String
-        get() = getPostleitZahl(code)
+        get() = LazyField.get(postleitZahlCache, { postleitZahlCache = it }) { getPostleitZahl(code) }
 
     /**
      * Liefert die PLZ in kompakter Schreibweise (ohne Trennzeichen zwischen
@@ -137,11 +147,9 @@ open class PLZ : Text {
      * @return z.B. "D-70839"
      */
     override fun toLongString(): String {
-        var plz = code
-        if (this.hasLandeskennung()) {
-            plz = toLongString(plz)
+        return LazyField.get(longStringCache, { longStringCache = it }) {
+            if (this.hasLandeskennung()) toLongString(code) else code
         }
-        return plz
     }
 
     /**
@@ -254,7 +262,7 @@ open class PLZ : Text {
          */
         @JvmStatic
         fun of(plz: String): PLZ {
-            return WEAK_CACHE.computeIfAbsent(plz) { s: String -> PLZ(String(s.toCharArray())) }
+            return Instrumentierung.cache(PLZ::class.java, WEAK_CACHE, plz) { s: String -> PLZ(String(s.toCharArray())) }
         }
 
         private fun hasLandeskennung(plz: String): Boolean {
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 18.10.2026 by oboehm (ob@oasd.de)
+ */
+package de.jfachwert.post.internal
+
+import de.jfachwert.post.PLZ
+import de.jfachwert.util.FachwertCodec
+import java.nio.ByteBuffer
+
+/**
+ * Registriert den Kodierer fuer die PLZ beim [FachwertCodec]. Die
+ * eigentliche Postleitzahl wird zusammen mit ihrer Stellenzahl (fuer
+ * fuehrende Nullen) als Zahl gepackt; eine evtl. vorhandene Landeskennung
+ * folgt als Text. Eine deutsche PLZ ohne Landeskennung belegt damit
+ * nur 3 Bytes.
+ *
+ * @author oboehm
+ * @since 6.8 (18.10.2026)
+ */
+class CodecErweiterung : FachwertCodec.Erweiterung {
+
+    override fun registriere(codec: FachwertCodec) {
+        codec.add(20, PLZ::class.java, PLZKodierer)
+    }
+
+    private object PLZKodierer : FachwertCodec.Kodierer<PLZ> {
+
+        override fun schreibe(wert: PLZ, buffer: ByteBuffer) {
+            val zahl = wert.postleitZahl
+            if (zahl.isEmpty() || zahl.length > 9 || !zahl.all { it in '0'..'9' }) {
+                FachwertCodec.putVarInt(buffer, 0)
+                FachwertCodec.putString(buffer, wert.code)
+                return
+            }
+            FachwertCodec.putVarLong(buffer, (zahl.toLong() shl 4) or zahl.length.toLong())
+            if (wert.hasLandeskennung()) {
+                FachwertCodec.putString(buffer, wert.landeskennung)
+            }
+        }
+
+        override fun lese(buffer: ByteBuffer, laenge: Int): PLZ {
+            val start = buffer.position()
+            val gepackt = FachwertCodec.getVarLong(buffer)
+            val rest = laenge - (buffer.position() - start)
+            if (gepackt == 0L) {
+                return PLZ(FachwertCodec.getString(buffer, rest))
+            }
+            val zahl = (gepackt ushr 4).toString().padStart((gepackt and 0x0F).toInt(), '0')
+            val kennung = if (rest > 0) FachwertCodec.getString(buffer, rest) else ""
+            return PLZ(kennung + zahl)
+        }
+
+    }
+
+}
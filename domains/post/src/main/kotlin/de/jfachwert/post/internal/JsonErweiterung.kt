@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 18.10.2026 by oboehm (ob@oasd.de)
+ */
+package de.jfachwert.post.internal
+
+import de.jfachwert.post.Adresse
+import de.jfachwert.post.Ort
+import de.jfachwert.post.PLZ
+import de.jfachwert.util.FachwertModule
+import de.jfachwert.util.FromFelderDeserializer
+import de.jfachwert.util.ToFelderSerializer
+import java.util.function.Function
+
+/**
+ * Registriert die Serializer und Deserializer fuer PLZ, Ort und Adresse
+ * beim [FachwertModule].
+ *
+ * @author oboehm
+ * @since 6.8 (18.10.2026)
+ */
+class JsonErweiterung : FachwertModule.Erweiterung {
+
+    override fun registriere(module: FachwertModule) {
+        module.addFachwert(PLZ::class.java, PLZ::toString, PLZ::of)
+        module.addFachwert(Ort::class.java, Ort::toString, ::Ort)
+        val adresse = arrayOf("plz", "ortsname", "strasse", "hausnummer")
+        module.addFachwert(Adresse::class.java,
+            ToFelderSerializer(Adresse::class.java, adresse, arrayOf(
+                Function { it.pLZ.toString() },
+                Function { it.ortsname },
+                Function { it.getStrasse() },
+                Function { it.getHausnummer() })),
+            FromFelderDeserializer(Adresse::class.java, adresse, ::toAdresse))
+    }
+
+    private fun toAdresse(werte: Array<String?>): Adresse {
+        val plz = requireNotNull(werte[0]) { "plz is missing" }
+        val ortsname = requireNotNull(werte[1]) { "ortsname is missing" }
+        return Adresse(Ort(PLZ.of(plz), ortsname), werte[2] ?: "", werte[3] ?: "")
+    }
+
+}
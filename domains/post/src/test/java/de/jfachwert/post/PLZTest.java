@@ -23,6 +23,7 @@ import org.junit.jupiter.api.Test;
 import java.util.Locale;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
@@ -86,6 +87,7 @@ public class PLZTest extends AbstractFachwertTest<String, Text> {
     public void testGetLandeskennung() {
         PLZ dresden = new PLZ("D-99998");
         assertEquals("D", dresden.getLandeskennung());
+        assertSame(dresden.toLongString(), dresden.toLongString());
     }
 
     /**
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 18.10.2026 by oboehm (ob@oasd.de)
+ */
+package de.jfachwert.post.internal;
+
+import de.jfachwert.post.PLZ;
+import de.jfachwert.util.FachwertCodec;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Unit-Tests fuer {@link CodecErweiterung}.
+ */
+public final class CodecErweiterungTest {
+
+    private final FachwertCodec codec = FachwertCodec.getDEFAULT();
+
+    @Test
+    void testPLZ() {
+        PLZ plz = new PLZ("70839");
+        byte[] bytes = codec.toBytes(plz);
+        assertEquals(2 + 3, bytes.length);
+        assertEquals(plz, codec.fromBytes(bytes));
+    }
+
+    @Test
+    void testPLZFuehrendeNull() {
+        PLZ plz = new PLZ("01067");
+        assertEquals(plz, codec.fromBytes(codec.toBytes(plz)));
+    }
+
+    @Test
+    void testPLZMitLandeskennung() {
+        PLZ plz = new PLZ("D-70839");
+        assertEquals(plz, codec.fromBytes(codec.toBytes(plz)));
+        PLZ schweiz = new PLZ("CH-8001");
+        assertEquals(schweiz, codec.fromBytes(codec.toBytes(schweiz)));
+    }
+
+}
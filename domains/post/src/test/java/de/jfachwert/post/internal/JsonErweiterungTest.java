@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 18.10.2026 by oboehm (ob@oasd.de)
+ */
+package de.jfachwert.post.internal;
+
+import de.jfachwert.post.Adresse;
+import de.jfachwert.post.Ort;
+import de.jfachwert.post.PLZ;
+import de.jfachwert.util.FachwertModule;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Unit-Tests fuer {@link JsonErweiterung}.
+ */
+public final class JsonErweiterungTest {
+
+    private final ObjectMapper mapper = JsonMapper.builder().addModule(new FachwertModule()).build();
+
+    @Test
+    void testOrt() {
+        Ort ort = new Ort(PLZ.of("70839"), "Gerlingen");
+        assertEquals(ort, mapper.readValue(mapper.writeValueAsString(ort), Ort.class));
+    }
+
+    @Test
+    void testAdresse() {
+        Adresse adresse = new Adresse(new Ort(PLZ.of("70839"), "Gerlingen"), "Koenigsbergerstr.", "1");
+        String json = mapper.writeValueAsString(adresse);
+        assertEquals(adresse, mapper.readValue(json, Adresse.class));
+        assertEquals(adresse, new ObjectMapper().readValue(json, Adresse.class));
+    }
+
+}
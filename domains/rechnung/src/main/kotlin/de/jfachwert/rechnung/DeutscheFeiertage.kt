@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 18.10.2026 by oboehm (ob@oasd.de)
+ */
+package de.jfachwert.rechnung
+
+import java.time.DayOfWeek
+import java.time.LocalDate
+import java.time.Month
+import java.time.temporal.TemporalAdjusters
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * Die Klasse DeutscheFeiertage kennt die gesetzlichen Feiertage in
+ * Deutschland. Ohne Angabe eines Bundeslands werden nur die bundesweiten
+ * Feiertage beruecksichtigt. Feiertage, die nur in einzelnen Gemeinden
+ * gelten (wie Mariae Himmelfahrt in Teilen Bayerns oder das Augsburger
+ * Friedensfest), werden nicht beruecksichtigt.
+ *
+ * Die Feiertage werden pro Jahr nur einmal berechnet.
+ *
+ * @author oboehm
+ * @since 6.8 (18.10.2026)
+ */
+class DeutscheFeiertage @JvmOverloads constructor(val bundesland: Bundesland? = null) : Feiertagskalender {
+
+    private val feiertage = ConcurrentHashMap<Int, Set<LocalDate>>()
+
+    /**
+     * Die 16 Bundeslaender mit ihren ueblichen Abkuerzungen.
+     */
+    enum class Bundesland {
+        /** Baden-Wuerttemberg */
+        BW,
+        /** Bayern */
+        BY,
+        /** Berlin */
+        BE,
+        /** Brandenburg */
+        BB,
+        /** Bremen */
+        HB,
+        /** Hamburg */
+        HH,
+        /** Hessen */
+        HE,
+        /** Mecklenburg-Vorpommern */
+        MV,
+        /** Niedersachsen */
+        NI,
+        /** Nordrhein-Westfalen */
+        NW,
+        /** Rheinland-Pfalz */
+        RP,
+        /** Saarland */
+        SL,
+        /** Sachsen */
+        SN,
+        /** Sachsen-Anhalt */
+        ST,
+        /** Schleswig-Holstein */
+        SH,
+        /** Thueringen */
+        TH
+    }
+
+    override fun isFeiertag(datum: LocalDate): Boolean {
+        return getFeiertage(datum.year).contains(datum)
+    }
+
+    /**
+     * Liefert die Feiertage des angegebenen Jahres.
+     *
+     * @param jahr z.B. 2026
+     * @return Feiertage des Jahres
+     */
+    fun getFeiertage(jahr: Int): Set<LocalDate> {
+        return feiertage.computeIfAbsent(jahr) { berechne(it) }
+    }
+
+    private fun berechne(jahr: Int): Set<LocalDate> {
+        val tage = HashSet<LocalDate>()
+        val ostern = ostersonntag(jahr)
+        tage.add(LocalDate.of(jahr, 1, 1))
+        tage.add(ostern.minusDays(2))
+        tage.add(ostern.plusDays(1))
+        tage.add(LocalDate.of(jahr, 5, 1))
+        tage.add(ostern.plusDays(39))
+        tage.add(ostern.plusDays(50))
+        if (jahr >= 1990) {
+            tage.add(LocalDate.of(jahr, 10, 3))
+        }
+        if (jahr == 2017) {
+            tage.add(LocalDate.of(jahr, 10, 31))
+        }
+        tage.add(LocalDate.of(jahr, 12, 25))
+        tage.add(LocalDate.of(jahr, 12, 26))
+        if (bundesland != null) {
+            addLandesfeiertage(tage, jahr, ostern, bundesland)
+        }
+        return tage
+    }
+
+    private fun addLandesfeiertage(tage: MutableSet<LocalDate>, jahr: Int, ostern: LocalDate, land: Bundesland) {
+        if (land in setOf(Bundesland.BW, Bundesland.BY, Bundesland.ST)) {
+            tage.add(LocalDate.of(jahr, 1, 6))
+        }
+        if ((land == Bundesland.BE && jahr >= 2019) || (land == Bundesland.MV && jahr >= 2023)) {
+            tage.add(LocalDate.of(jahr, 3, 8))
+        }
+        if (land == Bundesland.BB) {
+            tage.add(ostern)
+            tage.add(ostern.plusDays(49))
+        }
+        if (land in setOf(Bundesland.BW, Bundesland.BY, Bundesland.HE, Bundesland.NW, Bundesland.RP, Bundesland.SL)) {
+            tage.add(ostern.plusDays(60))
+        }
+        if (land == Bundesland.SL) {
+            tage.add(LocalDate.of(jahr, 8, 15))
+        }
+        if (land == Bundesland.TH && jahr >= 2019) {
+            tage.add(LocalDate.of(jahr, 9, 20))
+        }
+        if (land in setOf(Bundesland.BB, Bundesland.MV, Bundesland.SN, Bundesland.ST, Bundesland.TH) ||
+            (land in setOf(Bundesland.HB, Bundesland.HH, Bundesland.NI, Bundesland.SH) && jahr >= 2018)) {
+            tage.add(LocalDate.of(jahr, 10, 31))
+        }
+        if (land in setOf(Bundesland.BW, Bundesland.BY, Bundesland.NW, Bundesland.RP, Bundesland.SL)) {
+            tage.add(LocalDate.of(jahr, 11, 1))
+        }
+        if (land == Bundesland.SN) {
+            // Buss- und Bettag ist der Mittwoch vor dem 23. November
+            tage.add(LocalDate.of(jahr, 11, 22).with(TemporalAdjusters.previousOrSame(DayOfWeek.WEDNESDAY)))
+        }
+    }
+
+    override fun toString(): String {
+        return "DeutscheFeiertage(${bundesland ?: "bundesweit"})"
+    }
+
+
+
+    companion object {
+
+        /**
+         * Berechnet den Ostersonntag nach der Gauss'schen Osterformel
+         * (fuer den gregorianischen Kalender).
+         *
+         * @param jahr z.B. 2026
+         * @return Ostersonntag
+         */
+        @JvmStatic
+        fun ostersonntag(jahr: Int): LocalDate {
+            val a = jahr % 19
+            val b = jahr / 100
+            val c = jahr % 100
+            val d = b / 4
+            val e = b % 4
+            val f = (b + 8) / 25
+            val g = (b - f + 1) / 3
+            val h = (19 * a + b - d - g + 15) % 30
+            val i = c / 4
+            val k = c % 4
+            val l = (32 + 2 * e + 2 * i - h - k) % 7
+            val m = (a + 11 * h + 22 * l) / 451
+            val n = h + l - 7 * m + 114
+            return LocalDate.of(jahr, Month.of(n / 31), n % 31 + 1)
+        }
+
+    }
+
+}
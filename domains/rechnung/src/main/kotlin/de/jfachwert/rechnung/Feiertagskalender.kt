@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 18.10.2026 by oboehm (ob@oasd.de)
+ */
+package de.jfachwert.rechnung
+
+import java.time.DayOfWeek
+import java.time.LocalDate
+
+/**
+ * Ueber einen Feiertagskalender kann festgelegt werden, welche Tage
+ * (neben dem Wochenende) keine Arbeitstage sind. Er wird z.B. von
+ * [Rechnungsmonat.ersterArbeitstag] verwendet.
+ *
+ * @author oboehm
+ * @since 6.8 (18.10.2026)
+ */
+fun interface Feiertagskalender {
+
+    /**
+     * Prueft, ob der uebergebene Tag ein Feiertag ist.
+     *
+     * @param datum Datum
+     * @return true bei einem Feiertag
+     */
+    fun isFeiertag(datum: LocalDate): Boolean
+
+    /**
+     * Ein Arbeitstag ist ein Werktag von Montag bis Freitag, der kein
+     * Feiertag ist.
+     *
+     * @param datum Datum
+     * @return true bei einem Arbeitstag
+     */
+    fun isArbeitstag(datum: LocalDate): Boolean {
+        val wochentag = datum.dayOfWeek
+        return wochentag != DayOfWeek.SATURDAY && wochentag != DayOfWeek.SUNDAY && !isFeiertag(datum)
+    }
+
+    companion object {
+
+        /** Kalender ohne Feiertage, bei dem nur das Wochenende frei ist. */
+        @JvmField
+        val KEINE = Feiertagskalender { false }
+
+    }
+
+}
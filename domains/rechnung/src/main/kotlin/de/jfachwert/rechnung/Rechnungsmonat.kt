@@ -22,14 +22,17 @@ import tools.jackson.databind.ser.std.ToStringSerializer
 import de.jfachwert.KFachwert
 import de.jfachwert.pruefung.exception.InvalidValueException
 import de.jfachwert.pruefung.exception.LocalizedIllegalArgumentException
+import de.jfachwert.util.LazyField
 import org.apache.commons.lang3.Range
-import org.apache.commons.lang3.StringUtils
+import java.text.ParsePosition
+import java.time.DateTimeException
 import java.time.DayOfWeek
 import java.time.LocalDate
 import java.time.Month
 import java.time.format.DateTimeFormatter
 import java.time.format.DateTimeParseException
 import java.util.*
+import java.util.concurrent.atomic.AtomicReferenceArray
 
 /**
  * Vor allem bei Abonnements oder bei wiederkehrenden Gebuehren findet man
@@ -52,6 +55,30 @@ import java.util.*
 open class Rechnungsmonat : KFachwert, Comparable<Rechnungsmonat> {
 
     private val monate: Short
+    @Transient
+    private var kalenderCache: Kalenderdaten? = null
+
+    /**
+     * Erster und letzter Tag sowie erster und letzter Arbeitstag (ohne
+     * Feiertage) werden beim ersten Zugriff gemeinsam berechnet.
+     */
+    private class Kalenderdaten(val ersterTag: LocalDate) {
+        val letzterTag: LocalDate = ersterTag.withDayOfMonth(ersterTag.lengthOfMonth())
+        val ersterArbeitstag: LocalDate = when (ersterTag.dayOfWeek) {
+            DayOfWeek.SATURDAY -> ersterTag.plusDays(2)
+            DayOfWeek.SUNDAY -> ersterTag.plusDays(1)
+            else -> ersterTag
+        }
+        val letzterArbeitstag: LocalDate = when (letzterTag.dayOfWeek) {
+            DayOfWeek.SATURDAY -> letzterTag.minusDays(1)
+            DayOfWeek.SUNDAY -> letzterTag.minusDays(2)
+            else -> letzterTag
+        }
+    }
+
+    private fun kalenderdaten(): Kalenderdaten {
+        return LazyField.get(kalenderCache, { kalenderCache = it }) { Kalenderdaten(LocalDate.of(jahr, monat, 1)) }
+    }
 
     /**
      * Erzeugt einen gueltigen Rechnungsmonat anhand des uebergebenen
@@ -72,21 +99,19 @@ open class Rechnungsmonat : KFachwert, Comparable<Rechnungsmonat> {
      * Monat als "7/2017" angegeben werden, es werden aber auch andere
      * Formate wie "Jul-2017" oder "2017-07-14" unterstuetzt.
      *
+     * Rein numerische Formate wie "7/2017", "2017-07", "7.17" oder
+     * "2017-07-14" werden in einem Durchgang ohne regulaere Ausdruecke
+     * erkannt. Nur bei der Punkt-Schreibweise ("7.17") werden zweistellige
+     * Jahreszahlen als 20xx interpretiert, bei "7/17" bleibt es (wie bisher)
+     * beim Jahr 17.
      * Auch wenn "Jul-2017" und andere Formate als gueltiger Rechnungsmonat
-     * erkannt werden, sollte man dies nur vorsichtig einsetzen, da hier mit
-     * Brute-Force einfach nur geraten wird, welches Format es sein koennte.
+     * erkannt werden, sollte man dies nur vorsichtig einsetzen, da hier
+     * einfach nur geraten wird, welches Format es sein koennte.
      *
      * @param monat z.B. "7/2017" fuer Juli 2017
      */
     constructor(monat: String) {
-        val parts = monat.split("/").toTypedArray()
-        monate = if (parts.size == 2 && isDigit(parts[0]) && isDigit(parts[1])) {
-            //asMonate(verify(MONTH, parts[0], VALID_MONTH_RANGE), verify(YEAR, parts[1], VALID_YEAR_RANGE))
-            asMonate(parts[0].toInt(), parts[1].toInt())
-        } else {
-            val date = toLocalDate(monat)
-            asMonate(date.monthValue, date.year)
-        }
+        monate = toMonate(monat)
     }
 
     private constructor(monate: Int) {
@@ -174,7 +199,7 @@ open class Rechnungsmonat : KFachwert, Comparable<Rechnungsmonat> {
      * @since 0.6
      */
     fun ersterTag(): LocalDate {
-        return LocalDate.of(jahr, monat, 1)
+        return kalenderdaten().ersterTag
     }
 
     /**
@@ -187,11 +212,8 @@ open class Rechnungsmonat : KFachwert, Comparable<Rechnungsmonat> {
      * @since 0.6
      */
     fun ersterTag(wochentag: DayOfWeek): LocalDate {
-        var tag = ersterTag()
-        while (tag.dayOfWeek != wochentag) {
-            tag = tag.plusDays(1)
-        }
-        return tag
+        val tag = ersterTag()
+        return tag.plusDays(((wochentag.value - tag.dayOfWeek.value + 7) % 7).toLong())
     }
 
     /**
@@ -203,12 +225,28 @@ open class Rechnungsmonat : KFachwert, Comparable<Rechnungsmonat> {
      * @since 0.6
      */
     fun ersterArbeitstag(): LocalDate {
-        val tag = ersterTag()
-        return when (tag.dayOfWeek) {
-            DayOfWeek.SATURDAY -> tag.plusDays(2)
-            DayOfWeek.SUNDAY -> tag.plusDays(1)
-            else -> tag
+        return kalenderdaten().ersterArbeitstag
+    }
+
+    /**
+     * Liefert den ersten Arbeitstag eines Monats unter Beruecksichtigung
+     * der Feiertage aus dem uebergebenen Kalender.
+     *
+     * @param kalender z.B. [DeutscheFeiertage]
+     * @return erster Arbeitstag
+     * @throws IllegalStateException falls der Monat keinen Arbeitstag hat
+     * @since 6.8 (18.10.2026)
+     */
+    fun ersterArbeitstag(kalender: Feiertagskalender): LocalDate {
+        val letzterTag = letzterTag()
+        var tag = ersterArbeitstag()
+        while (!tag.isAfter(letzterTag)) {
+            if (kalender.isArbeitstag(tag)) {
+                return tag
+            }
+            tag = tag.plusDays(1)
         }
+        throw IllegalStateException("no working day in $this according to $kalender")
     }
 
     /**
@@ -218,7 +256,7 @@ open class Rechnungsmonat : KFachwert, Comparable<Rechnungsmonat> {
      * @since 0.6
      */
     fun letzterTag(): LocalDate {
-        return folgemonat.ersterTag().minusDays(1)
+        return kalenderdaten().letzterTag
     }
 
     /**
@@ -231,11 +269,8 @@ open class Rechnungsmonat : KFachwert, Comparable<Rechnungsmonat> {
      * @since 0.6
      */
     fun letzterTag(wochentag: DayOfWeek): LocalDate {
-        var tag = ersterTag()
-        while (tag.dayOfWeek != wochentag) {
-            tag = tag.minusDays(1)
-        }
-        return tag
+        val tag = letzterTag()
+        return tag.minusDays(((tag.dayOfWeek.value - wochentag.value + 7) % 7).toLong())
     }
 
     /**
@@ -247,12 +282,28 @@ open class Rechnungsmonat : KFachwert, Comparable<Rechnungsmonat> {
      * @since 0.6
      */
     fun letzterArbeitstag(): LocalDate {
-        val tag = letzterTag()
-        return when (tag.dayOfWeek) {
-            DayOfWeek.SATURDAY -> tag.minusDays(1)
-            DayOfWeek.SUNDAY -> tag.minusDays(2)
-            else -> tag
+        return kalenderdaten().letzterArbeitstag
+    }
+
+    /**
+     * Liefert den letzten Arbeitstag eines Monats unter Beruecksichtigung
+     * der Feiertage aus dem uebergebenen Kalender.
+     *
+     * @param kalender z.B. [DeutscheFeiertage]
+     * @return letzter Arbeitstag
+     * @throws IllegalStateException falls der Monat keinen Arbeitstag hat
+     * @since 6.8 (18.10.2026)
+     */
+    fun letzterArbeitstag(kalender: Feiertagskalender): LocalDate {
+        val ersterTag = ersterTag()
+        var tag = letzterArbeitstag()
+        while (!tag.isBefore(ersterTag)) {
+            if (kalender.isArbeitstag(tag)) {
+                return tag
+            }
+            tag = tag.minusDays(1)
         }
+        throw IllegalStateException("no working day in $this according to $kalender")
     }
 
     /**
@@ -387,13 +438,22 @@ open class Rechnungsmonat : KFachwert, Comparable<Rechnungsmonat> {
         return monate - other.monate
     }
 
+    private fun readResolve(): Any {
+        return if (javaClass == Rechnungsmonat::class.java) of(monate.toInt()) else this
+    }
+
     companion object {
 
-        private val WEAK_CACHE: MutableMap<Short, Rechnungsmonat> = WeakHashMap()
+        // ein Platz fuer jeden Short-Wert, belegt wird er beim ersten Zugriff
+        private val TABELLE = AtomicReferenceArray<Rechnungsmonat>(1 shl 16)
         private val VALID_MONTH_RANGE = Range.of(1, 12)
         private val VALID_YEAR_RANGE = Range.of(0, 9999)
         private const val MONTH = "month"
         private const val YEAR = "year"
+        private val NORMALISIERUNG = Regex("[/.\\s]")
+        private val DATE_PATTERNS = arrayOf("d-MMM-yyyy", "d-MM-yyyy", "yyyy-MMM-d", "yyyy-MM-d", "MMM-d-yyyy")
+        private val FORMATTER = listOf(DateTimeFormatter.ISO_LOCAL_DATE) +
+                DATE_PATTERNS.flatMap { p -> listOf(Locale.ENGLISH, Locale.GERMAN).map { DateTimeFormatter.ofPattern(p, it) } }
         /** Null-Monat fuer Initialisierungen.  */
         @JvmField
         val NULL = of(0)
@@ -446,7 +506,21 @@ open class Rechnungsmonat : KFachwert, Comparable<Rechnungsmonat> {
          */
         @JvmStatic
         fun of(datum: String): Rechnungsmonat {
-            return of(Rechnungsmonat(datum).monate.toInt())
+            return of(toMonate(datum).toInt())
+        }
+
+        /**
+         * Wandelt mehrere Strings auf einmal in Rechnungsmonate um. Fuer
+         * die ueblichen numerischen Formate ("MM/yyyy", "yyyy-MM", "M.yy")
+         * werden dabei keine Zwischen-Objekte angelegt.
+         *
+         * @param monate z.B. aus einem Rechnungs-Import
+         * @return Rechnungsmonate in derselben Reihenfolge
+         * @since 6.8 (18.10.2026)
+         */
+        @JvmStatic
+        fun of(monate: Array<out CharSequence>): Array<Rechnungsmonat> {
+            return Array(monate.size) { of(toMonate(monate[it]).toInt()) }
         }
 
         /**
@@ -488,33 +562,150 @@ open class Rechnungsmonat : KFachwert, Comparable<Rechnungsmonat> {
          * vor allem dann, wenn man viele gleiche Rechnungsmonate hat und sich den
          * Overhead eines Objekts sparen will.
          *
+         * Seit 6.8 liegen die Rechnungsmonate in einer festen Tabelle mit
+         * einem Platz fuer jeden darstellbaren Monat, sodass die Suche nur
+         * noch ein Array-Zugriff ist. Einmal angelegte Rechnungsmonate
+         * bleiben damit erhalten und werden nicht mehr vom Garbage
+         * Collector abgeraeumt.
+         *
          * @param monate Anzahl Monate seit Christi Geburt
          * @return einen Rechnungsmonat
          * @since 2.2.2
          */
         @JvmStatic
         fun of(monate: Int): Rechnungsmonat {
-            return WEAK_CACHE.computeIfAbsent(monate.toShort()) { m: Short -> Rechnungsmonat(m.toInt()) }
+            val i = monate.toShort() - Short.MIN_VALUE
+            val vorhanden = TABELLE.get(i)
+            if (vorhanden != null) {
+                return vorhanden
+            }
+            val neu = Rechnungsmonat(monate)
+            return if (TABELLE.compareAndSet(i, null, neu)) neu else TABELLE.get(i)
+        }
+
+        private fun toMonate(monat: CharSequence): Short {
+            val gescannt = scan(monat)
+            if (gescannt >= 0) {
+                return asMonate(gescannt % 100, gescannt / 100)
+            }
+            val date = toLocalDate(monat.toString())
+            return asMonate(date.monthValue, date.year)
+        }
+
+        /**
+         * Erkennt "M/yyyy", "yyyy-M", "M.yy" sowie Datumsangaben wie
+         * "yyyy-MM-dd" oder "dd.MM.yyyy" in einem Durchgang. Als Trenner
+         * sind '/', '.', '-' und ' ' erlaubt, muessen aber einheitlich sein.
+         * Wie beim Parsen ueber "yyyy-MM-d" (ResolverStyle.SMART) wird ein zu
+         * grosser Tag (z.B. "2017-02-30") auf das Monatsende gekuerzt.
+         *
+         * @return jahr * 100 + monat oder -1, falls das Format nicht passt
+         */
+        private fun scan(s: CharSequence): Int {
+            var i = 0
+            var ende = s.length
+            while (i < ende && s[i] == ' ') {
+                i++
+            }
+            while (ende > i && s[ende - 1] == ' ') {
+                ende--
+            }
+            val zahlen = IntArray(3)
+            val laengen = IntArray(3)
+            var n = 0
+            var trenner = ' '
+            while (true) {
+                if (n == 3) {
+                    return -1
+                }
+                val start = i
+                var z = 0
+                while (i < ende && i - start < 4 && s[i] in '0'..'9') {
+                    z = z * 10 + (s[i++] - '0')
+                }
+                if (i == start) {
+                    return -1
+                }
+                zahlen[n] = z
+                laengen[n++] = i - start
+                if (i == ende) {
+                    break
+                }
+                val c = s[i++]
+                if (n == 1) {
+                    if (c != '/' && c != '.' && c != '-' && c != ' ') {
+                        return -1
+                    }
+                    trenner = c
+                } else if (c != trenner) {
+                    return -1
+                }
+            }
+            return if (n == 2) {
+                monatJahr(zahlen, laengen, trenner)
+            } else {
+                datum(zahlen, laengen)
+            }
+        }
+
+        private fun monatJahr(zahlen: IntArray, laengen: IntArray, trenner: Char): Int {
+            return when {
+                laengen[0] == 4 && laengen[1] <= 2 -> zahlen[0] * 100 + zahlen[1]
+                laengen[0] > 2 -> -1
+                trenner == '/' || laengen[1] == 4 -> zahlen[1] * 100 + zahlen[0]
+                trenner == '.' && laengen[1] == 2 -> (2000 + zahlen[1]) * 100 + zahlen[0]
+                else -> -1
+            }
+        }
+
+        private fun datum(zahlen: IntArray, laengen: IntArray): Int {
+            val jahr: Int
+            val tag: Int
+            if (laengen[0] == 4 && laengen[1] <= 2 && laengen[2] <= 2) {
+                jahr = zahlen[0]
+                tag = zahlen[2]
+            } else if (laengen[0] <= 2 && laengen[1] <= 2 && laengen[2] == 4) {
+                jahr = zahlen[2]
+                tag = zahlen[0]
+            } else {
+                return -1
+            }
+            val monat = zahlen[1]
+            if (monat !in 1..12 || tag !in 1..31) {
+                return -1
+            }
+            return jahr * 100 + monat
         }
 
         private fun toLocalDate(monat: String): LocalDate {
-            var normalized = monat.replace("[/.\\s]".toRegex(), "-")
-            val parts = monat.split("-").toTypedArray()
+            var normalized = monat.trim().replace(NORMALISIERUNG, "-")
+            val parts = normalized.split("-")
             if (parts.size == 2) {
                 normalized = "1-$normalized"
             } else if (parts.size != 3) {
                 throw LocalizedIllegalArgumentException(monat, MONTH)
             }
-            return try {
-                LocalDate.parse(normalized)
-            } catch (ex: DateTimeParseException) {
-                guessLocalDate(normalized, ex)
+            for (formatter in FORMATTER) {
+                val pos = ParsePosition(0)
+                if (formatter.parseUnresolved(normalized, pos) != null && pos.errorIndex < 0 &&
+                    pos.index == normalized.length) {
+                    try {
+                        return LocalDate.from(formatter.parse(normalized))
+                    } catch (ex: DateTimeException) {
+                        throw InvalidValueException(monat, MONTH, ex)
+                    }
+                }
             }
+            return guessLocalDate(normalized)
         }
 
-        private fun guessLocalDate(monat: String, ex: DateTimeParseException): LocalDate {
-            val datePatterns = arrayOf("d-MMM-yyyy", "d-MM-yyyy", "yyyy-MMM-d", "yyyy-MM-d", "MMM-d-yyyy")
-            for (pattern in datePatterns) {
+        /**
+         * Letzter Versuch fuer Monatsnamen in anderen Sprachen, bei dem
+         * alle verfuegbaren Locales durchprobiert werden.
+         */
+        private fun guessLocalDate(monat: String): LocalDate {
+            val ex = IllegalArgumentException("'$monat' is not a known date format")
+            for (pattern in DATE_PATTERNS) {
                 for (locale in Locale.getAvailableLocales()) {
                     try {
                         return LocalDate.parse(monat, DateTimeFormatter.ofPattern(pattern, locale))
@@ -534,9 +725,6 @@ open class Rechnungsmonat : KFachwert, Comparable<Rechnungsmonat> {
             return number
         }
 
-        private fun isDigit(number: String): Boolean {
-            return StringUtils.isNumeric(number)
-        }
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 18.10.2026 by oboehm (ob@oasd.de)
+ */
+package de.jfachwert.rechnung;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-Tests fuer {@link DeutscheFeiertage}-Klasse.
+ *
+ * @author oboehm
+ */
+public final class DeutscheFeiertageTest {
+
+    private final DeutscheFeiertage bundesweit = new DeutscheFeiertage();
+
+    @Test
+    public void testOstersonntag() {
+        assertEquals(LocalDate.of(2024, 3, 31), DeutscheFeiertage.ostersonntag(2024));
+        assertEquals(LocalDate.of(2025, 4, 20), DeutscheFeiertage.ostersonntag(2025));
+        assertEquals(LocalDate.of(2026, 4, 5), DeutscheFeiertage.ostersonntag(2026));
+        assertEquals(LocalDate.of(2038, 4, 25), DeutscheFeiertage.ostersonntag(2038));
+    }
+
+    @Test
+    public void testBundesweit() {
+        assertEquals(9, bundesweit.getFeiertage(2026).size());
+        assertTrue(bundesweit.isFeiertag(LocalDate.of(2026, 5, 14)));   // Christi Himmelfahrt
+        assertTrue(bundesweit.isFeiertag(LocalDate.of(2026, 5, 25)));   // Pfingstmontag
+        assertFalse(bundesweit.isFeiertag(LocalDate.of(2026, 6, 4)));   // Fronleichnam
+        assertTrue(bundesweit.isFeiertag(LocalDate.of(2017, 10, 31)));  // 500 Jahre Reformation
+    }
+
+    @Test
+    public void testBundesland() {
+        LocalDate fronleichnam = LocalDate.of(2026, 6, 4);
+        assertTrue(new DeutscheFeiertage(DeutscheFeiertage.Bundesland.BY).isFeiertag(fronleichnam));
+        assertFalse(new DeutscheFeiertage(DeutscheFeiertage.Bundesland.BE).isFeiertag(fronleichnam));
+        assertTrue(new DeutscheFeiertage(DeutscheFeiertage.Bundesland.BE).isFeiertag(LocalDate.of(2026, 3, 8)));
+        assertTrue(new DeutscheFeiertage(DeutscheFeiertage.Bundesland.HH).isFeiertag(LocalDate.of(2026, 10, 31)));
+        assertFalse(new DeutscheFeiertage(DeutscheFeiertage.Bundesland.HH).isFeiertag(LocalDate.of(2016, 10, 31)));
+    }
+
+    @Test
+    public void testBussUndBettag() {
+        DeutscheFeiertage sachsen = new DeutscheFeiertage(DeutscheFeiertage.Bundesland.SN);
+        assertTrue(sachsen.isFeiertag(LocalDate.of(2026, 11, 18)));
+        assertTrue(sachsen.isFeiertag(LocalDate.of(2023, 11, 22)));
+        assertFalse(bundesweit.isFeiertag(LocalDate.of(2026, 11, 18)));
+    }
+
+    @Test
+    public void testIsArbeitstag() {
+        assertTrue(bundesweit.isArbeitstag(LocalDate.of(2026, 10, 19)));
+        assertFalse(bundesweit.isArbeitstag(LocalDate.of(2026, 10, 18)));
+        assertFalse(bundesweit.isArbeitstag(LocalDate.of(2026, 12, 25)));
+        assertTrue(Feiertagskalender.KEINE.isArbeitstag(LocalDate.of(2026, 12, 25)));
+    }
+
+}
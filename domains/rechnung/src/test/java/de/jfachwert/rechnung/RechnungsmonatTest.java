@@ -19,6 +19,7 @@ package de.jfachwert.rechnung;
 
 import de.jfachwert.FachwertTest;
 import de.jfachwert.KFachwert;
+import de.jfachwert.pruefung.exception.ValidationException;
 import org.junit.jupiter.api.Test;
 
 import java.time.DayOfWeek;
@@ -85,6 +86,80 @@ public final class RechnungsmonatTest extends FachwertTest {
     @Test
     public void testRechnungsmonatInvalid() {
         assertThrows(IllegalArgumentException.class, () -> Rechnungsmonat.of("1-2-3-4"));
+        assertThrows(IllegalArgumentException.class, () -> Rechnungsmonat.of("13/2017"));
+        assertThrows(ValidationException.class, () -> Rechnungsmonat.of("32.02.2017"));
+        assertThrows(ValidationException.class, () -> Rechnungsmonat.of("2/2017-01"));
+        assertThrows(ValidationException.class, () -> Rechnungsmonat.of("2-17"));
+    }
+
+    /**
+     * Ein zu grosser Tag wird wie frueher auf das Monatsende gekuerzt.
+     */
+    @Test
+    public void testOfTagUeberlauf() {
+        assertEquals(FEB_2017, Rechnungsmonat.of("2017-02-30"));
+        assertEquals(FEB_2017, Rechnungsmonat.of("30-02-2017"));
+        assertEquals(FEB_2017, Rechnungsmonat.of("30.02.2017"));
+    }
+
+    /**
+     * Nur in der Punkt-Schreibweise wird eine zweistellige Jahreszahl als
+     * 20xx interpretiert, bei "/" bleibt das Jahr unveraendert.
+     */
+    @Test
+    public void testOfZweistelligesJahr() {
+        assertEquals(Rechnungsmonat.of(7, 2017), Rechnungsmonat.of("7.17"));
+        assertEquals(Rechnungsmonat.of(7, 17), Rechnungsmonat.of("7/17"));
+        assertEquals(Rechnungsmonat.of(12, 99), Rechnungsmonat.of("12/99"));
+        Rechnungsmonat jul17 = Rechnungsmonat.of(7, 17);
+        assertEquals(jul17, Rechnungsmonat.of(jul17.toString()));
+    }
+
+    @Test
+    public void testOfNumerisch() {
+        Rechnungsmonat feb2017 = Rechnungsmonat.of(2, 2017);
+        for (String s : new String[]{"02/2017", "2/2017", "2017-02", "2017/2", "2.17", "02.17",
+                "2017-02-14", "14.02.2017", "14 2 2017", " 2/2017 "}) {
+            assertSame(feb2017, Rechnungsmonat.of(s), s);
+        }
+    }
+
+    @Test
+    public void testOfMonatsname() {
+        assertEquals(FEB_2017, Rechnungsmonat.of("Feb 2017"));
+        assertEquals(FEB_2017, Rechnungsmonat.of("14-Feb-2017"));
+        assertEquals(FEB_2017, Rechnungsmonat.of("2017-Feb-14"));
+    }
+
+    @Test
+    public void testOfArray() {
+        Rechnungsmonat[] monate = Rechnungsmonat.of(new CharSequence[]{"1/2016", "2017-02", new StringBuilder("12.16")});
+        assertArrayEquals(new Rechnungsmonat[]{JAN_2016, FEB_2017, DEZ_2016}, monate);
+    }
+
+    /**
+     * Dies ist kein echter Benchmark (dafuer waere JMH besser geeignet),
+     * gibt aber einen Anhaltspunkt fuer den Aufwand von
+     * {@link Rechnungsmonat#of(CharSequence[])} bei den typischen
+     * Formaten eines Rechnungs-Imports.
+     */
+    @Test
+    public void testOfPerformance() {
+        String[] formate = {"%d/%d", "%2$d-%1$02d", "%d.%02d"};
+        CharSequence[] eingabe = new CharSequence[300_000];
+        for (int i = 0; i < eingabe.length; i++) {
+            int monat = i % 12 + 1;
+            int jahr = 2000 + i % 30;
+            eingabe[i] = String.format(formate[i % 3], monat, i % 3 == 2 ? jahr % 100 : jahr);
+        }
+        long t0 = System.nanoTime();
+        Rechnungsmonat[] monate = Rechnungsmonat.of(eingabe);
+        long t1 = System.nanoTime();
+        LOG.info(() -> String.format("%d x Rechnungsmonat.of(..) took %.1f ms.", eingabe.length,
+                (t1 - t0) / 1_000_000.0));
+        for (int i = 0; i < eingabe.length; i += 997) {
+            assertEquals(Rechnungsmonat.of(i % 12 + 1, 2000 + i % 30), monate[i], eingabe[i].toString());
+        }
     }
 
     /**
@@ -183,6 +258,7 @@ public final class RechnungsmonatTest extends FachwertTest {
             LocalDate localDate = rechnungsmonat.ersterArbeitstag();
             assertNotWeekend(localDate);
             assertEquals(monat, localDate.getMonthValue());
+            assertSame(localDate, rechnungsmonat.ersterArbeitstag());
         }
     }
 
@@ -250,13 +326,64 @@ public final class RechnungsmonatTest extends FachwertTest {
         assertSame(m1, m2);
         if (forceGC()) {
             Rechnungsmonat m3 = Rechnungsmonat.of(5, 2025);
-            assertNotSame(m1, m3);
-            assertEquals(m1, m3);
+            assertSame(m1, m3);
         } else {
             LOG.info("GC wurde nicht durchgefuehrt.");
         }
     }
 
+    /**
+     * Auch ueber Vor- und Folgemonat erhaelt man immer dasselbe Objekt.
+     */
+    @Test
+    public void testOfTabelle() {
+        Rechnungsmonat m = Rechnungsmonat.of(1, 2026);
+        assertSame(m, m.getVormonat().getFolgemonat());
+        assertSame(m, Rechnungsmonat.of(m.asMonate() - 1));
+        assertSame(Rechnungsmonat.NULL, Rechnungsmonat.of(0));
+    }
+
+    @Test
+    public void testLetzterTagWochentag() {
+        Rechnungsmonat okt2026 = Rechnungsmonat.of(10, 2026);
+        assertEquals(LocalDate.of(2026, 10, 30), okt2026.letzterTag(DayOfWeek.FRIDAY));
+        assertEquals(LocalDate.of(2026, 10, 31), okt2026.letzterTag(DayOfWeek.SATURDAY));
+        assertEquals(LocalDate.of(2026, 10, 5), okt2026.ersterTag(DayOfWeek.MONDAY));
+        assertEquals(LocalDate.of(2026, 10, 1), okt2026.ersterTag(DayOfWeek.THURSDAY));
+    }
+
+    @Test
+    public void testArbeitstagMitFeiertagen() {
+        DeutscheFeiertage bw = new DeutscheFeiertage(DeutscheFeiertage.Bundesland.BW);
+        // 1.1.2026 ist Neujahr, 2.1. ein Freitag
+        assertEquals(LocalDate.of(2026, 1, 2), Rechnungsmonat.of(1, 2026).ersterArbeitstag(bw));
+        // 1.5.2026 ist ein Freitag, danach kommt das Wochenende
+        assertEquals(LocalDate.of(2026, 5, 4), Rechnungsmonat.of(5, 2026).ersterArbeitstag(bw));
+        // 31.12.2027 ist ein Freitag und kein gesetzlicher Feiertag
+        assertEquals(LocalDate.of(2027, 12, 31), Rechnungsmonat.of(12, 2027).letzterArbeitstag(bw));
+        // 3.4.2026 ist Karfreitag, 1.4. ist ein Mittwoch
+        assertEquals(LocalDate.of(2026, 4, 1), Rechnungsmonat.of(4, 2026).ersterArbeitstag(bw));
+        assertEquals(Rechnungsmonat.of(3, 2026).ersterArbeitstag(),
+                Rechnungsmonat.of(3, 2026).ersterArbeitstag(Feiertagskalender.KEINE));
+    }
+
+    /**
+     * Ein (eigener) Kalender, bei dem es keinen Arbeitstag gibt, darf
+     * weder zu einer Endlos-Schleife noch zu einem Tag ausserhalb des
+     * Monats fuehren.
+     */
+    @Test
+    public void testArbeitstagOhneArbeitstag() {
+        Feiertagskalender betriebsferien = datum -> datum.getMonthValue() == 8;
+        Rechnungsmonat aug2026 = Rechnungsmonat.of(8, 2026);
+        assertThrows(IllegalStateException.class, () -> aug2026.ersterArbeitstag(betriebsferien));
+        assertThrows(IllegalStateException.class, () -> aug2026.letzterArbeitstag(betriebsferien));
+        Feiertagskalender ersteHaelfte = datum -> datum.getDayOfMonth() <= 15;
+        assertEquals(LocalDate.of(2026, 8, 17), aug2026.ersterArbeitstag(ersteHaelfte));
+        Feiertagskalender zweiteHaelfte = datum -> datum.getDayOfMonth() > 15;
+        assertEquals(LocalDate.of(2026, 8, 14), aug2026.letzterArbeitstag(zweiteHaelfte));
+    }
+
     @Test
     public void testAsMonate() {
         assertEquals(1, Rechnungsmonat.of(1, 0).asMonate());
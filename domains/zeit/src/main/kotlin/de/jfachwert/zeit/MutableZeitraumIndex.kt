@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 18.10.2026 by oboehm (ob@oasd.de)
+ */
+package de.jfachwert.zeit
+
+import java.util.*
+import kotlin.math.sqrt
+
+/**
+ * Der MutableZeitraumIndex ist die veraenderliche Variante des
+ * [ZeitraumIndex]. Neue Zeitraeume landen zunaechst in einem kleinen
+ * Puffer, geloeschte Zeitraeume werden nur markiert. Erst wenn der
+ * Puffer zu gross wird (mehr als die Wurzel der Index-Groesse), werden
+ * Index und Puffer in einem Durchgang zu einem neuen [ZeitraumIndex]
+ * zusammengemischt. Damit bleiben sowohl das Einfuegen als auch die
+ * Abfragen guenstig.
+ *
+ * Die Klasse ist nicht thread-sicher. Mit [toIndex] erhaelt man aber
+ * jederzeit einen unveraenderlichen Schnappschuss, der sich gefahrlos
+ * zwischen Threads teilen laesst.
+ *
+ * @author oboehm
+ * @since 6.8 (18.10.2026)
+ */
+class MutableZeitraumIndex() : Iterable<Zeitraum> {
+
+    private var index = ZeitraumIndex.EMPTY
+    private var geloescht = BitSet()
+    private var anzahlGeloescht = 0
+    private val puffer = ArrayList<Zeitraum>()
+
+    /**
+     * Legt einen neuen Index mit den uebergebenen Zeitraeumen an.
+     *
+     * @param zeitraeume Zeitraeume fuer den Start
+     */
+    constructor(zeitraeume: Collection<Zeitraum>) : this() {
+        index = ZeitraumIndex.of(zeitraeume)
+    }
+
+    /**
+     * Anzahl der Zeitraeume im Index.
+     */
+    val size: Int
+        get() = index.size - anzahlGeloescht + puffer.size
+
+    /**
+     * Fuegt einen Zeitraum hinzu.
+     *
+     * @param zeitraum neuer Zeitraum
+     */
+    fun add(zeitraum: Zeitraum) {
+        puffer.add(zeitraum)
+        if (puffer.size > maxOf(MIN_PUFFER, sqrt(index.size.toDouble()).toInt())) {
+            verdichte()
+        }
+    }
+
+    /**
+     * Fuegt mehrere Zeitraeume auf einmal hinzu.
+     *
+     * @param zeitraeume neue Zeitraeume
+     */
+    fun addAll(zeitraeume: Collection<Zeitraum>) {
+        puffer.addAll(zeitraeume)
+        verdichte()
+    }
+
+    /**
+     * Entfernt einen Zeitraum. Ist er mehrfach vorhanden, wird nur einer
+     * davon entfernt.
+     *
+     * @param zeitraum zu entfernender Zeitraum
+     * @return true, falls der Zeitraum vorhanden war
+     */
+    fun remove(zeitraum: Zeitraum): Boolean {
+        if (puffer.remove(zeitraum)) {
+            return true
+        }
+        for (i in index.indizes(zeitraum)) {
+            if (!geloescht[i] && index[i] == zeitraum) {
+                geloescht.set(i)
+                anzahlGeloescht++
+                if (anzahlGeloescht > index.size / 2) {
+                    verdichte()
+                }
+                return true
+            }
+        }
+        return false
+    }
+
+    /**
+     * Liefert alle Zeitraeume, die sich mit dem uebergebenen Zeitraum
+     * ueberschneiden.
+     *
+     * @param zeitraum der gesuchte Zeitraum
+     * @return Zeitraeume, sortiert nach Anfang
+     * @see ZeitraumIndex.overlapping
+     */
+    fun overlapping(zeitraum: Zeitraum): List<Zeitraum> {
+        val treffer = ArrayList<Zeitraum>()
+        index.sammle(zeitraum.von, zeitraum.bis, false) { if (!geloescht[it]) treffer.add(index[it]) }
+        return ergaenze(treffer) { it.overlaps(zeitraum) }
+    }
+
+    /**
+     * Liefert alle Zeitraeume, in denen der uebergebene Zeitpunkt liegt.
+     *
+     * @param zeitpunkt der gesuchte Zeitpunkt
+     * @return Zeitraeume, sortiert nach Anfang
+     * @see ZeitraumIndex.containing
+     */
+    fun containing(zeitpunkt: Zeitpunkt): List<Zeitraum> {
+        val treffer = ArrayList<Zeitraum>()
+        index.sammle(zeitpunkt, zeitpunkt, true) { if (!geloescht[it]) treffer.add(index[it]) }
+        return ergaenze(treffer) { zeitpunkt in it }
+    }
+
+    private fun ergaenze(treffer: MutableList<Zeitraum>, bedingung: (Zeitraum) -> Boolean): List<Zeitraum> {
+        val anzahl = treffer.size
+        for (z in puffer) {
+            if (bedingung(z)) {
+                treffer.add(z)
+            }
+        }
+        if (treffer.size > anzahl) {
+            ZeitraumIndex.sort(treffer)
+        }
+        return treffer
+    }
+
+    /**
+     * Liefert die Luecken zwischen den Zeitraeumen.
+     *
+     * @return Luecken, aufsteigend sortiert
+     * @see ZeitraumIndex.gaps
+     */
+    fun gaps(): List<Zeitraum> {
+        return toIndex().gaps()
+    }
+
+    /**
+     * Liefert den aktuellen Stand als unveraenderlichen Index.
+     *
+     * @return unveraenderlicher Index
+     */
+    fun toIndex(): ZeitraumIndex {
+        if (puffer.isNotEmpty() || anzahlGeloescht > 0) {
+            verdichte()
+        }
+        return index
+    }
+
+    private fun verdichte() {
+        val vorhanden = ArrayList<Zeitraum>(index.size - anzahlGeloescht)
+        for (i in 0 until index.size) {
+            if (!geloescht[i]) {
+                vorhanden.add(index[i])
+            }
+        }
+        ZeitraumIndex.sort(puffer)
+        index = ZeitraumIndex.merge(vorhanden, puffer)
+        puffer.clear()
+        geloescht = BitSet()
+        anzahlGeloescht = 0
+    }
+
+    override fun iterator(): Iterator<Zeitraum> {
+        return toIndex().iterator()
+    }
+
+    override fun toString(): String {
+        return "MutableZeitraumIndex(size=$size)"
+    }
+
+
+
+    companion object {
+        private const val MIN_PUFFER = 64
+    }
+
+}
@@ -24,6 +24,7 @@ import de.jfachwert.KFachwert
 import de.jfachwert.Localized
 import de.jfachwert.util.ToFachwertSerializer
 import java.math.BigInteger
+import java.time.Duration
 import java.time.Period
 import java.time.temporal.Temporal
 import java.time.temporal.TemporalAmount
@@ -144,11 +145,31 @@ open class Zeitdauer(private val von: Zeitpunkt, private val bis: Zeitpunkt? = n
     }
 
     fun getTimeInNanos() : BigInteger {
-        return (bis?: Zeitpunkt()).minus(von).getTimeInNanos()
+        return getDauer().getTimeInNanos()
     }
 
     fun getTimeInMillis() : Long {
-        return getTimeInNanos().divide(Zeiteinheit.MILLISECONDS.toNanos(1)).toLong()
+        return getDauer().getTimeInMillis()
+    }
+
+    /**
+     * Liefert die Dauer als Differenz der beiden Zeitpunkte. Da der
+     * Zeitpunkt intern (wie [java.time.Instant]) aus Sekunden und
+     * Nanosekunden besteht, kommt die Berechnung ohne BigInteger aus.
+     */
+    private fun getDauer() : Zeitpunkt {
+        return (bis?: Zeitpunkt()).minus(von)
+    }
+
+    /**
+     * Wandelt die Zeitdauer in eine [Duration] um.
+     *
+     * @return Duration aus java.time
+     * @since 6.8
+     */
+    fun toDuration() : Duration {
+        val dauer = getDauer()
+        return Duration.ofSeconds(dauer.toEpochSecondExact().longValueExact(), dauer.getNanos().toLong())
     }
 
     override fun get(unit: TemporalUnit): Long {
@@ -182,7 +203,7 @@ open class Zeitdauer(private val von: Zeitpunkt, private val bis: Zeitpunkt? = n
     }
 
     override fun compareTo(other: Zeitdauer): Int {
-        return getTimeInNanos().compareTo(other.getTimeInNanos())
+        return getDauer().compareTo(other.getDauer())
     }
 
     /**
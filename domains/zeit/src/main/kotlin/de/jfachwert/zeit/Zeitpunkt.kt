@@ -20,25 +20,23 @@ package de.jfachwert.zeit
 import de.jfachwert.AbstractFachwert
 import de.jfachwert.Localized
 import de.jfachwert.pruefung.exception.LocalizedIllegalArgumentException
+import de.jfachwert.zeit.internal.ZeitpunktParser
 import java.math.BigDecimal
 import java.math.BigInteger
 import java.math.RoundingMode
 import java.sql.Timestamp
 import java.text.NumberFormat
+import java.time.Instant
 import java.time.LocalDate
 import java.time.LocalDateTime
 import java.time.ZoneOffset
 import java.time.format.DateTimeFormatter
 import java.time.format.DateTimeFormatterBuilder
-import java.time.format.DateTimeParseException
-import java.time.temporal.ChronoField
 import java.time.temporal.Temporal
 import java.time.temporal.TemporalField
 import java.time.temporal.TemporalUnit
 import java.util.*
 import java.util.concurrent.TimeUnit
-import java.util.logging.Level
-import java.util.logging.Logger
 
 
 /**
@@ -67,12 +65,28 @@ import java.util.logging.Logger
  * @since 5.0 (18.07.2023)
  */
 open class Zeitpunkt
-constructor(t: BigInteger): AbstractFachwert<BigInteger, Zeitpunkt>(t), Localized, Temporal {
+private constructor(gross: BigInteger, private val sekunden: Long, private val nanos: Int)
+    : AbstractFachwert<BigInteger, Zeitpunkt>(if (sekunden == GROSS) gross else BigInteger.ZERO), Localized, Temporal {
+
+    /**
+     * Erzeugt einen neuen Zeitpunkt.
+     *
+     * @param t Anzahl ns seit 1.1.1970
+     */
+    constructor(t: BigInteger) : this(t, toSekunden(t), t.mod(NANOS_PRO_SEKUNDE).toInt())
+
+    /**
+     * Erzeugt einen neuen Zeitpunkt.
+     *
+     * @param t Zeitpunkt als Instant
+     * @since 6.8
+     */
+    constructor(t: Instant) : this(BigInteger.ZERO, t.epochSecond, t.nano)
 
     /**
      * Erzeugt einen aktuellen Zeitpunkt.
      */
-    constructor() : this(currentTimeNanos()) {}
+    constructor() : this(Instant.now())
 
     /**
      * Erzeugt einen neuen Zeitpunkt.
@@ -81,6 +95,25 @@ constructor(t: BigInteger): AbstractFachwert<BigInteger, Zeitpunkt>(t), Localize
      */
     constructor(code: String) : this(toNanos(code)) {}
 
+    /**
+     * Intern wird der Zeitpunkt wie bei [Instant] als Sekunden und
+     * Nanosekunden abgelegt. Nur Zeitpunkte ausserhalb des Instant-Bereichs
+     * werden als BigInteger gespeichert. Der Code wird daher erst bei
+     * Bedarf erzeugt.
+     *
+     * @return Anzahl ns seit 1.1.1970
+     */
+    override val code: BigInteger
+        get() {
+            if (sekunden == GROSS) {
+                return super.code
+            }
+            if (sekunden > -MAX_LONG_SEKUNDEN && sekunden < MAX_LONG_SEKUNDEN) {
+                return BigInteger.valueOf(sekunden * NANOS + nanos)
+            }
+            return BigInteger.valueOf(sekunden).multiply(NANOS_PRO_SEKUNDE).add(BigInteger.valueOf(nanos.toLong()))
+        }
+
     /**
      * Liefert den aktuellen Zeitpunkt in Nanosekunden seit 1970 zurueck.
      *
@@ -96,6 +129,11 @@ constructor(t: BigInteger): AbstractFachwert<BigInteger, Zeitpunkt>(t), Localize
      * @return Zeit seit 1.1.1970 in ms
      */
     fun getTimeInMillis() : Long {
+        if (sekunden != GROSS && sekunden > -MAX_LONG_SEKUNDEN && sekunden < MAX_LONG_SEKUNDEN) {
+            val millis = sekunden * 1000 + nanos / 1_000_000
+            // wie bei BigInteger.divide wird Richtung 0 gerundet
+            return if (sekunden < 0 && nanos % 1_000_000 != 0) millis + 1 else millis
+        }
         return code.divide(Zeiteinheit.MILLISECONDS.toNanos(1)).toLong()
     }
 
@@ -116,18 +154,20 @@ constructor(t: BigInteger): AbstractFachwert<BigInteger, Zeitpunkt>(t), Localize
      * @return Nano-Anteil, von 0 bis 999_999_999
      */
     fun getNanos(): Int {
-        return code.mod(Zeiteinheit.SECONDS.toNanos(1)).toInt()
+        return if (sekunden == GROSS) code.mod(NANOS_PRO_SEKUNDE).toInt() else nanos
     }
 
     /**
-     * Liefert die Anzahl der Sekunden seit dem 1.1.1970. Diese Methode
-     * gilt nur fuer "normale" Zeitpunkte. Fuer groessere, weit entfernte
-     * Zeitpunkte sollte man toEpochSecondExact nehmen.
+     * Liefert die Anzahl der Sekunden seit dem 1.1.1970. Wie bei [Instant]
+     * wird dabei abgerundet, sodass zusammen mit [getNanos] wieder der
+     * urspruengliche Zeitpunkt herauskommt. Diese Methode gilt nur fuer
+     * "normale" Zeitpunkte. Fuer groessere, weit entfernte Zeitpunkte sollte
+     * man toEpochSecondExact nehmen.
      *
      * @return Anzahl Sekunden seit 1.1.1970 als Long-Wert
      */
     fun toEpochSecond(): Long {
-        return toEpochSecondExact().toLong()
+        return if (sekunden == GROSS) toEpochSecondExact().toLong() else sekunden
     }
 
     /**
@@ -136,7 +176,27 @@ constructor(t: BigInteger): AbstractFachwert<BigInteger, Zeitpunkt>(t), Localize
      * @return Anzahl Sekunden seit 1.1.1970 als BigInteger
      */
     fun toEpochSecondExact(): BigInteger {
-        return code.divide(Zeiteinheit.SECONDS.toNanos(1))
+        if (sekunden != GROSS) {
+            return BigInteger.valueOf(sekunden)
+        }
+        val t = code
+        return t.subtract(t.mod(NANOS_PRO_SEKUNDE)).divide(NANOS_PRO_SEKUNDE)
+    }
+
+    /**
+     * Liefert die Sekunden seit dem 1.1.1970 fuer Sortier-Zwecke. Liegt
+     * der Zeitpunkt ausserhalb des long-Bereichs, wird auf [Long.MIN_VALUE]
+     * bzw. [Long.MAX_VALUE] begrenzt. Bei diesen beiden Werten muss daher
+     * zusaetzlich ueber [compareTo] verglichen werden.
+     *
+     * @return Sekunden seit 1.1.1970, begrenzt auf den long-Bereich
+     */
+    internal fun toEpochSecondSaturated(): Long {
+        if (sekunden != GROSS) {
+            return sekunden
+        }
+        val s = toEpochSecondExact()
+        return if (s.bitLength() < 64) s.toLong() else if (s.signum() < 0) Long.MIN_VALUE else Long.MAX_VALUE
     }
 
     /**
@@ -146,6 +206,9 @@ constructor(t: BigInteger): AbstractFachwert<BigInteger, Zeitpunkt>(t), Localize
      * @return ermittelter Zeitpunkt als Kopie
      */
     fun minus(t: Zeitpunkt) : Zeitpunkt {
+        if (sekunden != GROSS && t.sekunden != GROSS) {
+            return ofEpochSecond(sekunden - t.sekunden, (nanos - t.nanos).toLong())
+        }
         return of(code.subtract(t.code))
     }
 
@@ -156,10 +219,24 @@ constructor(t: BigInteger): AbstractFachwert<BigInteger, Zeitpunkt>(t), Localize
      * @return ermittelter Zeitpunkt als Kopie
      */
     fun plus(t: Zeitpunkt) : Zeitpunkt {
+        if (sekunden != GROSS && t.sekunden != GROSS) {
+            return ofEpochSecond(sekunden + t.sekunden, (nanos + t.nanos).toLong())
+        }
         return of(code.add(t.code))
     }
 
+    /**
+     * Vergleicht zwei Zeitpunkte. Liegen beide im Instant-Bereich, kommt
+     * der Vergleich ohne BigInteger (und damit ohne Objekt-Erzeugung) aus.
+     *
+     * @param other der andere Zeitpunkt
+     * @return negative Zahl, 0 oder positive Zahl
+     */
     override fun compareTo(other: Zeitpunkt): Int {
+        if (sekunden != GROSS && other.sekunden != GROSS) {
+            val cmp = sekunden.compareTo(other.sekunden)
+            return if (cmp != 0) cmp else nanos.compareTo(other.nanos)
+        }
         return code.compareTo(other.code)
     }
 
@@ -171,7 +248,7 @@ constructor(t: BigInteger): AbstractFachwert<BigInteger, Zeitpunkt>(t), Localize
      * @since 5.3
      */
     fun isBefore(t: Zeitpunkt) : Boolean {
-        return code.compareTo(t.code) < 0
+        return compareTo(t) < 0
     }
 
     /**
@@ -182,7 +259,21 @@ constructor(t: BigInteger): AbstractFachwert<BigInteger, Zeitpunkt>(t), Localize
      * @since 5.3
      */
     fun isAfter(t: Zeitpunkt) : Boolean{
-        return code.compareTo(t.code) > 0
+        return compareTo(t) > 0
+    }
+
+    override fun equals(other: Any?): Boolean {
+        if (other !is Zeitpunkt || !this.javaClass.isAssignableFrom(other.javaClass)) {
+            return false
+        }
+        if (sekunden == GROSS || other.sekunden == GROSS) {
+            return code == other.code
+        }
+        return sekunden == other.sekunden && nanos == other.nanos
+    }
+
+    override fun hashCode(): Int {
+        return if (sekunden == GROSS) code.hashCode() else 31 * sekunden.hashCode() + nanos
     }
 
     /**
@@ -194,6 +285,19 @@ constructor(t: BigInteger): AbstractFachwert<BigInteger, Zeitpunkt>(t), Localize
         return Timestamp.valueOf(toLocalDateTime())
     }
 
+    /**
+     * Wandelt den Zeitpunkt in einen Instant um.
+     *
+     * @return Instant aus java.time
+     * @since 6.8
+     */
+    fun toInstant() : Instant {
+        if (sekunden == GROSS) {
+            throw IllegalStateException("Zeitpunkt $code kann nicht auf Instant abgebildet werden.")
+        }
+        return Instant.ofEpochSecond(sekunden, nanos.toLong())
+    }
+
     /**
      * Wandelt den Zeitpunkt in ein LocalDate um.
      *
@@ -232,13 +336,11 @@ constructor(t: BigInteger): AbstractFachwert<BigInteger, Zeitpunkt>(t), Localize
         if (isOutOfLocalDateTime()) {
             throw IllegalStateException("Zeitpunkt $code kann nicht auf LocalDateTime abgebildet werden.")
         }
-        return LocalDateTime.ofEpochSecond(toEpochSecond(), getNanos(), offset)
+        return LocalDateTime.ofEpochSecond(sekunden, nanos, offset)
     }
 
     private fun isOutOfLocalDateTime(): Boolean {
-        val sec = toEpochSecondExact()
-        return (sec.compareTo(BigInteger.valueOf(Integer.MIN_VALUE.toLong())) < 0)
-                || (sec.compareTo(BigInteger.valueOf(Integer.MAX_VALUE.toLong())) > 0)
+        return sekunden == GROSS || sekunden < Int.MIN_VALUE || sekunden > Int.MAX_VALUE
     }
 
     /**
@@ -369,24 +471,17 @@ constructor(t: BigInteger): AbstractFachwert<BigInteger, Zeitpunkt>(t), Localize
 
     companion object {
 
-        private val log = Logger.getLogger(Zeitpunkt::class.java.name)
+        // nur of(BigInteger) verwendet den Cache, nicht ofEpochSecond oder
+        // of(Instant), die fuer Massendaten gedacht sind
         private val WEAK_CACHE = WeakHashMap<BigInteger, Zeitpunkt>()
-        private val TIME_PATTERNS = arrayOf(
-            "H:m:s.SSSSSSSSS",
-            "H:m:s.SSSSSSSS",
-            "H:m:s.SSSSSSS",
-            "H:m:s.SSSSSS",
-            "H:m:s.SSSSS",
-            "H:m:s.SSSS",
-            "H:m:s.SSS",
-            "H:m:s.SS",
-            "H:m:s.S",
-            "H:m:s",
-            "H:m",
-            "h:m",
-            "K:m",
-            "k:m"
-        )
+        private const val NANOS = 1_000_000_000L
+        private val NANOS_PRO_SEKUNDE = BigInteger.valueOf(NANOS)
+        /** Markiert Zeitpunkte ausserhalb des Instant-Bereichs. */
+        private const val GROSS = Long.MIN_VALUE
+        /** Bis hierhin passen die Nanosekunden noch in ein long. */
+        private const val MAX_LONG_SEKUNDEN = Long.MAX_VALUE / NANOS - 1
+        private val MIN_SEKUNDEN = Instant.MIN.epochSecond
+        private val MAX_SEKUNDEN = Instant.MAX.epochSecond
         /** Die Epoche beginnt am 1.1.1970. */
         @JvmField
         val EPOCH = Zeitpunkt(BigInteger.ZERO)
@@ -405,8 +500,53 @@ constructor(t: BigInteger): AbstractFachwert<BigInteger, Zeitpunkt>(t), Localize
          */
         @JvmStatic
         fun of(code: BigInteger): Zeitpunkt {
-            val copy = BigInteger(code.toByteArray())
-            return WEAK_CACHE.computeIfAbsent(copy) { n: BigInteger -> Zeitpunkt(BigInteger(n.toByteArray())) }
+            // Schluessel wird kopiert und darf vom Zeitpunkt nicht referenziert
+            // werden, damit der Eintrag wieder aus dem Cache verschwinden kann
+            return WEAK_CACHE.computeIfAbsent(BigInteger(code.toByteArray())) { t: BigInteger ->
+                if (t.bitLength() < 64) {
+                    val n = t.toLong()
+                    ofEpochSecond(Math.floorDiv(n, NANOS), Math.floorMod(n, NANOS))
+                } else {
+                    Zeitpunkt(BigInteger(t.toByteArray()))
+                }
+            }
+        }
+
+        /**
+         * Liefert einen Zeitpunkt zurueck. Die Parameter entsprechen denen
+         * von [Instant.ofEpochSecond]; liegt das Ergebnis ausserhalb des
+         * Instant-Bereichs, wird es (wie bei [MIN] und [MAX]) als
+         * BigInteger abgelegt.
+         *
+         * @param epochSecond Sekunden seit 1.1.1970
+         * @param nanoAdjustment Nanosekunden, die noch addiert werden
+         * @return der Zeitpunkt
+         * @since 6.8
+         */
+        @JvmStatic
+        @JvmOverloads
+        fun ofEpochSecond(epochSecond: Long, nanoAdjustment: Long = 0): Zeitpunkt {
+            val zusatz = Math.floorDiv(nanoAdjustment, NANOS)
+            val sekunden = epochSecond + zusatz
+            val nanos = Math.floorMod(nanoAdjustment, NANOS).toInt()
+            val ueberlauf = ((epochSecond xor sekunden) and (zusatz xor sekunden)) < 0
+            if (ueberlauf || sekunden < MIN_SEKUNDEN || sekunden > MAX_SEKUNDEN) {
+                return Zeitpunkt(BigInteger.valueOf(epochSecond).multiply(NANOS_PRO_SEKUNDE)
+                    .add(BigInteger.valueOf(nanoAdjustment)))
+            }
+            return Zeitpunkt(BigInteger.ZERO, sekunden, nanos)
+        }
+
+        /**
+         * Liefert einen Zeitpunkt zurueck.
+         *
+         * @param t Zeitpunkt als Instant
+         * @return der Zeitpunkt
+         * @since 6.8
+         */
+        @JvmStatic
+        fun of(t: Instant): Zeitpunkt {
+            return Zeitpunkt(t)
         }
 
         /**
@@ -455,12 +595,10 @@ constructor(t: BigInteger): AbstractFachwert<BigInteger, Zeitpunkt>(t), Localize
          */
         @JvmStatic
         fun of(code: String): Zeitpunkt {
-            try {
+            if (ZeitpunktParser.isZahl(code)) {
                 return of(BigInteger(code))
-            } catch (ex: NumberFormatException) {
-                log.log(Level.FINE, "'$code' ist keine Zahl und wird als Datum behandelt:", ex)
-                return of(dateToNanos(code))
             }
+            return of(toLocalDateTime(code))
         }
 
         /**
@@ -484,9 +622,8 @@ constructor(t: BigInteger): AbstractFachwert<BigInteger, Zeitpunkt>(t), Localize
         fun of(t: Temporal): Zeitpunkt {
             when (t) {
                 is Zeitpunkt -> return t
-                is LocalDateTime -> return of(
-                    Zeiteinheit.SECONDS.toNanos(t.toEpochSecond(ZoneOffset.UTC))
-                    .add(BigInteger.valueOf(t.nano.toLong())))
+                is Instant -> return Zeitpunkt(t)
+                is LocalDateTime -> return Zeitpunkt(BigInteger.ZERO, t.toEpochSecond(ZoneOffset.UTC), t.nano)
             }
             throw UnsupportedOperationException("$t kann nicht zu Zeitpunkt konvertiert werden")
         }
@@ -499,8 +636,8 @@ constructor(t: BigInteger): AbstractFachwert<BigInteger, Zeitpunkt>(t), Localize
          */
         @JvmStatic
         fun of(t: Date): Zeitpunkt {
-            val nanos = Zeiteinheit.MILLISECONDS.toNanos(t.time)
-            return of(nanos)
+            val millis = t.time
+            return ofEpochSecond(Math.floorDiv(millis, 1000L), Math.floorMod(millis, 1000L) * 1_000_000L)
         }
 
         /**
@@ -510,112 +647,36 @@ constructor(t: BigInteger): AbstractFachwert<BigInteger, Zeitpunkt>(t), Localize
          */
         @JvmStatic
         fun now(): Zeitpunkt {
-            return Zeitpunkt(currentTimeNanos())
+            return Zeitpunkt(Instant.now())
         }
 
-        private fun currentTimeNanos(): BigInteger {
-            val now = LocalDateTime.now(ZoneOffset.UTC)
-            return Zeiteinheit.SECONDS.toNanos(now.toEpochSecond(ZoneOffset.UTC))
-                .add(BigInteger.valueOf(now.nano.toLong()))
+        /**
+         * Ermittelt die (abgerundeten) Sekunden. Liegt der Zeitpunkt
+         * ausserhalb des Instant-Bereichs, wird [GROSS] zurueckgeliefert.
+         */
+        private fun toSekunden(t: BigInteger): Long {
+            if (t.bitLength() < 64) {
+                return Math.floorDiv(t.toLong(), NANOS)
+            }
+            val sekunden = t.subtract(t.mod(NANOS_PRO_SEKUNDE)).divide(NANOS_PRO_SEKUNDE)
+            return if (sekunden.bitLength() < 64 && sekunden.toLong() in MIN_SEKUNDEN..MAX_SEKUNDEN) {
+                sekunden.toLong()
+            } else {
+                GROSS
+            }
         }
 
         private fun toNanos(s: String): BigInteger {
-            return try {
-                BigInteger(s)
-            } catch (ex: IllegalArgumentException) {
-                log.log(Level.FINE, "'$s' ist keine Zahl und wird als Datum behandelt.")
-                log.log(Level.FINER, "Details:", ex)
-                dateToNanos(s)
+            if (ZeitpunktParser.isZahl(s)) {
+                return BigInteger(s)
             }
-        }
-
-        private fun dateToNanos(s: String): BigInteger {
             val ldt = toLocalDateTime(s)
-            val seconds = ldt.toEpochSecond(ZoneOffset.UTC)
-            return Zeiteinheit.SECONDS.toNanos(seconds)
+            return Zeiteinheit.SECONDS.toNanos(ldt.toEpochSecond(ZoneOffset.UTC))
                 .add(BigInteger.valueOf(ldt.nano.toLong()))
         }
 
         private fun toLocalDateTime(s: String): LocalDateTime {
-            val datePatterns = arrayOf(
-                "yyyy-MM-dd", "dd-MM-yyyy", "dd MM yyyy", "yyyy MM dd", "dd.MM.yyyy"
-            )
-            val dtfb = DateTimeFormatterBuilder()
-            for (dp in datePatterns) {
-                for (tmPttrn in TIME_PATTERNS) {
-                    dtfb.appendOptional(DateTimeFormatter.ofPattern("$dp $tmPttrn"))
-                }
-                dtfb.appendOptional(DateTimeFormatter.ofPattern(dp))
-            }
-            dtfb
-                .parseDefaulting(ChronoField.HOUR_OF_DAY, 0)
-                .parseDefaulting(ChronoField.MINUTE_OF_HOUR, 0)
-                .parseDefaulting(ChronoField.SECOND_OF_MINUTE, 0)
-            val formatter = dtfb.toFormatter()
-            try {
-                return LocalDateTime.parse(s, formatter)
-            } catch (ex: DateTimeParseException) {
-                log.finer("'$s' wurde (noch) nicht als gueltiges Datum erkannt (${ex.localizedMessage})")
-                log.log(Level.FINEST, "Details:", ex)
-                return parseLocalDateTime(s)
-            }
-        }
-
-        private fun parseLocalDateTime(s: String): LocalDateTime {
-            val formatter = mutableListOf(
-                DateTimeFormatter.ISO_LOCAL_DATE_TIME,
-                DateTimeFormatter.ISO_DATE_TIME,
-                DateTimeFormatter.ISO_OFFSET_DATE_TIME
-            )
-            formatter.addAll(getLocalDateFormatters(TIME_PATTERNS))
-            for (dtf in formatter) {
-                try {
-                    return LocalDateTime.parse(s, dtf)
-                } catch (ex: DateTimeParseException) {
-                    log.finer("'$s' passt nicht zu $dtf.")
-                    log.log(Level.FINEST, "Details:", ex)
-                }
-            }
-            val date = toLocalDate(s)
-            return date.atStartOfDay()
-        }
-
-        private fun toLocalDate(s: String): LocalDate {
-            val mmmFormatter = mutableListOf(
-                DateTimeFormatter.ISO_LOCAL_DATE,
-                DateTimeFormatter.ISO_DATE,
-                DateTimeFormatter.ISO_OFFSET_DATE,
-                DateTimeFormatter.ISO_ORDINAL_DATE,
-                DateTimeFormatter.ISO_WEEK_DATE,
-                DateTimeFormatter.BASIC_ISO_DATE
-            )
-            mmmFormatter.addAll(getLocalDateFormatters(arrayOf("")))
-            for (formatter in mmmFormatter) {
-                try {
-                    return LocalDate.parse(s, formatter)
-                } catch (ex: DateTimeParseException) {
-                    log.finer("'$s' passt nicht zu $formatter'.")
-                    log.log(Level.FINEST, "Details:", ex)
-                }
-            }
-            throw LocalizedIllegalArgumentException(s, "unknown_time_format")
-        }
-
-        private fun getLocalDateFormatters(timePatterns: Array<String>): List<DateTimeFormatter> {
-            val mmmFormatter = mutableListOf<DateTimeFormatter>()
-            val mmmPatterns = arrayOf(
-                "dd-MMM-yyyy", "yyyy-MMM-dd", "MMM-dd-yyyy", "dd MMM yyyy", "yyyy MMM dd",
-                "MMM dd yyyy", "dd.MMM.yyyy", "yyyy.MMM.dd", "MMM.dd.yyyy"
-            )
-            for (pattern in mmmPatterns) {
-                for (p in timePatterns) {
-                    //for (l in Locale.getAvailableLocales()) {
-                    for (l in arrayOf(Locale.ENGLISH, Locale.GERMAN)) {
-                        mmmFormatter.add(DateTimeFormatter.ofPattern("$pattern $p".trim(), l))
-                    }
-                }
-            }
-            return mmmFormatter
+            return ZeitpunktParser.parse(s) ?: throw LocalizedIllegalArgumentException(s, "unknown_time_format")
         }
 
     }
@@ -78,6 +78,32 @@ constructor(val von: Zeitpunkt = Zeitpunkt.MIN, val bis: Zeitpunkt = Zeitpunkt.M
         return von.compareTo(zeitraum.bis) >= 0
     }
 
+    /**
+     * Testet, ob sich beide Zeitraeume ueberschneiden. Das Ende zaehlt
+     * dabei nicht mehr zum Zeitraum, sodass zwei aneinander grenzende
+     * Zeitraeume (z.B. zwei aufeinander folgende Monate) sich nicht
+     * ueberschneiden.
+     *
+     * @param zeitraum der andere Zeitraum
+     * @return true, wenn es eine Ueberschneidung gibt
+     * @since 6.8 (18.10.2026)
+     */
+    fun overlaps(zeitraum: Zeitraum): Boolean {
+        return von < zeitraum.bis && zeitraum.von < bis
+    }
+
+    /**
+     * Testet, ob der uebergebene Zeitpunkt innerhalb des Zeitraums liegt.
+     * Wie bei [overlaps] gehoert der Anfang dazu, das Ende aber nicht.
+     *
+     * @param zeitpunkt der zu pruefende Zeitpunkt
+     * @return true, wenn von &lt;= zeitpunkt &lt; bis
+     * @since 6.8 (18.10.2026)
+     */
+    operator fun contains(zeitpunkt: Zeitpunkt): Boolean {
+        return von <= zeitpunkt && zeitpunkt < bis
+    }
+
     /**
      * Liefert die Zeitdauer des Zeitraums zurueck.
      *
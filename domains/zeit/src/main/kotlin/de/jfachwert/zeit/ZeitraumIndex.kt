@@ -0,0 +1,302 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 18.10.2026 by oboehm (ob@oasd.de)
+ */
+package de.jfachwert.zeit
+
+import java.util.*
+import java.util.function.IntConsumer
+
+/**
+ * Der ZeitraumIndex ist ein unveraenderlicher Index ueber eine Menge von
+ * [Zeitraum]-Objekten, mit dem sich Ueberschneidungen ([overlapping]),
+ * Zeitraeume zu einem Zeitpunkt ([containing]) und Luecken ([gaps])
+ * schneller als mit einer linearen Suche finden lassen.
+ *
+ * Intern sind die Zeitraeume nach ihrem Anfang sortiert. Anfang und Ende
+ * liegen als primitive Arrays (Sekunden und Nanosekunden) vor. Das
+ * sortierte Array wird als impliziter balancierter Suchbaum betrachtet,
+ * bei dem jedes Element in der Mitte seines Teilbereichs steht und sich
+ * das spaeteste Ende seines Teilbaums merkt (augmentierter Intervall-Baum).
+ * Damit liegt eine Abfrage bei O(log n + k), wobei k die Anzahl der
+ * Treffer ist.
+ *
+ * Wie bei [Zeitraum.overlaps] gehoert der Anfang zum Zeitraum, das Ende
+ * aber nicht mehr.
+ *
+ * Fuer einen Index, der sich nach und nach aufbauen laesst, gibt es den
+ * [MutableZeitraumIndex].
+ *
+ * @author oboehm
+ * @since 6.8 (18.10.2026)
+ */
+class ZeitraumIndex private constructor(private val zeitraeume: Array<Zeitraum>) : Iterable<Zeitraum> {
+
+    private val vonSek = LongArray(zeitraeume.size) { zeitraeume[it].von.toEpochSecondSaturated() }
+    private val vonNano = IntArray(zeitraeume.size) { zeitraeume[it].von.getNanos() }
+    private val bisSek = LongArray(zeitraeume.size) { zeitraeume[it].bis.toEpochSecondSaturated() }
+    private val bisNano = IntArray(zeitraeume.size) { zeitraeume[it].bis.getNanos() }
+    // Index des Elements mit dem spaetesten Ende im Teilbaum unter i
+    private val maxBis = IntArray(zeitraeume.size)
+
+    init {
+        aufbauen(0, zeitraeume.size)
+    }
+
+    private fun aufbauen(lo: Int, hi: Int): Int {
+        if (lo >= hi) {
+            return -1
+        }
+        val mid = (lo + hi) ushr 1
+        var max = mid
+        for (kind in intArrayOf(aufbauen(lo, mid), aufbauen(mid + 1, hi))) {
+            if (kind >= 0 && vergleicheBis(kind, bisSek[max], bisNano[max], zeitraeume[max].bis) > 0) {
+                max = kind
+            }
+        }
+        maxBis[mid] = max
+        return max
+    }
+
+    /**
+     * Anzahl der Zeitraeume im Index.
+     */
+    val size: Int
+        get() = zeitraeume.size
+
+    /**
+     * Liefert den i-ten Zeitraum (sortiert nach Anfang).
+     *
+     * @param i Index
+     * @return Zeitraum
+     */
+    operator fun get(i: Int): Zeitraum {
+        return zeitraeume[i]
+    }
+
+    /**
+     * Liefert alle Zeitraeume, die sich mit dem uebergebenen Zeitraum
+     * ueberschneiden.
+     *
+     * @param zeitraum der gesuchte Zeitraum
+     * @return Zeitraeume, sortiert nach Anfang
+     */
+    fun overlapping(zeitraum: Zeitraum): List<Zeitraum> {
+        val treffer = ArrayList<Zeitraum>()
+        sammle(zeitraum.von, zeitraum.bis, false) { treffer.add(zeitraeume[it]) }
+        return treffer
+    }
+
+    /**
+     * Liefert alle Zeitraeume, in denen der uebergebene Zeitpunkt liegt.
+     *
+     * @param zeitpunkt der gesuchte Zeitpunkt
+     * @return Zeitraeume, sortiert nach Anfang
+     */
+    fun containing(zeitpunkt: Zeitpunkt): List<Zeitraum> {
+        val treffer = ArrayList<Zeitraum>()
+        sammle(zeitpunkt, zeitpunkt, true) { treffer.add(zeitraeume[it]) }
+        return treffer
+    }
+
+    /**
+     * Liefert die Luecken zwischen den Zeitraeumen, also die Zeitraeume
+     * zwischen dem fruehesten Anfang und dem spaetesten Ende, die von
+     * keinem Zeitraum abgedeckt werden.
+     *
+     * @return Luecken, aufsteigend sortiert
+     */
+    fun gaps(): List<Zeitraum> {
+        val luecken = ArrayList<Zeitraum>()
+        if (zeitraeume.isEmpty()) {
+            return luecken
+        }
+        var ende = 0
+        for (i in 1 until zeitraeume.size) {
+            if (vergleicheVon(i, bisSek[ende], bisNano[ende], zeitraeume[ende].bis) > 0) {
+                luecken.add(Zeitraum(zeitraeume[ende].bis, zeitraeume[i].von))
+                ende = i
+            } else if (vergleicheBis(i, bisSek[ende], bisNano[ende], zeitraeume[ende].bis) > 0) {
+                ende = i
+            }
+        }
+        return luecken
+    }
+
+    /**
+     * Sammelt die Indizes aller Zeitraeume mit von &lt; bis bzw. (bei
+     * 'inklusive') von &lt;= bis und einem Ende nach 'von'.
+     */
+    internal fun sammle(von: Zeitpunkt, bis: Zeitpunkt, inklusive: Boolean, aktion: IntConsumer) {
+        sammle(0, zeitraeume.size, Grenze(von), Grenze(bis), if (inklusive) 0 else -1, aktion)
+    }
+
+    private fun sammle(lo: Int, hi: Int, von: Grenze, bis: Grenze, schranke: Int, aktion: IntConsumer) {
+        if (lo >= hi) {
+            return
+        }
+        val mid = (lo + hi) ushr 1
+        if (vergleicheBis(maxBis[mid], von) <= 0) {
+            // alle Zeitraeume in diesem Teilbaum enden vorher
+            return
+        }
+        sammle(lo, mid, von, bis, schranke, aktion)
+        if (vergleicheVon(mid, bis) > schranke) {
+            // alle Zeitraeume ab hier fangen erst danach an
+            return
+        }
+        if (vergleicheBis(mid, von) > 0) {
+            aktion.accept(mid)
+        }
+        sammle(mid + 1, hi, von, bis, schranke, aktion)
+    }
+
+    /**
+     * Liefert den Bereich der Indizes, deren Anfang gleich dem Anfang
+     * des uebergebenen Zeitraums ist.
+     */
+    internal fun indizes(zeitraum: Zeitraum): IntRange {
+        val von = Grenze(zeitraum.von)
+        var lo = 0
+        var hi = zeitraeume.size
+        while (lo < hi) {
+            val mid = (lo + hi) ushr 1
+            if (vergleicheVon(mid, von) < 0) lo = mid + 1 else hi = mid
+        }
+        var ende = lo
+        while (ende < zeitraeume.size && vergleicheVon(ende, von) == 0) {
+            ende++
+        }
+        return lo until ende
+    }
+
+    private fun vergleicheVon(i: Int, g: Grenze): Int {
+        return vergleicheVon(i, g.sek, g.nano, g.zeitpunkt)
+    }
+
+    private fun vergleicheVon(i: Int, sek: Long, nano: Int, t: Zeitpunkt): Int {
+        return vergleiche(vonSek[i], vonNano[i], zeitraeume[i].von, sek, nano, t)
+    }
+
+    private fun vergleicheBis(i: Int, g: Grenze): Int {
+        return vergleicheBis(i, g.sek, g.nano, g.zeitpunkt)
+    }
+
+    private fun vergleicheBis(i: Int, sek: Long, nano: Int, t: Zeitpunkt): Int {
+        return vergleiche(bisSek[i], bisNano[i], zeitraeume[i].bis, sek, nano, t)
+    }
+
+    override fun iterator(): Iterator<Zeitraum> {
+        return zeitraeume.iterator()
+    }
+
+    override fun toString(): String {
+        return "ZeitraumIndex(size=${zeitraeume.size})"
+    }
+
+    /**
+     * Vorab zerlegter Zeitpunkt fuer die Abfrage.
+     */
+    private class Grenze(val zeitpunkt: Zeitpunkt) {
+        val sek = zeitpunkt.toEpochSecondSaturated()
+        val nano = zeitpunkt.getNanos()
+    }
+
+
+
+    companion object {
+
+        private val REIHENFOLGE = Comparator.comparing(Zeitraum::von).thenComparing(Zeitraum::bis)
+
+        /** Leerer Index. */
+        @JvmField
+        val EMPTY = ZeitraumIndex(arrayOf())
+
+        /**
+         * Erzeugt einen Index fuer die uebergebenen Zeitraeume.
+         *
+         * @param zeitraeume beliebige Zeitraeume
+         * @return Index
+         */
+        @JvmStatic
+        fun of(vararg zeitraeume: Zeitraum): ZeitraumIndex {
+            return of(zeitraeume.asList())
+        }
+
+        /**
+         * Erzeugt einen Index fuer die uebergebenen Zeitraeume, die dazu
+         * nach ihrem Anfang sortiert werden.
+         *
+         * @param zeitraeume beliebige Zeitraeume
+         * @return Index
+         */
+        @JvmStatic
+        fun of(zeitraeume: Collection<Zeitraum>): ZeitraumIndex {
+            val sortiert = zeitraeume.toTypedArray()
+            Arrays.sort(sortiert, REIHENFOLGE)
+            return ZeitraumIndex(sortiert)
+        }
+
+        /**
+         * Erzeugt einen Index aus bereits nach Anfang sortierten Zeitraeumen.
+         * Damit entfaellt das Sortieren; es wird lediglich in einem
+         * Durchgang die Reihenfolge geprueft.
+         *
+         * @param zeitraeume nach Anfang sortierte Zeitraeume
+         * @return Index
+         */
+        @JvmStatic
+        fun ofSorted(zeitraeume: List<Zeitraum>): ZeitraumIndex {
+            val array = zeitraeume.toTypedArray()
+            for (i in 1 until array.size) {
+                require(array[i - 1].von <= array[i].von) { "${array[i]} starts before ${array[i - 1]}" }
+            }
+            return ZeitraumIndex(array)
+        }
+
+        /**
+         * Mischt die (sortierten) Zeitraeume zweier Listen zu einem neuen
+         * Index.
+         */
+        internal fun merge(a: List<Zeitraum>, b: List<Zeitraum>): ZeitraumIndex {
+            val array = arrayOfNulls<Zeitraum>(a.size + b.size)
+            var i = 0
+            var j = 0
+            for (k in array.indices) {
+                array[k] = if (j >= b.size || (i < a.size && REIHENFOLGE.compare(a[i], b[j]) <= 0)) a[i++] else b[j++]
+            }
+            @Suppress("UNCHECKED_CAST")
+            return ZeitraumIndex(array as Array<Zeitraum>)
+        }
+
+        internal fun sort(zeitraeume: MutableList<Zeitraum>) {
+            zeitraeume.sortWith(REIHENFOLGE)
+        }
+
+        private fun vergleiche(s1: Long, n1: Int, t1: Zeitpunkt, s2: Long, n2: Int, t2: Zeitpunkt): Int {
+            if (s1 != s2) {
+                return s1.compareTo(s2)
+            }
+            if (s1 == Long.MIN_VALUE || s1 == Long.MAX_VALUE) {
+                // ausserhalb des long-Bereichs entscheidet der exakte Vergleich
+                return t1.compareTo(t2)
+            }
+            return n1.compareTo(n2)
+        }
+
+    }
+
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 18.10.2026 by oboehm (ob@oasd.de)
+ */
+package de.jfachwert.zeit.internal
+
+import de.jfachwert.util.FachwertCodec
+import de.jfachwert.zeit.Zeitpunkt
+import java.math.BigInteger
+import java.nio.ByteBuffer
+import java.time.Instant
+
+/**
+ * Registriert den Kodierer fuer den Zeitpunkt beim [FachwertCodec]. Ein
+ * Zeitpunkt wird als Sekunden seit 1.1.1970 und Nano-Anteil (beides als
+ * Varint) abgelegt. Nur Zeitpunkte ausserhalb des Bereichs von [Instant]
+ * werden als BigInteger (in Nanosekunden) geschrieben.
+ *
+ * @author oboehm
+ * @since 6.8 (18.10.2026)
+ */
+class CodecErweiterung : FachwertCodec.Erweiterung {
+
+    override fun registriere(codec: FachwertCodec) {
+        codec.add(40, Zeitpunkt::class.java, ZeitpunktKodierer)
+    }
+
+    private object ZeitpunktKodierer : FachwertCodec.Kodierer<Zeitpunkt> {
+
+        override fun schreibe(wert: Zeitpunkt, buffer: ByteBuffer) {
+            val sekunden = wert.toEpochSecondSaturated()
+            if (sekunden < MIN_SEKUNDEN || sekunden > MAX_SEKUNDEN) {
+                FachwertCodec.putSignedVarLong(buffer, Long.MIN_VALUE)
+                buffer.put(wert.code.toByteArray())
+            } else {
+                FachwertCodec.putSignedVarLong(buffer, sekunden)
+                FachwertCodec.putVarInt(buffer, wert.getNanos())
+            }
+        }
+
+        override fun lese(buffer: ByteBuffer, laenge: Int): Zeitpunkt {
+            val start = buffer.position()
+            val sekunden = FachwertCodec.getSignedVarLong(buffer)
+            if (sekunden != Long.MIN_VALUE) {
+                return Zeitpunkt.of(Instant.ofEpochSecond(sekunden, FachwertCodec.getVarInt(buffer).toLong()))
+            }
+            val bytes = ByteArray(laenge - (buffer.position() - start))
+            buffer.get(bytes)
+            return Zeitpunkt.of(BigInteger(bytes))
+        }
+
+        private val MIN_SEKUNDEN = Instant.MIN.epochSecond
+        private val MAX_SEKUNDEN = Instant.MAX.epochSecond
+
+    }
+
+}
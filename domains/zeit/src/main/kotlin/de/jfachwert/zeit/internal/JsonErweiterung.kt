@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 18.10.2026 by oboehm (ob@oasd.de)
+ */
+package de.jfachwert.zeit.internal
+
+import de.jfachwert.util.FachwertModule
+import de.jfachwert.util.FromFelderDeserializer
+import de.jfachwert.util.ToFelderSerializer
+import de.jfachwert.zeit.Zeitpunkt
+import de.jfachwert.zeit.Zeitraum
+import java.util.function.Function
+
+/**
+ * Registriert die Serializer und Deserializer fuer Zeitpunkt und Zeitraum
+ * beim [FachwertModule].
+ *
+ * @author oboehm
+ * @since 6.8 (18.10.2026)
+ */
+class JsonErweiterung : FachwertModule.Erweiterung {
+
+    override fun registriere(module: FachwertModule) {
+        module.addFachwert(Zeitpunkt::class.java, Zeitpunkt::toString, Zeitpunkt::of)
+        val zeitraum = arrayOf("von", "bis")
+        module.addFachwert(Zeitraum::class.java,
+            ToFelderSerializer(Zeitraum::class.java, zeitraum, arrayOf(
+                Function { it.von.toString() },
+                Function { it.bis.toString() })),
+            FromFelderDeserializer(Zeitraum::class.java, zeitraum, ::toZeitraum, Zeitraum::of))
+    }
+
+    private fun toZeitraum(werte: Array<String?>): Zeitraum {
+        val von = werte[0]?.let { Zeitpunkt.of(it) } ?: Zeitpunkt.MIN
+        val bis = werte[1]?.let { Zeitpunkt.of(it) } ?: Zeitpunkt.MAX
+        return Zeitraum(von, bis)
+    }
+
+}
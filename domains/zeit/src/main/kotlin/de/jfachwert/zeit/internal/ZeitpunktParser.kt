@@ -0,0 +1,342 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 18.10.2026 by oboehm (ob@oasd.de)
+ */
+package de.jfachwert.zeit.internal
+
+import java.text.ParsePosition
+import java.time.LocalDate
+import java.time.LocalDateTime
+import java.time.Month
+import java.time.Year
+import java.time.format.DateTimeFormatter
+import java.time.format.DateTimeParseException
+import java.time.format.TextStyle
+import java.time.temporal.ChronoField
+import java.util.*
+
+/**
+ * Der ZeitpunktParser erkennt die Form eines Zeitpunkts anhand der
+ * Laenge und der Position der Trennzeichen und wertet ihn in einem
+ * einzigen Durchgang aus. Unterstuetzt werden:
+ *
+ *  * Datumsangaben wie "2024-01-18", "18-01-2024", "18.01.2024",
+ *    "18 01 2024" oder "2024 01 18", optional gefolgt von einer Uhrzeit
+ *    wie "19:20", "19:20:21" oder "19:20:21.123456789",
+ *  * ISO-Angaben wie "2024-01-18T19:20:21.234" (eine Zeitzone oder ein
+ *    Offset am Ende wird wie bei [LocalDateTime.parse] ignoriert),
+ *  * Datumsangaben mit Monatsnamen (englisch oder deutsch) wie
+ *    "18-Jan-2024", "Jan 18 2024" oder "2024.Jan.18", ebenfalls mit
+ *    optionaler Uhrzeit.
+ *
+ * Alle anderen Formate (z.B. "2024-018" oder "2024-W03-4") werden ueber
+ * vorab erzeugte [DateTimeFormatter] geprueft. Dabei wird
+ * [DateTimeFormatter.parseUnresolved] verwendet, sodass auch hier keine
+ * Exceptions fuer die Ablaufsteuerung noetig sind.
+ *
+ * Ungueltige Tage (z.B. der 31. Februar) werden wie beim
+ * [java.time.format.ResolverStyle.SMART] auf den letzten Tag des Monats
+ * gesetzt.
+ *
+ * @author oboehm
+ * @since 6.8 (18.10.2026)
+ */
+object ZeitpunktParser {
+
+    private val MONATE: Map<String, Int> = monatsnamen()
+    private val FORMATTER = listOf(
+        DateTimeFormatter.ISO_ORDINAL_DATE,
+        DateTimeFormatter.ISO_WEEK_DATE,
+        DateTimeFormatter.BASIC_ISO_DATE,
+        DateTimeFormatter.ISO_DATE_TIME,
+        DateTimeFormatter.ISO_DATE
+    )
+
+    /**
+     * Prueft, ob der uebergebene String eine (ganze) Zahl mit optionalem
+     * Vorzeichen ist.
+     *
+     * @param s zu pruefender String
+     * @return true, wenn es eine Zahl ist
+     */
+    @JvmStatic
+    fun isZahl(s: CharSequence): Boolean {
+        val start = if (s.isNotEmpty() && (s[0] == '-' || s[0] == '+')) 1 else 0
+        if (start >= s.length) {
+            return false
+        }
+        for (i in start until s.length) {
+            if (s[i] !in '0'..'9') {
+                return false
+            }
+        }
+        return true
+    }
+
+    /**
+     * Wandelt den uebergebenen String in ein [LocalDateTime] um.
+     *
+     * @param s Datum mit optionaler Uhrzeit
+     * @return Zeitpunkt oder null, falls das Format nicht erkannt wurde
+     */
+    @JvmStatic
+    fun parse(s: CharSequence): LocalDateTime? {
+        if (s.isEmpty()) {
+            return null
+        }
+        return if (s[0] in '0'..'9') {
+            parseNumerisch(s) ?: parseMonatsname(s) ?: parseFormatter(s)
+        } else {
+            parseMonatsname(s) ?: parseFormatter(s)
+        }
+    }
+
+    /**
+     * Erkennt "yyyy-MM-dd" und "dd-MM-yyyy" (mit '-', '.' oder ' ' als
+     * Trennzeichen) mit optionaler Uhrzeit.
+     */
+    private fun parseNumerisch(s: CharSequence): LocalDateTime? {
+        val sc = Scanner(s)
+        val erste = sc.ziffern(1, 4)
+        val jahrZuerst = sc.pos == 4
+        if (sc.pos == 3) {
+            return null
+        }
+        val sep = sc.naechstes()
+        if (sep != '-' && sep != '.' && sep != ' ') {
+            return null
+        }
+        val monat = sc.ziffern(1, 2)
+        if (monat < 0 || !sc.zeichen(sep)) {
+            return null
+        }
+        val dritte = if (jahrZuerst) sc.ziffern(1, 2) else sc.ziffern(4, 4)
+        if (dritte < 0) {
+            return null
+        }
+        return if (jahrZuerst) {
+            uhrzeit(sc, erste, monat, dritte, sep == '-')
+        } else {
+            uhrzeit(sc, dritte, monat, erste, false)
+        }
+    }
+
+    /**
+     * Erkennt Datumsangaben mit Monatsnamen wie "18-Jan-2024",
+     * "2024 Jan 18" oder "Jan.18.2024" mit optionaler Uhrzeit.
+     */
+    private fun parseMonatsname(s: CharSequence): LocalDateTime? {
+        val sc = Scanner(s)
+        var sep = ' '
+        var monat = -1
+        var jahr = -1
+        var tag = -1
+        for (i in 0..2) {
+            if (i > 0) {
+                val c = sc.naechstes()
+                if (i == 1) {
+                    sep = c
+                    if (sep != '-' && sep != '.' && sep != ' ') {
+                        return null
+                    }
+                } else if (c != sep) {
+                    return null
+                }
+            }
+            val start = sc.pos
+            if (sc.pos < s.length && Character.isLetter(s[sc.pos])) {
+                while (sc.pos < s.length && (Character.isLetter(s[sc.pos]) || (s[sc.pos] == '.' && sep != '.'))) {
+                    sc.pos++
+                }
+                if (monat >= 0) {
+                    return null
+                }
+                monat = MONATE[s.subSequence(start, sc.pos).toString().lowercase(Locale.GERMAN).removeSuffix(".")] ?: return null
+            } else {
+                val zahl = sc.ziffern(1, 4)
+                when {
+                    zahl < 0 -> return null
+                    sc.pos - start == 4 && jahr < 0 -> jahr = zahl
+                    sc.pos - start <= 2 && tag < 0 -> tag = zahl
+                    else -> return null
+                }
+            }
+        }
+        if (monat < 0 || jahr < 0 || tag < 0) {
+            return null
+        }
+        return uhrzeit(sc, jahr, monat, tag, false)
+    }
+
+    /**
+     * Wertet die (optionale) Uhrzeit nach dem Datum aus. Bei ISO-Angaben
+     * ist auch 'T' als Trenner und ein abschliessender Offset erlaubt.
+     */
+    private fun uhrzeit(sc: Scanner, jahr: Int, monat: Int, tag: Int, iso: Boolean): LocalDateTime? {
+        if (monat !in 1..12 || tag !in 1..31) {
+            return null
+        }
+        val laenge = Month.of(monat).length(Year.isLeap(jahr.toLong()))
+        val datum = LocalDateTime.of(jahr, monat, minOf(tag, laenge), 0, 0)
+        if (sc.isEnde()) {
+            return datum
+        }
+        val trenner = sc.naechstes()
+        if (iso && (trenner == '+' || trenner == '-' || trenner == 'Z')) {
+            sc.pos--
+            return if (offset(sc)) datum else null
+        }
+        if (trenner != ' ' && !(iso && trenner == 'T')) {
+            return null
+        }
+        val stunde = sc.ziffern(1, 2)
+        if (stunde !in 0..23 || !sc.zeichen(':')) {
+            return null
+        }
+        val minute = sc.ziffern(1, 2)
+        if (minute !in 0..59) {
+            return null
+        }
+        var sekunde = 0
+        var nanos = 0
+        if (sc.zeichen(':')) {
+            sekunde = sc.ziffern(1, 2)
+            if (sekunde !in 0..59) {
+                return null
+            }
+            if (sc.zeichen('.') || sc.zeichen(',')) {
+                val start = sc.pos
+                nanos = sc.ziffern(1, 9)
+                if (nanos < 0) {
+                    return null
+                }
+                for (i in sc.pos - start until 9) {
+                    nanos *= 10
+                }
+            }
+        }
+        if (!sc.isEnde() && !(iso && trenner == 'T' && offset(sc))) {
+            return null
+        }
+        return datum.withHour(stunde).withMinute(minute).withSecond(sekunde).withNano(nanos)
+    }
+
+    /**
+     * Ueberliest einen Offset wie "Z", "+01:00" oder "+0100" sowie eine
+     * optionale Zeitzone in eckigen Klammern. Wie bei [LocalDateTime.parse]
+     * wird der Offset nicht ausgewertet.
+     */
+    private fun offset(sc: Scanner): Boolean {
+        when (sc.naechstes()) {
+            'Z' -> {}
+            '+', '-' -> {
+                if (sc.ziffern(2, 2) < 0) {
+                    return false
+                }
+                sc.zeichen(':')
+                if (!sc.isEnde() && sc.aktuell() in '0'..'9' && sc.ziffern(2, 2) < 0) {
+                    return false
+                }
+                if (sc.zeichen(':') && sc.ziffern(2, 2) < 0) {
+                    return false
+                }
+            }
+            else -> return false
+        }
+        if (sc.zeichen('[')) {
+            while (!sc.isEnde() && sc.aktuell() != ']') {
+                sc.pos++
+            }
+            return sc.zeichen(']') && sc.isEnde()
+        }
+        return sc.isEnde()
+    }
+
+    private fun parseFormatter(s: CharSequence): LocalDateTime? {
+        for (formatter in FORMATTER) {
+            val pos = ParsePosition(0)
+            if (formatter.parseUnresolved(s, pos) == null || pos.errorIndex >= 0 || pos.index < s.length) {
+                continue
+            }
+            return try {
+                val t = formatter.parse(s)
+                if (t.isSupported(ChronoField.NANO_OF_DAY)) {
+                    LocalDateTime.from(t)
+                } else {
+                    LocalDate.from(t).atStartOfDay()
+                }
+            } catch (ex: DateTimeParseException) {
+                // Form passt, aber Werte sind ungueltig (z.B. Tag 367)
+                null
+            }
+        }
+        return null
+    }
+
+    private fun monatsnamen(): Map<String, Int> {
+        val namen = HashMap<String, Int>()
+        for (locale in arrayOf(Locale.ENGLISH, Locale.GERMAN)) {
+            for (monat in Month.entries) {
+                for (style in arrayOf(TextStyle.SHORT, TextStyle.FULL)) {
+                    val name = monat.getDisplayName(style, locale).lowercase(Locale.GERMAN).removeSuffix(".")
+                    namen[name] = monat.value
+                }
+            }
+        }
+        return namen
+    }
+
+
+
+    /**
+     * Einfacher Zeiger auf die aktuelle Position im String.
+     */
+    private class Scanner(private val s: CharSequence) {
+
+        var pos = 0
+
+        fun isEnde(): Boolean = pos >= s.length
+
+        fun aktuell(): Char = s[pos]
+
+        fun naechstes(): Char = if (pos < s.length) s[pos++] else '\u0000'
+
+        fun zeichen(c: Char): Boolean {
+            if (pos < s.length && s[pos] == c) {
+                pos++
+                return true
+            }
+            return false
+        }
+
+        /**
+         * Liest mindestens 'min' und hoechstens 'max' Ziffern.
+         *
+         * @return gelesene Zahl oder -1, falls es zu wenig Ziffern sind
+         */
+        fun ziffern(min: Int, max: Int): Int {
+            var n = 0
+            var anzahl = 0
+            while (anzahl < max && pos < s.length && s[pos] in '0'..'9') {
+                n = n * 10 + (s[pos++] - '0')
+                anzahl++
+            }
+            return if (anzahl < min) -1 else n
+        }
+
+    }
+
+}
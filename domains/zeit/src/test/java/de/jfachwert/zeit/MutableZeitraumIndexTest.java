@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 18.10.2026 by oboehm (ob@oasd.de)
+ */
+package de.jfachwert.zeit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-Tests fuer {@link MutableZeitraumIndex}-Klasse.
+ *
+ * @author oboehm
+ */
+public final class MutableZeitraumIndexTest {
+
+    private static final Zeitraum A = new Zeitraum(Zeitpunkt.ofEpochSecond(0), Zeitpunkt.ofEpochSecond(10));
+    private static final Zeitraum B = new Zeitraum(Zeitpunkt.ofEpochSecond(5), Zeitpunkt.ofEpochSecond(20));
+    private static final Zeitraum C = new Zeitraum(Zeitpunkt.ofEpochSecond(30), Zeitpunkt.ofEpochSecond(40));
+
+    @Test
+    public void testAddRemove() {
+        MutableZeitraumIndex index = new MutableZeitraumIndex(Arrays.asList(C, A));
+        index.add(B);
+        assertEquals(3, index.getSize());
+        assertEquals(Arrays.asList(A, B), index.containing(Zeitpunkt.ofEpochSecond(7)));
+        assertTrue(index.remove(A));
+        assertFalse(index.remove(A));
+        assertEquals(Collections.singletonList(B), index.containing(Zeitpunkt.ofEpochSecond(7)));
+        assertTrue(index.remove(B));
+        assertEquals(1, index.getSize());
+        assertEquals(Collections.emptyList(), index.overlapping(A));
+    }
+
+    @Test
+    public void testGaps() {
+        MutableZeitraumIndex index = new MutableZeitraumIndex();
+        index.add(C);
+        index.add(A);
+        index.add(B);
+        assertEquals(Collections.singletonList(new Zeitraum(B.getBis(), C.getVon())), index.gaps());
+    }
+
+    @Test
+    public void testToIndex() {
+        MutableZeitraumIndex index = new MutableZeitraumIndex();
+        index.addAll(Arrays.asList(C, B, A));
+        ZeitraumIndex snapshot = index.toIndex();
+        index.remove(B);
+        assertEquals(3, snapshot.getSize());
+        assertEquals(2, index.toIndex().getSize());
+    }
+
+    /**
+     * Beim abwechselnden Einfuegen, Loeschen und Abfragen muss immer
+     * dasselbe herauskommen wie bei einer linearen Suche.
+     */
+    @Test
+    public void testRandom() {
+        Random random = new Random(42);
+        List<Zeitraum> vorhanden = new ArrayList<>(ZeitraumIndexTest.createZeitraeume(random, 1_000));
+        MutableZeitraumIndex index = new MutableZeitraumIndex(vorhanden);
+        for (int i = 0; i < 2_000; i++) {
+            Zeitraum z = ZeitraumIndexTest.createZeitraeume(random, 1).get(0);
+            if (random.nextInt(3) == 0) {
+                Zeitraum alt = vorhanden.remove(random.nextInt(vorhanden.size()));
+                assertTrue(index.remove(alt));
+            } else {
+                vorhanden.add(z);
+                index.add(z);
+            }
+            if (i % 50 == 0) {
+                List<Zeitraum> expected = ZeitraumIndex.of(vorhanden).overlapping(z);
+                assertEquals(expected.stream().map(Object::toString).collect(Collectors.toList()),
+                        index.overlapping(z).stream().map(Object::toString).collect(Collectors.toList()));
+            }
+        }
+        assertEquals(vorhanden.size(), index.getSize());
+    }
+
+}
@@ -21,6 +21,7 @@ import de.jfachwert.FachwertTest;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigInteger;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.Period;
@@ -168,4 +169,20 @@ public final class ZeitdauerTest extends FachwertTest {
         assertEquals(Period.ofMonths(11), months.toPeriod());
     }
 
+    @Test
+    void testToDuration() {
+        Zeitdauer dauer = Zeitdauer.of(Zeitpunkt.ofEpochSecond(10, 900_000_000), Zeitpunkt.ofEpochSecond(12, 100_000_000));
+        assertEquals(Duration.ofMillis(1200), dauer.toDuration());
+        assertEquals(1200L, dauer.getTimeInMillis());
+    }
+
+    @Test
+    void testCompareTo() {
+        Zeitdauer kurz = Zeitdauer.of(2, Zeiteinheit.SECONDS);
+        Zeitdauer lang = Zeitdauer.of(3, Zeiteinheit.HOURS);
+        assertThat(kurz.compareTo(lang), lessThan(0));
+        assertThat(lang.compareTo(kurz), greaterThan(0));
+        assertEquals(0, kurz.compareTo(Zeitdauer.of(2000, Zeiteinheit.MILLISECONDS)));
+    }
+
 }
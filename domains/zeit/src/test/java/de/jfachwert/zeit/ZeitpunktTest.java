@@ -26,6 +26,7 @@ import org.junit.jupiter.params.provider.ValueSource;
 
 import java.math.BigInteger;
 import java.sql.Timestamp;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
@@ -137,6 +138,7 @@ public final class ZeitpunktTest extends AbstractFachwertTest<BigInteger, Zeitpu
         LocalDateTime now = LocalDateTime.now();
         Zeitpunkt z = Zeitpunkt.of(now);
         assertEquals(now, z.toLocalDateTime());
+        assertEquals(now.plusHours(2), z.toLocalDateTime(ZoneOffset.ofHours(2)));
     }
 
     @Test
@@ -296,4 +298,74 @@ public final class ZeitpunktTest extends AbstractFachwertTest<BigInteger, Zeitpu
         assertEquals(24, heute.until(morgen, Zeiteinheit.HOURS));
     }
 
-}
\ No newline at end of file
+    @Test
+    void testOfEpochSecond() {
+        Zeitpunkt z = Zeitpunkt.ofEpochSecond(1_700_000_000L, 123_456_789L);
+        assertEquals(Zeitpunkt.of(new BigInteger("1700000000123456789")), z);
+        assertEquals(z.hashCode(), Zeitpunkt.of(new BigInteger("1700000000123456789")).hashCode());
+        assertEquals(Zeitpunkt.ofEpochSecond(1, -1), Zeitpunkt.of(BigInteger.valueOf(999_999_999L)));
+        assertEquals(Instant.ofEpochSecond(1_700_000_000L, 123_456_789L), z.toInstant());
+    }
+
+    @Test
+    void testOfInstant() {
+        Instant now = Instant.now();
+        Zeitpunkt z = Zeitpunkt.of(now);
+        assertEquals(now, z.toInstant());
+        assertEquals(z, Zeitpunkt.of((Temporal) now));
+        assertEquals(Zeitpunkt.of(Instant.MAX).toInstant(), Instant.MAX);
+    }
+
+    /**
+     * Wie bei {@link Instant} wird bei negativen Zeitpunkten abgerundet,
+     * d.h. der Nano-Anteil ist immer positiv.
+     */
+    @Test
+    void testNegativ() {
+        Zeitpunkt z = Zeitpunkt.of(BigInteger.valueOf(-1_500_000_000L));
+        assertEquals(-2L, z.toEpochSecond());
+        assertEquals(500_000_000, z.getNanos());
+        assertEquals(-1500L, z.getTimeInMillis());
+        assertEquals(LocalDateTime.of(1969, 12, 31, 23, 59, 58, 500_000_000), z.toLocalDateTime());
+        assertEquals(BigInteger.valueOf(-1_500_000_000L), z.getTimeInNanos());
+        assertEquals(new Date(-1500L), z.toDate());
+    }
+
+    /**
+     * Zeitpunkte ausserhalb des Instant-Bereichs muessen sich genauso
+     * verhalten wie die "normalen" Zeitpunkte.
+     */
+    @Test
+    void testAusserhalbInstant() {
+        BigInteger nanos = BigInteger.valueOf(Instant.MAX.getEpochSecond()).add(BigInteger.ONE)
+                .multiply(BigInteger.valueOf(1_000_000_000L)).add(BigInteger.valueOf(7));
+        Zeitpunkt gross = Zeitpunkt.of(nanos);
+        assertEquals(nanos, gross.getTimeInNanos());
+        assertEquals(7, gross.getNanos());
+        assertEquals(BigInteger.valueOf(Instant.MAX.getEpochSecond() + 1), gross.toEpochSecondExact());
+        Zeitpunkt max = Zeitpunkt.of(Instant.MAX);
+        assertTrue(max.isBefore(gross));
+        assertTrue(gross.isAfter(max));
+        assertEquals(gross, max.plus(Zeitpunkt.of(BigInteger.valueOf(8))));
+        assertEquals(max, gross.minus(Zeitpunkt.of(BigInteger.valueOf(8))));
+        assertThrows(IllegalStateException.class, gross::toInstant);
+    }
+
+    @Test
+    void testCompareToPrimitiv() {
+        Zeitpunkt a = Zeitpunkt.ofEpochSecond(10, 5);
+        Zeitpunkt b = Zeitpunkt.ofEpochSecond(10, 6);
+        assertTrue(a.isBefore(b));
+        assertTrue(b.isAfter(a));
+        assertEquals(0, a.compareTo(Zeitpunkt.ofEpochSecond(10, 5)));
+        assertTrue(Zeitpunkt.MIN.isBefore(a));
+        assertTrue(Zeitpunkt.MAX.isAfter(a));
+    }
+
+    @Test
+    void testOfDateNegativ() {
+        Date date = new Date(-1L);
+        assertEquals(date, Zeitpunkt.of(date).toDate());
+    }
+
+}
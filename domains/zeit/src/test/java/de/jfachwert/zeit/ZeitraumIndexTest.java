@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 18.10.2026 by oboehm (ob@oasd.de)
+ */
+package de.jfachwert.zeit;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-Tests fuer {@link ZeitraumIndex}-Klasse.
+ *
+ * @author oboehm
+ */
+public final class ZeitraumIndexTest {
+
+    private static final Zeitraum JANUAR = Zeitraum.of(LocalDate.of(2026, 1, 1), LocalDate.of(2026, 2, 1));
+    private static final Zeitraum FEBRUAR = Zeitraum.of(LocalDate.of(2026, 2, 1), LocalDate.of(2026, 3, 1));
+    private static final Zeitraum APRIL = Zeitraum.of(LocalDate.of(2026, 4, 1), LocalDate.of(2026, 5, 1));
+    private static final Zeitraum QUARTAL = Zeitraum.of(LocalDate.of(2026, 1, 1), LocalDate.of(2026, 4, 1));
+    private final ZeitraumIndex index = ZeitraumIndex.of(APRIL, FEBRUAR, QUARTAL, JANUAR);
+
+    @Test
+    public void testOf() {
+        assertEquals(4, index.getSize());
+        assertEquals(Arrays.asList(JANUAR, QUARTAL, FEBRUAR, APRIL), toList(index));
+    }
+
+    @Test
+    public void testOverlapping() {
+        assertEquals(Arrays.asList(JANUAR, QUARTAL), index.overlapping(JANUAR));
+        assertEquals(Arrays.asList(JANUAR, QUARTAL, FEBRUAR, APRIL),
+                index.overlapping(Zeitraum.of(LocalDate.of(2026, 1, 31), LocalDate.of(2026, 4, 2))));
+        assertEquals(Collections.emptyList(), index.overlapping(Zeitraum.of(LocalDate.of(2026, 5, 1), null)));
+    }
+
+    @Test
+    public void testContaining() {
+        assertEquals(Arrays.asList(QUARTAL, FEBRUAR), index.containing(Zeitpunkt.of(LocalDate.of(2026, 2, 1))));
+        assertEquals(Collections.singletonList(QUARTAL), index.containing(Zeitpunkt.of(LocalDate.of(2026, 3, 31))));
+        assertEquals(Collections.emptyList(), index.containing(Zeitpunkt.of(LocalDate.of(2026, 5, 1))));
+    }
+
+    @Test
+    public void testGaps() {
+        assertEquals(Collections.emptyList(), index.gaps());
+        ZeitraumIndex idx = ZeitraumIndex.of(JANUAR, APRIL);
+        assertEquals(Collections.singletonList(Zeitraum.of(LocalDate.of(2026, 2, 1), LocalDate.of(2026, 4, 1))),
+                idx.gaps());
+        assertEquals(Collections.emptyList(), ZeitraumIndex.EMPTY.gaps());
+    }
+
+    @Test
+    public void testOfSorted() {
+        ZeitraumIndex idx = ZeitraumIndex.ofSorted(Arrays.asList(JANUAR, FEBRUAR, APRIL));
+        assertEquals(Collections.singletonList(FEBRUAR), idx.overlapping(FEBRUAR));
+        assertThrows(IllegalArgumentException.class, () -> ZeitraumIndex.ofSorted(Arrays.asList(APRIL, JANUAR)));
+    }
+
+    /**
+     * Auch offene Zeitraeume (mit {@link Zeitpunkt#MIN} und {@link Zeitpunkt#MAX})
+     * liegen ausserhalb des long-Bereichs und muessen richtig eingeordnet
+     * werden.
+     */
+    @Test
+    public void testOffeneZeitraeume() {
+        Zeitraum immer = Zeitraum.of((Zeitpunkt) null, null);
+        Zeitraum bisJanuar = Zeitraum.bis(JANUAR.getBis());
+        Zeitraum abApril = Zeitraum.von(APRIL.getVon());
+        ZeitraumIndex idx = ZeitraumIndex.of(immer, bisJanuar, abApril, Zeitraum.PRAEKAMBRIUM);
+        assertEquals(Arrays.asList(bisJanuar, immer), idx.containing(Zeitpunkt.of(LocalDate.of(2026, 1, 15))));
+        assertEquals(Arrays.asList(immer, abApril), idx.containing(Zeitpunkt.MAX.minus(Zeitpunkt.of(BigInteger.ONE))));
+        assertEquals(Arrays.asList(bisJanuar, immer, Zeitraum.PRAEKAMBRIUM), idx.overlapping(Zeitraum.PRAEKAMBRIUM));
+    }
+
+    /**
+     * Die Abfragen muessen dasselbe Ergebnis liefern wie eine lineare Suche.
+     */
+    @Test
+    public void testRandom() {
+        Random random = new Random(4711);
+        List<Zeitraum> zeitraeume = createZeitraeume(random, 5_000);
+        ZeitraumIndex idx = ZeitraumIndex.of(zeitraeume);
+        for (int i = 0; i < 500; i++) {
+            Zeitraum q = createZeitraeume(random, 1).get(0);
+            assertEquals(linearOverlapping(idx, q), idx.overlapping(q));
+            Zeitpunkt t = q.getVon();
+            assertEquals(toList(idx).stream().filter(z -> z.contains(t)).collect(Collectors.toList()),
+                    idx.containing(t));
+        }
+    }
+
+    static List<Zeitraum> createZeitraeume(Random random, int n) {
+        List<Zeitraum> zeitraeume = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            long von = random.nextInt(1_000_000);
+            long dauer = random.nextInt(1_000);
+            zeitraeume.add(new Zeitraum(Zeitpunkt.ofEpochSecond(von, random.nextInt(3)),
+                    Zeitpunkt.ofEpochSecond(von + dauer, random.nextInt(3))));
+        }
+        return zeitraeume;
+    }
+
+    static List<Zeitraum> linearOverlapping(Iterable<Zeitraum> zeitraeume, Zeitraum q) {
+        List<Zeitraum> treffer = new ArrayList<>();
+        for (Zeitraum z : zeitraeume) {
+            if (z.overlaps(q)) {
+                treffer.add(z);
+            }
+        }
+        return treffer;
+    }
+
+    private static List<Zeitraum> toList(Iterable<Zeitraum> zeitraeume) {
+        List<Zeitraum> list = new ArrayList<>();
+        zeitraeume.forEach(list::add);
+        return list;
+    }
+
+}
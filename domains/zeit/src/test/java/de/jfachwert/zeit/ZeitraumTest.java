@@ -49,6 +49,16 @@ final class ZeitraumTest extends FachwertTest {
         assertEquals(366, zeitdauer.getZaehler(TimeUnit.DAYS).intValue());
     }
 
+    @Test
+    void overlaps() {
+        Zeitraum januar = Zeitraum.of("2026-01-01 - 2026-02-01");
+        Zeitraum februar = Zeitraum.of("2026-02-01 - 2026-03-01");
+        assertFalse(januar.overlaps(februar));
+        assertTrue(januar.overlaps(Zeitraum.of("2026-01-31 - 2026-02-28")));
+        assertTrue(januar.contains(januar.getVon()));
+        assertFalse(januar.contains(januar.getBis()));
+    }
+
     @Test
     void ofInvalid() {
         assertThrows(IllegalArgumentException.class, () -> Zeitraum.of("invalid"));
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 18.10.2026 by oboehm (ob@oasd.de)
+ */
+package de.jfachwert.zeit.internal;
+
+import de.jfachwert.util.FachwertCodec;
+import de.jfachwert.zeit.Zeitpunkt;
+import de.jfachwert.zeit.Zeitraum;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Unit-Tests fuer {@link CodecErweiterung}.
+ */
+public final class CodecErweiterungTest {
+
+    private final FachwertCodec codec = FachwertCodec.getDEFAULT();
+
+    @Test
+    void testZeitpunkt() {
+        Zeitpunkt jetzt = Zeitpunkt.now();
+        assertEquals(jetzt, codec.fromBytes(codec.toBytes(jetzt)));
+    }
+
+    @Test
+    void testZeitpunktVor1970() {
+        Zeitpunkt t = Zeitpunkt.of("1955-05-05T12:34:56.789");
+        assertEquals(t, codec.fromBytes(codec.toBytes(t)));
+    }
+
+    @Test
+    void testZeitpunktGross() {
+        assertEquals(Zeitraum.PRAEKAMBRIUM.getVon(), codec.fromBytes(codec.toBytes(Zeitraum.PRAEKAMBRIUM.getVon())));
+    }
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 18.10.2026 by oboehm (ob@oasd.de)
+ */
+package de.jfachwert.zeit.internal;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-Tests fuer {@link ZeitpunktParser}-Klasse.
+ *
+ * @author oboehm
+ */
+public final class ZeitpunktParserTest {
+
+    private static final LocalDateTime SILVESTER = LocalDateTime.of(2025, 12, 31, 0, 0);
+
+    @Test
+    public void testIsZahl() {
+        assertTrue(ZeitpunktParser.isZahl("0"));
+        assertTrue(ZeitpunktParser.isZahl("-12345678901234567890"));
+        assertTrue(ZeitpunktParser.isZahl("+1"));
+        assertFalse(ZeitpunktParser.isZahl(""));
+        assertFalse(ZeitpunktParser.isZahl("-"));
+        assertFalse(ZeitpunktParser.isZahl("2025-12-31"));
+    }
+
+    @Test
+    public void testParseDatum() {
+        assertEquals(SILVESTER, ZeitpunktParser.parse("2025-12-31"));
+        assertEquals(SILVESTER, ZeitpunktParser.parse("31-12-2025"));
+        assertEquals(SILVESTER, ZeitpunktParser.parse("31.12.2025"));
+        assertEquals(SILVESTER, ZeitpunktParser.parse("31 12 2025"));
+        assertEquals(SILVESTER, ZeitpunktParser.parse("2025 12 31"));
+        assertEquals(LocalDateTime.of(2025, 1, 2, 0, 0), ZeitpunktParser.parse("2.1.2025"));
+    }
+
+    @Test
+    public void testParseUhrzeit() {
+        assertEquals(SILVESTER.withHour(23).withMinute(59), ZeitpunktParser.parse("2025-12-31 23:59"));
+        assertEquals(SILVESTER.withHour(23).withMinute(59).withSecond(58),
+                ZeitpunktParser.parse("31.12.2025 23:59:58"));
+        assertEquals(SILVESTER.withHour(1).withNano(120_000_000), ZeitpunktParser.parse("2025-12-31 1:00:00.12"));
+        assertEquals(SILVESTER.withNano(123_456_789), ZeitpunktParser.parse("2025-12-31 00:00:00.123456789"));
+    }
+
+    @Test
+    public void testParseISO() {
+        LocalDateTime expected = SILVESTER.withHour(12).withMinute(30).withSecond(15);
+        assertEquals(expected, ZeitpunktParser.parse("2025-12-31T12:30:15"));
+        assertEquals(expected, ZeitpunktParser.parse("2025-12-31T12:30:15Z"));
+        assertEquals(expected, ZeitpunktParser.parse("2025-12-31T12:30:15+01:00"));
+        assertEquals(expected, ZeitpunktParser.parse("2025-12-31T12:30:15+01:00[Europe/Berlin]"));
+        assertEquals(SILVESTER, ZeitpunktParser.parse("2025-12-31+01:00"));
+    }
+
+    @Test
+    public void testParseMonatsname() {
+        assertEquals(SILVESTER, ZeitpunktParser.parse("31-Dec-2025"));
+        assertEquals(SILVESTER, ZeitpunktParser.parse("31 Dez 2025"));
+        assertEquals(SILVESTER, ZeitpunktParser.parse("Dezember 31 2025"));
+        assertEquals(SILVESTER, ZeitpunktParser.parse("2025.Dec.31"));
+        assertEquals(SILVESTER.withHour(11).withMinute(55), ZeitpunktParser.parse("31-Dec-2025 11:55"));
+    }
+
+    @Test
+    public void testParseFormatter() {
+        assertEquals(SILVESTER, ZeitpunktParser.parse("2025-365"));
+        assertEquals(SILVESTER, ZeitpunktParser.parse("20251231"));
+        assertEquals(LocalDate.of(2025, 12, 29).atStartOfDay(), ZeitpunktParser.parse("2026-W01-1"));
+    }
+
+    /**
+     * Wie beim Default-Verhalten von {@link java.time.format.ResolverStyle#SMART}
+     * wird ein ungueltiger Tag auf das Monatsende gesetzt.
+     */
+    @Test
+    public void testParseMonatsende() {
+        assertEquals(LocalDateTime.of(2025, 2, 28, 0, 0), ZeitpunktParser.parse("2025-02-31"));
+        assertEquals(LocalDateTime.of(2024, 2, 29, 0, 0), ZeitpunktParser.parse("30.02.2024"));
+    }
+
+    @Test
+    public void testParseInvalid() {
+        for (String s : new String[]{"", "invalid", "2025-13-01", "2025-12-32", "2025-12-31 24:00",
+                "2025-12-31 12:60", "2025-12-31 12", "2025-12.31", "31-Foo-2025", "2025-12-31x", "12345-12-31",
+                "2025-12-31T12:00+1", "2025-400"}) {
+            assertNull(ZeitpunktParser.parse(s), s);
+        }
+    }
+
+}
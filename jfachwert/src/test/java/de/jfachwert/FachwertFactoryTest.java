@@ -25,15 +25,25 @@ import org.junit.jupiter.api.Test;
 import clazzfish.monitor.ClasspathMonitor;
 
 import de.jfachwert.pruefung.exception.ValidationException;
+import java.io.File;
 import java.io.Serializable;
+import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.logging.Logger;
 
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasItem;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * Unit-Tests fuer {@link FachwertFactory}-Klasse. Dieses Klasse befindet sich
@@ -44,6 +54,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
  */
 public class FachwertFactoryTest {
     
+    private static final Logger LOG = Logger.getLogger(FachwertFactoryTest.class.getName());
     private static final FachwertFactory FACTORY = FachwertFactory.getInstance();
 
     /**
@@ -176,4 +187,60 @@ public class FachwertFactoryTest {
         }
     }
 
+    /**
+     * Vergleicht den Start der FachwertFactory, wenn nur eine Klasse (IBAN)
+     * benoetigt wird, mit dem Laden aller registrierten Klassen. Damit die
+     * Klassen nicht bereits geladen sind, wird jeweils ein eigener
+     * Classloader verwendet.
+     *
+     * @throws Exception bei Reflection-Fehlern
+     */
+    @Test
+    public void testStartup() throws Exception {
+        try (FrischerClassLoader lazy = new FrischerClassLoader(); FrischerClassLoader eager = new FrischerClassLoader()) {
+            long t0 = System.nanoTime();
+            Object factory = lazy.getFactory();
+            factory.getClass().getMethod("getFachwert", String.class, Serializable[].class)
+                    .invoke(factory, "IBAN", new Serializable[]{"DE41300606010006605605"});
+            long t1 = System.nanoTime();
+            factory = eager.getFactory();
+            Method getRegisteredClasses = factory.getClass().getMethod("getRegisteredClasses");
+            int n = ((java.util.Map<?, ?>) getRegisteredClasses.invoke(factory)).size();
+            long t2 = System.nanoTime();
+            LOG.info(String.format("Start mit IBAN: %.1f ms (lazy), mit allen %d Klassen: %.1f ms (eager)",
+                    (t1 - t0) / 1e6, n, (t2 - t1) / 1e6));
+            assertTrue(lazy.isLoaded("de.jfachwert.bank.IBAN"));
+            assertFalse(lazy.isLoaded("de.jfachwert.zeit.Zeitpunkt"));
+            assertTrue(eager.isLoaded("de.jfachwert.zeit.Zeitpunkt"));
+        }
+    }
+
+    /**
+     * Classloader, der alle Klassen aus dem Classpath selbst (neu) laedt.
+     */
+    private static final class FrischerClassLoader extends URLClassLoader {
+
+        FrischerClassLoader() throws MalformedURLException {
+            super(getClasspath(), ClassLoader.getPlatformClassLoader());
+        }
+
+        Object getFactory() throws ReflectiveOperationException {
+            Class<?> factoryClass = loadClass(FachwertFactory.class.getName());
+            return factoryClass.getMethod("getInstance").invoke(null);
+        }
+
+        boolean isLoaded(String classname) {
+            return findLoadedClass(classname) != null;
+        }
+
+        private static URL[] getClasspath() throws MalformedURLException {
+            List<URL> urls = new ArrayList<>();
+            for (String path : System.getProperty("java.class.path").split(File.pathSeparator)) {
+                urls.add(new File(path).toURI().toURL());
+            }
+            return urls.toArray(new URL[0]);
+        }
+
+    }
+
 }
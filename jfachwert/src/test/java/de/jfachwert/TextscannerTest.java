@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 by Oliver Boehm
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 18.10.2026 by oboehm (ob@oasd.de)
+ */
+package de.jfachwert;
+
+import de.jfachwert.bank.IBAN;
+import de.jfachwert.net.EMailAdresse;
+import de.jfachwert.net.Telefonnummer;
+import de.jfachwert.util.Fundstelle;
+import de.jfachwert.util.Textscanner;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Unit-Tests fuer {@link Textscanner}-Klasse mit den Erkennern aus den
+ * verschiedenen Modulen. Dieses Klasse befindet sich hier in diesem
+ * "Sammel"-Modul, weil hier alle Erkenner zur Verfuegung stehen.
+ *
+ * @author oboehm
+ */
+public final class TextscannerTest {
+
+    private static final Logger LOG = Logger.getLogger(TextscannerTest.class.getName());
+    private static final Textscanner SCANNER =
+            new Textscanner(EMailAdresse.ERKENNER, Telefonnummer.ERKENNER, IBAN.ERKENNER);
+    private static final String TICKET = "Kunde max@example.com (Tel. 0811 32168) bittet um Erstattung auf "
+            + "DE31 3005 0000 1234 5678 90, Rueckruf unter +49 30 12345-67 oder an info@example.";
+
+    @Test
+    public void testScan() {
+        List<Fundstelle<?>> treffer = SCANNER.scan(TICKET);
+        List<Class<?>> typen = new ArrayList<>();
+        treffer.forEach(f -> typen.add(f.getTyp()));
+        assertEquals(List.of(EMailAdresse.class, Telefonnummer.class, IBAN.class, Telefonnummer.class,
+                EMailAdresse.class), typen);
+        assertEquals(new Telefonnummer("0811 32168"), treffer.get(1).getWert());
+        assertEquals("info@example", treffer.get(4).getText());
+        assertEquals(4, treffer.stream().filter(Fundstelle::isGueltig).count());
+    }
+
+    /**
+     * Zeitmessung fuer einen groesseren Text. Die Treffer muessen bei allen
+     * Varianten gleich sein.
+     */
+    @Test
+    public void testScanPerformance() throws IOException {
+        StringBuilder buf = new StringBuilder();
+        for (int i = 0; i < 20_000; i++) {
+            buf.append(i).append(';').append(TICKET).append('\n');
+        }
+        String text = buf.toString();
+        long t0 = System.nanoTime();
+        List<Fundstelle<?>> treffer = SCANNER.scan(text);
+        long t1 = System.nanoTime();
+        List<Fundstelle<?>> parallel = SCANNER.scanParallel(text);
+        long t2 = System.nanoTime();
+        List<Fundstelle<?>> gelesen = new ArrayList<>();
+        SCANNER.scan(new StringReader(text), gelesen::add);
+        long t3 = System.nanoTime();
+        LOG.info(String.format("%d Zeichen mit %d Treffern: scan=%.1f ms, scanParallel=%.1f ms, Reader=%.1f ms",
+                text.length(), treffer.size(), (t1 - t0) / 1e6, (t2 - t1) / 1e6, (t3 - t2) / 1e6));
+        assertEquals(100_000, treffer.size());
+        assertEquals(treffer, parallel);
+        assertEquals(treffer, gelesen);
+    }
+
+}
@@ -31,6 +31,7 @@ import java.io.NotSerializableException;
 import java.io.Serializable;
 import java.io.StringWriter;
 import java.lang.ref.WeakReference;
+import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -92,10 +93,37 @@ public class FachwertTest {
 
     /**
      * Hiermit stellen wir sicher, dass Fachwerte unveraenderlich sind.
+     * Ausgenommen sind transiente Felder, in denen (wie bei String.hash)
+     * nur abgeleitete Werte beim ersten Zugriff gemerkt werden.
+     * Geprueft werden auch die Felder aller Oberklassen.
      */
     @Test
     public void testImmutable() {
-        ImmutableTester.assertImmutable(fachwert.getClass());
+        for (Class<?> clazz = fachwert.getClass(); clazz != Object.class; clazz = clazz.getSuperclass()) {
+            assertImmutable(clazz);
+        }
+    }
+
+    /**
+     * Prueft die deklarierten Felder der Klasse wie der ImmutableTester,
+     * laesst dabei aber transiente Felder aus.
+     */
+    private static void assertImmutable(Class<?> clazz) {
+        boolean hasTransientFields = false;
+        for (Field field : clazz.getDeclaredFields()) {
+            int modifiers = field.getModifiers();
+            if (Modifier.isStatic(modifiers)) {
+                continue;
+            }
+            if (Modifier.isTransient(modifiers)) {
+                hasTransientFields = true;
+            } else {
+                assertTrue(Modifier.isFinal(modifiers), field + " should be final in immutable " + clazz);
+            }
+        }
+        if (!hasTransientFields) {
+            ImmutableTester.assertImmutable(clazz);
+        }
     }
 
     /**